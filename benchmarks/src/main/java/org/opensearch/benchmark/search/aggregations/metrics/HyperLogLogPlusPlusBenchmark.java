@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the three steps of the cardinality aggregation: collecting hashes into a HyperLogLog++ data structure on the shards,
+ * serializing the shard results, and merging the shard results on the coordinating node, either into a {@link HyperLogLogPlusPlus}
+ * like the reduce used to do or into a {@link HyperLogLogPlusPlusSketch} like it does now. Merging is also measured on the shard
+ * results of {@link UnionBelowThreshold}, which is the worst case of the sketch.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class HyperLogLogPlusPlusBenchmark {
+
+    @Param({ "14" })
+    public int precision;
+
+    @Param({ "10", "100" })
+    public int numShards;
+
+    // the number of distinct values that each shard collects, which decides whether shard results use linear counting
+    @Param({ "100", "100000" })
+    public int numValuesPerShard;
+
+    private long[] hashes;
+    private HyperLogLogPlusPlus[] shardResults;
+    private BytesReference[] serialized;
+    private BytesReference[] serializedCompact;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(0);
+        hashes = new long[numValuesPerShard];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = BitMixer.mix64(random.nextInt());
+        }
+        shardResults = new HyperLogLogPlusPlus[numShards];
+        serialized = new BytesReference[numShards];
+        serializedCompact = new BytesReference[numShards];
+        for (int shard = 0; shard < numShards; shard++) {
+            shardResults[shard] = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            for (int i = 0; i < numValuesPerShard; i++) {
+                shardResults[shard].collect(0, BitMixer.mix64(random.nextInt()));
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                shardResults[shard].writeTo(0, out);
+                serialized[shard] = out.bytes();
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                shardResults[shard].writeCompactTo(0, out);
+                serializedCompact[shard] = out.bytes();
+            }
+        }
+    }
+
+    @Benchmark
+    public long collect() {
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (long hash : hashes) {
+                counts.collect(0, hash);
+            }
+            return counts.cardinality(0);
+        }
+    }
+
+    @Benchmark
+    public long mergeIntoHyperLogLogPlusPlus() {
+        try (HyperLogLogPlusPlus reduced = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (HyperLogLogPlusPlus shardResult : shardResults) {
+                reduced.merge(0, shardResult, 0);
+            }
+            return reduced.cardinality(0);
+        }
+    }
+
+    @Benchmark
+    public long mergeIntoSketch() {
+        final HyperLogLogPlusPlusSketch reduced = new HyperLogLogPlusPlusSketch(precision);
+        for (HyperLogLogPlusPlus shardResult : shardResults) {
+            reduced.merge(shardResult, 0);
+        }
+        return reduced.cardinality(0);
+    }
+
+    @Benchmark
+    public long mergeUnionBelowThresholdIntoHyperLogLogPlusPlus(UnionBelowThreshold state) {
+        try (HyperLogLogPlusPlus reduced = new HyperLogLogPlusPlus(state.unionPrecision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (HyperLogLogPlusPlus shardResult : state.shardResults) {
+                reduced.merge(0, shardResult, 0);
+            }
+            return reduced.cardinality(0);
+        }
+    }
+
+    @Benchmark
+    public long mergeUnionBelowThresholdIntoSketch(UnionBelowThreshold state) {
+        final HyperLogLogPlusPlusSketch reduced = new HyperLogLogPlusPlusSketch(state.unionPrecision);
+        for (HyperLogLogPlusPlus shardResult : state.shardResults) {
+            reduced.merge(shardResult, 0);
+        }
+        return reduced.cardinality(0);
+    }
+
+    @Benchmark
+    public long serialize() throws IOException {
+        long size = 0;
+        for (HyperLogLogPlusPlus shardResult : shardResults) {
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                shardResult.writeTo(0, out);
+                size += out.size();
+            }
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long serializeCompact() throws IOException {
+        long size = 0;
+        for (HyperLogLogPlusPlus shardResult : shardResults) {
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                shardResult.writeCompactTo(0, out);
+                size += out.size();
+            }
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long deserialize() throws IOException {
+        long cardinality = 0;
+        for (BytesReference bytes : serialized) {
+            try (StreamInput in = bytes.streamInput()) {
+                cardinality += AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE).cardinality(0);
+            }
+        }
+        return cardinality;
+    }
+
+    @Benchmark
+    public long deserializeCompact() throws IOException {
+        long cardinality = 0;
+        for (BytesReference bytes : serializedCompact) {
+            try (StreamInput in = bytes.streamInput()) {
+                cardinality += AbstractHyperLogLogPlusPlus.readCompactFrom(in, BigArrays.NON_RECYCLING_INSTANCE).cardinality(0);
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Overlapping shard results of a high precision that all use linear counting, and whose union holds just fewer hashes than
+     * linear counting keeps, so that merging them adds as many hashes as possible to the hash set of a sketch that never switches to
+     * HyperLogLog.
+     */
+    @State(Scope.Benchmark)
+    public static class UnionBelowThreshold {
+
+        @Param({ "18" })
+        public int unionPrecision;
+
+        @Param({ "10", "100" })
+        public int numUnionShards;
+
+        private HyperLogLogPlusPlus[] shardResults;
+
+        @Setup
+        public void setup() {
+            final Random random = new Random(0);
+            final int threshold = (int) (((1 << unionPrecision) / 4) * 0.75f);
+            shardResults = new HyperLogLogPlusPlus[numUnionShards];
+            for (int shard = 0; shard < numUnionShards; shard++) {
+                shardResults[shard] = new HyperLogLogPlusPlus(unionPrecision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+                for (int value = 0; value < threshold - 1; value++) {
+                    // each value goes to one shard, and half of the values to any other shard as well
+                    if (value % numUnionShards == shard || random.nextBoolean()) {
+                        shardResults[shard].collect(0, BitMixer.mix64(value));
+                    }
+                }
+            }
+        }
+    }
+}
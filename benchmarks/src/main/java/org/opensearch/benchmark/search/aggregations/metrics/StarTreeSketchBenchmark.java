@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.metrics;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares computing the cardinality and the percentiles of a field by collecting the values of the matching documents, like the
+ * cardinality and percentiles aggregations do without a star-tree, with merging the sketches that a star-tree pre-aggregated for the
+ * star-tree entries that match the same documents.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class StarTreeSketchBenchmark {
+
+    @Param({ "1000000" })
+    public int numDocs;
+
+    // the number of star-tree entries that the matching documents are pre-aggregated into
+    @Param({ "100", "10000" })
+    public int numStarTreeEntries;
+
+    // the number of distinct values of the field
+    @Param({ "1000", "1000000" })
+    public int numValues;
+
+    private long[] values;
+    private BytesRef[] cardinalitySketches;
+    private BytesRef[] percentilesSketches;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(0);
+        values = new long[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            values[i] = random.nextInt(numValues);
+        }
+        final CardinalityValueAggregator cardinalityAggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        final PercentilesValueAggregator percentilesAggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        cardinalitySketches = new BytesRef[numStarTreeEntries];
+        percentilesSketches = new BytesRef[numStarTreeEntries];
+        final int docsPerEntry = numDocs / numStarTreeEntries;
+        for (int entry = 0; entry < numStarTreeEntries; entry++) {
+            HyperLogLogPlusPlusSketch sketch = null;
+            TDigestState digest = null;
+            for (int doc = entry * docsPerEntry; doc < (entry + 1) * docsPerEntry; doc++) {
+                sketch = cardinalityAggregator.mergeAggregatedValueAndSegmentValue(sketch, values[doc]);
+                digest = percentilesAggregator.mergeAggregatedValueAndSegmentValue(digest, values[doc]);
+            }
+            cardinalitySketches[entry] = cardinalityAggregator.serialize(sketch);
+            percentilesSketches[entry] = percentilesAggregator.serialize(digest);
+        }
+    }
+
+    @Benchmark
+    public long cardinalityFromDocs() {
+        try (HyperLogLogPlusPlus counts = newCounts()) {
+            for (long value : values) {
+                counts.collect(0, BitMixer.mix64(value));
+            }
+            return counts.cardinality(0);
+        }
+    }
+
+    @Benchmark
+    public long cardinalityFromStarTree() throws IOException {
+        try (HyperLogLogPlusPlus counts = newCounts()) {
+            for (BytesRef sketch : cardinalitySketches) {
+                counts.merge(0, HyperLogLogPlusPlusSketch.readFrom(StreamInput.wrap(sketch.bytes, sketch.offset, sketch.length)), 0);
+            }
+            return counts.cardinality(0);
+        }
+    }
+
+    private static HyperLogLogPlusPlus newCounts() {
+        return new HyperLogLogPlusPlus(CardinalityValueAggregator.PRECISION, BigArrays.NON_RECYCLING_INSTANCE, 1);
+    }
+
+    @Benchmark
+    public double percentilesFromDocs() {
+        final TDigestState state = new TDigestState(PercentilesValueAggregator.COMPRESSION);
+        for (long value : values) {
+            state.add(value);
+        }
+        return state.quantile(0.99);
+    }
+
+    @Benchmark
+    public double percentilesFromStarTree() {
+        final TDigestState state = new TDigestState(PercentilesValueAggregator.COMPRESSION);
+        for (BytesRef digest : percentilesSketches) {
+            state.add(List.of(TDigestState.fromBytes(ByteBuffer.wrap(digest.bytes, digest.offset, digest.length))));
+        }
+        return state.quantile(0.99);
+    }
+}
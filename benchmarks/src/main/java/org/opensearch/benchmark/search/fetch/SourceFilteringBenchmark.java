@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.fetch;
+
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares filtering a document source by parsing it into a map, filtering the map and serializing it again, like the fetch phase
+ * does when the source is already parsed, with filtering the source token by token without parsing it into a map.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class SourceFilteringBenchmark {
+
+    @Param({ "50", "200" })
+    public int sourceSizeInKb;
+
+    @Param({ "JSON", "SMILE" })
+    public String contentType;
+
+    @Param({ "title,price,metadata.owner", "metadata.*" })
+    public String includes;
+
+    private XContentType xContentType;
+    private BytesReference source;
+    private Function<Map<String, ?>, Map<String, Object>> mapFilter;
+    private CheckedBiConsumer<XContentParser, XContentBuilder, IOException> streamingFilter;
+
+    @Setup
+    public void setup() throws IOException {
+        xContentType = XContentType.valueOf(contentType);
+        final Random random = new Random(0);
+        final XContentBuilder builder = XContentBuilder.builder(xContentType.xContent()).startObject();
+        builder.field("title", "a title");
+        builder.field("price", 42.5);
+        builder.startObject("metadata").field("owner", "someone").field("created", 1234567890L).endObject();
+        // each object takes about half a kilobyte
+        for (int field = 0; field < sourceSizeInKb * 2; field++) {
+            builder.startObject("object_" + field);
+            for (int i = 0; i < 10; i++) {
+                builder.field("text_" + i, Long.toString(random.nextLong(), 36) + " " + Long.toString(random.nextLong(), 36));
+                builder.field("number_" + i, random.nextInt());
+            }
+            builder.array("values", random.nextDouble(), random.nextDouble(), random.nextDouble());
+            builder.endObject();
+        }
+        source = BytesReference.bytes(builder.endObject());
+
+        final String[] includesArray = includes.split(",");
+        mapFilter = XContentMapValues.filter(includesArray, new String[0], true);
+        streamingFilter = XContentMapValues.createStreamingFilter(includesArray, new String[0], true);
+    }
+
+    @Benchmark
+    public BytesReference filterMap() throws IOException {
+        final Map<String, Object> sourceAsMap = XContentHelper.convertToMap(source, false, xContentType).v2();
+        final XContentBuilder builder = XContentBuilder.builder(xContentType.xContent());
+        builder.value(mapFilter.apply(sourceAsMap));
+        return BytesReference.bytes(builder);
+    }
+
+    @Benchmark
+    public BytesReference filterStreaming() throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                source,
+                xContentType
+            )
+        ) {
+            final XContentBuilder builder = XContentBuilder.builder(xContentType.xContent());
+            streamingFilter.accept(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the storages of {@link LiveVersionMap} for update heavy workloads: a working set of uids is indexed, then updated
+ * and looked up again before the map is refreshed.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms8g", "-Xmx8g" })
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LiveVersionMapBenchmark {
+
+    @Param({ "hash_map", "paged" })
+    public String storage;
+
+    @Param({ "1000000", "10000000" })
+    public int numUids;
+
+    private BytesRef[] uids;
+    private int[] updateOrder;
+    private LiveVersionMap map;
+
+    @Setup(Level.Trial)
+    public void setupUids() {
+        final Random random = new Random(0);
+        uids = new BytesRef[numUids];
+        for (int i = 0; i < numUids; i++) {
+            // same length as auto generated ids
+            final String id = String.format(Locale.ROOT, "%020d", random.nextLong() & Long.MAX_VALUE);
+            uids[i] = new BytesRef(id.getBytes(StandardCharsets.UTF_8));
+        }
+        updateOrder = new int[numUids];
+        for (int i = 0; i < numUids; i++) {
+            updateOrder[i] = random.nextInt(numUids);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupMap() {
+        map = new LiveVersionMap(LiveVersionMap.Storage.fromString(storage));
+        map.enforceSafeAccess();
+    }
+
+    @Benchmark
+    public void indexUpdateAndRefresh(Blackhole bh) throws IOException {
+        for (int i = 0; i < uids.length; i++) {
+            put(uids[i], i);
+        }
+        for (int i = 0; i < updateOrder.length; i++) {
+            final BytesRef uid = uids[updateOrder[i]];
+            try (Releasable ignore = map.acquireLock(uid)) {
+                final VersionValue current = map.getUnderLock(uid);
+                map.putIndexUnderLock(uid, new IndexVersionValue(null, current.version + 1, uids.length + i, 1));
+            }
+        }
+        bh.consume(map.ramBytesUsed());
+        map.beforeRefresh();
+        map.afterRefresh(true);
+    }
+
+    @Benchmark
+    public void lookupDuringRefresh(Blackhole bh) throws IOException {
+        for (int i = 0; i < uids.length; i++) {
+            put(uids[i], i);
+        }
+        map.beforeRefresh();
+        for (int i = 0; i < updateOrder.length; i++) {
+            final BytesRef uid = uids[updateOrder[i]];
+            try (Releasable ignore = map.acquireLock(uid)) {
+                bh.consume(map.getUnderLock(uid));
+            }
+        }
+        map.afterRefresh(true);
+    }
+
+    private void put(BytesRef uid, long seqNo) {
+        try (Releasable ignore = map.acquireLock(uid)) {
+            map.putIndexUnderLock(uid, new IndexVersionValue(new Translog.Location(1, seqNo * 64, 64), 1, seqNo, 1));
+        }
+    }
+}
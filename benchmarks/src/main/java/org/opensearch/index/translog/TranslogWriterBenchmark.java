@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of concurrent writers adding operations to a single {@link TranslogWriter}, as the indexing threads
+ * of a hot shard do, with and without write stripes. With request durability every writer syncs the location of its operation
+ * before adding the next one.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class TranslogWriterBenchmark {
+
+    private static final long ASYNC_SYNC_BYTES = new ByteSizeValue(8, ByteSizeUnit.MB).getBytes();
+
+    @Param({ "1", "16" })
+    public int writeStripes;
+
+    @Param({ "request", "async" })
+    public String durability;
+
+    @Param({ "256" })
+    public int operationSize;
+
+    private final AtomicLong seqNoGenerator = new AtomicLong();
+    private BytesArray operation;
+    private Path path;
+    private TranslogWriter writer;
+
+    @Setup(Level.Iteration)
+    public void setupWriter() throws IOException {
+        final byte[] bytes = new byte[operationSize];
+        new Random(0).nextBytes(bytes);
+        operation = new BytesArray(bytes);
+        path = Files.createTempDirectory("translog");
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final String translogUUID = Translog.createEmptyTranslog(path, SequenceNumbers.NO_OPS_PERFORMED, shardId, 1);
+        writer = TranslogWriter.create(
+            shardId,
+            translogUUID,
+            2,
+            path.resolve(Translog.getFilename(2)),
+            FileChannel::open,
+            TranslogConfig.DEFAULT_BUFFER_SIZE,
+            1,
+            SequenceNumbers.NO_OPS_PERFORMED,
+            () -> SequenceNumbers.NO_OPS_PERFORMED,
+            () -> 1L,
+            1,
+            new TragicExceptionHolder(),
+            seqNo -> {},
+            BigArrays.NON_RECYCLING_INSTANCE,
+            false,
+            TranslogOperationHelper.DEFAULT,
+            writeStripes
+        );
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeWriter() throws IOException {
+        writer.close();
+        IOUtils.rm(path);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Translog.Location add_01() throws IOException {
+        return add();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Translog.Location add_04() throws IOException {
+        return add();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Translog.Location add_16() throws IOException {
+        return add();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Translog.Location add_32() throws IOException {
+        return add();
+    }
+
+    private Translog.Location add() throws IOException {
+        final Translog.Location location = writer.add(operation, seqNoGenerator.getAndIncrement());
+        if ("request".equals(durability)) {
+            writer.syncUpTo(location.translogLocation + location.size);
+        } else if (writer.sizeInBytes() - writer.getLastSyncedCheckpoint().offset > ASYNC_SYNC_BYTES) {
+            // stands in for the periodic sync of async durability
+            writer.sync();
+        }
+        return location;
+    }
+}
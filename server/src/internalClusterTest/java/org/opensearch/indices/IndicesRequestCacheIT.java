@@ -62,6 +62,7 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.MergePolicyProvider;
 import org.opensearch.index.cache.request.RequestCacheStats;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
@@ -71,6 +72,7 @@ import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram.Bucket;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.ParameterizedStaticSettingsOpenSearchIntegTestCase;
 import org.opensearch.test.hamcrest.OpenSearchAssertions;
@@ -96,6 +98,7 @@ import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEA
 import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateRange;
 import static org.opensearch.search.aggregations.AggregationBuilders.filter;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
 import static org.hamcrest.Matchers.equalTo;
@@ -195,6 +198,111 @@ public class IndicesRequestCacheIT extends ParameterizedStaticSettingsOpenSearch
         }
     }
 
+    public void testCacheAggsPerSegment() throws Exception {
+        Client client = client();
+        String index = "index";
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareCreate(index)
+                .setMapping("k", "type=keyword")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING.getKey(), true)
+                        .put(SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                        // Disable index refreshing and merging to control the segments of the shard
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+                        .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+                )
+                .get()
+        );
+        client.prepareIndex(index).setSource("k", "a").get();
+        client.prepareIndex(index).setSource("k", "a").get();
+        refresh(index);
+        ensureSearchable(index);
+
+        final SearchResponse r1 = client.prepareSearch(index).setSize(0).addAggregation(terms("terms").field("k")).get();
+        assertSearchResponse(r1);
+        assertThat(r1.getHits().getTotalHits().value(), equalTo(2L));
+        assertThat(((Terms) r1.getAggregations().get("terms")).getBucketByKey("a").getDocCount(), equalTo(2L));
+
+        // a refresh adds a segment, the result of the existing segment is reused
+        client.prepareIndex(index).setSource("k", "b").get();
+        refresh(index);
+        final SearchResponse r2 = client.prepareSearch(index).setSize(0).addAggregation(terms("terms").field("k")).get();
+        assertSearchResponse(r2);
+        assertThat(r2.getHits().getTotalHits().value(), equalTo(3L));
+        final Terms terms = r2.getAggregations().get("terms");
+        assertThat(terms.getBucketByKey("a").getDocCount(), equalTo(2L));
+        assertThat(terms.getBucketByKey("b").getDocCount(), equalTo(1L));
+
+        final RequestCacheStats stats = getRequestCacheStats(client, index);
+        if (CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.get(settings) == false) {
+            assertThat(stats.getSegmentHitCount(), equalTo(1L));
+            assertThat(stats.getSegmentMissCount(), equalTo(2L));
+            assertThat(stats.getSegmentReuseCount(), equalTo(1L));
+        }
+        assertThat(stats.getMemorySizeInBytes(), greaterThan(0L));
+    }
+
+    public void testCacheAggsPerSegmentAppliesShardThresholdsToTheShard() throws Exception {
+        Client client = client();
+        String index = "index";
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareCreate(index)
+                .setMapping("k", "type=keyword")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING.getKey(), true)
+                        .put(SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                        // Disable index refreshing and merging to control the segments of the shard
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+                        .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+                )
+                .get()
+        );
+        // "a" is the top term of the shard, but not of any of its segments
+        client.prepareIndex(index).setSource("k", "a").get();
+        client.prepareIndex(index).setSource("k", "b").get();
+        client.prepareIndex(index).setSource("k", "b").get();
+        refresh(index);
+        client.prepareIndex(index).setSource("k", "a").get();
+        client.prepareIndex(index).setSource("k", "c").get();
+        client.prepareIndex(index).setSource("k", "c").get();
+        refresh(index);
+        client.prepareIndex(index).setSource("k", "a").get();
+        refresh(index);
+        ensureSearchable(index);
+
+        final SearchResponse minDocCount = client.prepareSearch(index)
+            .setSize(0)
+            .addAggregation(terms("terms").field("k").minDocCount(3).shardMinDocCount(3))
+            .get();
+        assertSearchResponse(minDocCount);
+        Terms terms = minDocCount.getAggregations().get("terms");
+        assertThat(terms.getBuckets().size(), equalTo(1));
+        assertThat(terms.getBucketByKey("a").getDocCount(), equalTo(3L));
+
+        if (CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.get(settings) == false) {
+            // concurrent segment search applies the shard size to each slice
+            final SearchResponse shardSize = client.prepareSearch(index)
+                .setSize(0)
+                .addAggregation(terms("terms").field("k").size(1).shardSize(1))
+                .get();
+            assertSearchResponse(shardSize);
+            terms = shardSize.getAggregations().get("terms");
+            assertThat(terms.getBuckets().size(), equalTo(1));
+            assertThat(terms.getBucketByKey("a").getDocCount(), equalTo(3L));
+            assertThat(getRequestCacheStats(client, index).getSegmentMissCount(), greaterThan(0L));
+        }
+    }
+
     public void testQueryRewrite() throws Exception {
         Client client = client();
         String index = "index";
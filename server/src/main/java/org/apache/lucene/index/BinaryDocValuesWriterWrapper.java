@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.apache.lucene.index;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.Counter;
+
+/**
+ * A wrapper class for writing binary doc values.
+ * <p>
+ * This class provides a convenient way to add binary doc values to a field
+ * and retrieve the corresponding {@link BinaryDocValues} instance.
+ *
+ * @opensearch.experimental
+ */
+public class BinaryDocValuesWriterWrapper implements DocValuesWriterWrapper<BinaryDocValues> {
+
+    private final BinaryDocValuesWriter binaryDocValuesWriterDelegate;
+
+    /**
+     * Sole constructor. Constructs a new {@link BinaryDocValuesWriterWrapper} instance.
+     *
+     * @param fieldInfo the field information for the field being written
+     * @param counter a counter for tracking memory usage
+     */
+    public BinaryDocValuesWriterWrapper(FieldInfo fieldInfo, Counter counter) {
+        binaryDocValuesWriterDelegate = new BinaryDocValuesWriter(fieldInfo, counter);
+    }
+
+    /**
+     * Sets the value of the binary doc values for the specified document.
+     *
+     * @param docID the document ID
+     * @param value the value to set
+     */
+    public void addValue(int docID, BytesRef value) {
+        binaryDocValuesWriterDelegate.addValue(docID, value);
+    }
+
+    /**
+     * Returns the {@link BinaryDocValues} instance containing the binary doc values
+     *
+     * @return the {@link BinaryDocValues} instance
+     */
+    @Override
+    public BinaryDocValues getDocValues() {
+        return binaryDocValuesWriterDelegate.getDocValues();
+    }
+}
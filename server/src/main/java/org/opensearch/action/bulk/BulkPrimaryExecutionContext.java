@@ -91,10 +91,20 @@ class BulkPrimaryExecutionContext {
     private DocWriteRequest requestToExecute;
     private BulkItemResponse executionResult;
     private int retryCounter;
+    private IndexShard.PreParsedDocument[] preParsedDocuments;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, null);
+    }
+
+    /**
+     * @param preParsedDocuments the documents of the items that were parsed ahead of execution, indexed by item position, or null
+     */
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, IndexShard.PreParsedDocument[] preParsedDocuments) {
+        assert preParsedDocuments == null || preParsedDocuments.length == request.items().length;
         this.request = request;
         this.primary = primary;
+        this.preParsedDocuments = preParsedDocuments;
         advance();
     }
 
@@ -197,6 +207,38 @@ class BulkPrimaryExecutionContext {
         return request.items()[currentIndex];
     }
 
+    /**
+     * returns the document of the current item that was parsed ahead of execution, if any. The document is only returned once,
+     * retries of the item parse it again.
+     */
+    IndexShard.PreParsedDocument takePreParsedDocument() {
+        if (preParsedDocuments == null) {
+            return null;
+        }
+        final IndexShard.PreParsedDocument preParsedDocument = preParsedDocuments[currentIndex];
+        preParsedDocuments[currentIndex] = null;
+        return preParsedDocument;
+    }
+
+    /** returns the position of the current item in the {@link BulkShardRequest#items()} array */
+    int getCurrentIndex() {
+        return currentIndex;
+    }
+
+    /** returns the document of the item at the given position that was parsed ahead of execution, if any, without taking it */
+    IndexShard.PreParsedDocument getPreParsedDocument(int index) {
+        return preParsedDocuments == null ? null : preParsedDocuments[index];
+    }
+
+    /** keeps the document of the item at the given position that was parsed ahead of its execution, so that it is parsed once */
+    void setPreParsedDocument(int index, IndexShard.PreParsedDocument preParsedDocument) {
+        assert index > currentIndex : "item [" + index + "] was already executed";
+        if (preParsedDocuments == null) {
+            preParsedDocuments = new IndexShard.PreParsedDocument[request.items().length];
+        }
+        preParsedDocuments[index] = preParsedDocument;
+    }
+
     /** returns the primary shard */
     public IndexShard getPrimary() {
         return primary;
@@ -48,4 +48,12 @@ public interface MappingUpdatePerformer {
      */
     void updateMappings(Mapping update, ShardId shardId, ActionListener<Void> listener);
 
+    /**
+     * Update the mappings on the cluster-manager with an update that merges the dynamic mapping updates of {@code mergedUpdates}
+     * bulk items, which would otherwise have been sent one by one.
+     */
+    default void updateMappings(Mapping update, int mergedUpdates, ShardId shardId, ActionListener<Void> listener) {
+        updateMappings(update, shardId, listener);
+    }
+
 }
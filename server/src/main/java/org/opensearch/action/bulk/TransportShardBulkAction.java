@@ -91,6 +91,7 @@ import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.index.mapper.MapperException;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.remote.RemoteStorePressureService;
 import org.opensearch.index.seqno.SequenceNumbers;
@@ -112,10 +113,15 @@ import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.transport.NoNodeAvailableException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -423,10 +429,19 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener
     ) {
         ClusterStateObserver observer = new ClusterStateObserver(clusterService, request.timeout(), logger, threadPool.getThreadContext());
-        performOnPrimary(request, primary, updateHelper, threadPool::absoluteTimeInMillis, (update, shardId, mappingListener) -> {
-            assert update != null;
-            assert shardId != null;
-            mappingUpdatedAction.updateMappingOnClusterManager(shardId.getIndex(), update, mappingListener);
+        performOnPrimary(request, primary, updateHelper, threadPool::absoluteTimeInMillis, new MappingUpdatePerformer() {
+            @Override
+            public void updateMappings(Mapping update, ShardId shardId, ActionListener<Void> mappingListener) {
+                assert update != null;
+                assert shardId != null;
+                mappingUpdatedAction.updateMappingOnClusterManager(shardId.getIndex(), update, mappingListener);
+            }
+
+            @Override
+            public void updateMappings(Mapping update, int mergedUpdates, ShardId shardId, ActionListener<Void> mappingListener) {
+                mappingUpdatedAction.onMappingUpdatesBatched(mergedUpdates);
+                updateMappings(update, shardId, mappingListener);
+            }
         }, mappingUpdateListener -> observer.waitForNextChange(new ClusterStateObserver.Listener() {
             @Override
             public void onNewClusterState(ClusterState state) {
@@ -469,11 +484,18 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ThreadPool threadPool,
         String executorName
     ) {
+        if (primary.indexSettings().isBulkPrefetchDocVersions()) {
+            prefetchDocVersions(request, primary);
+        }
+        final int parseParallelism = primary.indexSettings().getBulkParseParallelism();
+        final IndexShard.PreParsedDocument[] preParsedDocuments = parseParallelism > 1
+            ? parseDocuments(request, primary, parseParallelism, threadPool, executorName)
+            : null;
         new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
 
             private final Executor executor = threadPool.executor(executorName);
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary, preParsedDocuments);
 
             @Override
             protected void doRun() throws Exception {
@@ -565,6 +587,190 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }.run();
     }
 
+    /**
+     * The dynamic mapping updates of several items of a bulk shard request, merged into a single update.
+     */
+    static final class BatchedMappingUpdate {
+        final Mapping update;
+        final int mergedUpdates;
+
+        BatchedMappingUpdate(Mapping update, int mergedUpdates) {
+            this.update = update;
+            this.mergedUpdates = mergedUpdates;
+        }
+    }
+
+    /**
+     * Merges the dynamic mapping updates that the items after the current one require into the update of the current item, so that
+     * the primary waits for one mapping update rather than one per item. The remaining documents are only parsed for this once an
+     * item actually requires a mapping update, and are kept in the context so that each of them is parsed once. Updates that conflict
+     * with the updates merged so far are left out, the items requiring them request their own update when they are executed.
+     *
+     * @return the merged update, or null if no other item requires a mapping update or the merged update is rejected
+     */
+    static BatchedMappingUpdate mergeDynamicMappingUpdates(BulkPrimaryExecutionContext context, Mapping update) {
+        final IndexShard primary = context.getPrimary();
+        final BulkItemRequest[] items = context.getBulkShardRequest().items();
+        Mapping merged = update;
+        int mergedUpdates = 1;
+        for (int i = context.getCurrentIndex() + 1; i < items.length; i++) {
+            final BulkItemRequest item = items[i];
+            if (item == null || item.getPrimaryResponse() != null || item.request() instanceof IndexRequest == false) {
+                continue;
+            }
+            IndexShard.PreParsedDocument preParsedDocument = context.getPreParsedDocument(i);
+            if (preParsedDocument == null) {
+                final IndexRequest indexRequest = (IndexRequest) item.request();
+                preParsedDocument = primary.parseDocumentOnPrimary(
+                    new SourceToParse(
+                        indexRequest.index(),
+                        indexRequest.id(),
+                        indexRequest.source(),
+                        indexRequest.getContentType(),
+                        indexRequest.routing()
+                    )
+                );
+                context.setPreParsedDocument(i, preParsedDocument);
+            } else if (preParsedDocument.isParsedWithCurrentMapping(primary.mapperService()) == false) {
+                // its update was already part of an earlier batch, or conflicted with it and is requested when the item is executed
+                continue;
+            }
+            final Mapping itemUpdate = preParsedDocument == null ? null : preParsedDocument.dynamicMappingsUpdate();
+            if (itemUpdate == null) {
+                continue;
+            }
+            try {
+                merged = merged.merge(itemUpdate, MapperService.MergeReason.MAPPING_UPDATE);
+                mergedUpdates++;
+            } catch (IllegalArgumentException e) {
+                logger.trace(() -> new ParameterizedMessage("{} dynamic mapping update conflicts with other items", primary.shardId()), e);
+            }
+        }
+        if (merged == update) {
+            return null;
+        }
+        try {
+            primary.mapperService()
+                .merge(
+                    MapperService.SINGLE_MAPPING_NAME,
+                    new CompressedXContent(merged, ToXContent.EMPTY_PARAMS),
+                    MapperService.MergeReason.MAPPING_UPDATE_PREFLIGHT
+                );
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("{} batched dynamic mapping update rejected by primary", primary.shardId()), e);
+            return null;
+        }
+        return new BatchedMappingUpdate(merged, mergedUpdates);
+    }
+
+    /**
+     * Resolves the versions of all documents that the items of the request look up by id in one pass, so that executing the items
+     * one by one does not have to seek the terms dictionaries of all segments for each of them. Documents indexed with an auto
+     * generated id are skipped since they are never looked up. Failures are ignored here, the items are then looked up one by one.
+     */
+    static void prefetchDocVersions(BulkShardRequest request, IndexShard primary) {
+        final List<String> ids = new ArrayList<>(request.items().length);
+        for (BulkItemRequest item : request.items()) {
+            if (item == null || item.getPrimaryResponse() != null) {
+                continue;
+            }
+            final DocWriteRequest<?> docWriteRequest = item.request();
+            if (docWriteRequest.id() == null) {
+                continue;
+            }
+            if (docWriteRequest instanceof IndexRequest
+                && ((IndexRequest) docWriteRequest).getAutoGeneratedTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP) {
+                continue;
+            }
+            ids.add(docWriteRequest.id());
+        }
+        if (ids.size() < 2) {
+            // a single lookup doesn't benefit from being batched
+            return;
+        }
+        try {
+            primary.prefetchDocVersionsOnPrimary(ids);
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("{} failed to prefetch document versions", primary.shardId()), e);
+        }
+    }
+
+    /**
+     * Parses the documents of the index requests of the bulk shard request with up to the given number of threads, the calling
+     * thread included, so that large bulks don't parse all their documents on a single write thread. The operations are still
+     * applied one by one and in order, each using its parsed document only if the mapping hasn't changed in the meantime.
+     * <p>
+     * The calling thread claims documents to parse like the forked tasks do, so it never waits for a task that hasn't started,
+     * and tasks that start after all documents are claimed have nothing left to do. Update requests are translated into index
+     * requests while they are executed and are not parsed upfront.
+     *
+     * @return the parsed documents indexed by item position, with null entries for items that were not parsed, or null if no
+     * document was parsed
+     */
+    static IndexShard.PreParsedDocument[] parseDocuments(
+        BulkShardRequest request,
+        IndexShard primary,
+        int parallelism,
+        ThreadPool threadPool,
+        String executorName
+    ) {
+        final BulkItemRequest[] items = request.items();
+        final int[] itemsToParse = new int[items.length];
+        int numItemsToParse = 0;
+        for (int i = 0; i < items.length; i++) {
+            final BulkItemRequest item = items[i];
+            if (item != null && item.getPrimaryResponse() == null && item.request() instanceof IndexRequest) {
+                itemsToParse[numItemsToParse++] = i;
+            }
+        }
+        if (numItemsToParse < 2) {
+            // nothing to parse concurrently
+            return null;
+        }
+        final IndexShard.PreParsedDocument[] documents = new IndexShard.PreParsedDocument[items.length];
+        final int numDocuments = numItemsToParse;
+        final AtomicInteger nextDocument = new AtomicInteger();
+        final CountDownLatch parsed = new CountDownLatch(numDocuments);
+        final Runnable parser = () -> {
+            for (int i = nextDocument.getAndIncrement(); i < numDocuments; i = nextDocument.getAndIncrement()) {
+                try {
+                    final int itemId = itemsToParse[i];
+                    final IndexRequest indexRequest = (IndexRequest) items[itemId].request();
+                    documents[itemId] = primary.parseDocumentOnPrimary(
+                        new SourceToParse(
+                            indexRequest.index(),
+                            indexRequest.id(),
+                            indexRequest.source(),
+                            indexRequest.getContentType(),
+                            indexRequest.routing()
+                        )
+                    );
+                } finally {
+                    parsed.countDown();
+                }
+            }
+        };
+        final Executor executor = threadPool.executor(executorName);
+        final int numTasks = Math.min(parallelism, numDocuments) - 1;
+        for (int i = 0; i < numTasks; i++) {
+            try {
+                executor.execute(threadPool.getThreadContext().preserveContext(parser));
+            } catch (RejectedExecutionException e) {
+                // the remaining documents are parsed by the threads that are already parsing
+                break;
+            }
+        }
+        parser.run();
+        try {
+            // only waits for the documents that forked tasks are currently parsing
+            parsed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return documents;
+    }
+
     @Override
     protected Releasable checkPrimaryLimits(BulkShardRequest request, boolean rerouteWasLocal, boolean localRerouteInitiatedByNodeClient) {
         if (force(request) == false) {
@@ -652,15 +858,37 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            result = primary.applyIndexOperationOnPrimary(
-                version,
-                request.versionType(),
-                new SourceToParse(request.index(), request.id(), request.source(), request.getContentType(), request.routing()),
-                request.ifSeqNo(),
-                request.ifPrimaryTerm(),
-                request.getAutoGeneratedTimestamp(),
-                request.isRetry()
+            final SourceToParse sourceToParse = new SourceToParse(
+                request.index(),
+                request.id(),
+                request.source(),
+                request.getContentType(),
+                request.routing()
             );
+            // documents are only parsed upfront for index requests, not for the index requests that updates are translated to
+            final IndexShard.PreParsedDocument preParsedDocument = updateResult == null ? context.takePreParsedDocument() : null;
+            if (preParsedDocument != null) {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse,
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry(),
+                    preParsedDocument
+                );
+            } else {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse,
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry()
+                );
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
@@ -677,7 +905,10 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 return true;
             }
 
-            mappingUpdater.updateMappings(result.getRequiredMappingUpdate(), primary.shardId(), new ActionListener<Void>() {
+            final BatchedMappingUpdate batchedUpdate = isDelete == false && primary.indexSettings().isBulkBatchDynamicMappingUpdates()
+                ? mergeDynamicMappingUpdates(context, result.getRequiredMappingUpdate())
+                : null;
+            final ActionListener<Void> mappingUpdateListener = new ActionListener<Void>() {
                 @Override
                 public void onResponse(Void v) {
                     context.markAsRequiringMappingUpdate();
@@ -702,7 +933,13 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                     assert context.isInitial();
                     itemDoneListener.onResponse(null);
                 }
-            });
+            };
+            if (batchedUpdate == null) {
+                mappingUpdater.updateMappings(result.getRequiredMappingUpdate(), primary.shardId(), mappingUpdateListener);
+            } else {
+                primary.dynamicMappingUpdatesBatched(batchedUpdate.mergedUpdates);
+                mappingUpdater.updateMappings(batchedUpdate.update, batchedUpdate.mergedUpdates, primary.shardId(), mappingUpdateListener);
+            }
             return false;
         } else {
             onComplete(result, context, updateResult);
@@ -263,14 +263,29 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                     throw new SearchPhaseExecutionException(getName(), msg, null, ShardSearchFailure.EMPTY_ARRAY);
                 }
             }
-            for (int index = 0; index < shardsIts.size(); index++) {
-                final SearchShardIterator shardRoutings = shardsIts.get(index);
-                assert shardRoutings.skip() == false;
-                performPhaseOnShard(index, shardRoutings, shardRoutings.nextOrNull());
+            beforeInitialShardRequests();
+            try {
+                for (int index = 0; index < shardsIts.size(); index++) {
+                    final SearchShardIterator shardRoutings = shardsIts.get(index);
+                    assert shardRoutings.skip() == false;
+                    performPhaseOnShard(index, shardRoutings, shardRoutings.nextOrNull());
+                }
+            } finally {
+                afterInitialShardRequests();
             }
         }
     }
 
+    /**
+     * Called before the initial requests to the shards are executed, on the thread that executes them.
+     */
+    protected void beforeInitialShardRequests() {}
+
+    /**
+     * Called after the initial requests to the shards were executed, on the thread that executed them, even if executing them failed.
+     */
+    protected void afterInitialShardRequests() {}
+
     void skipShard(SearchShardIterator iterator) {
         successfulOps.incrementAndGet();
         skippedOps.incrementAndGet();
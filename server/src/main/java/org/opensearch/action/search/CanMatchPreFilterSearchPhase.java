@@ -37,10 +37,13 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.FieldRangeSummary;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
@@ -52,6 +55,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -68,6 +72,8 @@ import java.util.stream.Stream;
  * When the query primary sort is perform on a field, this phase extracts the min/max value in each shard and
  * sort them according to the provided order. This can be useful for instance to ensure that shards that contain recent
  * data are executed first when sorting by descending timestamp.
+ * Shards of write blocked indices may publish the min/max values of some date fields along with their response, which are
+ * cached and used to skip these shards without any round trip when later range queries can't match them.
  *
  * @opensearch.internal
  */
@@ -75,6 +81,10 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    private final ClusterState clusterState;
+    private final FieldRangeSummaryCache fieldRangeSummaryCache;
+    private final SearchRequestContext searchRequestContext;
+    private final AtomicInteger shardsSkippedWithoutRoundTrip = new AtomicInteger();
 
     CanMatchPreFilterSearchPhase(
         Logger logger,
@@ -94,6 +104,48 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         Tracer tracer
+    ) {
+        this(
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            executor,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            phaseFactory,
+            clusters,
+            searchRequestContext,
+            tracer,
+            null
+        );
+    }
+
+    CanMatchPreFilterSearchPhase(
+        Logger logger,
+        SearchTransportService searchTransportService,
+        BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        Map<String, AliasFilter> aliasFilter,
+        Map<String, Float> concreteIndexBoosts,
+        Map<String, Set<String>> indexRoutings,
+        Executor executor,
+        SearchRequest request,
+        ActionListener<SearchResponse> listener,
+        GroupShardsIterator<SearchShardIterator> shardsIts,
+        TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        Tracer tracer,
+        FieldRangeSummaryCache fieldRangeSummaryCache
     ) {
         // We set max concurrent shard requests to the number of shards so no throttling happens for can_match requests
         super(
@@ -119,6 +171,10 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.clusterState = clusterState;
+        // the summaries only tell about the shards that the query can't match, like the rewrite of the query on the shards
+        this.fieldRangeSummaryCache = SearchService.canRewriteToMatchNone(request.source()) ? fieldRangeSummaryCache : null;
+        this.searchRequestContext = searchRequestContext;
     }
 
     @Override
@@ -132,20 +188,39 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchShardTarget shard,
         SearchActionListener<CanMatchResponse> listener
     ) {
-        getSearchTransport().sendCanMatch(
-            getConnection(shard.getClusterAlias(), shard.getNodeId()),
-            buildShardSearchRequest(shardIt),
-            getTask(),
-            listener
-        );
+        final ShardSearchRequest request = buildShardSearchRequest(shardIt);
+        if (fieldRangeSummaryCache != null && shard.getClusterAlias() == null) {
+            final FieldRangeSummary summary = fieldRangeSummaryCache.get(clusterState, shardIt.shardId());
+            if (summary != null && summary.canMatch(request.source().query(), request.nowInMillis()) == false) {
+                shardsSkippedWithoutRoundTrip.incrementAndGet();
+                listener.onResponse(new CanMatchResponse(false, null, summary));
+                return;
+            }
+        }
+        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
     }
 
     @Override
-    protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
+    protected void onShardResult(CanMatchResponse result, SearchShardIterator shardIt) {
+        if (fieldRangeSummaryCache != null && result.getSearchShardTarget().getClusterAlias() == null) {
+            fieldRangeSummaryCache.put(shardIt.shardId(), result.fieldRanges());
+        }
+        super.onShardResult(result, shardIt);
+    }
 
+    @Override
+    protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
+        searchRequestContext.setShardsSkippedWithoutRoundTrip(shardsSkippedWithoutRoundTrip.get());
         return phaseFactory.apply(getIterator((CanMatchSearchPhaseResults) results, shardsIts));
     }
 
+    /**
+     * Returns the number of shards that were skipped without sending them a can_match request.
+     */
+    int getShardsSkippedWithoutRoundTrip() {
+        return shardsSkippedWithoutRoundTrip.get();
+    }
+
     private GroupShardsIterator<SearchShardIterator> getIterator(
         CanMatchSearchPhaseResults results,
         GroupShardsIterator<SearchShardIterator> shardsIts
@@ -68,19 +68,31 @@ final class FetchSearchPhase extends SearchPhase {
     private final SearchPhaseResults<SearchPhaseResult> resultConsumer;
     private final SearchProgressListener progressListener;
     private final AggregatedDfs aggregatedDfs;
+    private final PipelinedFetch pipelinedFetch;
 
     FetchSearchPhase(
         SearchPhaseResults<SearchPhaseResult> resultConsumer,
         SearchPhaseController searchPhaseController,
         AggregatedDfs aggregatedDfs,
         SearchPhaseContext context
+    ) {
+        this(resultConsumer, searchPhaseController, aggregatedDfs, context, (PipelinedFetch) null);
+    }
+
+    FetchSearchPhase(
+        SearchPhaseResults<SearchPhaseResult> resultConsumer,
+        SearchPhaseController searchPhaseController,
+        AggregatedDfs aggregatedDfs,
+        SearchPhaseContext context,
+        PipelinedFetch pipelinedFetch
     ) {
         this(
             resultConsumer,
             searchPhaseController,
             aggregatedDfs,
             context,
-            (response, queryPhaseResults) -> new ExpandSearchPhase(context, response, queryPhaseResults)
+            (response, queryPhaseResults) -> new ExpandSearchPhase(context, response, queryPhaseResults),
+            pipelinedFetch
         );
     }
 
@@ -90,6 +102,17 @@ final class FetchSearchPhase extends SearchPhase {
         AggregatedDfs aggregatedDfs,
         SearchPhaseContext context,
         BiFunction<InternalSearchResponse, AtomicArray<SearchPhaseResult>, SearchPhase> nextPhaseFactory
+    ) {
+        this(resultConsumer, searchPhaseController, aggregatedDfs, context, nextPhaseFactory, null);
+    }
+
+    FetchSearchPhase(
+        SearchPhaseResults<SearchPhaseResult> resultConsumer,
+        SearchPhaseController searchPhaseController,
+        AggregatedDfs aggregatedDfs,
+        SearchPhaseContext context,
+        BiFunction<InternalSearchResponse, AtomicArray<SearchPhaseResult>, SearchPhase> nextPhaseFactory,
+        PipelinedFetch pipelinedFetch
     ) {
         super(SearchPhaseName.FETCH.getName());
         if (context.getNumShards() != resultConsumer.getNumShards()) {
@@ -109,6 +132,7 @@ final class FetchSearchPhase extends SearchPhase {
         this.logger = context.getLogger();
         this.resultConsumer = resultConsumer;
         this.progressListener = context.getTask().getProgressListener();
+        this.pipelinedFetch = pipelinedFetch;
     }
 
     @Override
@@ -179,6 +203,18 @@ final class FetchSearchPhase extends SearchPhase {
                         }
                         // in any case we count down this result since we don't talk to this shard anymore
                         counter.countDown();
+                    } else if (isPrefetched(i, entry)) {
+                        // the hits of this shard were fetched while the query phase was still running on other shards, and the
+                        // hits of the final page are a prefix of them, which the merge walks through in order
+                        final PipelinedFetch.Prefetch prefetch = pipelinedFetch.getPrefetch(i);
+                        final SearchActionListener<FetchSearchResult> listener = fetchListener(
+                            i,
+                            queryResult.getSearchShardTarget(),
+                            counter,
+                            prefetch.request,
+                            queryResult.queryResult()
+                        );
+                        prefetch.listener.whenComplete(listener::onResponse, listener::onFailure);
                     } else {
                         SearchShardTarget searchShardTarget = queryResult.getSearchShardTarget();
                         Transport.Connection connection = context.getConnection(
@@ -201,6 +237,14 @@ final class FetchSearchPhase extends SearchPhase {
         }
     }
 
+    private boolean isPrefetched(int shardIndex, List<Integer> docIdsToLoad) {
+        if (pipelinedFetch == null || pipelinedFetch.getPrefetch(shardIndex) == null) {
+            return false;
+        }
+        assert pipelinedFetch.getPrefetch(shardIndex).docCount >= docIdsToLoad.size() : "prefetched fewer hits than the final page needs";
+        return pipelinedFetch.getPrefetch(shardIndex).docCount >= docIdsToLoad.size();
+    }
+
     protected ShardFetchSearchRequest createFetchRequest(
         ShardSearchContextId contextId,
         int index,
@@ -235,37 +279,44 @@ final class FetchSearchPhase extends SearchPhase {
                 connection,
                 fetchSearchRequest,
                 context.getTask(),
-                new SearchActionListener<FetchSearchResult>(shardTarget, shardIndex) {
-                    @Override
-                    public void innerOnResponse(FetchSearchResult result) {
-                        try {
-                            progressListener.notifyFetchResult(shardIndex);
-                            context.setPhaseResourceUsages();
-                            counter.onResult(result);
-                        } catch (Exception e) {
-                            context.onPhaseFailure(FetchSearchPhase.this, "", e);
-                        }
-                    }
+                fetchListener(shardIndex, shardTarget, counter, fetchSearchRequest, querySearchResult)
+            );
+    }
 
-                    @Override
-                    public void onFailure(Exception e) {
-                        try {
-                            logger.debug(
-                                () -> new ParameterizedMessage("[{}] Failed to execute fetch phase", fetchSearchRequest.contextId()),
-                                e
-                            );
-                            progressListener.notifyFetchFailure(shardIndex, shardTarget, e);
-                            context.setPhaseResourceUsages();
-                            counter.onFailure(shardIndex, shardTarget, e);
-                        } finally {
-                            // the search context might not be cleared on the node where the fetch was executed for example
-                            // because the action was rejected by the thread pool. in this case we need to send a dedicated
-                            // request to clear the search context.
-                            releaseIrrelevantSearchContext(querySearchResult);
-                        }
-                    }
+    private SearchActionListener<FetchSearchResult> fetchListener(
+        final int shardIndex,
+        final SearchShardTarget shardTarget,
+        final CountedCollector<FetchSearchResult> counter,
+        final ShardFetchSearchRequest fetchSearchRequest,
+        final QuerySearchResult querySearchResult
+    ) {
+        return new SearchActionListener<FetchSearchResult>(shardTarget, shardIndex) {
+            @Override
+            public void innerOnResponse(FetchSearchResult result) {
+                try {
+                    progressListener.notifyFetchResult(shardIndex);
+                    context.setPhaseResourceUsages();
+                    counter.onResult(result);
+                } catch (Exception e) {
+                    context.onPhaseFailure(FetchSearchPhase.this, "", e);
                 }
-            );
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    logger.debug(() -> new ParameterizedMessage("[{}] Failed to execute fetch phase", fetchSearchRequest.contextId()), e);
+                    progressListener.notifyFetchFailure(shardIndex, shardTarget, e);
+                    context.setPhaseResourceUsages();
+                    counter.onFailure(shardIndex, shardTarget, e);
+                } finally {
+                    // the search context might not be cleared on the node where the fetch was executed for example
+                    // because the action was rejected by the thread pool. in this case we need to send a dedicated
+                    // request to clear the search context.
+                    releaseIrrelevantSearchContext(querySearchResult);
+                }
+            }
+        };
     }
 
     /**
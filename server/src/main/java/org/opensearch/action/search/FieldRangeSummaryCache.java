@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.FieldRangeSummary;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the field range summaries that the shards of write blocked indices publish in their can_match responses, so that the
+ * coordinating node can skip the shards that can't match a query without sending them a can_match request.
+ * <p>
+ * A summary is only used while its index has the write block and the settings it had when the shard built the summary. Lifting
+ * the write block or changing any other index setting invalidates it, and the next can_match request to the shard publishes a fresh
+ * one, which is how the cache follows refreshes and rollovers. Global write blocks don't count, since lifting them leaves the settings
+ * of the index unchanged.
+ *
+ * @opensearch.internal
+ */
+final class FieldRangeSummaryCache implements ClusterStateListener {
+
+    private final ConcurrentMap<ShardId, FieldRangeSummary> summaries = ConcurrentCollections.newConcurrentMap();
+
+    FieldRangeSummaryCache(ClusterService clusterService) {
+        clusterService.addListener(this);
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (summaries.isEmpty() == false && (event.metadataChanged() || event.blocksChanged())) {
+            final ClusterState state = event.state();
+            summaries.entrySet().removeIf(entry -> isValid(state, entry.getKey(), entry.getValue()) == false);
+        }
+    }
+
+    /**
+     * Returns the summary of the given shard if it is still valid in the given cluster state, or {@code null} otherwise.
+     */
+    FieldRangeSummary get(ClusterState state, ShardId shardId) {
+        final FieldRangeSummary summary = summaries.get(shardId);
+        return summary != null && isValid(state, shardId, summary) ? summary : null;
+    }
+
+    /**
+     * Records the summary that the given shard published in its can_match response, which is {@code null} if it didn't publish any.
+     */
+    void put(ShardId shardId, FieldRangeSummary summary) {
+        if (summary == null) {
+            summaries.remove(shardId);
+        } else {
+            summaries.put(shardId, summary);
+        }
+    }
+
+    int size() {
+        return summaries.size();
+    }
+
+    private static boolean isValid(ClusterState state, ShardId shardId, FieldRangeSummary summary) {
+        final IndexMetadata indexMetadata = state.metadata().index(shardId.getIndex());
+        return indexMetadata != null
+            && indexMetadata.getSettingsVersion() == summary.getSettingsVersion()
+            && state.blocks().hasIndexBlockWithLevel(shardId.getIndexName(), ClusterBlockLevel.WRITE);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.opensearch.action.StepListener;
+import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.fetch.ShardFetchSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fetches the top hits of the shards of a query then fetch search while the query phase is still running on other shards.
+ * <p>
+ * The coordinator merges the top docs of the shards that returned so far. Since the top docs of the shards that did not return yet
+ * can only push documents out of the merged top docs, the documents of a shard that are part of the final page are always a prefix of
+ * the documents of that shard that are part of the merged top docs so far. Fetching that prefix as soon as the shard returns is thus
+ * enough to build the final page, and the fetch of the fast shards overlaps with the query phase of the slow ones. Documents that
+ * drop out of the top docs later on are fetched for nothing, which is why prefetching only starts once half of the shards returned.
+ *
+ * @opensearch.internal
+ */
+final class PipelinedFetch {
+
+    private final int topN;
+    private final int minResults;
+    private final Map<Integer, TopDocs> shardTopDocs = new HashMap<>();
+    private final List<SearchPhaseResult> undecided = new ArrayList<>();
+    private final AtomicArray<Prefetch> prefetches;
+    private int numResults;
+
+    PipelinedFetch(int numShards, int topN) {
+        this.topN = topN;
+        this.minResults = Math.max(1, (numShards + 1) / 2);
+        this.prefetches = new AtomicArray<>(numShards);
+    }
+
+    /**
+     * Returns whether the hits of the given search request can be fetched before the query phase is done on all shards.
+     */
+    static boolean canPipeline(SearchRequest request, int numShards) {
+        final SearchSourceBuilder source = request.source();
+        // a single shard fetches in the query phase already
+        return numShards > 1
+            && request.scroll() == null
+            && request.pointInTimeBuilder() == null
+            && source != null
+            && source.from() <= 0
+            && source.size() != 0
+            && source.aggregations() == null
+            && source.suggest() == null
+            && source.collapse() == null;
+    }
+
+    /**
+     * Records the query result of a shard, and returns the shards whose top hits should be fetched now.
+     */
+    synchronized List<Prefetch> onQueryResult(SearchPhaseResult result) {
+        numResults++;
+        final QuerySearchResult queryResult = result.queryResult();
+        if (queryResult.isNull() == false && queryResult.hasSearchContext() && queryResult.hasConsumedTopDocs() == false) {
+            final TopDocs topDocs = copyWithShardIndex(queryResult.topDocs().topDocs, result.getShardIndex());
+            if (topDocs.scoreDocs.length > 0) {
+                shardTopDocs.put(result.getShardIndex(), topDocs);
+                undecided.add(result);
+            }
+        }
+        if (numResults < minResults || undecided.isEmpty()) {
+            return List.of();
+        }
+        final TopDocs merged = SearchPhaseController.mergeTopDocs(shardTopDocs.values(), topN, 0);
+        final Map<Integer, Integer> docCounts = new HashMap<>();
+        for (ScoreDoc scoreDoc : merged.scoreDocs) {
+            docCounts.merge(scoreDoc.shardIndex, 1, Integer::sum);
+        }
+        final List<Prefetch> toSend = new ArrayList<>();
+        for (SearchPhaseResult shardResult : undecided) {
+            final int docCount = docCounts.getOrDefault(shardResult.getShardIndex(), 0);
+            // shards without any document in the top docs so far will not have any in the final page either
+            if (docCount > 0) {
+                final ScoreDoc[] scoreDocs = shardTopDocs.get(shardResult.getShardIndex()).scoreDocs;
+                final List<Integer> docIds = new ArrayList<>(docCount);
+                for (int i = 0; i < docCount; i++) {
+                    docIds.add(scoreDocs[i].doc);
+                }
+                final Prefetch prefetch = new Prefetch(shardResult, docIds);
+                prefetches.set(shardResult.getShardIndex(), prefetch);
+                toSend.add(prefetch);
+            }
+        }
+        undecided.clear();
+        return toSend;
+    }
+
+    /**
+     * Returns the prefetch of the given shard, or {@code null} if its hits were not prefetched.
+     */
+    Prefetch getPrefetch(int shardIndex) {
+        return prefetches.get(shardIndex);
+    }
+
+    private static TopDocs copyWithShardIndex(TopDocs topDocs, int shardIndex) {
+        // the score docs of the query result get their shard index when they are reduced, so they are copied here
+        final ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        if (topDocs instanceof TopFieldDocs) {
+            final FieldDoc[] fieldDocs = new FieldDoc[scoreDocs.length];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                final FieldDoc fieldDoc = (FieldDoc) scoreDocs[i];
+                fieldDocs[i] = new FieldDoc(fieldDoc.doc, fieldDoc.score, fieldDoc.fields, shardIndex);
+            }
+            return new TopFieldDocs(topDocs.totalHits, fieldDocs, ((TopFieldDocs) topDocs).fields);
+        }
+        final ScoreDoc[] copies = new ScoreDoc[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            copies[i] = new ScoreDoc(scoreDocs[i].doc, scoreDocs[i].score, shardIndex);
+        }
+        return new TopDocs(topDocs.totalHits, copies);
+    }
+
+    /**
+     * The fetch of the top hits of a shard, which the fetch phase uses instead of fetching the hits of that shard again.
+     */
+    static final class Prefetch {
+        final SearchPhaseResult queryResult;
+        final int docCount;
+        final ShardFetchSearchRequest request;
+        final StepListener<FetchSearchResult> listener = new StepListener<>();
+
+        private Prefetch(SearchPhaseResult queryResult, List<Integer> docIds) {
+            this.queryResult = queryResult;
+            this.docCount = docIds.size();
+            this.request = new ShardFetchSearchRequest(
+                queryResult.getSearchShardTarget().getOriginalIndices(),
+                queryResult.queryResult().getContextId(),
+                queryResult.getShardSearchRequest(),
+                docIds,
+                null,
+                queryResult.getRescoreDocIds(),
+                null
+            );
+        }
+    }
+}
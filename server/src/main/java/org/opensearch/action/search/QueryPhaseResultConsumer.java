@@ -55,7 +55,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
@@ -68,6 +70,11 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * By default, partial reduces run one at a time and each of them folds a batch of shard results into the result of the previous
+ * one. When a parallel reduce fan-in is set, batches of shard results are instead reduced independently and concurrently, and their
+ * results are merged once {@code fan-in} of them are available, which shapes the reduction as a tree. The memory needed by each
+ * in-flight reduce is estimated and accounted in the circuit breaker before it starts.
  *
  * @opensearch.internal
  */
@@ -85,6 +92,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    // the number of partial reduce results that are merged together when batches are reduced in parallel, 0 if they are not
+    private final int parallelReduceFanIn;
 
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
@@ -127,8 +136,41 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            0
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, reducing batches of results in parallel if {@code parallelReduceFanIn} is greater than 0.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        int parallelReduceFanIn
     ) {
         super(expectedResultSize);
+        if (parallelReduceFanIn < 0 || parallelReduceFanIn == 1) {
+            throw new IllegalArgumentException("parallel reduce fan-in must be 0 or greater than 1, got [" + parallelReduceFanIn + "]");
+        }
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.controller = controller;
@@ -145,6 +187,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingReduces = new PendingReduces(batchReduceSize, request.resolveTrackTotalHitsUpTo());
         this.isTaskCancelled = isTaskCancelled;
+        // partial results of parallel reduces only cover the shards of their batches, which is not what progress listeners expect
+        this.parallelReduceFanIn = progressListener == SearchProgressListener.NOOP ? parallelReduceFanIn : 0;
     }
 
     int getBatchReduceSize(int requestBatchedReduceSize, int minBatchReduceSize) {
@@ -217,24 +261,22 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         QuerySearchResult[] toConsume,
         List<SearchShard> emptyResults,
         SearchPhaseController.TopDocsStats topDocsStats,
-        ReduceResult lastReduceResult,
+        List<ReduceResult> lastReduceResults,
         int numReducePhases
     ) {
         checkCancellation();
         if (pendingReduces.hasFailure()) {
-            return lastReduceResult;
+            return null;
         }
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
-        }
+        pendingReduces.addTopDocsStats(toConsume);
 
         final TopDocs newTopDocs;
         if (hasTopDocs) {
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (lastReduceResult != null) {
+            for (ReduceResult lastReduceResult : lastReduceResults) {
                 topDocsList.add(lastReduceResult.reducedTopDocs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -255,7 +297,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastReduceResult != null) {
+            for (ReduceResult lastReduceResult : lastReduceResults) {
                 aggsList.add(lastReduceResult.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -266,14 +308,16 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             newAggs = null;
         }
         List<SearchShard> processedShards = new ArrayList<>(emptyResults);
-        if (lastReduceResult != null) {
+        for (ReduceResult lastReduceResult : lastReduceResults) {
             processedShards.addAll(lastReduceResult.processedShards);
         }
         for (QuerySearchResult result : toConsume) {
             SearchShardTarget target = result.getSearchShardTarget();
             processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
-        progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
+        if (parallelReduceFanIn == 0) {
+            progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
+        }
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
@@ -317,6 +361,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
         private volatile ReduceResult reduceResult;
+        // the reduces that are running in parallel and the results of the ones that are not merged yet
+        private final Set<ReduceTask> parallelTasks = new HashSet<>();
+        private final List<ReduceResult> parallelReduceResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
@@ -341,8 +388,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        private boolean hasPendingReduceTask() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        private synchronized boolean hasPendingReduceTask() {
+            return queue.isEmpty() == false || runningTask.get() != null || parallelTasks.isEmpty() == false;
+        }
+
+        private synchronized int nextReducePhase() {
+            return ++numReducePhases;
+        }
+
+        private synchronized void addTopDocsStats(QuerySearchResult[] results) {
+            for (QuerySearchResult result : results) {
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            }
         }
 
         private void sortBuffer() {
@@ -430,18 +487,22 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                     return true;
                 }
             }
-            // Process non-empty results
-            int size = buffer.size() + (hasPartialReduce ? 1 : 0);
+            // Process non-empty results, parallel reduces do not fold the result of a previous reduce into the batch
+            int size = buffer.size() + (hasPartialReduce && parallelReduceFanIn == 0 ? 1 : 0);
             if (size >= batchReduceSize) {
                 hasPartialReduce = true;
                 // the callback must wait for the new reduce task to complete to maintain proper result processing order
                 QuerySearchResult[] clone = buffer.toArray(QuerySearchResult[]::new);
-                ReduceTask task = new ReduceTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), callback);
+                ReduceTask task = new ReduceTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), List.of(), callback);
                 aggsCurrentBufferSize = 0;
                 buffer.clear();
                 emptyResults.clear();
-                queue.add(task);
-                tryExecuteNext();
+                if (parallelReduceFanIn > 0) {
+                    executeParallel(task);
+                } else {
+                    queue.add(task);
+                    tryExecuteNext();
+                }
                 buffer.add(result);
                 return false; // callback will be run by reduce task
             }
@@ -477,8 +538,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
                         estimatedTotalSize += estimateRamBytesUsedForReduce;
-                        ++numReducePhases;
-                        newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, thisReduceResult, numReducePhases);
+                        newReduceResult = partialReduce(
+                            toConsume,
+                            task.emptyResults,
+                            topDocsStats,
+                            thisReduceResult != null ? List.of(thisReduceResult) : List.of(),
+                            nextReducePhase()
+                        );
                     } catch (Exception t) {
                         PendingReduces.this.onFailure(t);
                         return;
@@ -519,6 +585,78 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             executor.execute(this::tryExecuteNext);
         }
 
+        /**
+         * Reduces the batch of the given task, or merges the results of the reduces of the given task, concurrently with the
+         * other parallel reduces.
+         */
+        private synchronized void executeParallel(ReduceTask task) {
+            if (hasFailure()) {
+                task.cancel();
+                return;
+            }
+            parallelTasks.add(task);
+            executor.execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    long estimatedTotalSize = task.aggsBufferSize;
+                    for (ReduceResult toMerge : task.toMerge) {
+                        estimatedTotalSize += toMerge.estimatedSize;
+                    }
+                    final ReduceResult newReduceResult;
+                    try {
+                        final QuerySearchResult[] toConsume = task.consumeBuffer();
+                        if (toConsume == null) {
+                            onAfterParallelReduce(task, null, 0);
+                            return;
+                        }
+                        long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
+                        addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
+                        estimatedTotalSize += estimateRamBytesUsedForReduce;
+                        newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, task.toMerge, nextReducePhase());
+                    } catch (Exception t) {
+                        PendingReduces.this.onFailure(t);
+                        return;
+                    }
+                    onAfterParallelReduce(task, newReduceResult, estimatedTotalSize);
+                }
+
+                @Override
+                public void onFailure(Exception exc) {
+                    PendingReduces.this.onFailure(exc);
+                }
+            });
+        }
+
+        private void onAfterParallelReduce(ReduceTask task, ReduceResult newResult, long estimatedSize) {
+            synchronized (this) {
+                if (hasFailure()) {
+                    return;
+                }
+                parallelTasks.remove(task);
+                if (newResult != null) {
+                    if (hasAggs) {
+                        // Update the circuit breaker to remove the size of the source aggregations
+                        // and replace the estimation with the serialized size of the newly reduced result.
+                        addWithoutBreaking(newResult.estimatedSize - estimatedSize);
+                        logger.trace(
+                            "aggs parallel partial reduction [{}->{}] max [{}]",
+                            estimatedSize,
+                            newResult.estimatedSize,
+                            maxAggsCurrentBufferSize
+                        );
+                    }
+                    parallelReduceResults.add(newResult);
+                    if (parallelReduceResults.size() >= parallelReduceFanIn) {
+                        // the merge takes over the callback so that the final reduce waits for it
+                        List<ReduceResult> toMerge = new ArrayList<>(parallelReduceResults);
+                        parallelReduceResults.clear();
+                        executeParallel(new ReduceTask(new QuerySearchResult[0], 0, List.of(), toMerge, task.takeListener()));
+                    }
+                }
+            }
+            task.consumeListener();
+        }
+
         // Idempotent and thread-safe failure handling
         private synchronized void onFailure(Exception exc) {
             if (hasFailure()) {
@@ -541,7 +679,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
             toCancels.addAll(queue);
             queue.clear();
+            toCancels.addAll(parallelTasks);
+            parallelTasks.clear();
             reduceResult = null;
+            parallelReduceResults.clear();
             for (ReduceTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -559,8 +700,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (reduceResult != null) {
-                topDocsList.add(reduceResult.reducedTopDocs);
+            for (ReduceResult result : reduceResults()) {
+                topDocsList.add(result.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
                 TopDocsAndMaxScore topDocs = result.consumeTopDocs();
@@ -575,14 +716,21 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (reduceResult != null) {
-                aggsList.add(reduceResult.reducedAggs);
+            for (ReduceResult result : reduceResults()) {
+                aggsList.add(result.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
                 aggsList.add(result.consumeAggs().expand());
             }
             return aggsList;
         }
+
+        private synchronized List<ReduceResult> reduceResults() {
+            if (parallelReduceFanIn > 0) {
+                return parallelReduceResults;
+            }
+            return reduceResult != null ? List.of(reduceResult) : List.of();
+        }
     }
 
     /**
@@ -603,12 +751,21 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private final List<SearchShard> emptyResults;
         private QuerySearchResult[] buffer;
         private final long aggsBufferSize;
+        // the results of parallel reduces that this task merges
+        private final List<ReduceResult> toMerge;
         private Runnable next;
 
-        private ReduceTask(QuerySearchResult[] buffer, long aggsBufferSize, List<SearchShard> emptyResults, Runnable next) {
+        private ReduceTask(
+            QuerySearchResult[] buffer,
+            long aggsBufferSize,
+            List<SearchShard> emptyResults,
+            List<ReduceResult> toMerge,
+            Runnable next
+        ) {
             this.buffer = buffer;
             this.aggsBufferSize = aggsBufferSize;
             this.emptyResults = emptyResults;
+            this.toMerge = toMerge;
             this.next = next;
         }
 
@@ -619,12 +776,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         public void consumeListener() {
-            if (next != null) {
-                next.run();
-                next = null;
+            final Runnable toRun = takeListener();
+            if (toRun != null) {
+                toRun.run();
             }
         }
 
+        public synchronized Runnable takeListener() {
+            final Runnable toRun = next;
+            next = null;
+            return toRun;
+        }
+
         public synchronized void cancel() {
             consumeBuffer();
             consumeListener();
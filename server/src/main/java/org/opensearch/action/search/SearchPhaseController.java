@@ -794,6 +794,23 @@ public final class SearchPhaseController {
         int numShards,
         Consumer<Exception> onPartialMergeFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        return newSearchPhaseResults(executor, circuitBreaker, listener, request, numShards, onPartialMergeFailure, isTaskCancelled, 0);
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally, reducing batches of
+     * responses in parallel if {@code parallelReduceFanIn} is greater than 0.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchProgressListener listener,
+        SearchRequest request,
+        int numShards,
+        Consumer<Exception> onPartialMergeFailure,
+        BooleanSupplier isTaskCancelled,
+        int parallelReduceFanIn
     ) {
         return new QueryPhaseResultConsumer(
             request,
@@ -804,7 +821,8 @@ public final class SearchPhaseController {
             namedWriteableRegistry,
             numShards,
             onPartialMergeFailure,
-            isTaskCancelled
+            isTaskCancelled,
+            parallelReduceFanIn
         );
     }
 
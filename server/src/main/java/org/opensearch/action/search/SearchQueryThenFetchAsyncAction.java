@@ -34,11 +34,13 @@ package org.opensearch.action.search;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopFieldDocs;
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
@@ -46,6 +48,9 @@ import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.transport.Transport;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -66,6 +71,14 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
     private final int trackTotalHitsUpTo;
     private volatile BottomSortValuesCollector bottomSortCollector;
 
+    // the initial shard requests are collected per node while this thread sends them, and sent in one request per node at the end
+    private final boolean batchShardRequestsPerNode;
+    private volatile Thread batchingThread;
+    private final Map<String, NodeBatch> nodeBatches = new LinkedHashMap<>();
+
+    // fetches the top hits of the shards that returned while the query phase still runs on the other shards, null if disabled
+    private final PipelinedFetch pipelinedFetch;
+
     SearchQueryThenFetchAsyncAction(
         final Logger logger,
         final SearchTransportService searchTransportService,
@@ -85,6 +98,52 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         final Tracer tracer
+    ) {
+        this(
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            searchPhaseController,
+            executor,
+            resultConsumer,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            clusters,
+            searchRequestContext,
+            tracer,
+            false,
+            false
+        );
+    }
+
+    SearchQueryThenFetchAsyncAction(
+        final Logger logger,
+        final SearchTransportService searchTransportService,
+        final BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        final Map<String, AliasFilter> aliasFilter,
+        final Map<String, Float> concreteIndexBoosts,
+        final Map<String, Set<String>> indexRoutings,
+        final SearchPhaseController searchPhaseController,
+        final Executor executor,
+        final QueryPhaseResultConsumer resultConsumer,
+        final SearchRequest request,
+        final ActionListener<SearchResponse> listener,
+        final GroupShardsIterator<SearchShardIterator> shardsIts,
+        final TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        final Tracer tracer,
+        final boolean batchShardRequestsPerNode,
+        final boolean pipelineFetch
     ) {
         super(
             SearchPhaseName.QUERY.getName(),
@@ -111,6 +170,10 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         this.trackTotalHitsUpTo = request.resolveTrackTotalHitsUpTo();
         this.searchPhaseController = searchPhaseController;
         this.progressListener = task.getProgressListener();
+        this.batchShardRequestsPerNode = batchShardRequestsPerNode;
+        this.pipelinedFetch = pipelineFetch && PipelinedFetch.canPipeline(request, getNumShards())
+            ? new PipelinedFetch(getNumShards(), topDocsSize)
+            : null;
 
         // register the release of the query consumer to free up the circuit breaker memory
         // at the end of the search
@@ -135,7 +198,57 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         if (request != null) {
             request.setInboundNetworkTime(System.currentTimeMillis());
         }
-        getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
+        final Transport.Connection connection = getConnection(shard.getClusterAlias(), shard.getNodeId());
+        if (batchingThread == Thread.currentThread()
+            && shard.getClusterAlias() == null
+            && request != null
+            && request.numberOfShards() > 1
+            && request.source() == getRequest().source()) {
+            final NodeBatch batch = nodeBatches.computeIfAbsent(shard.getNodeId(), n -> new NodeBatch(connection));
+            batch.requests.add(request);
+            batch.listeners.add(listener);
+            return;
+        }
+        getSearchTransport().sendExecuteQuery(connection, request, getTask(), listener);
+    }
+
+    @Override
+    protected void beforeInitialShardRequests() {
+        if (batchShardRequestsPerNode) {
+            batchingThread = Thread.currentThread();
+        }
+    }
+
+    @Override
+    protected void afterInitialShardRequests() {
+        if (batchingThread == null) {
+            return;
+        }
+        batchingThread = null;
+        for (NodeBatch batch : nodeBatches.values()) {
+            if (batch.requests.size() == 1) {
+                getSearchTransport().sendExecuteQuery(batch.connection, batch.requests.get(0), getTask(), batch.listeners.get(0));
+            } else if (batch.connection.getVersion().onOrAfter(Version.V_3_5_0)) {
+                try {
+                    getSearchTransport().sendExecuteQueryBatch(
+                        batch.connection,
+                        new ShardSearchBatchRequest(batch.requests),
+                        getTask(),
+                        batch.listeners
+                    );
+                } catch (Exception e) {
+                    for (SearchActionListener<SearchPhaseResult> listener : batch.listeners) {
+                        listener.onFailure(e);
+                    }
+                }
+            } else {
+                // nodes on older versions do not know the batched action
+                for (int i = 0; i < batch.requests.size(); i++) {
+                    getSearchTransport().sendExecuteQuery(batch.connection, batch.requests.get(i), getTask(), batch.listeners.get(i));
+                }
+            }
+        }
+        nodeBatches.clear();
     }
 
     @Override
@@ -161,12 +274,55 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
             }
             bottomSortCollector.consumeTopDocs(topDocs, queryResult.sortValueFormats());
         }
+        if (pipelinedFetch != null) {
+            // the top docs of the result are copied before the result consumer reduces them
+            for (PipelinedFetch.Prefetch prefetch : pipelinedFetch.onQueryResult(result)) {
+                sendPrefetch(prefetch);
+            }
+        }
         super.onShardResult(result, shardIt);
     }
 
+    private void sendPrefetch(PipelinedFetch.Prefetch prefetch) {
+        final SearchShardTarget shardTarget = prefetch.queryResult.getSearchShardTarget();
+        try {
+            getSearchTransport().sendExecuteFetch(
+                getConnection(shardTarget.getClusterAlias(), shardTarget.getNodeId()),
+                prefetch.request,
+                getTask(),
+                new SearchActionListener<FetchSearchResult>(shardTarget, prefetch.queryResult.getShardIndex()) {
+                    @Override
+                    protected void innerOnResponse(FetchSearchResult result) {
+                        prefetch.listener.onResponse(result);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        prefetch.listener.onFailure(e);
+                    }
+                }
+            );
+        } catch (Exception e) {
+            prefetch.listener.onFailure(e);
+        }
+    }
+
     @Override
     protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
-        return new FetchSearchPhase(results, searchPhaseController, null, this);
+        return new FetchSearchPhase(results, searchPhaseController, null, this, pipelinedFetch);
+    }
+
+    /**
+     * The initial shard requests of a node that are sent together.
+     */
+    private static final class NodeBatch {
+        final Transport.Connection connection;
+        final List<ShardSearchRequest> requests = new ArrayList<>();
+        final List<SearchActionListener<SearchPhaseResult>> listeners = new ArrayList<>();
+
+        NodeBatch(Transport.Connection connection) {
+            this.connection = connection;
+        }
     }
 
     private ShardSearchRequest rewriteShardSearchRequest(ShardSearchRequest request) {
@@ -39,6 +39,7 @@ public class SearchRequestContext {
     private TotalHits totalHits;
     private final EnumMap<ShardStatsFieldNames, Integer> shardStats;
     private Set<Index> successfulSearchShardIndices;
+    private int shardsSkippedWithoutRoundTrip;
 
     private final SearchRequest searchRequest;
     private final LinkedBlockingQueue<TaskResourceInfo> phaseResourceUsage;
@@ -108,6 +109,17 @@ public class SearchRequestContext {
         this.shardStats.put(ShardStatsFieldNames.SEARCH_REQUEST_SLOWLOG_SHARD_FAILED, failed);
     }
 
+    void setShardsSkippedWithoutRoundTrip(int shardsSkippedWithoutRoundTrip) {
+        this.shardsSkippedWithoutRoundTrip = shardsSkippedWithoutRoundTrip;
+    }
+
+    /**
+     * Number of shards that the coordinator skipped without sending them a can_match request
+     */
+    public int getShardsSkippedWithoutRoundTrip() {
+        return shardsSkippedWithoutRoundTrip;
+    }
+
     String formattedShardStats() {
         if (shardStats.isEmpty()) {
             return "";
@@ -28,6 +28,7 @@ import java.util.concurrent.TimeUnit;
 public final class SearchRequestStats extends SearchRequestOperationsListener {
     Map<SearchPhaseName, StatsHolder> phaseStatsMap = new EnumMap<>(SearchPhaseName.class);
     StatsHolder tookStatsHolder;
+    CounterMetric shardsSkippedWithoutRoundTrip = new CounterMetric();
 
     public static final String SEARCH_REQUEST_STATS_ENABLED_KEY = "search.request_stats_enabled";
     public static final Setting<Boolean> SEARCH_REQUEST_STATS_ENABLED = Setting.boolSetting(
@@ -71,6 +72,10 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         return tookStatsHolder.timing.sum();
     }
 
+    public long getShardsSkippedWithoutRoundTrip() {
+        return shardsSkippedWithoutRoundTrip.count();
+    }
+
     @Override
     protected void onPhaseStart(SearchPhaseContext context) {
         context.getCurrentPhase().getSearchPhaseNameOptional().ifPresent(name -> phaseStatsMap.get(name).current.inc());
@@ -101,6 +106,7 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         tookStatsHolder.current.dec();
         tookStatsHolder.total.inc();
         tookStatsHolder.timing.inc(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - searchRequestContext.getAbsoluteStartNanos()));
+        shardsSkippedWithoutRoundTrip.inc(searchRequestContext.getShardsSkippedWithoutRoundTrip());
     }
 
     @Override
@@ -40,6 +40,8 @@ import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.CountDown;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -60,6 +62,8 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
@@ -93,6 +97,7 @@ public class SearchTransportService {
     public static final String DFS_ACTION_NAME = "indices:data/read/search[phase/dfs]";
     public static final String QUERY_ACTION_NAME = "indices:data/read/search[phase/query]";
     public static final String QUERY_ID_ACTION_NAME = "indices:data/read/search[phase/query/id]";
+    public static final String QUERY_BATCH_ACTION_NAME = "indices:data/read/search[phase/query/batch]";
     public static final String QUERY_SCROLL_ACTION_NAME = "indices:data/read/search[phase/query/scroll]";
     public static final String QUERY_FETCH_SCROLL_ACTION_NAME = "indices:data/read/search[phase/query+fetch/scroll]";
     public static final String FETCH_ID_SCROLL_ACTION_NAME = "indices:data/read/search[phase/fetch/id/scroll]";
@@ -253,6 +258,45 @@ public class SearchTransportService {
         );
     }
 
+    /**
+     * Sends the query phase requests of several shards that are allocated on the node of the given connection in a single
+     * request, and notifies the listener of each shard with the result or the failure of that shard.
+     */
+    public void sendExecuteQueryBatch(
+        Transport.Connection connection,
+        final ShardSearchBatchRequest request,
+        SearchTask task,
+        final List<SearchActionListener<SearchPhaseResult>> listeners
+    ) {
+        assert request.shardRequests().size() == listeners.size();
+        assert request.shardRequests().stream().allMatch(r -> r.numberOfShards() > 1) : "single shard searches fetch in the query phase";
+        final List<ActionListener<SearchPhaseResult>> handlers = new ArrayList<>(listeners.size());
+        for (SearchActionListener<SearchPhaseResult> listener : listeners) {
+            @SuppressWarnings("unchecked")
+            final ActionListener<SearchPhaseResult> handler = responseWrapper.apply(connection, listener);
+            handlers.add(handler);
+        }
+        transportService.sendChildRequest(
+            connection,
+            QUERY_BATCH_ACTION_NAME,
+            request,
+            task,
+            new ConnectionCountingHandler<>(ActionListener.wrap(response -> {
+                for (int i = 0; i < response.size(); i++) {
+                    if (response.getFailure(i) != null) {
+                        handlers.get(i).onFailure(response.getFailure(i));
+                    } else {
+                        handlers.get(i).onResponse(response.getResult(i));
+                    }
+                }
+            }, e -> {
+                for (ActionListener<SearchPhaseResult> handler : handlers) {
+                    handler.onFailure(e);
+                }
+            }), ShardSearchBatchResponse::new, clientConnections, connection.getNode().getId())
+        );
+    }
+
     public void sendExecuteQuery(
         Transport.Connection connection,
         final QuerySearchRequest request,
@@ -579,6 +623,24 @@ public class SearchTransportService {
             (request) -> ((ShardSearchRequest) request).numberOfShards() == 1 ? QueryFetchSearchResult::new : QuerySearchResult::new
         );
 
+        transportService.registerRequestHandler(
+            QUERY_BATCH_ACTION_NAME,
+            ThreadPool.Names.SAME,
+            false,
+            true,
+            AdmissionControlActionType.SEARCH,
+            ShardSearchBatchRequest::new,
+            (request, channel, task) -> executeQueryBatch(
+                request,
+                task,
+                transportService.getTaskManager(),
+                transportService.getLocalNode().getId(),
+                searchService,
+                new ChannelActionListener<>(channel, QUERY_BATCH_ACTION_NAME, request)
+            )
+        );
+        TransportActionProxy.registerProxyAction(transportService, QUERY_BATCH_ACTION_NAME, ShardSearchBatchResponse::new);
+
         transportService.registerRequestHandler(
             QUERY_ID_ACTION_NAME,
             ThreadPool.Names.SAME,
@@ -709,6 +771,58 @@ public class SearchTransportService {
         TransportActionProxy.registerProxyAction(transportService, UPDATE_READER_CONTEXT_ACTION_NAME, UpdatePitContextResponse::new);
     }
 
+    /**
+     * Runs the query phase of each shard of the batch in a child task of the batch task, so that each shard is tracked, cancelled
+     * and reported in the task list with its own resource usage, like it would be if it had been sent in a request of its own. The
+     * listener is notified once all shards have either a result or a failure.
+     */
+    static void executeQueryBatch(
+        ShardSearchBatchRequest request,
+        Task batchTask,
+        TaskManager taskManager,
+        String localNodeId,
+        SearchService searchService,
+        ActionListener<ShardSearchBatchResponse> listener
+    ) {
+        final List<ShardSearchRequest> shardRequests = request.shardRequests();
+        final SearchPhaseResult[] results = new SearchPhaseResult[shardRequests.size()];
+        final Exception[] failures = new Exception[shardRequests.size()];
+        final CountDown countDown = new CountDown(shardRequests.size());
+        for (int i = 0; i < shardRequests.size(); i++) {
+            final int index = i;
+            final ActionListener<SearchPhaseResult> shardListener = ActionListener.wrap(result -> {
+                results[index] = result;
+                if (countDown.countDown()) {
+                    listener.onResponse(new ShardSearchBatchResponse(results, failures));
+                }
+            }, e -> {
+                failures[index] = e;
+                if (countDown.countDown()) {
+                    listener.onResponse(new ShardSearchBatchResponse(results, failures));
+                }
+            });
+            final ShardSearchRequest shardRequest = shardRequests.get(i);
+            shardRequest.setParentTask(localNodeId, batchTask.getId());
+            final SearchShardTask shardTask;
+            try {
+                shardTask = (SearchShardTask) taskManager.register("transport", QUERY_ACTION_NAME, shardRequest);
+            } catch (Exception e) {
+                // the batch task was cancelled
+                shardListener.onFailure(e);
+                continue;
+            }
+            try (ThreadContext.StoredContext ignored = taskManager.taskExecutionStarted(shardTask)) {
+                // each shard is executed on the search pool of its own, and failures are returned per shard
+                searchService.executeQueryPhase(
+                    shardRequest,
+                    false,
+                    shardTask,
+                    ActionListener.runBefore(shardListener, () -> taskManager.unregister(shardTask))
+                );
+            }
+        }
+    }
+
     /**
      * Returns a connection to the given node on the provided cluster. If the cluster alias is <code>null</code> the node will be resolved
      * against the local cluster.
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.IndicesRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The query phase requests of several shards of a search that are allocated on the same node. The search source that the shard
+ * requests share is only sent once, and each shard reads its own copy of it on the data node, like it would from a
+ * {@link ShardSearchRequest} of its own.
+ *
+ * @opensearch.internal
+ */
+public final class ShardSearchBatchRequest extends TransportRequest implements IndicesRequest {
+
+    private final List<ShardSearchRequest> shardRequests;
+
+    public ShardSearchBatchRequest(List<ShardSearchRequest> shardRequests) {
+        assert shardRequests.isEmpty() == false : "a batch needs at least one shard request";
+        assert shardRequests.stream().allMatch(r -> r.source() == shardRequests.get(0).source())
+            : "the shard requests of a batch must share their source";
+        this.shardRequests = shardRequests;
+    }
+
+    public ShardSearchBatchRequest(StreamInput in) throws IOException {
+        super(in);
+        final BytesReference sourceBytes = in.readOptionalBytesReference();
+        final int size = in.readVInt();
+        shardRequests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final ShardSearchRequest shardRequest = new ShardSearchRequest(in);
+            if (sourceBytes != null) {
+                try (StreamInput sourceIn = new NamedWriteableAwareStreamInput(sourceBytes.streamInput(), in.namedWriteableRegistry())) {
+                    sourceIn.setVersion(in.getVersion());
+                    shardRequest.source(new SearchSourceBuilder(sourceIn));
+                }
+            }
+            shardRequest.setParentTask(getParentTask());
+            shardRequests.add(shardRequest);
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        final SearchSourceBuilder source = shardRequests.get(0).source();
+        if (source == null) {
+            out.writeOptionalBytesReference(null);
+        } else {
+            try (BytesStreamOutput sourceOut = new BytesStreamOutput()) {
+                sourceOut.setVersion(out.getVersion());
+                source.writeTo(sourceOut);
+                out.writeOptionalBytesReference(sourceOut.bytes());
+            }
+        }
+        out.writeVInt(shardRequests.size());
+        for (ShardSearchRequest shardRequest : shardRequests) {
+            final ShardSearchRequest withoutSource = new ShardSearchRequest(shardRequest);
+            withoutSource.source(null);
+            withoutSource.writeTo(out);
+        }
+    }
+
+    public List<ShardSearchRequest> shardRequests() {
+        return Collections.unmodifiableList(shardRequests);
+    }
+
+    @Override
+    public String[] indices() {
+        final Set<String> indices = new LinkedHashSet<>();
+        for (ShardSearchRequest shardRequest : shardRequests) {
+            if (shardRequest.indices() != null) {
+                Collections.addAll(indices, shardRequest.indices());
+            }
+        }
+        return indices.toArray(new String[0]);
+    }
+
+    @Override
+    public IndicesOptions indicesOptions() {
+        return shardRequests.get(0).indicesOptions();
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        // each shard runs in a child task of its own, which tracks its resource usage and metadata
+        return new CancellableTask(id, type, action, getDescription(), parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public String getDescription() {
+        // Shard ids are enough here, the request itself can be found by looking at the parent task description
+        return "shardIds[" + shardRequests.stream().map(r -> r.shardId().toString()).collect(Collectors.joining(",")) + "]";
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+
+/**
+ * The query phase results of the shards of a {@link ShardSearchBatchRequest}, in the order of its shard requests. Each shard either
+ * has a result or the failure that its query phase ended with.
+ *
+ * @opensearch.internal
+ */
+public final class ShardSearchBatchResponse extends TransportResponse {
+
+    private final SearchPhaseResult[] results;
+    private final Exception[] failures;
+
+    public ShardSearchBatchResponse(SearchPhaseResult[] results, Exception[] failures) {
+        assert results.length == failures.length;
+        this.results = results;
+        this.failures = failures;
+    }
+
+    public ShardSearchBatchResponse(StreamInput in) throws IOException {
+        super(in);
+        final int size = in.readVInt();
+        results = new SearchPhaseResult[size];
+        failures = new Exception[size];
+        for (int i = 0; i < size; i++) {
+            if (in.readBoolean()) {
+                // batches are only sent for searches on more than one shard, so they never fetch documents in the query phase
+                results[i] = new QuerySearchResult(in);
+            } else {
+                failures[i] = in.readException();
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(results.length);
+        for (int i = 0; i < results.length; i++) {
+            if (failures[i] == null) {
+                out.writeBoolean(true);
+                results[i].writeTo(out);
+            } else {
+                out.writeBoolean(false);
+                out.writeException(failures[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * Returns the result of the shard at the given position of the batch, or {@code null} if it failed.
+     */
+    public SearchPhaseResult getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Returns the failure of the shard at the given position of the batch, or {@code null} if it succeeded.
+     */
+    public Exception getFailure(int index) {
+        return failures[index];
+    }
+}
@@ -38,6 +38,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.block.ClusterBlockLevel;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
@@ -51,6 +52,10 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.node.NodeClient;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
@@ -64,11 +69,20 @@ import java.util.function.LongSupplier;
  */
 public class TransportMultiSearchAction extends HandledTransportAction<MultiSearchRequest, MultiSearchResponse> {
 
+    // Setting to execute identical sub-requests of a multi search once, and to route its sub-requests to the same shard copies
+    public static final Setting<Boolean> MULTI_SEARCH_DEDUPLICATE_REQUESTS = Setting.boolSetting(
+        "search.multi_search.deduplicate_requests.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     private final int allocatedProcessors;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
     private final LongSupplier relativeTimeProvider;
     private final NodeClient client;
+    private volatile boolean deduplicateRequests;
 
     @Inject
     public TransportMultiSearchAction(
@@ -85,6 +99,8 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         this.allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
         this.relativeTimeProvider = System::nanoTime;
         this.client = client;
+        this.deduplicateRequests = clusterService.getClusterSettings().get(MULTI_SEARCH_DEDUPLICATE_REQUESTS);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MULTI_SEARCH_DEDUPLICATE_REQUESTS, this::setDeduplicateRequests);
     }
 
     TransportMultiSearchAction(
@@ -104,6 +120,10 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         this.client = client;
     }
 
+    void setDeduplicateRequests(boolean deduplicateRequests) {
+        this.deduplicateRequests = deduplicateRequests;
+    }
+
     @Override
     protected void doExecute(Task task, MultiSearchRequest request, ActionListener<MultiSearchResponse> listener) {
         final long relativeStartTime = relativeTimeProvider.getAsLong();
@@ -117,21 +137,62 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         }
 
         Queue<SearchRequestSlot> searchRequestSlots = new ConcurrentLinkedQueue<>();
-        for (int i = 0; i < request.requests().size(); i++) {
-            SearchRequest searchRequest = request.requests().get(i);
-            searchRequest.setParentTask(client.getLocalNodeId(), task.getId());
-            searchRequestSlots.add(new SearchRequestSlot(searchRequest, i));
+        if (deduplicateRequests) {
+            searchRequestSlots.addAll(deduplicate(request.requests(), task.getId()));
+        } else {
+            for (int i = 0; i < request.requests().size(); i++) {
+                searchRequestSlots.add(new SearchRequestSlot(request.requests().get(i), i));
+            }
+        }
+        for (SearchRequestSlot searchRequestSlot : searchRequestSlots) {
+            searchRequestSlot.request.setParentTask(client.getLocalNodeId(), task.getId());
         }
 
         int numRequests = request.requests().size();
         final AtomicArray<MultiSearchResponse.Item> responses = new AtomicArray<>(numRequests);
-        final AtomicInteger responseCounter = new AtomicInteger(numRequests);
-        int numConcurrentSearches = Math.min(numRequests, maxConcurrentSearches);
+        final AtomicInteger responseCounter = new AtomicInteger(searchRequestSlots.size());
+        int numConcurrentSearches = Math.min(searchRequestSlots.size(), maxConcurrentSearches);
         for (int i = 0; i < numConcurrentSearches; i++) {
             executeSearch(searchRequestSlots, responses, responseCounter, listener, relativeStartTime);
         }
     }
 
+    /**
+     * Groups the identical search requests of a multi search, which are executed once and share their response. Dashboards typically
+     * send many such requests when they refresh. Scroll requests are never grouped since each of them needs its own scroll.
+     * <p>
+     * The requests that don't have a preference all get the same custom preference, so that they all go to the same copy of each shard.
+     * The filters and query cache entries that a request computes on a shard copy are then reused by the other requests of the multi
+     * search, rather than being computed again on another copy.
+     */
+    static List<SearchRequestSlot> deduplicate(List<SearchRequest> requests, long taskId) {
+        final Map<SearchRequest, SearchRequestSlot> uniqueRequests = new HashMap<>();
+        final List<SearchRequestSlot> slots = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            final SearchRequest searchRequest = requests.get(i);
+            if (searchRequest.scroll() != null) {
+                slots.add(new SearchRequestSlot(searchRequest, i));
+                continue;
+            }
+            final SearchRequestSlot slot = uniqueRequests.get(searchRequest);
+            if (slot == null) {
+                final SearchRequestSlot newSlot = new SearchRequestSlot(searchRequest, i);
+                uniqueRequests.put(searchRequest, newSlot);
+                slots.add(newSlot);
+            } else {
+                slot.duplicateSlots.add(i);
+            }
+        }
+        // the preference is set once all requests were compared, since it is part of their equality
+        final String preference = "msearch-" + taskId;
+        for (SearchRequestSlot slot : slots) {
+            if (slot.request.preference() == null) {
+                slot.request.preference(preference);
+            }
+        }
+        return slots;
+    }
+
     /*
      * This is not perfect and makes a big assumption, that all nodes have the same thread pool size / have the number of processors and
      * that shard of the indices the search requests go to are more or less evenly distributed across all nodes in the cluster. But I think
@@ -183,16 +244,16 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         client.search(request.request, new ActionListener<SearchResponse>() {
             @Override
             public void onResponse(final SearchResponse searchResponse) {
-                handleResponse(request.responseSlot, new MultiSearchResponse.Item(searchResponse, null));
+                handleResponse(request, new MultiSearchResponse.Item(searchResponse, null));
             }
 
             @Override
             public void onFailure(final Exception e) {
-                handleResponse(request.responseSlot, new MultiSearchResponse.Item(null, e));
+                handleResponse(request, new MultiSearchResponse.Item(null, e));
             }
 
-            private void handleResponse(final int responseSlot, final MultiSearchResponse.Item item) {
-                responses.set(responseSlot, item);
+            private void handleResponse(final SearchRequestSlot requestSlot, final MultiSearchResponse.Item item) {
+                requestSlot.setResponse(responses, item);
                 if (responseCounter.decrementAndGet() == 0) {
                     assert requests.isEmpty();
                     finish();
@@ -200,8 +261,8 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
                     // Drain the rest of the queue
                     SearchRequestSlot request;
                     while ((request = requests.poll()) != null) {
-                        responses.set(
-                            request.responseSlot,
+                        request.setResponse(
+                            responses,
                             new MultiSearchResponse.Item(null, new TaskCancelledException("Parent task was cancelled"))
                         );
                         if (responseCounter.decrementAndGet() == 0) {
@@ -253,10 +314,19 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
 
         final SearchRequest request;
         final int responseSlot;
+        // the slots of the identical requests that share the response of this one
+        final List<Integer> duplicateSlots = new ArrayList<>();
 
         SearchRequestSlot(SearchRequest request, int responseSlot) {
             this.request = request;
             this.responseSlot = responseSlot;
         }
+
+        void setResponse(AtomicArray<MultiSearchResponse.Item> responses, MultiSearchResponse.Item item) {
+            responses.set(responseSlot, item);
+            for (int duplicateSlot : duplicateSlots) {
+                responses.set(duplicateSlot, item);
+            }
+        }
     }
 }
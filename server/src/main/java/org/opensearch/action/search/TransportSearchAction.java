@@ -170,6 +170,39 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    // reduces batches of shard results in parallel on the coordinating node, merging their results fan_in at a time
+    public static final Setting<Boolean> SEARCH_PARALLEL_PARTIAL_REDUCE_ENABLED = Setting.boolSetting(
+        "search.partial_reduce.parallel.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Integer> SEARCH_PARALLEL_PARTIAL_REDUCE_FAN_IN = Setting.intSetting(
+        "search.partial_reduce.parallel.fan_in",
+        8,
+        2,
+        1024,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    // sends the query phase requests of the shards that are allocated on the same node in a single request to that node
+    public static final Setting<Boolean> SEARCH_QUERY_BATCH_SHARD_REQUESTS_PER_NODE = Setting.boolSetting(
+        "search.query.batch_shard_requests_per_node.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    // fetches the top hits of the shards that returned while the query phase still runs on slower shards
+    public static final Setting<Boolean> SEARCH_PIPELINED_FETCH_ENABLED = Setting.boolSetting(
+        "search.query.pipelined_fetch.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -184,6 +217,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     private final SearchRequestOperationsCompositeListenerFactory searchRequestOperationsCompositeListenerFactory;
     final Tracer tracer;
     private final IndicesService indicesService;
+    private final FieldRangeSummaryCache fieldRangeSummaryCache;
 
     private final MetricsRegistry metricsRegistry;
 
@@ -231,6 +265,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.tracer = tracer;
         this.taskResourceTrackingService = taskResourceTrackingService;
         this.indicesService = indicesService;
+        this.fieldRangeSummaryCache = new FieldRangeSummaryCache(clusterService);
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -1310,7 +1345,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 ),
                 clusters,
                 searchRequestContext,
-                tracer
+                tracer,
+                fieldRangeSummaryCache
             );
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(
@@ -1320,7 +1356,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 searchRequest,
                 shardIterators.size(),
                 exc -> cancelTask(task, exc),
-                task::isCancelled
+                task::isCancelled,
+                clusterService.getClusterSettings().get(SEARCH_PARALLEL_PARTIAL_REDUCE_ENABLED)
+                    ? clusterService.getClusterSettings().get(SEARCH_PARALLEL_PARTIAL_REDUCE_FAN_IN)
+                    : 0
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
@@ -1365,7 +1404,9 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         task,
                         clusters,
                         searchRequestContext,
-                        tracer
+                        tracer,
+                        clusterService.getClusterSettings().get(SEARCH_QUERY_BATCH_SHARD_REQUESTS_PER_NODE),
+                        clusterService.getClusterSettings().get(SEARCH_PIPELINED_FETCH_ENABLED)
                     );
                     break;
                 default:
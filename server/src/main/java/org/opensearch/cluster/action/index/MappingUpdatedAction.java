@@ -37,6 +37,7 @@ import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.opensearch.action.support.clustermanager.ClusterManagerNodeRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -80,6 +81,8 @@ public class MappingUpdatedAction {
     private volatile TimeValue dynamicMappingUpdateTimeout;
     private final AdjustableSemaphore semaphore;
     private final ClusterService clusterService;
+    private final CounterMetric batchedMappingUpdates = new CounterMetric();
+    private final CounterMetric avoidedMappingUpdates = new CounterMetric();
 
     @Inject
     public MappingUpdatedAction(Settings settings, ClusterSettings clusterSettings, ClusterService clusterService) {
@@ -129,6 +132,28 @@ public class MappingUpdatedAction {
         }
     }
 
+    /**
+     * Records that the dynamic mapping updates of {@code mergedUpdates} bulk items were sent to the cluster-manager as one update.
+     */
+    public void onMappingUpdatesBatched(int mergedUpdates) {
+        batchedMappingUpdates.inc();
+        avoidedMappingUpdates.inc(mergedUpdates - 1);
+    }
+
+    /**
+     * Returns the number of mapping updates that merged the dynamic mapping updates of several bulk items.
+     */
+    public long getBatchedMappingUpdates() {
+        return batchedMappingUpdates.count();
+    }
+
+    /**
+     * Returns the number of mapping update round-trips to the cluster-manager that batching dynamic mapping updates avoided.
+     */
+    public long getAvoidedMappingUpdates() {
+        return avoidedMappingUpdates.count();
+    }
+
     // used by tests
     int blockedThreads() {
         return semaphore.getQueueLength();
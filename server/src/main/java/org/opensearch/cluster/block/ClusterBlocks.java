@@ -184,6 +184,13 @@ public class ClusterBlocks extends AbstractDiffable<ClusterBlocks> implements Ve
         return false;
     }
 
+    /**
+     * Is there a block with the provided level on the index itself? Unlike {@link #indexBlocked}, global blocks are not considered.
+     */
+    public boolean hasIndexBlockWithLevel(String index, ClusterBlockLevel level) {
+        return blocksForIndex(level, index).isEmpty() == false;
+    }
+
     @Nullable
     public ClusterBlock getIndexBlockWithId(final String index, final int blockId) {
         final Set<ClusterBlock> clusterBlocks = indicesBlocks.get(index);
@@ -124,22 +124,48 @@ final class PerThreadIDVersionAndSeqNoLookup {
         int docID = getDocID(id, context);
 
         if (docID != DocIdSetIterator.NO_MORE_DOCS) {
-            final long seqNo;
-            final long term;
-            if (loadSeqNo) {
-                seqNo = readNumericDocValues(context.reader(), SeqNoFieldMapper.NAME, docID);
-                term = readNumericDocValues(context.reader(), SeqNoFieldMapper.PRIMARY_TERM_NAME, docID);
-            } else {
-                seqNo = UNASSIGNED_SEQ_NO;
-                term = UNASSIGNED_PRIMARY_TERM;
-            }
-            final long version = readNumericDocValues(context.reader(), VersionFieldMapper.NAME, docID);
-            return new DocIdAndVersion(docID, version, seqNo, term, context.reader(), context.docBase);
+            return loadVersion(docID, loadSeqNo, context);
         } else {
             return null;
         }
     }
 
+    /**
+     * Looks up the given ids, which must be sorted in ascending order, with a single forward walk over the terms of this
+     * segment. Ids for which {@code results} already holds a value are skipped. After a seek lands on a term that is greater
+     * than the id that was looked up, all following ids that sort before that term are known to be absent from this segment
+     * and are resolved without seeking the terms dictionary again.
+     */
+    void lookupVersions(BytesRef[] sortedIds, DocIdAndVersion[] results, boolean loadSeqNo, LeafReaderContext context)
+        throws IOException {
+        assert context.reader().getCoreCacheHelper().getKey().equals(readerKey)
+            : "context's reader is not the same as the reader class was initialized on.";
+        if (termsEnum == null) {
+            return;
+        }
+        // the term the enum is positioned on after the last seek, null before the first seek
+        BytesRef ceiling = null;
+        for (int i = 0; i < sortedIds.length; i++) {
+            assert i == 0 || sortedIds[i - 1].compareTo(sortedIds[i]) < 0 : "ids must be sorted and unique";
+            final BytesRef id = sortedIds[i];
+            if (results[i] != null || (ceiling != null && id.compareTo(ceiling) < 0)) {
+                continue;
+            }
+            final TermsEnum.SeekStatus status = termsEnum.seekCeil(id);
+            if (status == TermsEnum.SeekStatus.END) {
+                // all remaining ids sort after the last term of this segment
+                return;
+            }
+            ceiling = termsEnum.term();
+            if (status == TermsEnum.SeekStatus.FOUND) {
+                final int docID = getLiveDocID(context);
+                if (docID != DocIdSetIterator.NO_MORE_DOCS) {
+                    results[i] = loadVersion(docID, loadSeqNo, context);
+                }
+            }
+        }
+    }
+
     /**
      * returns the internal lucene doc id for the given id bytes.
      * {@link DocIdSetIterator#NO_MORE_DOCS} is returned if not found
@@ -147,22 +173,44 @@ final class PerThreadIDVersionAndSeqNoLookup {
     private int getDocID(BytesRef id, LeafReaderContext context) throws IOException {
         // termsEnum can possibly be null here if this leaf contains only no-ops.
         if (termsEnum != null && termsEnum.seekExact(id)) {
-            final Bits liveDocs = context.reader().getLiveDocs();
-            int docID = DocIdSetIterator.NO_MORE_DOCS;
-            // there may be more than one matching docID, in the case of nested docs, so we want the last one:
-            docsEnum = termsEnum.postings(docsEnum, 0);
-            for (int d = docsEnum.nextDoc(); d != DocIdSetIterator.NO_MORE_DOCS; d = docsEnum.nextDoc()) {
-                if (liveDocs != null && liveDocs.get(d) == false) {
-                    continue;
-                }
-                docID = d;
-            }
-            return docID;
+            return getLiveDocID(context);
         } else {
             return DocIdSetIterator.NO_MORE_DOCS;
         }
     }
 
+    /**
+     * returns the last live doc id of the term the terms enum is positioned on.
+     * {@link DocIdSetIterator#NO_MORE_DOCS} is returned if none of its docs is live
+     */
+    private int getLiveDocID(LeafReaderContext context) throws IOException {
+        final Bits liveDocs = context.reader().getLiveDocs();
+        int docID = DocIdSetIterator.NO_MORE_DOCS;
+        // there may be more than one matching docID, in the case of nested docs, so we want the last one:
+        docsEnum = termsEnum.postings(docsEnum, 0);
+        for (int d = docsEnum.nextDoc(); d != DocIdSetIterator.NO_MORE_DOCS; d = docsEnum.nextDoc()) {
+            if (liveDocs != null && liveDocs.get(d) == false) {
+                continue;
+            }
+            docID = d;
+        }
+        return docID;
+    }
+
+    private static DocIdAndVersion loadVersion(int docID, boolean loadSeqNo, LeafReaderContext context) throws IOException {
+        final long seqNo;
+        final long term;
+        if (loadSeqNo) {
+            seqNo = readNumericDocValues(context.reader(), SeqNoFieldMapper.NAME, docID);
+            term = readNumericDocValues(context.reader(), SeqNoFieldMapper.PRIMARY_TERM_NAME, docID);
+        } else {
+            seqNo = UNASSIGNED_SEQ_NO;
+            term = UNASSIGNED_PRIMARY_TERM;
+        }
+        final long version = readNumericDocValues(context.reader(), VersionFieldMapper.NAME, docID);
+        return new DocIdAndVersion(docID, version, seqNo, term, context.reader(), context.docBase);
+    }
+
     private static long readNumericDocValues(LeafReader reader, String field, int docId) throws IOException {
         final NumericDocValues dv = reader.getNumericDocValues(field);
         if (dv == null || dv.advanceExact(docId) == false) {
@@ -36,6 +36,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CloseableThreadLocal;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
@@ -171,6 +172,29 @@ public final class VersionsAndSeqNoResolver {
         return null;
     }
 
+    /**
+     * Load the internal doc IDs and versions for all the given uids of the uid field from the reader. The uids must be sorted
+     * in ascending order and must not contain duplicates. The terms dictionary of each segment is walked at most once, in the
+     * order of the uids. The returned array holds the result for the uid at the same position, which is null if the uid wasn't
+     * found.
+     */
+    public static DocIdAndVersion[] loadDocIdsAndVersions(IndexReader reader, String uidField, BytesRef[] sortedUids, boolean loadSeqNo)
+        throws IOException {
+        final DocIdAndVersion[] results = new DocIdAndVersion[sortedUids.length];
+        if (sortedUids.length == 0) {
+            return results;
+        }
+        final PerThreadIDVersionAndSeqNoLookup[] lookups = getLookupState(reader, uidField);
+        final List<LeafReaderContext> leaves = reader.leaves();
+        // iterate backwards to optimize for the frequently updated documents
+        // which are likely to be in the last segments
+        for (int i = leaves.size() - 1; i >= 0; i--) {
+            final LeafReaderContext leaf = leaves.get(i);
+            lookups[leaf.ord].lookupVersions(sortedUids, results, loadSeqNo, leaf);
+        }
+        return results;
+    }
+
     /**
      * Loads the internal docId and sequence number of the latest copy for a given uid from the provided reader.
      * The result is either null or the live and latest version of the given uid.
@@ -38,6 +38,7 @@ import org.opensearch.action.search.CreatePitController;
 import org.opensearch.action.search.SearchRequestSlowLog;
 import org.opensearch.action.search.SearchRequestStats;
 import org.opensearch.action.search.StreamSearchTransportService;
+import org.opensearch.action.search.TransportMultiSearchAction;
 import org.opensearch.action.search.TransportSearchAction;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.DestructiveOperations;
@@ -121,6 +122,8 @@ import org.opensearch.index.ShardIndexingPressureSettings;
 import org.opensearch.index.ShardIndexingPressureStore;
 import org.opensearch.index.autoforcemerge.ForceMergeManagerSettings;
 import org.opensearch.index.compositeindex.CompositeIndexSettings;
+import org.opensearch.index.merge.MergeIoBudget;
+import org.opensearch.index.refresh.RefreshCoordinator;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
@@ -348,6 +351,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RecoverySettings.INDICES_RECOVERY_CHUNK_SIZE_SETTING,
                 RecoverySettings.INDICES_TRANSLOG_CONCURRENT_RECOVERY_ENABLE,
                 RecoverySettings.INDICES_TRANSLOG_CONCURRENT_RECOVERY_BATCH_SIZE,
+                RecoverySettings.INDICES_TRANSLOG_CONCURRENT_RECOVERY_REPLAY_PARTITIONS,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_PRIMARIES_RECOVERIES_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_REPLICAS_RECOVERIES_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_INCOMING_RECOVERIES_SETTING,
@@ -448,6 +452,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_PHASE_TOOK_ENABLED,
+                TransportSearchAction.SEARCH_PARALLEL_PARTIAL_REDUCE_ENABLED,
+                TransportSearchAction.SEARCH_PARALLEL_PARTIAL_REDUCE_FAN_IN,
+                TransportSearchAction.SEARCH_QUERY_BATCH_SHARD_REQUESTS_PER_NODE,
+                TransportSearchAction.SEARCH_PIPELINED_FETCH_ENABLED,
+                TransportMultiSearchAction.MULTI_SEARCH_DEDUPLICATE_REQUESTS,
                 SearchRequestStats.SEARCH_REQUEST_STATS_ENABLED,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -810,6 +819,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
                 SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICING_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICES_PER_TARGET_SETTING,
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE,
 
                 RemoteStoreSettings.CLUSTER_REMOTE_INDEX_SEGMENT_METADATA_RETENTION_MAX_COUNT_SETTING,
@@ -835,6 +846,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.CLUSTER_ALLOW_DERIVED_FIELD_SETTING,
                 SearchService.QUERY_REWRITING_ENABLED_SETTING,
                 SearchService.QUERY_REWRITING_TERMS_THRESHOLD_SETTING,
+                SearchService.REQUEST_CACHE_CANONICALIZE_KEYS_SETTING,
+                SearchService.REQUEST_CACHE_CANONICALIZE_NOW_ROUNDING_SETTING,
                 FlushModeResolver.STREAMING_MAX_ESTIMATED_BUCKET_COUNT,
                 FlushModeResolver.STREAMING_MIN_CARDINALITY_RATIO,
                 FlushModeResolver.STREAMING_MIN_ESTIMATED_BUCKET_COUNT,
@@ -874,6 +887,16 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Setting related to refresh optimisations
                 IndicesService.CLUSTER_REFRESH_FIXED_INTERVAL_SCHEDULE_ENABLED_SETTING,
                 IndicesService.CLUSTER_REFRESH_SHARD_LEVEL_ENABLED_SETTING,
+                RefreshCoordinator.ENABLED_SETTING,
+                RefreshCoordinator.WAVE_INTERVAL_SETTING,
+                RefreshCoordinator.MAX_CONCURRENT_REFRESHES_SETTING,
+                RefreshCoordinator.TARGET_REFRESH_LATENCY_SETTING,
+                MergeIoBudget.ENABLED_SETTING,
+                MergeIoBudget.MAX_BYTES_PER_SEC_SETTING,
+                MergeIoBudget.MIN_BYTES_PER_SEC_SETTING,
+                MergeIoBudget.TARGET_DISK_LATENCY_SETTING,
+                MergeIoBudget.ADJUST_INTERVAL_SETTING,
+                MergeIoBudget.SMALL_MERGE_SIZE_SETTING,
 
                 // Settings related to Auto Force Merge Manager
                 ForceMergeManagerSettings.AUTO_FORCE_MERGE_SETTING,
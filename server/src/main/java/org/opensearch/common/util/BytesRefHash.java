@@ -260,6 +260,13 @@ public final class BytesRefHash implements Releasable {
         return size;
     }
 
+    /**
+     * Returns the number of bytes used by the underlying arrays of this hash table.
+     */
+    public long ramBytesUsed() {
+        return table.ramBytesUsed() + offsets.ramBytesUsed() + keys.ramBytesUsed() + hashes.ramBytesUsed();
+    }
+
     /**
      * Appends the key in the keys' and offsets' tables.
      */
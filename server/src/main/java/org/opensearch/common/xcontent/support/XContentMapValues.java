@@ -38,11 +38,15 @@ import org.apache.lucene.util.automaton.CharacterRunAutomaton;
 import org.apache.lucene.util.automaton.Operations;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -306,19 +310,45 @@ public class XContentMapValues {
         String[] excludes,
         boolean caseSensitive
     ) {
-        Set<String> includeSet = (includes == null || includes.length == 0) ? null : toSet(includes, caseSensitive);
-        Set<String> excludeSet = (excludes == null || excludes.length == 0) ? Collections.emptySet() : toSet(excludes, caseSensitive);
         CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, caseSensitive, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes, caseSensitive);
+
+        // NOTE: We cannot use Operations.minus because of the special case that
+        // we want all sub properties to match as soon as an object matches
+
+        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton, caseSensitive);
+    }
+
+    /**
+     * Returns a filter that copies the content of the parser, which must be on or before the start of an object, to the builder
+     * according to the given include and exclude rules. The content is filtered token by token rather than parsed into a map, and
+     * the content that is filtered out is skipped without being read into values. The result has the same fields as the map that
+     * {@link #filter(String[], String[], boolean)} returns, in the order of the content.
+     */
+    public static CheckedBiConsumer<XContentParser, XContentBuilder, IOException> createStreamingFilter(
+        String[] includes,
+        String[] excludes,
+        boolean caseSensitive
+    ) {
+        CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, caseSensitive, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes, caseSensitive);
+        return (parser, builder) -> new StreamingFilter(parser, builder, exclude, matchAllAutomaton, caseSensitive).filter(include);
+    }
 
-        CharacterRunAutomaton include;
+    private static CharacterRunAutomaton includeAutomaton(String[] includes, boolean caseSensitive, CharacterRunAutomaton matchAll) {
+        Set<String> includeSet = (includes == null || includes.length == 0) ? null : toSet(includes, caseSensitive);
         if (includeSet == null || includeSet.isEmpty()) {
-            include = matchAllAutomaton;
-        } else {
-            Automaton includeA = Regex.simpleMatchToAutomaton(includeSet.toArray(new String[0]));
-            includeA = makeMatchDotsInFieldNames(includeA);
-            include = new CharacterRunAutomaton(includeA);
+            return matchAll;
         }
+        Automaton includeA = Regex.simpleMatchToAutomaton(includeSet.toArray(new String[0]));
+        includeA = makeMatchDotsInFieldNames(includeA);
+        return new CharacterRunAutomaton(includeA);
+    }
 
+    private static CharacterRunAutomaton excludeAutomaton(String[] excludes, boolean caseSensitive) {
+        Set<String> excludeSet = (excludes == null || excludes.length == 0) ? Collections.emptySet() : toSet(excludes, caseSensitive);
         Automaton excludeA;
         if (excludeSet.isEmpty()) {
             excludeA = Automata.makeEmpty();
@@ -326,12 +356,7 @@ public class XContentMapValues {
             excludeA = Regex.simpleMatchToAutomaton(excludeSet.toArray(new String[0]));
             excludeA = makeMatchDotsInFieldNames(excludeA);
         }
-        CharacterRunAutomaton exclude = new CharacterRunAutomaton(excludeA);
-
-        // NOTE: We cannot use Operations.minus because of the special case that
-        // we want all sub properties to match as soon as an object matches
-
-        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton, caseSensitive);
+        return new CharacterRunAutomaton(excludeA);
     }
 
     /** Make matches on objects also match dots in field names.
@@ -817,4 +842,183 @@ public class XContentMapValues {
             this.trie = trie;
         }
     }
+
+    /**
+     * Filters content token by token with the same rules as the filtering of maps. Objects and arrays are only written once they are
+     * known to be kept, which is either when their own path is included or when the first value inside of them is written.
+     */
+    private static final class StreamingFilter {
+        private final XContentParser parser;
+        private final XContentBuilder builder;
+        private final CharacterRunAutomaton excludeAutomaton;
+        private final CharacterRunAutomaton matchAllAutomaton;
+        private final boolean caseSensitive;
+        // the objects and arrays that were started in the content but not written yet, with their field names or null in arrays
+        private final List<String> pendingNames = new ArrayList<>();
+        private final List<Boolean> pendingObjects = new ArrayList<>();
+        // the number of pending objects and arrays, from the outermost one, whose starts were written
+        private int written;
+
+        StreamingFilter(
+            XContentParser parser,
+            XContentBuilder builder,
+            CharacterRunAutomaton excludeAutomaton,
+            CharacterRunAutomaton matchAllAutomaton,
+            boolean caseSensitive
+        ) {
+            this.parser = parser;
+            this.builder = builder;
+            this.excludeAutomaton = excludeAutomaton;
+            this.matchAllAutomaton = matchAllAutomaton;
+            this.caseSensitive = caseSensitive;
+        }
+
+        void filter(CharacterRunAutomaton includeAutomaton) throws IOException {
+            XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+            if (token != XContentParser.Token.START_OBJECT) {
+                throw new OpenSearchParseException("expected an object but got [{}]", token);
+            }
+            // the top level object is always written, even if everything in it is filtered out
+            builder.startObject();
+            filterObject(includeAutomaton, 0, 0);
+            builder.endObject();
+        }
+
+        private void filterObject(CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) == XContentParser.Token.FIELD_NAME) {
+                String key = parser.currentName();
+                token = parser.nextToken();
+                String k = caseSensitive ? key : key.toLowerCase(Locale.ROOT);
+
+                int includeState = step(includeAutomaton, k, initialIncludeState);
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                int excludeState = step(excludeAutomaton, k, initialExcludeState);
+                if (excludeState != -1 && excludeAutomaton.isAccept(excludeState)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+                int subIncludeState = includeState;
+                boolean included = includeAutomaton.isAccept(includeState);
+                if (included) {
+                    if (excludeState == -1 || excludeAutomaton.step(excludeState, '.') == -1) {
+                        // the exclude has no chances to match inner properties
+                        writePending();
+                        builder.field(key);
+                        builder.copyCurrentStructure(parser);
+                        continue;
+                    } else {
+                        // the object matched, so consider that the include matches every inner property
+                        // we only care about excludes now
+                        subIncludeAutomaton = matchAllAutomaton;
+                        subIncludeState = 0;
+                    }
+                }
+
+                if (token == XContentParser.Token.START_OBJECT) {
+                    subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                    if (subIncludeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    startPending(key, true, included);
+                    filterObject(subIncludeAutomaton, subIncludeState, excludeState);
+                    endPending();
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    startPending(key, false, included);
+                    filterArray(subIncludeAutomaton, subIncludeState, excludeState);
+                    endPending();
+                } else if (included) {
+                    // leaf property
+                    writePending();
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+            if (token != XContentParser.Token.END_OBJECT) {
+                throw new OpenSearchParseException("expected a field name but got [{}]", token);
+            }
+        }
+
+        private void filterArray(CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                if (token == XContentParser.Token.START_OBJECT) {
+                    int includeState = includeAutomaton.step(initialIncludeState, '.');
+                    if (includeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    int excludeState = initialExcludeState;
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    startPending(null, true, false);
+                    filterObject(includeAutomaton, includeState, excludeState);
+                    endPending();
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    startPending(null, false, false);
+                    filterArray(includeAutomaton, initialIncludeState, initialExcludeState);
+                    endPending();
+                } else if (isInclude) {
+                    // #22557: only accept this array value if the key we are on is accepted:
+                    writePending();
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+        }
+
+        private void startPending(String name, boolean object, boolean keepIfEmpty) throws IOException {
+            pendingNames.add(name);
+            pendingObjects.add(object);
+            if (keepIfEmpty) {
+                writePending();
+            }
+        }
+
+        /**
+         * Writes the starts of the objects and arrays that are not written yet, before a value is written inside of them.
+         */
+        private void writePending() throws IOException {
+            for (; written < pendingNames.size(); written++) {
+                if (pendingNames.get(written) != null) {
+                    builder.field(pendingNames.get(written));
+                }
+                if (pendingObjects.get(written)) {
+                    builder.startObject();
+                } else {
+                    builder.startArray();
+                }
+            }
+        }
+
+        /**
+         * Ends the innermost object or array, which is dropped if it was never written.
+         */
+        private void endPending() throws IOException {
+            final int last = pendingNames.size() - 1;
+            final boolean object = pendingObjects.remove(last);
+            pendingNames.remove(last);
+            if (last < written) {
+                written--;
+                if (object) {
+                    builder.endObject();
+                } else {
+                    builder.endArray();
+                }
+            }
+        }
+    }
 }
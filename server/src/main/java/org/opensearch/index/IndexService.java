@@ -81,8 +81,10 @@ import org.opensearch.index.engine.MergedSegmentWarmerFactory;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexFieldDataService;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.MergeIoBudget;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.SearchIndexNameMatcher;
+import org.opensearch.index.refresh.RefreshCoordinator;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.remote.RemoteStoreUtils;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
@@ -208,6 +210,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final Object refreshMutex = new Object();
     private volatile TimeValue refreshInterval;
     private volatile boolean shardLevelRefreshEnabled;
+    private volatile RefreshCoordinator refreshCoordinator;
+    private volatile MergeIoBudget mergeIoBudget;
     private final IndexStorePlugin.StoreFactory storeFactory;
 
     @InternalApi
@@ -815,6 +819,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 this.indexSettings.isSegRepEnabledOrRemoteNode() ? mergedSegmentPublisher : null,
                 this.indexSettings.isSegRepEnabledOrRemoteNode() ? referencedSegmentsPublisher : null
             );
+            indexShard.setRefreshCoordinator(refreshCoordinator);
+            indexShard.setMergeIoBudget(mergeIoBudget);
             eventListener.indexShardStateChanged(indexShard, null, indexShard.state(), "shard created");
             eventListener.afterIndexShardCreated(indexShard);
             shards = newMapBuilder(shards).put(shardId.id(), indexShard).immutableMap();
@@ -1396,7 +1402,11 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         if (getRefreshInterval().millis() > 0 || force) {
             for (IndexShard shard : this.shards.values()) {
                 try {
-                    shard.scheduledRefresh();
+                    if (force) {
+                        shard.scheduledRefresh();
+                    } else {
+                        shard.onScheduledRefreshDue();
+                    }
                 } catch (IndexShardClosedException | AlreadyClosedException ex) {
                     // fine - continue;
                 }
@@ -1404,6 +1414,26 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         }
     }
 
+    /**
+     * Sets the node level coordinator that the scheduled refreshes of the shards of this index are handed to when it is enabled.
+     */
+    public void setRefreshCoordinator(RefreshCoordinator refreshCoordinator) {
+        this.refreshCoordinator = refreshCoordinator;
+        for (IndexShard shard : this.shards.values()) {
+            shard.setRefreshCoordinator(refreshCoordinator);
+        }
+    }
+
+    /**
+     * Sets the node wide budget that the merges of the shards of this index write with once their engine is (re)created.
+     */
+    public void setMergeIoBudget(MergeIoBudget mergeIoBudget) {
+        this.mergeIoBudget = mergeIoBudget;
+        for (IndexShard shard : this.shards.values()) {
+            shard.setMergeIoBudget(mergeIoBudget);
+        }
+    }
+
     private void maybeTrimTranslog() {
         for (IndexShard shard : this.shards.values()) {
             switch (shard.state()) {
@@ -189,6 +189,18 @@ public final class IndexSettings {
         Property.IndexScope,
         Property.Dynamic
     );
+
+    /**
+     * The date fields whose min and max values the shards of a write blocked index publish to the coordinating nodes, which use them
+     * to skip shards that can't match a range query without sending them a can_match request.
+     */
+    public static final Setting<List<String>> INDEX_SEARCH_FIELD_RANGE_SUMMARY_FIELDS_SETTING = Setting.listSetting(
+        "index.search.field_range_summary.fields",
+        Collections.emptyList(),
+        Function.identity(),
+        Property.IndexScope,
+        Property.Dynamic
+    );
     public static final Setting<Translog.Durability> INDEX_TRANSLOG_DURABILITY_SETTING = new Setting<>(
         "index.translog.durability",
         Translog.Durability.REQUEST.name(),
@@ -216,6 +228,49 @@ public final class IndexSettings {
         false,
         Property.IndexScope
     );
+    /**
+     * Controls whether the primary resolves the current versions of all documents that a bulk shard request indexes, updates
+     * or deletes by id together, walking the terms of each segment once in sorted id order, before executing the items.
+     * This trades one upfront pass for the per item terms dictionary seeks of update heavy workloads.
+     */
+    public static final Setting<Boolean> INDEX_BULK_PREFETCH_DOC_VERSIONS_SETTING = Setting.boolSetting(
+        "index.bulk.prefetch_doc_versions",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * Whether translog operations are compressed when they are added to the translog. Only operations added while this
+     * is enabled are compressed, all operations can be read regardless of this setting.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_COMPRESS_SETTING = Setting.boolSetting(
+        "index.translog.compress",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * The number of threads that parse the documents of a bulk shard request on the primary before its items are executed. The
+     * parsed documents are then indexed one by one in order, as usual. A value of 1 parses each document when it is indexed.
+     */
+    public static final Setting<Integer> INDEX_BULK_PARSE_PARALLELISM_SETTING = Setting.intSetting(
+        "index.bulk.parse_parallelism",
+        1,
+        1,
+        32,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * Whether the primary, once an item of a bulk shard request requires a dynamic mapping update, parses the documents of the
+     * remaining items and sends the mapping updates they require to the cluster manager along with it, rather than one per item.
+     */
+    public static final Setting<Boolean> INDEX_BULK_BATCH_DYNAMIC_MAPPING_UPDATES_SETTING = Setting.boolSetting(
+        "index.bulk.batch_dynamic_mapping_updates",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     public static final Setting<Boolean> INDEX_WARMER_ENABLED_SETTING = Setting.boolSetting(
         "index.warmer.enabled",
         true,
@@ -450,6 +505,20 @@ public final class IndexSettings {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * The number of stripes concurrent indexing threads append translog operations to before they are merged into the
+     * current translog generation. A single stripe is the classic mode where all operations are appended to one buffer.
+     * Changes only apply to translog generations created after the update.
+     */
+    public static final Setting<Integer> INDEX_TRANSLOG_WRITE_STRIPES_SETTING = Setting.intSetting(
+        "index.translog.write_stripes",
+        1,
+        1,
+        64,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * The maximum size of a translog generation. This is independent of the maximum size of
      * translog operations that have not been flushed.
@@ -921,6 +990,7 @@ public final class IndexSettings {
     private volatile TimeValue translogRetentionAge;
     private volatile ByteSizeValue translogRetentionSize;
     private volatile ByteSizeValue generationThresholdSize;
+    private volatile int translogWriteStripes;
     private volatile ByteSizeValue flushAfterMergeThresholdSize;
     private final MergeSchedulerConfig mergeSchedulerConfig;
     private final TieredMergePolicyProvider tieredMergePolicyProvider;
@@ -968,6 +1038,11 @@ public final class IndexSettings {
     private volatile int maxNgramDiff;
     private volatile int maxShingleDiff;
     private volatile TimeValue searchIdleAfter;
+    private volatile List<String> fieldRangeSummaryFields;
+    private volatile boolean bulkBatchDynamicMappingUpdates;
+    private volatile boolean translogCompressionEnabled;
+    private volatile boolean bulkPrefetchDocVersions;
+    private volatile int bulkParseParallelism;
     private volatile int maxAnalyzedOffset;
     private volatile int maxTermsCount;
 
@@ -1141,6 +1216,7 @@ public final class IndexSettings {
         periodicFlushInterval = scopedSettings.get(INDEX_PERIODIC_FLUSH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
         generationThresholdSize = scopedSettings.get(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING);
+        translogWriteStripes = scopedSettings.get(INDEX_TRANSLOG_WRITE_STRIPES_SETTING);
         flushAfterMergeThresholdSize = scopedSettings.get(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING);
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
@@ -1171,6 +1247,11 @@ public final class IndexSettings {
         this.logByteSizeMergePolicyProvider = new LogByteSizeMergePolicyProvider(logger, this);
         this.indexSortConfig = new IndexSortConfig(this);
         searchIdleAfter = scopedSettings.get(INDEX_SEARCH_IDLE_AFTER);
+        fieldRangeSummaryFields = scopedSettings.get(INDEX_SEARCH_FIELD_RANGE_SUMMARY_FIELDS_SETTING);
+        bulkBatchDynamicMappingUpdates = scopedSettings.get(INDEX_BULK_BATCH_DYNAMIC_MAPPING_UPDATES_SETTING);
+        translogCompressionEnabled = scopedSettings.get(INDEX_TRANSLOG_COMPRESS_SETTING);
+        bulkPrefetchDocVersions = scopedSettings.get(INDEX_BULK_PREFETCH_DOC_VERSIONS_SETTING);
+        bulkParseParallelism = scopedSettings.get(INDEX_BULK_PARSE_PARALLELISM_SETTING);
         defaultPipeline = scopedSettings.get(DEFAULT_PIPELINE);
         setTranslogRetentionAge(scopedSettings.get(INDEX_TRANSLOG_RETENTION_AGE_SETTING));
         setTranslogRetentionSize(scopedSettings.get(INDEX_TRANSLOG_RETENTION_SIZE_SETTING));
@@ -1286,6 +1367,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING, this::setTranslogFlushThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING, this::setFlushAfterMergeThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING, this::setGenerationThresholdSize);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_WRITE_STRIPES_SETTING, this::setTranslogWriteStripes);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_AGE_SETTING, this::setTranslogRetentionAge);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_SIZE_SETTING, this::setTranslogRetentionSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_INTERVAL_SETTING, this::setRefreshInterval);
@@ -1298,6 +1380,11 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_PIT, this::setMaxSlicesPerPit);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_FIELD_SETTING, this::setDefaultFields);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_IDLE_AFTER, this::setSearchIdleAfter);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_FIELD_RANGE_SUMMARY_FIELDS_SETTING, this::setFieldRangeSummaryFields);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_BATCH_DYNAMIC_MAPPING_UPDATES_SETTING, this::setBulkBatchDynamicMappingUpdates);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_COMPRESS_SETTING, this::setTranslogCompressionEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PREFETCH_DOC_VERSIONS_SETTING, this::setBulkPrefetchDocVersions);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PARSE_PARALLELISM_SETTING, this::setBulkParseParallelism);
         scopedSettings.addSettingsUpdateConsumer(MAX_REGEX_LENGTH_SETTING, this::setMaxRegexLength);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_PIPELINE, this::setDefaultPipeline);
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
@@ -1343,6 +1430,22 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(StarTreeIndexSettings.STAR_TREE_SEARCH_ENABLED_SETTING, this::setStarTreeIndexEnabled);
     }
 
+    private void setBulkPrefetchDocVersions(boolean bulkPrefetchDocVersions) {
+        this.bulkPrefetchDocVersions = bulkPrefetchDocVersions;
+    }
+
+    private void setBulkParseParallelism(int bulkParseParallelism) {
+        this.bulkParseParallelism = bulkParseParallelism;
+    }
+
+    private void setTranslogCompressionEnabled(boolean translogCompressionEnabled) {
+        this.translogCompressionEnabled = translogCompressionEnabled;
+    }
+
+    private void setBulkBatchDynamicMappingUpdates(boolean bulkBatchDynamicMappingUpdates) {
+        this.bulkBatchDynamicMappingUpdates = bulkBatchDynamicMappingUpdates;
+    }
+
     private void setSearchIdleAfter(TimeValue searchIdleAfter) {
         if (this.isRemoteStoreEnabled) {
             logger.warn("Search idle is not supported for remote backed indices");
@@ -1383,6 +1486,10 @@ public final class IndexSettings {
         this.generationThresholdSize = generationThresholdSize;
     }
 
+    private void setTranslogWriteStripes(int translogWriteStripes) {
+        this.translogWriteStripes = translogWriteStripes;
+    }
+
     private void setGCDeletes(TimeValue timeValue) {
         this.gcDeletesInMillis = timeValue.getMillis();
     }
@@ -1800,6 +1907,13 @@ public final class IndexSettings {
         return generationThresholdSize;
     }
 
+    /**
+     * Returns the number of stripes new translog generations buffer concurrently added operations in.
+     */
+    public int getTranslogWriteStripes() {
+        return translogWriteStripes;
+    }
+
     /**
      * Returns the {@link MergeSchedulerConfig}
      */
@@ -2077,6 +2191,46 @@ public final class IndexSettings {
         return searchIdleAfter;
     }
 
+    /**
+     * Returns the date fields whose min and max values are published to the coordinating nodes while this index is write blocked
+     */
+    public List<String> getFieldRangeSummaryFields() {
+        return fieldRangeSummaryFields;
+    }
+
+    private void setFieldRangeSummaryFields(List<String> fieldRangeSummaryFields) {
+        this.fieldRangeSummaryFields = fieldRangeSummaryFields;
+    }
+
+    /**
+     * Returns <code>true</code> if {@link #INDEX_BULK_PREFETCH_DOC_VERSIONS_SETTING} is enabled
+     */
+    public boolean isBulkPrefetchDocVersions() {
+        return bulkPrefetchDocVersions;
+    }
+
+    /**
+     * Returns the number of threads that parse the documents of a bulk shard request, see
+     * {@link #INDEX_BULK_PARSE_PARALLELISM_SETTING}
+     */
+    public int getBulkParseParallelism() {
+        return bulkParseParallelism;
+    }
+
+    /**
+     * Returns <code>true</code> if {@link #INDEX_TRANSLOG_COMPRESS_SETTING} is enabled
+     */
+    public boolean isTranslogCompressionEnabled() {
+        return translogCompressionEnabled;
+    }
+
+    /**
+     * Returns <code>true</code> if {@link #INDEX_BULK_BATCH_DYNAMIC_MAPPING_UPDATES_SETTING} is enabled
+     */
+    public boolean isBulkBatchDynamicMappingUpdates() {
+        return bulkBatchDynamicMappingUpdates;
+    }
+
     public String getDefaultPipeline() {
         return defaultPipeline;
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -54,6 +55,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    private long segmentHitCount;
+    private long segmentMissCount;
+    private long segmentReuseCount;
+    private long canonicalizedRequestHitCount;
 
     public RequestCacheStats() {}
 
@@ -67,6 +72,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions = builder.evictions;
         this.hitCount = builder.hitCount;
         this.missCount = builder.missCount;
+        this.segmentHitCount = builder.segmentHitCount;
+        this.segmentMissCount = builder.segmentMissCount;
+        this.segmentReuseCount = builder.segmentReuseCount;
+        this.canonicalizedRequestHitCount = builder.canonicalizedRequestHitCount;
     }
 
     public RequestCacheStats(StreamInput in) throws IOException {
@@ -74,6 +83,12 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            segmentHitCount = in.readVLong();
+            segmentMissCount = in.readVLong();
+            segmentReuseCount = in.readVLong();
+            canonicalizedRequestHitCount = in.readVLong();
+        }
     }
 
     /**
@@ -93,6 +108,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        this.segmentHitCount += stats.segmentHitCount;
+        this.segmentMissCount += stats.segmentMissCount;
+        this.segmentReuseCount += stats.segmentReuseCount;
+        this.canonicalizedRequestHitCount += stats.canonicalizedRequestHitCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -115,6 +134,36 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    /**
+     * Returns the number of segment results of requests cached per segment that were found in the cache.
+     */
+    public long getSegmentHitCount() {
+        return this.segmentHitCount;
+    }
+
+    /**
+     * Returns the number of segment results of requests cached per segment that had to be computed.
+     */
+    public long getSegmentMissCount() {
+        return this.segmentMissCount;
+    }
+
+    /**
+     * Returns the number of requests cached per segment that combined cached segment results with recomputed ones.
+     */
+    public long getSegmentReuseCount() {
+        return this.segmentReuseCount;
+    }
+
+    /**
+     * Returns the number of cache hits of requests whose query was put in its canonical form before looking up the cache. This is an
+     * upper bound of the hits that canonicalization added, since it also counts hits of requests that an identical request was cached
+     * for before.
+     */
+    public long getCanonicalizedRequestHitCount() {
+        return this.canonicalizedRequestHitCount;
+    }
+
     /**
      * Builder for the {@link RequestCacheStats} class.
      * Provides a fluent API for constructing a RequestCacheStats object.
@@ -124,6 +173,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         private long evictions = 0;
         private long hitCount = 0;
         private long missCount = 0;
+        private long segmentHitCount = 0;
+        private long segmentMissCount = 0;
+        private long segmentReuseCount = 0;
+        private long canonicalizedRequestHitCount = 0;
 
         public Builder() {}
 
@@ -147,6 +200,26 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder segmentHitCount(long count) {
+            this.segmentHitCount = count;
+            return this;
+        }
+
+        public Builder segmentMissCount(long count) {
+            this.segmentMissCount = count;
+            return this;
+        }
+
+        public Builder segmentReuseCount(long count) {
+            this.segmentReuseCount = count;
+            return this;
+        }
+
+        public Builder canonicalizedRequestHitCount(long count) {
+            this.canonicalizedRequestHitCount = count;
+            return this;
+        }
+
         /**
          * Creates a {@link RequestCacheStats} object from the builder's current state.
          * @return A new RequestCacheStats instance.
@@ -162,6 +235,12 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeVLong(segmentHitCount);
+            out.writeVLong(segmentMissCount);
+            out.writeVLong(segmentReuseCount);
+            out.writeVLong(canonicalizedRequestHitCount);
+        }
     }
 
     @Override
@@ -171,6 +250,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.field(Fields.SEGMENT_HIT_COUNT, getSegmentHitCount());
+        builder.field(Fields.SEGMENT_MISS_COUNT, getSegmentMissCount());
+        builder.field(Fields.SEGMENT_REUSE_COUNT, getSegmentReuseCount());
+        builder.field(Fields.CANONICALIZED_REQUEST_HIT_COUNT, getCanonicalizedRequestHitCount());
         builder.endObject();
         return builder;
     }
@@ -187,5 +270,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String SEGMENT_HIT_COUNT = "segment_hit_count";
+        static final String SEGMENT_MISS_COUNT = "segment_miss_count";
+        static final String SEGMENT_REUSE_COUNT = "segment_reuse_count";
+        static final String CANONICALIZED_REQUEST_HIT_COUNT = "canonicalized_request_hit_count";
     }
 }
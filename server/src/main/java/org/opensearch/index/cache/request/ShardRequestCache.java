@@ -52,12 +52,20 @@ public final class ShardRequestCache {
     final CounterMetric totalMetric = new CounterMetric();
     final CounterMetric hitCount = new CounterMetric();
     final CounterMetric missCount = new CounterMetric();
+    final CounterMetric segmentHitCount = new CounterMetric();
+    final CounterMetric segmentMissCount = new CounterMetric();
+    final CounterMetric segmentReuseCount = new CounterMetric();
+    final CounterMetric canonicalizedRequestHitCount = new CounterMetric();
 
     public RequestCacheStats stats() {
         return new RequestCacheStats.Builder().memorySize(Math.max(0, totalMetric.count()))
             .evictions(evictionsMetric.count())
             .hitCount(hitCount.count())
             .missCount(missCount.count())
+            .segmentHitCount(segmentHitCount.count())
+            .segmentMissCount(segmentMissCount.count())
+            .segmentReuseCount(segmentReuseCount.count())
+            .canonicalizedRequestHitCount(canonicalizedRequestHitCount.count())
             .build();
     }
 
@@ -69,6 +77,29 @@ public final class ShardRequestCache {
         missCount.inc();
     }
 
+    public void onSegmentHit() {
+        segmentHitCount.inc();
+    }
+
+    public void onSegmentMiss() {
+        segmentMissCount.inc();
+    }
+
+    /**
+     * Called when a request cached per segment combined cached segment results with recomputed ones.
+     */
+    public void onSegmentReuse() {
+        segmentReuseCount.inc();
+    }
+
+    /**
+     * Called when a request was served from the cache after its query was put in its canonical form, on top of {@link #onHit()},
+     * whether or not the request would have been served from the cache without it.
+     */
+    public void onCanonicalizedRequestHit() {
+        canonicalizedRequestHitCount.inc();
+    }
+
     // Functions used to increment size by passing in the size directly, Used now, as we use ICacheKey<Key> in the IndicesRequestCache..
     public void onCached(long keyRamBytesUsed, BytesReference value) {
         totalMetric.inc(keyRamBytesUsed + value.ramBytesUsed());
@@ -38,6 +38,7 @@ import org.apache.lucene.codecs.lucene103.Lucene103Codec;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.collect.MapBuilder;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.codec.composite.CompositeCodecFactory;
 import org.opensearch.index.mapper.MapperService;
@@ -66,6 +67,7 @@ public class CodecService {
      */
     public static final String LUCENE_DEFAULT_CODEC = "lucene_default";
     private final CompositeCodecFactory compositeCodecFactory = new CompositeCodecFactory();
+    private final CounterMetric starTreeMergeBuildTimeInMillis = new CounterMetric();
 
     public CodecService(@Nullable MapperService mapperService, IndexSettings indexSettings, Logger logger) {
         final MapBuilder<String, Codec> codecs = MapBuilder.<String, Codec>newMapBuilder();
@@ -79,7 +81,7 @@ public class CodecService {
             // CompositeCodec still delegates to PerFieldMappingPostingFormatCodec
             // We can still support all the compression codecs when composite index is present
             if (mapperService.isCompositeIndexPresent()) {
-                codecs.putAll(compositeCodecFactory.getCompositeIndexCodecs(mapperService, logger));
+                codecs.putAll(compositeCodecFactory.getCompositeIndexCodecs(mapperService, logger, starTreeMergeBuildTimeInMillis));
             } else {
                 codecs.put(DEFAULT_CODEC, new PerFieldMappingPostingFormatCodec(Lucene103Codec.Mode.BEST_SPEED, mapperService, logger));
                 codecs.put(LZ4, new PerFieldMappingPostingFormatCodec(Lucene103Codec.Mode.BEST_SPEED, mapperService, logger));
@@ -112,6 +114,14 @@ public class CodecService {
         return codec;
     }
 
+    /**
+     * Returns how long the merges of segments that were written with the codecs of this service spent building star-trees, in
+     * milliseconds.
+     */
+    public long starTreeMergeBuildTimeInMillis() {
+        return starTreeMergeBuildTimeInMillis.count();
+    }
+
     /**
      * Returns all registered available codec names
      */
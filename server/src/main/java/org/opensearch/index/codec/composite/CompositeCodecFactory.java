@@ -11,7 +11,9 @@ package org.opensearch.index.codec.composite;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.lucene103.Lucene103Codec;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.index.codec.composite.composite103.Composite103Codec;
 import org.opensearch.index.mapper.MapperService;
 
@@ -37,11 +39,31 @@ public class CompositeCodecFactory {
     public CompositeCodecFactory() {}
 
     public Map<String, Codec> getCompositeIndexCodecs(MapperService mapperService, Logger logger) {
+        return getCompositeIndexCodecs(mapperService, logger, null);
+    }
+
+    /**
+     * Returns the composite index codecs, which add the time that merges spend building star-trees to the given counter, if any.
+     */
+    public Map<String, Codec> getCompositeIndexCodecs(
+        MapperService mapperService,
+        Logger logger,
+        @Nullable CounterMetric starTreeMergeBuildTimeInMillis
+    ) {
         Map<String, Codec> codecs = new HashMap<>();
-        codecs.put(DEFAULT_CODEC, new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, mapperService, logger));
-        codecs.put(LZ4, new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, mapperService, logger));
-        codecs.put(BEST_COMPRESSION_CODEC, new Composite103Codec(Lucene103Codec.Mode.BEST_COMPRESSION, mapperService, logger));
-        codecs.put(ZLIB, new Composite103Codec(Lucene103Codec.Mode.BEST_COMPRESSION, mapperService, logger));
+        codecs.put(
+            DEFAULT_CODEC,
+            new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, mapperService, logger, starTreeMergeBuildTimeInMillis)
+        );
+        codecs.put(LZ4, new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, mapperService, logger, starTreeMergeBuildTimeInMillis));
+        codecs.put(
+            BEST_COMPRESSION_CODEC,
+            new Composite103Codec(Lucene103Codec.Mode.BEST_COMPRESSION, mapperService, logger, starTreeMergeBuildTimeInMillis)
+        );
+        codecs.put(
+            ZLIB,
+            new Composite103Codec(Lucene103Codec.Mode.BEST_COMPRESSION, mapperService, logger, starTreeMergeBuildTimeInMillis)
+        );
         return codecs;
     }
 }
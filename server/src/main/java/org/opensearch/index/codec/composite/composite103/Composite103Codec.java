@@ -13,7 +13,9 @@ import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.DocValuesFormat;
 import org.apache.lucene.codecs.FilterCodec;
 import org.apache.lucene.codecs.lucene103.Lucene103Codec;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.index.codec.PerFieldMappingPostingFormatCodec;
 import org.opensearch.index.codec.composite.composite912.Composite912DocValuesFormat;
 import org.opensearch.index.mapper.MapperService;
@@ -28,6 +30,7 @@ import org.opensearch.index.mapper.MapperService;
 public class Composite103Codec extends FilterCodec {
     public static final String COMPOSITE_INDEX_CODEC_NAME = "Composite103Codec";
     private final MapperService mapperService;
+    private final CounterMetric starTreeMergeBuildTimeInMillis;
 
     // needed for SPI - this is used in reader path
     public Composite103Codec() {
@@ -35,7 +38,24 @@ public class Composite103Codec extends FilterCodec {
     }
 
     public Composite103Codec(Lucene103Codec.Mode compressionMode, MapperService mapperService, Logger logger) {
-        this(COMPOSITE_INDEX_CODEC_NAME, new PerFieldMappingPostingFormatCodec(compressionMode, mapperService, logger), mapperService);
+        this(compressionMode, mapperService, logger, null);
+    }
+
+    /**
+     * Creates a codec that adds the time that merges spend building star-trees to the given counter, if any.
+     */
+    public Composite103Codec(
+        Lucene103Codec.Mode compressionMode,
+        MapperService mapperService,
+        Logger logger,
+        @Nullable CounterMetric starTreeMergeBuildTimeInMillis
+    ) {
+        this(
+            COMPOSITE_INDEX_CODEC_NAME,
+            new PerFieldMappingPostingFormatCodec(compressionMode, mapperService, logger),
+            mapperService,
+            starTreeMergeBuildTimeInMillis
+        );
     }
 
     /**
@@ -47,12 +67,22 @@ public class Composite103Codec extends FilterCodec {
      * @param mapperService mapper service instance
      */
     protected Composite103Codec(String name, Codec delegate, MapperService mapperService) {
+        this(name, delegate, mapperService, null);
+    }
+
+    private Composite103Codec(
+        String name,
+        Codec delegate,
+        MapperService mapperService,
+        @Nullable CounterMetric starTreeMergeBuildTimeInMillis
+    ) {
         super(name, delegate);
         this.mapperService = mapperService;
+        this.starTreeMergeBuildTimeInMillis = starTreeMergeBuildTimeInMillis;
     }
 
     @Override
     public DocValuesFormat docValuesFormat() {
-        return new Composite912DocValuesFormat(mapperService);
+        return new Composite912DocValuesFormat(mapperService, starTreeMergeBuildTimeInMillis);
     }
 }
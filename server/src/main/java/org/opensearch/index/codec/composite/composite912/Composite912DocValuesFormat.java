@@ -14,7 +14,9 @@ import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.codecs.lucene90.Lucene90DocValuesFormat;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.index.mapper.MapperService;
 
 import java.io.IOException;
@@ -36,6 +38,7 @@ public class Composite912DocValuesFormat extends DocValuesFormat {
      */
     private final DocValuesFormat delegate;
     private final MapperService mapperService;
+    private final CounterMetric starTreeMergeBuildTimeInMillis;
 
     /** Data codec name for Composite Doc Values Format */
     public static final String DATA_CODEC_NAME = "Composite912FormatData";
@@ -76,15 +79,31 @@ public class Composite912DocValuesFormat extends DocValuesFormat {
         this(new Lucene90DocValuesFormat(), mapperService);
     }
 
+    /**
+     * Creates a format whose writers add the time that merges spend building star-trees to the given counter, if any.
+     */
+    public Composite912DocValuesFormat(MapperService mapperService, @Nullable CounterMetric starTreeMergeBuildTimeInMillis) {
+        this(new Lucene90DocValuesFormat(), mapperService, starTreeMergeBuildTimeInMillis);
+    }
+
     public Composite912DocValuesFormat(DocValuesFormat delegate, MapperService mapperService) {
+        this(delegate, mapperService, null);
+    }
+
+    public Composite912DocValuesFormat(
+        DocValuesFormat delegate,
+        MapperService mapperService,
+        @Nullable CounterMetric starTreeMergeBuildTimeInMillis
+    ) {
         super(delegate.getName());
         this.delegate = delegate;
         this.mapperService = mapperService;
+        this.starTreeMergeBuildTimeInMillis = starTreeMergeBuildTimeInMillis;
     }
 
     @Override
     public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
-        return new Composite912DocValuesWriter(delegate.fieldsConsumer(state), state, mapperService);
+        return new Composite912DocValuesWriter(delegate.fieldsConsumer(state), state, mapperService, starTreeMergeBuildTimeInMillis);
     }
 
     @Override
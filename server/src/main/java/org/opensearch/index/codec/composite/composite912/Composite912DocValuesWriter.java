@@ -25,7 +25,9 @@ import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite.CompositeIndexReader;
@@ -49,6 +51,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -63,6 +66,7 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
     private final DocValuesConsumer delegate;
     private final SegmentWriteState state;
     private final MapperService mapperService;
+    private final CounterMetric starTreeMergeBuildTimeInMillis;
     AtomicReference<MergeState> mergeState = new AtomicReference<>();
     private final Set<CompositeMappedFieldType> compositeMappedFieldTypes;
     private final Set<String> compositeFieldSet;
@@ -79,10 +83,23 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
 
     public Composite912DocValuesWriter(DocValuesConsumer delegate, SegmentWriteState segmentWriteState, MapperService mapperService)
         throws IOException {
+        this(delegate, segmentWriteState, mapperService, null);
+    }
+
+    /**
+     * Creates a writer that adds the time that merges spend building star-trees to the given counter, if any.
+     */
+    public Composite912DocValuesWriter(
+        DocValuesConsumer delegate,
+        SegmentWriteState segmentWriteState,
+        MapperService mapperService,
+        @Nullable CounterMetric starTreeMergeBuildTimeInMillis
+    ) throws IOException {
 
         this.delegate = delegate;
         this.state = segmentWriteState;
         this.mapperService = mapperService;
+        this.starTreeMergeBuildTimeInMillis = starTreeMergeBuildTimeInMillis;
         this.fieldNumberAcrossCompositeFields = new AtomicInteger();
         this.compositeMappedFieldTypes = mapperService.getCompositeFieldTypes();
         compositeFieldSet = new HashSet<>();
@@ -357,9 +374,21 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
                 }
             }
         }
-        try (StarTreesBuilder starTreesBuilder = new StarTreesBuilder(state, mapperService, fieldNumberAcrossCompositeFields)) {
+        final long startTimeNS = System.nanoTime();
+        try (
+            StarTreesBuilder starTreesBuilder = new StarTreesBuilder(
+                state,
+                mapperService,
+                fieldNumberAcrossCompositeFields,
+                mergeState.intraMergeTaskExecutor
+            )
+        ) {
             starTreesBuilder.buildDuringMerge(metaOut, dataOut, starTreeSubsPerField, compositeDocValuesConsumer);
         }
+        if (starTreeMergeBuildTimeInMillis != null && starTreeSubsPerField.isEmpty() == false) {
+            // reported separately in the merge stats of the shard
+            starTreeMergeBuildTimeInMillis.inc(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNS));
+        }
     }
 
     private static SegmentWriteState getSegmentWriteState(SegmentWriteState segmentWriteState) {
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+
+import java.io.IOException;
+
+/**
+ * Cardinality value aggregator for star tree, which pre-aggregates the values of a field into HLL++ sketches
+ *
+ * <p>Values are hashed like the cardinality aggregation hashes them, so that merging the sketches of the matching star-tree
+ * documents counts the same as collecting the values of the matching segment documents.
+ *
+ * @opensearch.experimental
+ */
+public class CardinalityValueAggregator implements SketchValueAggregator<HyperLogLogPlusPlusSketch> {
+
+    /**
+     * The precision of the sketches, which is the default precision of the cardinality aggregation.
+     */
+    public static final int PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+
+    private final FieldValueConverter fieldValueConverter;
+    private final boolean hashDoubleValues;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+        this.hashDoubleValues = hashDoubleValues(fieldValueConverter);
+    }
+
+    /**
+     * The cardinality aggregation hashes the double values of floating point and unsigned long fields, and the long values of
+     * the other numeric fields.
+     */
+    private static boolean hashDoubleValues(FieldValueConverter fieldValueConverter) {
+        final NumericType numericType;
+        if (fieldValueConverter instanceof NumberFieldMapper.NumberFieldType numberFieldType) {
+            numericType = numberFieldType.numericType();
+        } else if (fieldValueConverter instanceof NumberFieldMapper.NumberType numberType) {
+            numericType = numberType.numericType();
+        } else {
+            // other numeric fields, like scaled floats, are floating point fields
+            return true;
+        }
+        return numericType.isFloatingPoint() || numericType == NumericType.UNSIGNED_LONG;
+    }
+
+    private long hash(long segmentDocValue) {
+        if (hashDoubleValues) {
+            return BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(segmentDocValue)));
+        }
+        return BitMixer.mix64(segmentDocValue);
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return fieldValueConverter;
+    }
+
+    @Override
+    public HyperLogLogPlusPlusSketch getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(PRECISION);
+        sketch.collect(0, hash(segmentDocValue));
+        return sketch;
+    }
+
+    @Override
+    public HyperLogLogPlusPlusSketch mergeAggregatedValueAndSegmentValue(HyperLogLogPlusPlusSketch value, Long segmentDocValue) {
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        } else if (segmentDocValue != null) {
+            value.collect(0, hash(segmentDocValue));
+        }
+        return value;
+    }
+
+    @Override
+    public HyperLogLogPlusPlusSketch mergeAggregatedValues(HyperLogLogPlusPlusSketch value, HyperLogLogPlusPlusSketch aggregatedValue) {
+        if (aggregatedValue == null) {
+            return value == null ? getIdentityMetricValue() : value.copy();
+        } else if (value != null) {
+            aggregatedValue.merge(value, 0);
+        }
+        return aggregatedValue;
+    }
+
+    @Override
+    public HyperLogLogPlusPlusSketch getInitialAggregatedValue(HyperLogLogPlusPlusSketch value) {
+        return value == null ? getIdentityMetricValue() : value.copy();
+    }
+
+    @Override
+    public HyperLogLogPlusPlusSketch toAggregatedValueType(Long rawValue) {
+        return getInitialAggregatedValueForSegmentDocValue(rawValue);
+    }
+
+    @Override
+    public HyperLogLogPlusPlusSketch getIdentityMetricValue() {
+        return null;
+    }
+
+    @Override
+    public BytesRef serialize(HyperLogLogPlusPlusSketch value) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            value.writeTo(0, out);
+            return out.bytes().toBytesRef();
+        }
+    }
+
+    @Override
+    public HyperLogLogPlusPlusSketch deserialize(BytesRef bytes) throws IOException {
+        return HyperLogLogPlusPlusSketch.readFrom(StreamInput.wrap(bytes.bytes, bytes.offset, bytes.length));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Percentiles value aggregator for star tree, which pre-aggregates the values of a field into t-digests
+ *
+ * @opensearch.experimental
+ */
+public class PercentilesValueAggregator implements SketchValueAggregator<TDigestState> {
+
+    /**
+     * The compression of the t-digests, which is the default compression of the percentiles aggregation.
+     */
+    public static final double COMPRESSION = 100.0;
+
+    private final FieldValueConverter fieldValueConverter;
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return fieldValueConverter;
+    }
+
+    @Override
+    public TDigestState getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null || Double.isNaN(fieldValueConverter.toDoubleValue(segmentDocValue))) {
+            return getIdentityMetricValue();
+        }
+        TDigestState state = new TDigestState(COMPRESSION);
+        state.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        return state;
+    }
+
+    @Override
+    public TDigestState mergeAggregatedValueAndSegmentValue(TDigestState value, Long segmentDocValue) {
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        } else if (segmentDocValue != null) {
+            double doubleValue = fieldValueConverter.toDoubleValue(segmentDocValue);
+            // t-digests can't hold NaN values, which don't have a rank anyway
+            if (Double.isNaN(doubleValue) == false) {
+                value.add(doubleValue);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public TDigestState mergeAggregatedValues(TDigestState value, TDigestState aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        } else if (value != null) {
+            aggregatedValue.add(List.of(value));
+        }
+        return aggregatedValue;
+    }
+
+    @Override
+    public TDigestState getInitialAggregatedValue(TDigestState value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        TDigestState copy = new TDigestState(COMPRESSION);
+        copy.add(List.of(value));
+        return copy;
+    }
+
+    @Override
+    public TDigestState toAggregatedValueType(Long rawValue) {
+        return getInitialAggregatedValueForSegmentDocValue(rawValue);
+    }
+
+    @Override
+    public TDigestState getIdentityMetricValue() {
+        return null;
+    }
+
+    @Override
+    public BytesRef serialize(TDigestState value) {
+        ByteBuffer buffer = ByteBuffer.allocate(value.byteSize());
+        value.asBytes(buffer);
+        return new BytesRef(buffer.array(), 0, buffer.position());
+    }
+
+    @Override
+    public TDigestState deserialize(BytesRef bytes) {
+        return TDigestState.fromBytes(ByteBuffer.wrap(bytes.bytes, bytes.offset, bytes.length));
+    }
+}
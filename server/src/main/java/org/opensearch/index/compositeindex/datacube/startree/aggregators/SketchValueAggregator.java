@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+
+/**
+ * A value aggregator whose aggregated values are sketches, which the star-tree stores as binary doc values instead of numeric
+ * doc values.
+ * <p>
+ * Sketches are mutable: {@link #mergeAggregatedValues} and {@link #mergeAggregatedValueAndSegmentValue} update the aggregated
+ * sketch in place, and {@link #getInitialAggregatedValue} returns a copy of the given sketch.
+ *
+ * @opensearch.experimental
+ */
+public interface SketchValueAggregator<A> extends ValueAggregator<A> {
+
+    /**
+     * Serializes an aggregated value.
+     */
+    BytesRef serialize(A value) throws IOException;
+
+    /**
+     * Deserializes an aggregated value that was serialized with {@link #serialize}.
+     */
+    A deserialize(BytesRef bytes) throws IOException;
+}
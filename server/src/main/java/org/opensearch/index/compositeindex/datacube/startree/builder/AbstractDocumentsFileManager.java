@@ -14,13 +14,17 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.store.TrackingDirectoryWrapper;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PagedGrowableWriter;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
 import org.opensearch.index.mapper.FieldValueConverter;
@@ -43,6 +47,7 @@ import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.LONG;
 @ExperimentalApi
 public abstract class AbstractDocumentsFileManager implements Closeable {
     private static final Logger logger = LogManager.getLogger(AbstractDocumentsFileManager.class);
+    private static final int OFFSETS_PAGE_SIZE = 1 << 12;
     protected final StarTreeField starTreeField;
     protected final List<MetricAggregatorInfo> metricAggregatorInfos;
     protected final int numMetrics;
@@ -50,6 +55,11 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     protected final SegmentWriteState state;
     protected int docSizeInBytes = -1;
     protected final int numDimensions;
+    // aggregated documents have variable sizes when they hold sketches, in which case the offsets of the documents are tracked
+    protected final boolean hasSketchMetrics;
+    private PagedGrowableWriter docStartOffsets;
+    private long nextDocStartOffset;
+    private int numWrittenDocs;
 
     public AbstractDocumentsFileManager(
         SegmentWriteState state,
@@ -63,30 +73,58 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         this.state = state;
         numMetrics = metricAggregatorInfos.size();
         this.numDimensions = numDimensions;
+        this.hasSketchMetrics = metricAggregatorInfos.stream()
+            .anyMatch(info -> info.getValueAggregators() instanceof SketchValueAggregator);
     }
 
-    private void setDocSizeInBytes(int numBytes) {
+    /**
+     * Records the size of a written document. Documents of segments that are being flushed have a fixed size, so their offsets are
+     * computed from their doc ids, while the offsets of aggregated documents that hold sketches are tracked in packed pages.
+     */
+    private void setDocSizeInBytes(int numBytes, boolean isAggregatedDoc) {
         if (docSizeInBytes == -1) {
             docSizeInBytes = numBytes;
+            if (hasSketchMetrics && isAggregatedDoc) {
+                docStartOffsets = new PagedGrowableWriter(OFFSETS_PAGE_SIZE, OFFSETS_PAGE_SIZE, 1, PackedInts.DEFAULT);
+            }
         }
-        assert docSizeInBytes == numBytes;
+        assert (docStartOffsets != null) == (hasSketchMetrics && isAggregatedDoc) : "fixed and variable size documents are mixed";
+        assert docStartOffsets != null || docSizeInBytes == numBytes;
+        if (docStartOffsets != null) {
+            docStartOffsets = docStartOffsets.grow(numWrittenDocs + 1L);
+            docStartOffsets.set(numWrittenDocs, nextDocStartOffset);
+        }
+        nextDocStartOffset += numBytes;
+        numWrittenDocs++;
+    }
+
+    /**
+     * Returns the offset of the given document from the start of the first document written by this file manager
+     */
+    protected long getDocumentOffset(int docId) {
+        if (docStartOffsets != null) {
+            assert docId <= numWrittenDocs;
+            return docId == numWrittenDocs ? nextDocStartOffset : docStartOffsets.get(docId);
+        }
+        return (long) docId * docSizeInBytes;
     }
 
     /**
      * Write the star tree document to a byte buffer
      */
     protected int writeStarTreeDocument(StarTreeDocument starTreeDocument, IndexOutput output, boolean isAggregatedDoc) throws IOException {
-        int numBytes = calculateDocumentSize(starTreeDocument, isAggregatedDoc);
+        BytesRef[] sketches = isAggregatedDoc && hasSketchMetrics ? serializeSketches(starTreeDocument) : null;
+        int numBytes = calculateDocumentSize(starTreeDocument, sketches);
         byte[] bytes = new byte[numBytes];
         ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
         writeDimensions(starTreeDocument, buffer);
         if (isAggregatedDoc == false) {
             writeFlushMetrics(starTreeDocument, buffer);
         } else {
-            writeMetrics(starTreeDocument, buffer, isAggregatedDoc);
+            writeMetrics(starTreeDocument, buffer, sketches, isAggregatedDoc);
         }
         output.writeBytes(bytes, bytes.length);
-        setDocSizeInBytes(numBytes);
+        setDocSizeInBytes(numBytes, isAggregatedDoc);
         return bytes.length;
     }
 
@@ -110,13 +148,38 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         StarTreeDocumentBitSetUtil.writeBitSet(starTreeDocument.metrics, buffer);
     }
 
+    /**
+     * Serializes the sketches of an aggregated star tree document, which are null for the other metrics
+     */
+    @SuppressWarnings("unchecked")
+    private BytesRef[] serializeSketches(StarTreeDocument starTreeDocument) throws IOException {
+        BytesRef[] sketches = new BytesRef[starTreeDocument.metrics.length];
+        for (int i = 0; i < starTreeDocument.metrics.length; i++) {
+            if (metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator sketchValueAggregator
+                && starTreeDocument.metrics[i] != null) {
+                sketches[i] = sketchValueAggregator.serialize(starTreeDocument.metrics[i]);
+            }
+        }
+        return sketches;
+    }
+
     /**
      * Write star tree document metrics to the byte buffer
+     * Sketches are written as their length followed by their bytes
      */
-    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc) throws IOException {
+    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, BytesRef[] sketches, boolean isAggregatedDoc)
+        throws IOException {
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-            if (aggregatedValueType.equals(LONG)) {
+            if (metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator) {
+                BytesRef sketch = sketches[i];
+                if (sketch == null) {
+                    buffer.putInt(0);
+                } else {
+                    buffer.putInt(sketch.length);
+                    buffer.put(sketch.bytes, sketch.offset, sketch.length);
+                }
+            } else if (aggregatedValueType.equals(LONG)) {
                 buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
             } else if (aggregatedValueType.equals(DOUBLE)) {
                 if (isAggregatedDoc) {
@@ -146,12 +209,16 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Calculate the size of the serialized StarTreeDocument
      */
-    private int calculateDocumentSize(StarTreeDocument starTreeDocument, boolean isAggregatedDoc) {
+    private int calculateDocumentSize(StarTreeDocument starTreeDocument, BytesRef[] sketches) {
         int size = starTreeDocument.dimensions.length * Long.BYTES;
         size += getLength(starTreeDocument.dimensions);
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            size += Long.BYTES;
+            if (sketches != null && metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator) {
+                size += Integer.BYTES + (sketches[i] == null ? 0 : sketches[i].length);
+            } else {
+                size += Long.BYTES;
+            }
         }
         size += getLength(starTreeDocument.metrics);
 
@@ -182,7 +249,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         } else {
             offset = readMetrics(input, offset, numMetrics, metrics, isAggregatedDoc);
         }
-        assert (offset - initialOffset) == docSizeInBytes;
+        assert hasSketchMetrics || (offset - initialOffset) == docSizeInBytes;
         return new StarTreeDocument(dimensions, metrics);
     }
 
@@ -232,7 +299,16 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         throws IOException {
         for (int i = 0; i < numMetrics; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-            if (aggregatedValueType.equals(LONG)) {
+            if (metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator<?> sketchValueAggregator) {
+                int length = input.readInt(offset);
+                offset += Integer.BYTES;
+                if (length > 0) {
+                    byte[] bytes = new byte[length];
+                    input.readBytes(offset, bytes, 0, length);
+                    metrics[i] = sketchValueAggregator.deserialize(new BytesRef(bytes));
+                    offset += length;
+                }
+            } else if (aggregatedValueType.equals(LONG)) {
                 metrics[i] = input.readLong(offset);
                 offset += Long.BYTES;
             } else if (aggregatedValueType.equals(DOUBLE)) {
@@ -11,6 +11,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.BinaryDocValuesWriterWrapper;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.DocValuesWriterWrapper;
@@ -26,6 +28,7 @@ import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.ByteBlockPool;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.Counter;
 import org.apache.lucene.util.LongValues;
 import org.apache.lucene.util.NumericUtils;
@@ -37,6 +40,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -97,6 +101,8 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     protected int numStarTreeDocs;
     protected int totalSegmentDocs;
     protected int numStarTreeNodes;
+    // number of star-tree documents that were created from segment documents, before star-nodes and aggregated documents
+    private int numSegmentStarTreeDocuments;
     protected final int maxLeafDocuments;
     List<Dimension> dimensionsSplitOrder = new ArrayList<>();
     protected final InMemoryTreeNode rootNode = getNewNode();
@@ -359,15 +365,41 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         AtomicInteger fieldNumberAcrossStarTrees,
         DocValuesConsumer starTreeDocValuesConsumer
     ) throws IOException {
+        computeStarTree(starTreeDocumentIterator);
+        writeStarTree(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+    }
+
+    @Override
+    public void build(
+        List<StarTreeValues> starTreeValuesSubs,
+        AtomicInteger fieldNumberAcrossStarTrees,
+        DocValuesConsumer starTreeDocValuesConsumer
+    ) throws IOException {
+        computeStarTree(starTreeValuesSubs);
+        writeStarTree(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+    }
+
+    @Override
+    public void computeStarTree(List<StarTreeValues> starTreeValuesSubs) throws IOException {
+        computeStarTree(mergeStarTrees(starTreeValuesSubs));
+    }
+
+    /**
+     * Constructs the star tree and its aggregated documents from sorted and aggregated star-tree documents, without writing anything
+     * to the star-tree outputs
+     *
+     * @param starTreeDocumentIterator contains the sorted and aggregated documents
+     * @throws IOException when we are unable to build star-tree
+     */
+    void computeStarTree(Iterator<StarTreeDocument> starTreeDocumentIterator) throws IOException {
         int numSegmentStarTreeDocument = totalSegmentDocs;
 
         appendDocumentsToStarTree(starTreeDocumentIterator);
         int numStarTreeDocument = numStarTreeDocs;
+        numSegmentStarTreeDocuments = numStarTreeDocument;
         logger.debug("Generated star tree docs : [{}] from segment docs : [{}]", numStarTreeDocument, numSegmentStarTreeDocument);
 
         if (numStarTreeDocs == 0) {
-            // serialize the star tree data
-            serializeStarTree(numStarTreeDocument, numStarTreeDocs);
             return;
         }
 
@@ -382,12 +414,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         createAggregatedDocs(rootNode);
         int numAggregatedStarTreeDocument = numStarTreeDocs - numStarTreeDocument - numStarTreeDocumentUnderStarNode;
         logger.debug("Finished creating aggregated documents : {}", numAggregatedStarTreeDocument);
+    }
 
-        // Create doc values indices in disk
-        createSortedDocValuesIndices(starTreeDocValuesConsumer, fieldNumberAcrossStarTrees);
+    @Override
+    public void writeStarTree(AtomicInteger fieldNumberAcrossStarTrees, DocValuesConsumer starTreeDocValuesConsumer) throws IOException {
+        if (numStarTreeDocs > 0) {
+            // Create doc values indices in disk
+            createSortedDocValuesIndices(starTreeDocValuesConsumer, fieldNumberAcrossStarTrees);
+        }
 
         // serialize star-tree
-        serializeStarTree(numStarTreeDocument, numStarTreeDocs);
+        serializeStarTree(numSegmentStarTreeDocuments, numStarTreeDocs);
     }
 
     void appendDocumentsToStarTree(Iterator<StarTreeDocument> starTreeDocumentIterator) throws IOException {
@@ -453,11 +490,15 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                     metricAggregatorInfos.get(i).getField(),
                     metricAggregatorInfos.get(i).getMetricStat().getTypeName()
                 ),
-                DocValuesType.SORTED_NUMERIC,
+                metricAggregatorInfos.get(i).getMetricStat().isSketchMetric() ? DocValuesType.BINARY : DocValuesType.SORTED_NUMERIC,
                 fieldNumberAcrossStarTrees.getAndIncrement()
             );
             metricFieldInfoList[i] = fi;
-            metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            if (metricAggregatorInfos.get(i).getMetricStat().isSketchMetric()) {
+                metricWriters.add(new BinaryDocValuesWriterWrapper(fi, bytesUsed));
+            } else {
+                metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            }
         }
         for (int docId = 0; docId < numStarTreeDocs; docId++) {
             StarTreeDocument starTreeDocument = getStarTreeDocument(docId);
@@ -473,8 +514,16 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
 
             for (int i = 0; i < starTreeDocument.metrics.length; i++) {
                 try {
-                    FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-                    if (aggregatedValueType.equals(LONG)) {
+                    ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+                    FieldValueConverter aggregatedValueType = valueAggregator.getAggregatedValueType();
+                    if (valueAggregator instanceof SketchValueAggregator) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            ((BinaryDocValuesWriterWrapper) (metricWriters.get(i))).addValue(
+                                docId,
+                                serializeSketch(valueAggregator, starTreeDocument.metrics[i])
+                            );
+                        }
+                    } else if (aggregatedValueType.equals(LONG)) {
                         if (starTreeDocument.metrics[i] != null) {
                             ((SortedNumericDocValuesWriterWrapper) (metricWriters.get(i))).addValue(
                                 docId,
@@ -507,6 +556,11 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         addStarTreeDocValueFields(docValuesConsumer, metricWriters, metricFieldInfoList, metricAggregatorInfos.size());
     }
 
+    @SuppressWarnings("unchecked")
+    private static <A> BytesRef serializeSketch(ValueAggregator<?> valueAggregator, Object sketch) throws IOException {
+        return ((SketchValueAggregator<A>) valueAggregator).serialize((A) sketch);
+    }
+
     /**
      * Adds startree field to respective field writers
      */
@@ -559,6 +613,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                     };
                     docValuesConsumer.addSortedSetField(fieldInfoList[i], docValuesProducer);
                     break;
+                case BINARY:
+                    docValuesProducer = new EmptyDocValuesProducer() {
+                        @Override
+                        public BinaryDocValues getBinary(FieldInfo field) {
+                            DocValuesWriterWrapper<BinaryDocValues> wrapper = (DocValuesWriterWrapper<
+                                BinaryDocValues>) docValuesWriters.get(writerIndex);
+                            return wrapper.getDocValues();
+                        }
+                    };
+                    docValuesConsumer.addBinaryField(fieldInfoList[i], docValuesProducer);
+                    break;
                 default:
                     throw new IllegalStateException("Unsupported doc values type");
             }
@@ -589,7 +654,13 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator<?> sketchValueAggregator) {
+                BytesRef sketch = metricValuesIterator.binaryValue(currentDocId);
+                metrics[i] = sketch == null ? null : sketchValueAggregator.deserialize(sketch);
+            } else {
+                metrics[i] = valueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
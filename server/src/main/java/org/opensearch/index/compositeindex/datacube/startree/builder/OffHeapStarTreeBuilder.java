@@ -34,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -46,6 +47,7 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
     private static final Logger logger = LogManager.getLogger(OffHeapStarTreeBuilder.class);
     private final StarTreeDocsFileManager starTreeDocumentFileManager;
     private final SegmentDocsFileManager segmentDocumentFileManager;
+    private final Executor sortExecutor;
 
     /**
      * Builds star tree based on star tree field configuration consisting of dimensions, metrics and star tree index
@@ -63,8 +65,26 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
         StarTreeField starTreeField,
         SegmentWriteState state,
         MapperService mapperService
+    ) throws IOException {
+        this(metaOut, dataOut, starTreeField, state, mapperService, null);
+    }
+
+    /**
+     * Builds star tree like {@link #OffHeapStarTreeBuilder(IndexOutput, IndexOutput, StarTreeField, SegmentWriteState, MapperService)},
+     * but sorts large numbers of segment documents concurrently on the given executor.
+     *
+     * @param sortExecutor  the executor to sort segment documents on, or null to sort them on the calling thread
+     */
+    protected OffHeapStarTreeBuilder(
+        IndexOutput metaOut,
+        IndexOutput dataOut,
+        StarTreeField starTreeField,
+        SegmentWriteState state,
+        MapperService mapperService,
+        Executor sortExecutor
     ) throws IOException {
         super(metaOut, dataOut, starTreeField, state, mapperService);
+        this.sortExecutor = sortExecutor;
         segmentDocumentFileManager = new SegmentDocsFileManager(state, starTreeField, metricAggregatorInfos, numDimensions);
         try {
             starTreeDocumentFileManager = new StarTreeDocsFileManager(state, starTreeField, metricAggregatorInfos, numDimensions);
@@ -81,23 +101,36 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
     }
 
     /**
-     * Builds star tree based on the star tree values from multiple segments
+     * Computes star tree based on the star tree values from multiple segments
      *
      * @param starTreeValuesSubs contains the star tree values from multiple segments
      */
     @Override
-    public void build(
-        List<StarTreeValues> starTreeValuesSubs,
-        AtomicInteger fieldNumberAcrossStarTrees,
-        DocValuesConsumer starTreeDocValuesConsumer
-    ) throws IOException {
+    public void computeStarTree(List<StarTreeValues> starTreeValuesSubs) throws IOException {
+        boolean success = false;
+        try {
+            super.computeStarTree(starTreeValuesSubs);
+            success = true;
+        } finally {
+            if (success == false) {
+                starTreeDocumentFileManager.deleteFiles(false);
+                segmentDocumentFileManager.deleteFiles(false);
+            }
+        }
+    }
+
+    @Override
+    public void writeStarTree(AtomicInteger fieldNumberAcrossStarTrees, DocValuesConsumer starTreeDocValuesConsumer) throws IOException {
         boolean success = false;
         try {
-            build(mergeStarTrees(starTreeValuesSubs), fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+            super.writeStarTree(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
             success = true;
         } finally {
-            starTreeDocumentFileManager.deleteFiles(success);
-            segmentDocumentFileManager.deleteFiles(success);
+            // the temporary files of star trees built during merges are deleted as soon as they are written
+            if (isMerge) {
+                starTreeDocumentFileManager.deleteFiles(success);
+                segmentDocumentFileManager.deleteFiles(success);
+            }
         }
     }
 
@@ -229,13 +262,31 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 return Collections.emptyIterator();
             }
             try {
-                StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, index -> {
-                    try {
-                        return segmentDocumentFileManager.readDimensions(sortedDocIds[index]);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                }, dimensionComparators);
+                if (sortExecutor == null) {
+                    StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, index -> {
+                        try {
+                            return segmentDocumentFileManager.readDimensions(sortedDocIds[index]);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, dimensionComparators);
+                } else {
+                    StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, () -> {
+                        final SegmentDocsFileManager.DimensionsReader dimensionsReader;
+                        try {
+                            dimensionsReader = segmentDocumentFileManager.newDimensionsReader();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return index -> {
+                            try {
+                                return dimensionsReader.readDimensions(sortedDocIds[index]);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        };
+                    }, dimensionComparators, sortExecutor);
+                }
             } catch (UncheckedIOException ex) {
                 // Unwrap UncheckedIOException and throw as IOException
                 if (ex.getCause() != null) {
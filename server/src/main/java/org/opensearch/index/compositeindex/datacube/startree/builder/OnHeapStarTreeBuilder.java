@@ -7,7 +7,6 @@
  */
 package org.opensearch.index.compositeindex.datacube.startree.builder;
 
-import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
@@ -98,15 +97,6 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
         return sortAndAggregateStarTreeDocuments(starTreeDocuments, false);
     }
 
-    @Override
-    public void build(
-        List<StarTreeValues> starTreeValuesSubs,
-        AtomicInteger fieldNumberAcrossStarTrees,
-        DocValuesConsumer starTreeDocValuesConsumer
-    ) throws IOException {
-        build(mergeStarTrees(starTreeValuesSubs), fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
-    }
-
     /**
      * Sorts and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
      * aggregated star-tree documents
@@ -76,23 +76,45 @@ public class SegmentDocsFileManager extends AbstractDocumentsFileManager impleme
     @Override
     public StarTreeDocument readStarTreeDocument(int docId, boolean isAggregatedDoc) throws IOException {
         maybeInitializeSegmentInput();
-        return readStarTreeDocument(segmentRandomInput, (long) docId * docSizeInBytes, isAggregatedDoc);
+        return readStarTreeDocument(segmentRandomInput, getDocumentOffset(docId), isAggregatedDoc);
     }
 
     @Override
     public Long[] readDimensions(int docId) throws IOException {
         maybeInitializeSegmentInput();
         Long[] dims = new Long[numDimensions];
-        readDimensions(dims, segmentRandomInput, (long) docId * docSizeInBytes);
+        readDimensions(dims, segmentRandomInput, getDocumentOffset(docId));
         return dims;
     }
 
+    /**
+     * Returns a reader of the dimensions of segment documents that reads them through its own slice of the segment documents file, so
+     * that several threads can read dimensions concurrently, each with its own reader.
+     */
+    public DimensionsReader newDimensionsReader() throws IOException {
+        maybeInitializeSegmentInput();
+        final RandomAccessInput input = segmentDocsFileInput.randomAccessSlice(0, segmentDocsFileInput.length());
+        return docId -> {
+            Long[] dims = new Long[numDimensions];
+            readDimensions(dims, input, getDocumentOffset(docId));
+            return dims;
+        };
+    }
+
     @Override
     public Long getDimensionValue(int docId, int dimensionId) throws IOException {
         Long[] dims = readDimensions(docId);
         return dims[dimensionId];
     }
 
+    /**
+     * Reads the dimensions of segment documents
+     */
+    @FunctionalInterface
+    public interface DimensionsReader {
+        Long[] readDimensions(int docId) throws IOException;
+    }
+
     @Override
     public void close() throws IOException {
         try {
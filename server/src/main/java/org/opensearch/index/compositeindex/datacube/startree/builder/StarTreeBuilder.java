@@ -55,4 +55,23 @@ public interface StarTreeBuilder extends Closeable {
         AtomicInteger fieldNumberAcrossStarTrees,
         DocValuesConsumer starTreeDocValuesConsumer
     ) throws IOException;
+
+    /**
+     * Computes the star tree using Star Tree values from multiple segments, without writing it, so that the star trees of several
+     * fields can be computed concurrently and then written one after the other with {@link #writeStarTree}. Building a star tree
+     * with {@link #build(List, AtomicInteger, DocValuesConsumer)} is equivalent to calling both methods.
+     *
+     * @param starTreeValuesSubs contains the star tree values from multiple segments
+     * @throws IOException when we are unable to build star-tree
+     */
+    void computeStarTree(List<StarTreeValues> starTreeValuesSubs) throws IOException;
+
+    /**
+     * Writes the star tree that was computed with {@link #computeStarTree}
+     *
+     * @param fieldNumberAcrossStarTrees   maintains the unique field number across the fields in the star tree
+     * @param starTreeDocValuesConsumer    consumer of star-tree doc values
+     * @throws IOException when we are unable to write star-tree
+     */
+    void writeStarTree(AtomicInteger fieldNumberAcrossStarTrees, DocValuesConsumer starTreeDocValuesConsumer) throws IOException;
 }
@@ -106,7 +106,7 @@ public class StarTreeDocsFileManager extends AbstractDocumentsFileManager implem
         if (docSizeInBytes == -1) {
             docSizeInBytes = numBytes;
         } else {
-            assert docSizeInBytes == numBytes;
+            assert hasSketchMetrics || docSizeInBytes == numBytes;
         }
         numStarTreeDocs++;
     }
@@ -122,7 +122,7 @@ public class StarTreeDocsFileManager extends AbstractDocumentsFileManager implem
      * Returns offset for the docId based on the current file start id
      */
     private long getOffset(int docId) {
-        return (long) (docId - currentFileStartDocId) * docSizeInBytes;
+        return getDocumentOffset(docId) - getDocumentOffset(currentFileStartDocId);
     }
 
     @Override
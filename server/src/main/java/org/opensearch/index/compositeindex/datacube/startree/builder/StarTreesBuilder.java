@@ -14,7 +14,10 @@ import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.mapper.CompositeMappedFieldType;
@@ -27,6 +30,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -43,8 +49,25 @@ public class StarTreesBuilder implements Closeable {
     private final SegmentWriteState state;
     private final MapperService mapperService;
     private AtomicInteger fieldNumberAcrossStarTrees;
+    private final Executor executor;
 
     public StarTreesBuilder(SegmentWriteState segmentWriteState, MapperService mapperService, AtomicInteger fieldNumberAcrossStarTrees) {
+        this(segmentWriteState, mapperService, fieldNumberAcrossStarTrees, null);
+    }
+
+    /**
+     * Creates a builder that builds star-trees concurrently on the given executor, which typically is the executor that Lucene provides
+     * to run the work of a merge on several threads. As star-tree builders wait for the tasks they submit, the executor must not queue
+     * tasks indefinitely, like this one does by running tasks on the calling thread when no merge thread is available.
+     *
+     * @param executor the executor to build star-trees on, or null to build them on the calling thread
+     */
+    public StarTreesBuilder(
+        SegmentWriteState segmentWriteState,
+        MapperService mapperService,
+        AtomicInteger fieldNumberAcrossStarTrees,
+        Executor executor
+    ) {
         List<StarTreeField> starTreeFields = new ArrayList<>();
         for (CompositeMappedFieldType compositeMappedFieldType : mapperService.getCompositeFieldTypes()) {
             if (compositeMappedFieldType != null
@@ -63,6 +86,7 @@ public class StarTreesBuilder implements Closeable {
         this.state = segmentWriteState;
         this.mapperService = mapperService;
         this.fieldNumberAcrossStarTrees = fieldNumberAcrossStarTrees;
+        this.executor = executor;
     }
 
     /**
@@ -104,7 +128,9 @@ public class StarTreesBuilder implements Closeable {
     }
 
     /**
-     * Merges star tree fields from multiple segments
+     * Merges star tree fields from multiple segments. When this builder has an executor and there are several star tree fields, their
+     * star trees are computed concurrently, and then written one after the other in the order of the fields, as they share the
+     * star-tree outputs.
      *
      * @param metaOut                    an IndexInput for star-tree metadata
      * @param dataOut                    an IndexInput for star-tree data
@@ -119,15 +145,40 @@ public class StarTreesBuilder implements Closeable {
     ) throws IOException {
         logger.debug("Starting merge of {} star-trees with star-tree fields", starTreeValuesSubsPerField.size());
         long startTime = System.currentTimeMillis();
+        List<List<StarTreeValues>> starTreeValuesSubsList = new ArrayList<>();
         for (Map.Entry<String, List<StarTreeValues>> entry : starTreeValuesSubsPerField.entrySet()) {
-            List<StarTreeValues> starTreeValuesList = entry.getValue();
-            if (starTreeValuesList.isEmpty()) {
+            if (entry.getValue().isEmpty()) {
                 logger.debug("StarTreeValues is empty for all segments for field : {}", entry.getKey());
                 continue;
             }
-            StarTreeField starTreeField = starTreeValuesList.get(0).getStarTreeField();
-            try (StarTreeBuilder builder = getStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService)) {
-                builder.build(starTreeValuesList, fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+            starTreeValuesSubsList.add(entry.getValue());
+        }
+        if (executor == null || starTreeValuesSubsList.size() <= 1) {
+            for (List<StarTreeValues> starTreeValuesList : starTreeValuesSubsList) {
+                StarTreeField starTreeField = starTreeValuesList.get(0).getStarTreeField();
+                try (StarTreeBuilder builder = getStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService)) {
+                    builder.build(starTreeValuesList, fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+                }
+            }
+        } else {
+            List<StarTreeBuilder> builders = new ArrayList<>(starTreeValuesSubsList.size());
+            boolean success = false;
+            try {
+                for (List<StarTreeValues> starTreeValuesList : starTreeValuesSubsList) {
+                    StarTreeField starTreeField = starTreeValuesList.get(0).getStarTreeField();
+                    builders.add(getStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService));
+                }
+                computeStarTreesConcurrently(builders, starTreeValuesSubsList);
+                for (StarTreeBuilder builder : builders) {
+                    builder.writeStarTree(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+                }
+                success = true;
+            } finally {
+                if (success) {
+                    IOUtils.close(builders);
+                } else {
+                    IOUtils.closeWhileHandlingException(builders);
+                }
             }
         }
         logger.debug(
@@ -137,6 +188,59 @@ public class StarTreesBuilder implements Closeable {
         );
     }
 
+    /**
+     * Computes the star trees of the given builders on the executor, the last one on the calling thread, and waits for all of them.
+     */
+    private void computeStarTreesConcurrently(List<StarTreeBuilder> builders, List<List<StarTreeValues>> starTreeValuesSubsList)
+        throws IOException {
+        List<FutureTask<Void>> tasks = new ArrayList<>(builders.size() - 1);
+        for (int i = 0; i < builders.size() - 1; i++) {
+            StarTreeBuilder builder = builders.get(i);
+            List<StarTreeValues> starTreeValuesList = starTreeValuesSubsList.get(i);
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                builder.computeStarTree(starTreeValuesList);
+                return null;
+            });
+            tasks.add(task);
+            executor.execute(task);
+        }
+        Throwable failure = null;
+        try {
+            builders.get(builders.size() - 1).computeStarTree(starTreeValuesSubsList.get(builders.size() - 1));
+        } catch (IOException | RuntimeException | Error e) {
+            failure = e;
+        }
+        // wait for all star trees even if one of them failed, so that none of them is still being computed once their builders close
+        // an interrupt doesn't stop the wait, it is restored and reported once all of them are done
+        InterruptedException interrupted = null;
+        for (FutureTask<Void> task : tasks) {
+            while (true) {
+                try {
+                    task.get();
+                    break;
+                } catch (ExecutionException e) {
+                    failure = ExceptionsHelper.useOrSuppress(failure, e.getCause());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = e;
+                }
+            }
+        }
+        if (interrupted != null) {
+            Thread.currentThread().interrupt();
+            failure = ExceptionsHelper.useOrSuppress(failure, new ThreadInterruptedException(interrupted));
+        }
+        if (failure != null) {
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw failure instanceof RuntimeException runtimeException ? runtimeException : new RuntimeException(failure);
+        }
+    }
+
     /**
      * Get star-tree builder based on build mode.
      */
@@ -151,7 +255,7 @@ public class StarTreesBuilder implements Closeable {
             case ON_HEAP:
                 return new OnHeapStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService);
             case OFF_HEAP:
-                return new OffHeapStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService);
+                return new OffHeapStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService, executor);
             default:
                 throw new IllegalArgumentException(
                     String.format(
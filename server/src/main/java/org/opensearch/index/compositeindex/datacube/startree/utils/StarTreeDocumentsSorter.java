@@ -9,16 +9,30 @@
 package org.opensearch.index.compositeindex.datacube.startree.utils;
 
 import org.apache.lucene.util.IntroSorter;
+import org.apache.lucene.util.PriorityQueue;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.ExceptionsHelper;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 /**
  * Utility class for building star tree
  */
 public class StarTreeDocumentsSorter {
+
+    /**
+     * Minimum number of documents that each chunk holds when documents are sorted concurrently
+     */
+    public static final int MIN_DOCS_PER_CHUNK = 1 << 17;
+
     /**
      * Sort documents based on the dimension values off heap using intro sorter.
      */
@@ -28,6 +42,90 @@ public class StarTreeDocumentsSorter {
         final int numDocs,
         final IntFunction<Long[]> dimensionsReader,
         final List<Comparator<Long>> dimensionComparators
+    ) {
+        sort(sortedDocIds, dimensionId, 0, numDocs, dimensionsReader, dimensionComparators);
+    }
+
+    /**
+     * Sorts documents like {@link #sort(int[], int, int, IntFunction, List)}, but splits them into chunks of at least
+     * {@link #MIN_DOCS_PER_CHUNK} documents that are sorted concurrently on the given executor, and then k-way merges the sorted
+     * chunks. Reading the dimensions of documents is what sorting them off heap spends its time on, and the reads of a given reader
+     * aren't thread-safe, so each chunk reads them with its own reader that {@code dimensionsReaderSupplier} creates on the calling
+     * thread.
+     */
+    public static void sort(
+        final int[] sortedDocIds,
+        final int dimensionId,
+        final int numDocs,
+        final Supplier<IntFunction<Long[]>> dimensionsReaderSupplier,
+        final List<Comparator<Long>> dimensionComparators,
+        final Executor executor
+    ) {
+        final int numChunks = numDocs / MIN_DOCS_PER_CHUNK;
+        if (numChunks <= 1) {
+            sort(sortedDocIds, dimensionId, 0, numDocs, dimensionsReaderSupplier.get(), dimensionComparators);
+            return;
+        }
+        final int[] chunkStarts = new int[numChunks + 1];
+        for (int i = 0; i <= numChunks; i++) {
+            chunkStarts[i] = (int) ((long) numDocs * i / numChunks);
+        }
+        // the last chunk is sorted on the calling thread, which then waits for the other chunks
+        final List<FutureTask<Void>> chunkSorts = new ArrayList<>(numChunks - 1);
+        for (int i = 0; i < numChunks - 1; i++) {
+            final int from = chunkStarts[i];
+            final int to = chunkStarts[i + 1];
+            final IntFunction<Long[]> dimensionsReader = dimensionsReaderSupplier.get();
+            final FutureTask<Void> chunkSort = new FutureTask<>(
+                () -> sort(sortedDocIds, dimensionId, from, to, dimensionsReader, dimensionComparators),
+                null
+            );
+            chunkSorts.add(chunkSort);
+            executor.execute(chunkSort);
+        }
+        final IntFunction<Long[]> dimensionsReader = dimensionsReaderSupplier.get();
+        Throwable failure = null;
+        try {
+            sort(sortedDocIds, dimensionId, chunkStarts[numChunks - 1], numDocs, dimensionsReader, dimensionComparators);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+        // wait for all chunks even if one of them failed, so that none of them still reads documents once this method returns
+        // an interrupt doesn't stop the wait, it is restored and reported once all of them are done
+        InterruptedException interrupted = null;
+        for (FutureTask<Void> chunkSort : chunkSorts) {
+            while (true) {
+                try {
+                    chunkSort.get();
+                    break;
+                } catch (ExecutionException e) {
+                    failure = ExceptionsHelper.useOrSuppress(failure, e.getCause());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = e;
+                }
+            }
+        }
+        if (interrupted != null) {
+            Thread.currentThread().interrupt();
+            failure = ExceptionsHelper.useOrSuppress(failure, new ThreadInterruptedException(interrupted));
+        }
+        if (failure != null) {
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw failure instanceof RuntimeException runtimeException ? runtimeException : new RuntimeException(failure);
+        }
+        merge(sortedDocIds, dimensionId, chunkStarts, dimensionsReader, dimensionComparators);
+    }
+
+    private static void sort(
+        final int[] sortedDocIds,
+        final int dimensionId,
+        final int from,
+        final int to,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
     ) {
         new IntroSorter() {
             private Long[] dimensions;
@@ -46,14 +144,69 @@ public class StarTreeDocumentsSorter {
 
             @Override
             protected int comparePivot(int j) {
-                Long[] currentDimensions = dimensionsReader.apply(j);
-                for (int i = dimensionId + 1; i < dimensions.length; i++) {
-                    if (!Objects.equals(dimensions[i], currentDimensions[i])) {
-                        return dimensionComparators.get(i).compare(dimensions[i], currentDimensions[i]);
-                    }
-                }
-                return 0;
+                return compare(dimensions, dimensionsReader.apply(j), dimensionId, dimensionComparators);
+            }
+        }.sort(from, to);
+    }
+
+    /**
+     * K-way merges the sorted chunks of documents, reading the dimensions of each document once.
+     */
+    private static void merge(
+        final int[] sortedDocIds,
+        final int dimensionId,
+        final int[] chunkStarts,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        final int numChunks = chunkStarts.length - 1;
+        final PriorityQueue<Chunk> queue = new PriorityQueue<>(numChunks) {
+            @Override
+            protected boolean lessThan(Chunk a, Chunk b) {
+                final int cmp = compare(a.dimensions, b.dimensions, dimensionId, dimensionComparators);
+                // keep documents with equal dimensions in the order of their chunks
+                return cmp < 0 || (cmp == 0 && a.from < b.from);
+            }
+        };
+        for (int i = 0; i < numChunks; i++) {
+            final Chunk chunk = new Chunk(chunkStarts[i], chunkStarts[i + 1]);
+            chunk.dimensions = dimensionsReader.apply(chunk.from);
+            queue.add(chunk);
+        }
+        final int[] mergedDocIds = new int[chunkStarts[numChunks]];
+        for (int i = 0; i < mergedDocIds.length; i++) {
+            final Chunk top = queue.top();
+            mergedDocIds[i] = sortedDocIds[top.from++];
+            if (top.from < top.to) {
+                top.dimensions = dimensionsReader.apply(top.from);
+                queue.updateTop();
+            } else {
+                queue.pop();
+            }
+        }
+        System.arraycopy(mergedDocIds, 0, sortedDocIds, 0, mergedDocIds.length);
+    }
+
+    private static int compare(Long[] dimensions, Long[] otherDimensions, int dimensionId, List<Comparator<Long>> dimensionComparators) {
+        for (int i = dimensionId + 1; i < dimensions.length; i++) {
+            if (!Objects.equals(dimensions[i], otherDimensions[i])) {
+                return dimensionComparators.get(i).compare(dimensions[i], otherDimensions[i]);
             }
-        }.sort(0, numDocs);
+        }
+        return 0;
+    }
+
+    /**
+     * The remaining documents of a sorted chunk, and the dimensions of the first of them
+     */
+    private static final class Chunk {
+        private int from;
+        private final int to;
+        private Long[] dimensions;
+
+        Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils.iterator;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.io.IOException;
+
+/**
+ * Wrapper iterator class for StarTree index to traverse through BinaryDocValues, which hold the serialized sketches of
+ * sketch metrics
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class BinaryStarTreeValuesIterator extends StarTreeValuesIterator {
+
+    public BinaryStarTreeValuesIterator(DocIdSetIterator docIdSetIterator) {
+        super(docIdSetIterator);
+    }
+
+    /**
+     * Binary values don't have a numeric value, use {@link #binaryValue()} instead
+     */
+    @Override
+    public long value() {
+        throw new UnsupportedOperationException("binary star tree values don't have a numeric value");
+    }
+
+    public BytesRef binaryValue() throws IOException {
+        return ((BinaryDocValues) docIdSetIterator).binaryValue();
+    }
+
+    @Override
+    public int entryValueCount() {
+        return 1;
+    }
+
+    @Override
+    public boolean advanceExact(int target) throws IOException {
+        return ((BinaryDocValues) docIdSetIterator).advanceExact(target);
+    }
+}
@@ -57,6 +57,7 @@ import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.common.Nullable;
@@ -106,6 +107,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.NoSuchFileException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -469,6 +471,14 @@ public abstract class Engine implements LifecycleAware, Closeable {
 
     public abstract NoOpResult noOp(NoOp noOp) throws IOException;
 
+    /**
+     * Resolves the current versions of the given uids together, walking the terms of each segment once in sorted uid order, so
+     * that subsequent index and delete operations on these uids on the primary don't have to seek the terms dictionaries one by
+     * one. This is a best effort optimization that doesn't change the outcome of any operation. Engines that don't look up
+     * versions ignore it.
+     */
+    public void prefetchDocVersions(Collection<BytesRef> uids) throws IOException {}
+
     /**
      * Base class for index and delete operation results
      * Holds result meta data (e.g. translog location, updated version)
@@ -1635,6 +1645,50 @@ public abstract class Engine implements LifecycleAware, Closeable {
         if (docMapper.getMapping() != null) {
             doc.addDynamicMappingsUpdate(docMapper.getMapping());
         }
+        return prepareIndex(
+            doc,
+            startTime,
+            seqNo,
+            primaryTerm,
+            version,
+            versionType,
+            origin,
+            autoGeneratedIdTimestamp,
+            isRetry,
+            ifSeqNo,
+            ifPrimaryTerm
+        );
+    }
+
+    /**
+     * Prepares an index operation for a document that has already been parsed.
+     *
+     * @param doc the parsed document
+     * @param startTime the start time of the operation in nanoseconds
+     * @param seqNo the sequence number
+     * @param primaryTerm the primary term
+     * @param version the version
+     * @param versionType the version type
+     * @param origin the operation origin
+     * @param autoGeneratedIdTimestamp the timestamp for auto-generated IDs
+     * @param isRetry whether this is a retry
+     * @param ifSeqNo the ifSeqNo
+     * @param ifPrimaryTerm the ifPrimaryTerm
+     * @return the prepared index operation
+     */
+    public Engine.Index prepareIndex(
+        ParsedDocument doc,
+        long startTime,
+        long seqNo,
+        long primaryTerm,
+        long version,
+        VersionType versionType,
+        Engine.Operation.Origin origin,
+        long autoGeneratedIdTimestamp,
+        boolean isRetry,
+        long ifSeqNo,
+        long ifPrimaryTerm
+    ) {
         Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(doc.id()));
         return new Engine.Index(
             uid,
@@ -57,6 +57,7 @@ import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.codec.CodecSettings;
 import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.merge.MergeIoBudget;
 import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.seqno.RetentionLeases;
 import org.opensearch.index.store.Store;
@@ -117,6 +118,7 @@ public final class EngineConfig {
     private final Supplier<DocumentMapperForType> documentMapperForTypeSupplier;
     private final ClusterApplierService clusterApplierService;
     private final MergedSegmentTransferTracker mergedSegmentTransferTracker;
+    private final MergeIoBudget mergeIoBudget;
 
     /**
      * A supplier of the outstanding retention leases. This is used during merged operations to determine which operations that have been
@@ -247,6 +249,17 @@ public final class EngineConfig {
         Property.IndexScope
     );
 
+    /**
+     * Index setting to choose the data structure that holds the versions of documents indexed since the last refresh.
+     * <code>hash_map</code> keeps one object per entry in a concurrent hash map, <code>paged</code> packs uids and versions into
+     * paged primitive arrays which puts less pressure on the garbage collector on update heavy indices.
+     * This setting is <b>not</b> realtime updateable.
+     */
+    public static final Setting<String> INDEX_VERSION_MAP_STORAGE_SETTING = new Setting<>("index.version_map.storage", "hash_map", s -> {
+        LiveVersionMap.Storage.fromString(s);
+        return s;
+    }, Property.IndexScope);
+
     private final TranslogConfig translogConfig;
 
     private final TranslogFactory translogFactory;
@@ -307,6 +320,7 @@ public final class EngineConfig {
         this.indexReaderWarmer = builder.indexReaderWarmer;
         this.clusterApplierService = builder.clusterApplierService;
         this.mergedSegmentTransferTracker = builder.mergedSegmentTransferTracker;
+        this.mergeIoBudget = builder.mergeIoBudget;
     }
 
     /**
@@ -355,7 +369,8 @@ public final class EngineConfig {
             .documentMapperForTypeSupplier(this.documentMapperForTypeSupplier)
             .indexReaderWarmer(this.indexReaderWarmer)
             .clusterApplierService(this.clusterApplierService)
-            .mergedSegmentTransferTracker(this.mergedSegmentTransferTracker);
+            .mergedSegmentTransferTracker(this.mergedSegmentTransferTracker)
+            .mergeIoBudget(this.mergeIoBudget);
     }
 
     /**
@@ -555,6 +570,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_USE_COMPOUND_FILE);
     }
 
+    /**
+     * Returns the storage used by the live version map of the engine
+     */
+    LiveVersionMap.Storage getVersionMapStorage() {
+        return LiveVersionMap.Storage.fromString(indexSettings.getValue(INDEX_VERSION_MAP_STORAGE_SETTING));
+    }
+
     /**
      * Returns the underlying startedPrimarySupplier.
      * @return the primary mode supplier.
@@ -634,6 +656,14 @@ public final class EngineConfig {
         return this.mergedSegmentTransferTracker;
     }
 
+    /**
+     * Returns the node wide budget the merges of the engine write with, or null if there is none.
+     */
+    @Nullable
+    public MergeIoBudget getMergeIoBudget() {
+        return this.mergeIoBudget;
+    }
+
     /**
      * Builder for EngineConfig class
      *
@@ -672,6 +702,7 @@ public final class EngineConfig {
         private IndexWriter.IndexReaderWarmer indexReaderWarmer;
         private ClusterApplierService clusterApplierService;
         private MergedSegmentTransferTracker mergedSegmentTransferTracker;
+        private MergeIoBudget mergeIoBudget;
 
         public Builder shardId(ShardId shardId) {
             this.shardId = shardId;
@@ -828,6 +859,11 @@ public final class EngineConfig {
             return this;
         }
 
+        public Builder mergeIoBudget(MergeIoBudget mergeIoBudget) {
+            this.mergeIoBudget = mergeIoBudget;
+            return this;
+        }
+
         public EngineConfig build() {
             return new EngineConfig(this);
         }
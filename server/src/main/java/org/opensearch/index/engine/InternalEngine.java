@@ -37,6 +37,7 @@ import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
@@ -94,6 +95,7 @@ import org.opensearch.index.mapper.ParseContext;
 import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.merge.MergeIoBudget;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.merge.OnGoingMerge;
@@ -117,6 +119,7 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -128,6 +131,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
@@ -163,7 +167,10 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap = new LiveVersionMap(engineConfig.getVersionMapStorage());
+
+    // versions of uids that were resolved in batches against the internal reader, see #prefetchDocVersions
+    private final AtomicReference<PrefetchedDocVersions> prefetchedDocVersions = new AtomicReference<>();
 
     @Nullable
     protected final String historyUUID;
@@ -254,7 +261,8 @@ public class InternalEngine extends Engine {
             mergeScheduler = scheduler = new EngineMergeScheduler(
                 engineConfig.getShardId(),
                 engineConfig.getIndexSettings(),
-                getMergedSegmentTransferTracker()
+                getMergedSegmentTransferTracker(),
+                engineConfig.getMergeIoBudget()
             );
             throttle = new IndexThrottle();
             try {
@@ -781,6 +789,10 @@ public class InternalEngine extends Engine {
             // IndexWriters with parent writers, version will be either present in version map or in parent IndexWriter. So we do not need
             // to resolve version from child level IndexWriters (both from mark for refresh and active IndexWriter).
             try (Searcher searcher = acquireSearcher("load_version", SearcherScope.INTERNAL)) {
+                final VersionValue prefetched = takePrefetchedDocVersion(searcher.getIndexReader(), op.uid().bytes(), loadSeqNo);
+                if (prefetched != null) {
+                    return PrefetchedDocVersions.isNotFound(prefetched) ? null : prefetched;
+                }
                 docIdAndVersion = VersionsAndSeqNoResolver.loadDocIdAndVersion(searcher.getIndexReader(), op.uid(), loadSeqNo);
             }
             if (docIdAndVersion != null) {
@@ -794,6 +806,57 @@ public class InternalEngine extends Engine {
         return versionValue;
     }
 
+    @Override
+    public void prefetchDocVersions(Collection<BytesRef> uids) throws IOException {
+        if (uids.isEmpty()) {
+            return;
+        }
+        final BytesRef[] sortedUids = uids.stream().distinct().sorted().toArray(BytesRef[]::new);
+        try (
+            ReleasableLock ignored = readLock.acquire();
+            Searcher searcher = acquireSearcher("prefetch_versions", SearcherScope.INTERNAL)
+        ) {
+            ensureOpen();
+            final IndexReader reader = searcher.getIndexReader();
+            final VersionsAndSeqNoResolver.DocIdAndVersion[] results = VersionsAndSeqNoResolver.loadDocIdsAndVersions(
+                reader,
+                IdFieldMapper.NAME,
+                sortedUids,
+                true
+            );
+            PrefetchedDocVersions prefetched = prefetchedDocVersions.get();
+            if (prefetched == null || prefetched.isFor(reader) == false) {
+                final PrefetchedDocVersions newPrefetched = new PrefetchedDocVersions(reader);
+                // if a concurrent prefetch installed versions for the same reader we add to those, otherwise the most recent wins
+                if (prefetchedDocVersions.compareAndSet(prefetched, newPrefetched) == false) {
+                    prefetched = prefetchedDocVersions.get();
+                    if (prefetched == null || prefetched.isFor(reader) == false) {
+                        return;
+                    }
+                } else {
+                    prefetched = newPrefetched;
+                }
+            }
+            prefetched.add(sortedUids, results);
+        }
+    }
+
+    /**
+     * Returns the version of the given uid if it was prefetched for the given reader, null otherwise.
+     * Prefetched versions for other readers are dropped.
+     */
+    private VersionValue takePrefetchedDocVersion(IndexReader reader, BytesRef uid, boolean loadSeqNo) {
+        final PrefetchedDocVersions prefetched = prefetchedDocVersions.get();
+        if (prefetched == null) {
+            return null;
+        }
+        if (prefetched.isFor(reader) == false) {
+            prefetchedDocVersions.compareAndSet(prefetched, null);
+            return null;
+        }
+        return prefetched.take(uid, loadSeqNo);
+    }
+
     private VersionValue getVersionFromMap(BytesRef id) {
         if (versionMap.isUnsafe()) {
             synchronized (versionMap) {
@@ -2518,8 +2581,31 @@ public class InternalEngine extends Engine {
         private final AtomicInteger numMergesInFlight = new AtomicInteger(0);
         private final AtomicBoolean isThrottling = new AtomicBoolean();
 
-        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings, MergedSegmentTransferTracker mergedSegmentTransferTracker) {
-            super(shardId, indexSettings, mergedSegmentTransferTracker);
+        EngineMergeScheduler(
+            ShardId shardId,
+            IndexSettings indexSettings,
+            MergedSegmentTransferTracker mergedSegmentTransferTracker,
+            @Nullable MergeIoBudget mergeIoBudget
+        ) {
+            super(shardId, indexSettings, mergedSegmentTransferTracker, mergeIoBudget);
+        }
+
+        @Override
+        protected int numSegments() {
+            final OpenSearchReaderManager readerManager = internalReaderManager;
+            if (readerManager == null) {
+                return 0;
+            }
+            try {
+                final OpenSearchDirectoryReader reader = readerManager.acquire();
+                try {
+                    return reader.leaves().size();
+                } finally {
+                    readerManager.release(reader);
+                }
+            } catch (IOException | AlreadyClosedException e) {
+                return 0;
+            }
         }
 
         @Override
@@ -2675,7 +2761,10 @@ public class InternalEngine extends Engine {
     }
 
     public MergeStats getMergeStats() {
-        return mergeScheduler.stats();
+        final MergeStats mergeStats = mergeScheduler.stats();
+        // the composite codec times the star-tree builds of merges, which the merge scheduler has no view of
+        mergeStats.addStarTreeBuildTime(engineConfig.getCodecService().starTreeMergeBuildTimeInMillis());
+        return mergeStats;
     }
 
     LocalCheckpointTracker getLocalCheckpointTracker() {
@@ -2725,6 +2814,14 @@ public class InternalEngine extends Engine {
         return localCheckpointTracker.getStats(globalCheckpoint);
     }
 
+    /**
+     * Returns the number of prefetched versions that were not consumed yet
+     */
+    int getNumPrefetchedDocVersions() { // for testing
+        final PrefetchedDocVersions prefetched = prefetchedDocVersions.get();
+        return prefetched == null ? 0 : prefetched.size();
+    }
+
     /**
      * Returns the number of times a version was looked up either from the index.
      * Note this is only available if assertions are enabled
@@ -56,20 +56,145 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
 
     /**
-     * Looks up document version
+     * The data structure used to hold the live (not yet refreshed) versions of the map.
+     * Delete tombstones are always kept in a concurrent hash map since they are pruned individually.
      *
      * @opensearch.internal
      */
-    private static final class VersionLookup {
+    enum Storage {
+        /**
+         * One {@link BytesRef} and {@link VersionValue} object per entry in a concurrent hash map.
+         */
+        HASH_MAP {
+            @Override
+            VersionTable newTable(int expectedSize) {
+                return new HashMapVersionTable(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize));
+            }
+        },
+        /**
+         * Uids and their primitive version, seqNo, primaryTerm and translog location are packed into paged
+         * {@link org.opensearch.common.util.BigArrays} backed open addressing tables, see {@link PagedVersionTable}.
+         */
+        PAGED {
+            @Override
+            VersionTable newTable(int expectedSize) {
+                return new PagedVersionTable(expectedSize);
+            }
+        };
+
+        abstract VersionTable newTable(int expectedSize);
+
+        static Storage fromString(String value) {
+            switch (value) {
+                case "hash_map":
+                    return HASH_MAP;
+                case "paged":
+                    return PAGED;
+                default:
+                    throw new IllegalArgumentException("unknown version map storage [" + value + "], must be one of [hash_map, paged]");
+            }
+        }
+    }
+
+    /**
+     * Holds the uid to version mappings of a single {@link VersionLookup}. Implementations must be safe for concurrent
+     * access to distinct uids, the engine serializes access to the same uid through {@link #acquireLock(BytesRef)}.
+     *
+     * @opensearch.internal
+     */
+    interface VersionTable extends Accountable {
+
+        VersionValue get(BytesRef uid);
+
+        void put(BytesRef uid, VersionValue version);
+
+        void remove(BytesRef uid);
+
+        int size();
+
+        /**
+         * Returns the current entries of this table. This is only used for testing and assertions.
+         */
+        Map<BytesRef, VersionValue> asMap();
 
-        /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
-         *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this RAM. */
-        final AtomicLong ramBytesUsed = new AtomicLong();
+        @Override
+        default Collection<Accountable> getChildResources() {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * A {@link VersionTable} backed by a {@link Map}
+     *
+     * @opensearch.internal
+     */
+    static final class HashMapVersionTable implements VersionTable {
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
+        /** Tracks bytes used by this map. For deletes, which are also added to tombstones, we only account for the CHM entry here,
+         *  and account for BytesRef/VersionValue against the tombstones, since refresh would not clear this RAM. */
+        private final AtomicLong ramBytesUsed = new AtomicLong();
         private final Map<BytesRef, VersionValue> map;
 
+        HashMapVersionTable(Map<BytesRef, VersionValue> map) {
+            this.map = map;
+        }
+
+        @Override
+        public VersionValue get(BytesRef uid) {
+            return map.get(uid);
+        }
+
+        @Override
+        public void put(BytesRef uid, VersionValue version) {
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
+            VersionValue previousValue = map.put(uid, version);
+            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            adjustRam(ramAccounting);
+        }
+
+        @Override
+        public void remove(BytesRef uid) {
+            VersionValue previousValue = map.remove(uid);
+            if (previousValue != null) {
+                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
+            }
+        }
+
+        private void adjustRam(long value) {
+            if (value != 0) {
+                long v = ramBytesUsed.addAndGet(value);
+                assert v >= 0 : "bytes=" + v;
+            }
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Map<BytesRef, VersionValue> asMap() {
+            return map;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return ramBytesUsed.get();
+        }
+    }
+
+    /**
+     * Looks up document version
+     *
+     * @opensearch.internal
+     */
+    private static final class VersionLookup {
+
+        private static final VersionLookup EMPTY = new VersionLookup(new HashMapVersionTable(Collections.emptyMap()));
+        private final VersionTable table;
+
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
         // the memory pressure significantly for this use-case where we often get a massive amount of small document (metrics).
@@ -86,24 +211,29 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
-            this.map = map;
+        private VersionLookup(VersionTable table) {
+            this.table = table;
         }
 
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return table.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        void put(BytesRef key, VersionValue value) {
+            table.put(key, value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return table.size() == 0;
         }
 
         int size() {
-            return map.size();
+            return table.size();
+        }
+
+        /** Bytes used by this lookup, i.e. what is freed on refresh. */
+        long ramBytesUsed() {
+            return table.ramBytesUsed();
         }
 
         boolean isUnsafe() {
@@ -114,8 +244,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             unsafe = true;
         }
 
-        public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+        public void remove(BytesRef uid) {
+            table.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -143,14 +273,17 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        private final Storage storage;
+
+        Maps(Storage storage, VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+            this.storage = storage;
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(Storage storage) {
+            this(storage, new VersionLookup(storage.newTable(0)), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -168,42 +301,23 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(storage, new VersionLookup(storage.newTable(current.size())), current, shouldInheritSafeAccess());
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(storage, current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
-        }
-
-        void adjustRam(long value) {
-            if (value != 0) {
-                long v = current.ramBytesUsed.addAndGet(value);
-                assert v >= 0 : "bytes=" + v;
-            }
+            current.put(uid, version);
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -219,10 +333,22 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private final Storage storage;
+
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
+
+    LiveVersionMap() {
+        this(Storage.HASH_MAP);
+    }
+
+    LiveVersionMap(Storage storage) {
+        this.storage = storage;
+        this.maps = new Maps(storage);
+        this.unsafeKeysMap = new Maps(storage);
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -443,7 +569,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(storage);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -453,7 +579,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + ramBytesUsedTombstones.get();
     }
 
     /**
@@ -461,7 +587,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * don't clear on refresh.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsed();
     }
 
     /**
@@ -469,7 +595,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * except does not include tombstones because they don't clear on refresh.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old.ramBytesUsed();
     }
 
     @Override
@@ -482,7 +608,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.table.asMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
@@ -36,6 +36,12 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RateLimitedIndexOutput;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -46,6 +52,7 @@ import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.MergeSchedulerConfig;
+import org.opensearch.index.merge.MergeIoBudget;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.merge.OnGoingMerge;
@@ -53,6 +60,7 @@ import org.opensearch.index.merge.OnGoingMerge;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -80,17 +88,30 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
     private final MergedSegmentTransferTracker mergedSegmentTransferTracker;
+    @Nullable
+    private final MergeIoBudget mergeIoBudget;
+    private final Map<MergePolicy.OneMerge, MergeIoBudget.Share> mergeIoBudgetShares = ConcurrentCollections.newConcurrentMap();
 
     OpenSearchConcurrentMergeScheduler(
         ShardId shardId,
         IndexSettings indexSettings,
         MergedSegmentTransferTracker mergedSegmentTransferTracker
+    ) {
+        this(shardId, indexSettings, mergedSegmentTransferTracker, null);
+    }
+
+    OpenSearchConcurrentMergeScheduler(
+        ShardId shardId,
+        IndexSettings indexSettings,
+        MergedSegmentTransferTracker mergedSegmentTransferTracker,
+        @Nullable MergeIoBudget mergeIoBudget
     ) {
         this.config = indexSettings.getMergeSchedulerConfig();
         this.shardId = shardId;
         this.indexSettings = indexSettings;
         this.logger = Loggers.getLogger(getClass(), shardId);
         this.mergedSegmentTransferTracker = mergedSegmentTransferTracker;
+        this.mergeIoBudget = mergeIoBudget;
         refreshConfig();
     }
 
@@ -116,6 +137,10 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 
         OnGoingMerge onGoingMerge = new OnGoingMerge(merge);
         onGoingMerges.add(onGoingMerge);
+        final MergeIoBudget.Share mergeIoBudgetShare = mergeIoBudget == null ? null : mergeIoBudget.register(shardId, merge, numSegments());
+        if (mergeIoBudgetShare != null) {
+            mergeIoBudgetShares.put(merge, mergeIoBudgetShare);
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace(
@@ -134,6 +159,10 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
             long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
 
             onGoingMerges.remove(onGoingMerge);
+            if (mergeIoBudgetShare != null) {
+                mergeIoBudgetShares.remove(merge);
+                mergeIoBudgetShare.release();
+            }
             afterMerge(onGoingMerge);
 
             currentMerges.dec();
@@ -146,8 +175,10 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
             long stoppedMS = TimeValue.nsecToMSec(
                 merge.getMergeProgress().getPauseTimes().get(MergePolicy.OneMergeProgress.PauseReason.STOPPED)
             );
+            // time spent waiting on the node's merge io budget counts as throttled, just like the pauses of this scheduler
+            long budgetPausedNanos = mergeIoBudgetShare == null ? 0 : mergeIoBudgetShare.getPausedNanos();
             long throttledMS = TimeValue.nsecToMSec(
-                merge.getMergeProgress().getPauseTimes().get(MergePolicy.OneMergeProgress.PauseReason.PAUSED)
+                merge.getMergeProgress().getPauseTimes().get(MergePolicy.OneMergeProgress.PauseReason.PAUSED) + budgetPausedNanos
             );
             totalMergeStoppedTime.inc(stoppedMS);
             totalMergeThrottledTime.inc(throttledMS);
@@ -171,6 +202,29 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         }
     }
 
+    /**
+     * Returns the number of segments of the shard, which gives merges of shards with many segments a larger share of the node's
+     * merge io budget.
+     */
+    protected int numSegments() {
+        return 0;
+    }
+
+    @Override
+    public Directory wrapForMerge(MergePolicy.OneMerge merge, Directory directory) {
+        final Directory wrapped = super.wrapForMerge(merge, directory);
+        final MergeIoBudget.Share mergeIoBudgetShare = mergeIoBudgetShares.get(merge);
+        if (mergeIoBudgetShare == null) {
+            return wrapped;
+        }
+        return new FilterDirectory(wrapped) {
+            @Override
+            public IndexOutput createOutput(String name, IOContext context) throws IOException {
+                return new RateLimitedIndexOutput(mergeIoBudgetShare, in.createOutput(name, context));
+            }
+        };
+    }
+
     /**
      * A callback allowing for custom logic before an actual merge starts.
      */
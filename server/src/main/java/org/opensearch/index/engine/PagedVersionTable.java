@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link LiveVersionMap.VersionTable} that stores uids together with their version, seqNo, primary term and translog
+ * location in paged primitive arrays instead of one {@link BytesRef} and {@link VersionValue} object per entry. This keeps
+ * the number of objects the garbage collector has to trace independent of the number of indexed documents between two
+ * refreshes, and allows the RAM usage to be accounted exactly from the allocated pages.
+ * <p>
+ * Entries are spread over a fixed number of stripes, each of which is an open addressing {@link BytesRefHash} guarded by
+ * its own monitor, so that concurrent indexing threads working on different uids rarely contend. Removed entries keep
+ * their slot in the hash and are only marked as removed: a table only lives until the next refresh, after which it is
+ * dropped as a whole.
+ * <p>
+ * Values are materialized as {@link IndexVersionValue}s on read. This table never holds deletes, those are always kept in
+ * the tombstones of {@link LiveVersionMap}.
+ *
+ * @opensearch.internal
+ */
+final class PagedVersionTable implements LiveVersionMap.VersionTable {
+
+    private static final int NUM_STRIPES = 16;
+
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(PagedVersionTable.class)
+        + RamUsageEstimator.shallowSizeOf(new Stripe[NUM_STRIPES]);
+
+    // tables are dropped as a whole on refresh and concurrent lookups may still read from them, so the pages are
+    // never released and returned to a recycler but left to the garbage collector instead.
+    private final BigArrays bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+
+    private final Stripe[] stripes = new Stripe[NUM_STRIPES];
+
+    PagedVersionTable(int expectedSize) {
+        final long expectedPerStripe = Math.max(1, expectedSize / NUM_STRIPES);
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(bigArrays, expectedPerStripe);
+        }
+    }
+
+    private Stripe stripe(BytesRef uid) {
+        // BytesRef#hashCode is a murmur3 hash which is independent of the hash used within the stripe itself
+        return stripes[Math.floorMod(uid.hashCode(), NUM_STRIPES)];
+    }
+
+    @Override
+    public VersionValue get(BytesRef uid) {
+        return stripe(uid).get(uid);
+    }
+
+    @Override
+    public void put(BytesRef uid, VersionValue version) {
+        assert version.isDelete() == false : "deletes must be kept in the tombstones, got " + version;
+        stripe(uid).put(uid, version);
+    }
+
+    @Override
+    public void remove(BytesRef uid) {
+        stripe(uid).remove(uid);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.liveEntries;
+        }
+        return size;
+    }
+
+    @Override
+    public Map<BytesRef, VersionValue> asMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.copyTo(map);
+        }
+        return map;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long ramBytesUsed = SHALLOW_SIZE;
+        for (Stripe stripe : stripes) {
+            ramBytesUsed += stripe.ramBytesUsed;
+        }
+        return ramBytesUsed;
+    }
+
+    /**
+     * A single open addressing table. All accesses are synchronized on the stripe since the underlying hash is not thread-safe,
+     * even for reads.
+     *
+     * @opensearch.internal
+     */
+    private static final class Stripe {
+
+        private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(Stripe.class) + RamUsageEstimator
+            .shallowSizeOfInstance(BytesRefHash.class);
+
+        // number of longs stored per key ordinal: version, seqNo, term, translog generation, translog location
+        private static final int LONGS_PER_ENTRY = 5;
+        private static final int VERSION = 0;
+        private static final int SEQ_NO = 1;
+        private static final int TERM = 2;
+        private static final int TRANSLOG_GENERATION = 3;
+        private static final int TRANSLOG_LOCATION = 4;
+
+        // the int stored per key ordinal is the size of the translog location, or one of these markers
+        private static final int NO_TRANSLOG_LOCATION = -1;
+        private static final int REMOVED = -2;
+
+        private final BigArrays bigArrays;
+        private final BytesRefHash keys;
+        private LongArray values;
+        private IntArray states;
+
+        // written under the stripe's lock, read without it for stats
+        private volatile int liveEntries;
+        private volatile long ramBytesUsed;
+
+        Stripe(BigArrays bigArrays, long expectedSize) {
+            this.bigArrays = bigArrays;
+            this.keys = new BytesRefHash(expectedSize, bigArrays);
+            this.values = bigArrays.newLongArray(expectedSize * LONGS_PER_ENTRY, false);
+            this.states = bigArrays.newIntArray(expectedSize, false);
+            updateRamBytesUsed();
+        }
+
+        synchronized VersionValue get(BytesRef uid) {
+            final long ordinal = keys.find(uid);
+            if (ordinal < 0) {
+                return null;
+            }
+            final int state = states.get(ordinal);
+            if (state == REMOVED) {
+                return null;
+            }
+            return toVersionValue(ordinal, state);
+        }
+
+        synchronized void put(BytesRef uid, VersionValue version) {
+            long ordinal = keys.add(uid);
+            if (ordinal < 0) {
+                ordinal = -1 - ordinal;
+                if (states.get(ordinal) == REMOVED) {
+                    liveEntries++;
+                }
+            } else {
+                values = bigArrays.grow(values, (ordinal + 1) * LONGS_PER_ENTRY);
+                states = bigArrays.grow(states, ordinal + 1);
+                liveEntries++;
+            }
+            final long offset = ordinal * LONGS_PER_ENTRY;
+            values.set(offset + VERSION, version.version);
+            values.set(offset + SEQ_NO, version.seqNo);
+            values.set(offset + TERM, version.term);
+            final Translog.Location location = version.getLocation();
+            if (location == null) {
+                states.set(ordinal, NO_TRANSLOG_LOCATION);
+            } else {
+                assert location.size >= 0 : "invalid translog location " + location;
+                values.set(offset + TRANSLOG_GENERATION, location.generation);
+                values.set(offset + TRANSLOG_LOCATION, location.translogLocation);
+                states.set(ordinal, location.size);
+            }
+            updateRamBytesUsed();
+        }
+
+        synchronized void remove(BytesRef uid) {
+            final long ordinal = keys.find(uid);
+            if (ordinal >= 0 && states.get(ordinal) != REMOVED) {
+                states.set(ordinal, REMOVED);
+                liveEntries--;
+            }
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> map) {
+            for (long ordinal = 0; ordinal < keys.size(); ordinal++) {
+                final int state = states.get(ordinal);
+                if (state != REMOVED) {
+                    map.put(BytesRef.deepCopyOf(keys.get(ordinal, new BytesRef())), toVersionValue(ordinal, state));
+                }
+            }
+        }
+
+        private VersionValue toVersionValue(long ordinal, int state) {
+            final long offset = ordinal * LONGS_PER_ENTRY;
+            final Translog.Location location = state == NO_TRANSLOG_LOCATION
+                ? null
+                : new Translog.Location(values.get(offset + TRANSLOG_GENERATION), values.get(offset + TRANSLOG_LOCATION), state);
+            return new IndexVersionValue(location, values.get(offset + VERSION), values.get(offset + SEQ_NO), values.get(offset + TERM));
+        }
+
+        private void updateRamBytesUsed() {
+            ramBytesUsed = SHALLOW_SIZE + keys.ramBytesUsed() + values.ramBytesUsed() + states.ramBytesUsed();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.seqno.SequenceNumbers;
+
+import java.util.Map;
+
+/**
+ * Holds the versions of uids that were resolved together against a single internal reader, see
+ * {@link InternalEngine#prefetchDocVersions}. Since a reader never changes, a prefetched result is exactly what a per uid lookup
+ * against the same reader would return, so it can be consumed by any operation that looks up the uid in that reader. Results
+ * are removed once consumed and the whole instance is dropped as soon as the engine looks up versions in another reader.
+ * <p>
+ * Only primitive values are kept, so that holding on to an instance doesn't prevent the reader from being closed.
+ *
+ * @opensearch.internal
+ */
+final class PrefetchedDocVersions {
+
+    /**
+     * Upper bound of the number of results held, additional uids are looked up one by one.
+     */
+    static final int MAX_ENTRIES = 100_000;
+
+    private static final VersionValue NOT_FOUND = new IndexVersionValue(
+        null,
+        Versions.NOT_FOUND,
+        SequenceNumbers.UNASSIGNED_SEQ_NO,
+        SequenceNumbers.UNASSIGNED_PRIMARY_TERM
+    );
+
+    private final IndexReader.CacheKey readerKey;
+    private final Map<BytesRef, VersionValue> versions = ConcurrentCollections.newConcurrentMap();
+
+    PrefetchedDocVersions(IndexReader reader) {
+        this.readerKey = reader.getReaderCacheHelper().getKey();
+    }
+
+    /**
+     * Returns true if the versions held were resolved against the given reader
+     */
+    boolean isFor(IndexReader reader) {
+        return readerKey == reader.getReaderCacheHelper().getKey();
+    }
+
+    /**
+     * Adds the results of {@link org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver#loadDocIdsAndVersions} for the given
+     * uids, the seqNo and primary term must have been loaded.
+     */
+    void add(BytesRef[] uids, DocIdAndVersion[] results) {
+        assert uids.length == results.length;
+        for (int i = 0; i < uids.length && versions.size() < MAX_ENTRIES; i++) {
+            final DocIdAndVersion result = results[i];
+            if (result == null) {
+                versions.put(uids[i], NOT_FOUND);
+            } else {
+                versions.put(uids[i], new IndexVersionValue(null, result.version, result.seqNo, result.primaryTerm));
+            }
+        }
+    }
+
+    /**
+     * Consumes the prefetched version of the given uid.
+     *
+     * @return null if the uid was not prefetched, {@link #isNotFound(VersionValue) not found} if it does not exist in the reader,
+     * or its version otherwise. The seqNo and primary term are unassigned unless {@code loadSeqNo} is set.
+     */
+    VersionValue take(BytesRef uid, boolean loadSeqNo) {
+        final VersionValue versionValue = versions.remove(uid);
+        if (versionValue == null || versionValue == NOT_FOUND || loadSeqNo) {
+            return versionValue;
+        }
+        return new IndexVersionValue(null, versionValue.version, SequenceNumbers.UNASSIGNED_SEQ_NO, SequenceNumbers.UNASSIGNED_PRIMARY_TERM);
+    }
+
+    static boolean isNotFound(VersionValue versionValue) {
+        return versionValue == NOT_FOUND;
+    }
+
+    int size() {
+        return versions.size();
+    }
+}
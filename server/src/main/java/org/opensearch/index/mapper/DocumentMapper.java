@@ -148,6 +148,8 @@ public class DocumentMapper implements ToXContentFragment {
 
     private final MappingLookup fieldMappers;
 
+    private final DocumentParsePlan parsePlan;
+
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
     private final MetadataFieldMapper[] noopTombstoneMetadataFieldMappers;
 
@@ -161,6 +163,7 @@ public class DocumentMapper implements ToXContentFragment {
 
         final IndexAnalyzers indexAnalyzers = mapperService.getIndexAnalyzers();
         this.fieldMappers = MappingLookup.fromMapping(this.mapping, indexAnalyzers.getDefaultIndexAnalyzer());
+        this.parsePlan = DocumentParsePlan.build(this.mapping);
 
         try {
             mappingSource = new CompressedXContent(this, ToXContent.EMPTY_PARAMS);
@@ -249,6 +252,10 @@ public class DocumentMapper implements ToXContentFragment {
         return mappers().objectMappers();
     }
 
+    DocumentParsePlan parsePlan() {
+        return parsePlan;
+    }
+
     public ParsedDocument parse(SourceToParse source) throws MapperParsingException {
         return documentParser.parseDocument(source, mapping.metadataMappers);
     }
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Resolves the mappers of fields that are known to a mapping without walking the object mappers and building the full path
+ * of every field of every parsed document.
+ * <p>
+ * For each object mapper of the mapping, the plan maps the names of its direct sub fields, as they appear in documents, to the
+ * mapper {@link DocumentParser} would resolve for them. Mappings are immutable, so a plan is built once per {@link DocumentMapper}
+ * and is replaced together with it on mapping updates. Field names the plan doesn't know, like dotted field names or fields that
+ * are mapped dynamically, are resolved the regular way.
+ *
+ * @opensearch.internal
+ */
+final class DocumentParsePlan {
+
+    static final DocumentParsePlan EMPTY = new DocumentParsePlan(Collections.emptyMap());
+
+    /**
+     * A field known to the plan: its name split into path elements, which always is the name itself, and its mapper.
+     *
+     * @opensearch.internal
+     */
+    static final class ResolvedField {
+        final String[] paths;
+        final Mapper mapper;
+
+        private ResolvedField(String name, Mapper mapper) {
+            this.paths = new String[] { name };
+            this.mapper = mapper;
+        }
+    }
+
+    // object mappers are keyed by identity, mappers created dynamically while parsing a document are never part of the plan
+    private final Map<ObjectMapper, Map<String, ResolvedField>> fieldsByObject;
+
+    private DocumentParsePlan(Map<ObjectMapper, Map<String, ResolvedField>> fieldsByObject) {
+        this.fieldsByObject = fieldsByObject;
+    }
+
+    static DocumentParsePlan build(Mapping mapping) {
+        for (MetadataFieldMapper metadataMapper : mapping.metadataMappers) {
+            if (metadataMapper.name().indexOf('.') >= 0) {
+                // metadata mappers are only resolved for fields at the root of documents, which relies on their names having no dots
+                return EMPTY;
+            }
+        }
+        final Map<ObjectMapper, Map<String, ResolvedField>> fieldsByObject = new IdentityHashMap<>();
+        final Map<String, ResolvedField> rootFields = addObject(mapping.root, fieldsByObject);
+        if (rootFields != null) {
+            for (MetadataFieldMapper metadataMapper : mapping.metadataMappers) {
+                // the parser resolves metadata fields by their full path, which is their name at the root of documents
+                rootFields.put(metadataMapper.name(), new ResolvedField(metadataMapper.name(), metadataMapper));
+            }
+        }
+        return new DocumentParsePlan(fieldsByObject);
+    }
+
+    private static Map<String, ResolvedField> addObject(ObjectMapper objectMapper, Map<ObjectMapper, Map<String, ResolvedField>> plan) {
+        if (objectMapper.disableObjects()) {
+            // sub fields of these objects are resolved by their flattened names
+            return null;
+        }
+        final Map<String, ResolvedField> fields = new HashMap<>();
+        for (Mapper mapper : objectMapper) {
+            final String name = mapper.simpleName();
+            if (name.isEmpty() == false && name.indexOf('.') < 0) {
+                fields.put(name, new ResolvedField(name, mapper));
+            }
+            if (mapper instanceof ObjectMapper childObjectMapper) {
+                addObject(childObjectMapper, plan);
+            }
+        }
+        plan.put(objectMapper, fields);
+        return fields;
+    }
+
+    /**
+     * Returns the field with the given name within the given object mapper, or null if it is not known to the plan.
+     */
+    ResolvedField resolve(ObjectMapper objectMapper, String fieldName) {
+        final Map<String, ResolvedField> fields = fieldsByObject.get(objectMapper);
+        return fields == null ? null : fields.get(fieldName);
+    }
+}
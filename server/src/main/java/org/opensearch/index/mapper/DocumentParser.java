@@ -541,10 +541,16 @@ final class DocumentParser {
             while (token != XContentParser.Token.END_OBJECT) {
                 if (token == XContentParser.Token.FIELD_NAME) {
                     currentFieldName = parser.currentName();
-                    paths = mapper.disableObjects() ? new String[] { currentFieldName } : splitAndValidatePath(currentFieldName);
-                    if (containsDisabledObjectMapper(mapper, paths)) {
-                        parser.nextToken();
-                        parser.skipChildren();
+                    final DocumentParsePlan.ResolvedField plannedField = resolvePlannedField(context, mapper, currentFieldName);
+                    if (plannedField != null) {
+                        // a single path element, so there is no object on the path that could be disabled
+                        paths = plannedField.paths;
+                    } else {
+                        paths = mapper.disableObjects() ? new String[] { currentFieldName } : splitAndValidatePath(currentFieldName);
+                        if (containsDisabledObjectMapper(mapper, paths)) {
+                            parser.nextToken();
+                            parser.skipChildren();
+                        }
                     }
                 } else {
                     // Process different token types during object parsing
@@ -1487,8 +1493,19 @@ final class DocumentParser {
         return dynamic;
     }
 
+    private static DocumentParsePlan.ResolvedField resolvePlannedField(ParseContext context, ObjectMapper objectMapper, String fieldName) {
+        final DocumentMapper docMapper = context.docMapper();
+        return docMapper == null ? null : docMapper.parsePlan().resolve(objectMapper, fieldName);
+    }
+
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        if (subfields.length == 1) {
+            final DocumentParsePlan.ResolvedField plannedField = resolvePlannedField(context, objectMapper, fieldName);
+            if (plannedField != null) {
+                return plannedField.mapper;
+            }
+        }
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
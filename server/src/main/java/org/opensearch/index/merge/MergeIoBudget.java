@@ -0,0 +1,399 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.store.RateLimiter;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedRunnable;
+import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.monitor.fs.FsInfo;
+import org.opensearch.monitor.fs.FsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A node wide budget of bytes per second that all merges of all shards of the node write with.
+ * <p>
+ * Each shard merge scheduler still throttles its own merges, but a node with hundreds of shards merging at the same time can
+ * saturate its disks regardless. When enabled, every running merge also writes through a share of this budget. Shares are
+ * weighted: small merges, which make new segments searchable and keep segment counts in check quickly, and merges of shards
+ * with many segments get a larger share than large merges of shards with few segments. The budget itself adapts to the disk
+ * latency the node's {@link FsService} reports: it is lowered while the disks are slower than the target latency and raised
+ * back up to its maximum while they are well within it.
+ * <p>
+ * The time merges spend waiting on their share is reported as throttled time in the merge stats of their shard.
+ *
+ * @opensearch.internal
+ */
+public class MergeIoBudget extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(MergeIoBudget.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "indices.merge.io_budget.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
+        "indices.merge.io_budget.max_bytes_per_sec",
+        new ByteSizeValue(500, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(Long.MAX_VALUE),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> MIN_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
+        "indices.merge.io_budget.min_bytes_per_sec",
+        new ByteSizeValue(20, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(Long.MAX_VALUE),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> TARGET_DISK_LATENCY_SETTING = Setting.timeSetting(
+        "indices.merge.io_budget.target_disk_latency",
+        TimeValue.timeValueMillis(10),
+        TimeValue.timeValueMillis(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> ADJUST_INTERVAL_SETTING = Setting.timeSetting(
+        "indices.merge.io_budget.adjust_interval",
+        TimeValue.timeValueSeconds(5),
+        TimeValue.timeValueSeconds(1),
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> SMALL_MERGE_SIZE_SETTING = Setting.byteSizeSetting(
+        "indices.merge.io_budget.small_merge_size",
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // small merges get this many times the share of a large merge of a shard with as many segments
+    static final double SMALL_MERGE_WEIGHT = 4.0;
+
+    private static final long MAX_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final ThreadPool threadPool;
+    private final FsService fsService;
+    private final TimeValue adjustInterval;
+    private final Set<Share> shares = new HashSet<>();
+
+    private volatile boolean enabled;
+    private volatile double maxMBPerSec;
+    private volatile double minMBPerSec;
+    private volatile TimeValue targetDiskLatency;
+    private volatile long smallMergeBytes;
+    private volatile double budgetMBPerSec;
+    private volatile Scheduler.Cancellable adjustTask;
+
+    public MergeIoBudget(ThreadPool threadPool, ClusterService clusterService, FsService fsService) {
+        this.threadPool = threadPool;
+        this.fsService = fsService;
+        final Settings settings = clusterService.getSettings();
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.maxMBPerSec = toMBPerSec(MAX_BYTES_PER_SEC_SETTING.get(settings));
+        this.minMBPerSec = toMBPerSec(MIN_BYTES_PER_SEC_SETTING.get(settings));
+        this.targetDiskLatency = TARGET_DISK_LATENCY_SETTING.get(settings);
+        this.smallMergeBytes = SMALL_MERGE_SIZE_SETTING.get(settings).getBytes();
+        this.adjustInterval = ADJUST_INTERVAL_SETTING.get(settings);
+        this.budgetMBPerSec = maxMBPerSec;
+
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, value -> setMaxMBPerSec(toMBPerSec(value)));
+        clusterSettings.addSettingsUpdateConsumer(MIN_BYTES_PER_SEC_SETTING, value -> setMinMBPerSec(toMBPerSec(value)));
+        clusterSettings.addSettingsUpdateConsumer(TARGET_DISK_LATENCY_SETTING, value -> this.targetDiskLatency = value);
+        clusterSettings.addSettingsUpdateConsumer(SMALL_MERGE_SIZE_SETTING, value -> this.smallMergeBytes = value.getBytes());
+    }
+
+    private static double toMBPerSec(ByteSizeValue value) {
+        return value.getBytes() / 1024. / 1024.;
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        rebalance();
+    }
+
+    private void setMaxMBPerSec(double maxMBPerSec) {
+        this.maxMBPerSec = maxMBPerSec;
+        this.budgetMBPerSec = clamp(budgetMBPerSec, minMBPerSec, maxMBPerSec);
+        rebalance();
+    }
+
+    private void setMinMBPerSec(double minMBPerSec) {
+        this.minMBPerSec = minMBPerSec;
+        this.budgetMBPerSec = clamp(budgetMBPerSec, minMBPerSec, maxMBPerSec);
+        rebalance();
+    }
+
+    @Override
+    protected void doStart() {
+        adjustTask = threadPool.scheduleWithFixedDelay(this::adjustBudget, adjustInterval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        final Scheduler.Cancellable adjustTask = this.adjustTask;
+        if (adjustTask != null) {
+            adjustTask.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {}
+
+    /**
+     * Returns true if merges write through their share of the budget.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the current budget of the node in MB per second.
+     */
+    public double getBudgetMBPerSec() {
+        return budgetMBPerSec;
+    }
+
+    /**
+     * Registers a merge that is about to start, and returns the share of the budget it writes through, or null if the budget is
+     * disabled. The share must be released once the merge is done.
+     *
+     * @param shardId      the shard the merge belongs to
+     * @param merge        the merge
+     * @param shardSegments the number of segments the shard has when the merge starts
+     */
+    public Share register(ShardId shardId, MergePolicy.OneMerge merge, int shardSegments) {
+        return register(shardId, merge.totalBytesSize(), shardSegments, merge::checkAborted);
+    }
+
+    Share register(ShardId shardId, long mergeBytes, int shardSegments, CheckedRunnable<IOException> abortCheck) {
+        if (enabled == false) {
+            return null;
+        }
+        final Share share = new Share(shardId, abortCheck, weight(mergeBytes, smallMergeBytes, shardSegments));
+        synchronized (shares) {
+            shares.add(share);
+            rebalanceLocked();
+        }
+        return share;
+    }
+
+    void release(Share share) {
+        synchronized (shares) {
+            if (shares.remove(share)) {
+                rebalanceLocked();
+            }
+        }
+    }
+
+    /**
+     * Returns the weight of a merge of the given size for a shard with the given number of segments.
+     */
+    static double weight(long mergeBytes, long smallMergeBytes, int shardSegments) {
+        final double sizeWeight = mergeBytes <= smallMergeBytes ? SMALL_MERGE_WEIGHT : 1.0;
+        // grows slowly, so that a shard with a huge number of segments can't claim the whole budget for itself
+        return sizeWeight * (1.0 + Math.log1p(Math.max(0, shardSegments)));
+    }
+
+    private void rebalance() {
+        synchronized (shares) {
+            rebalanceLocked();
+        }
+    }
+
+    private void rebalanceLocked() {
+        assert Thread.holdsLock(shares);
+        if (enabled == false) {
+            for (Share share : shares) {
+                share.mbPerSec = Double.POSITIVE_INFINITY;
+            }
+            return;
+        }
+        double totalWeight = 0;
+        for (Share share : shares) {
+            totalWeight += share.weight;
+        }
+        final double budgetMBPerSec = this.budgetMBPerSec;
+        for (Share share : shares) {
+            share.mbPerSec = budgetMBPerSec * share.weight / totalWeight;
+        }
+    }
+
+    void adjustBudget() {
+        if (enabled == false) {
+            return;
+        }
+        try {
+            final FsInfo fsInfo = fsService.stats();
+            final double latencyMillis = fsInfo == null ? -1 : meanLatencyMillis(fsInfo.getIoStats());
+            if (latencyMillis < 0) {
+                // no disk stats on this platform, or no disk operations since the last probe
+                return;
+            }
+            final double current = budgetMBPerSec;
+            final double next = nextBudgetMBPerSec(current, minMBPerSec, maxMBPerSec, latencyMillis, targetDiskLatency.millis());
+            if (next != current) {
+                logger.debug("adjusting merge io budget from [{}] to [{}] MB/sec, mean disk latency [{}ms]", current, next, latencyMillis);
+                budgetMBPerSec = next;
+                rebalance();
+            }
+        } catch (Exception e) {
+            logger.warn("failed to adjust the merge io budget", e);
+        }
+    }
+
+    /**
+     * Returns the mean latency of the disk operations since the previous probe of the file system stats, or -1 if unknown.
+     */
+    static double meanLatencyMillis(FsInfo.IoStats ioStats) {
+        if (ioStats == null || ioStats.getTotalOperations() <= 0) {
+            return -1;
+        }
+        return (double) (ioStats.getTotalReadTime() + ioStats.getTotalWriteTime()) / ioStats.getTotalOperations();
+    }
+
+    /**
+     * Returns the budget for the next interval: lowered while disks are slower than the target latency, raised while they are
+     * below half of it, and kept otherwise.
+     */
+    static double nextBudgetMBPerSec(double current, double min, double max, double latencyMillis, double targetLatencyMillis) {
+        final double next;
+        if (latencyMillis > targetLatencyMillis) {
+            next = current * 0.8;
+        } else if (latencyMillis < targetLatencyMillis / 2) {
+            next = current * 1.1;
+        } else {
+            next = current;
+        }
+        return clamp(next, min, max);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * The share of the budget a single merge writes through. Merges may write from several threads, so pausing is synchronized.
+     *
+     * @opensearch.internal
+     */
+    public final class Share extends RateLimiter {
+        private final ShardId shardId;
+        private final CheckedRunnable<IOException> abortCheck;
+        private final double weight;
+        private volatile double mbPerSec = Double.POSITIVE_INFINITY;
+        private long lastNS;
+        private volatile long pausedNanos;
+
+        private Share(ShardId shardId, CheckedRunnable<IOException> abortCheck, double weight) {
+            this.shardId = shardId;
+            this.abortCheck = abortCheck;
+            this.weight = weight;
+        }
+
+        @Override
+        public void setMBPerSec(double mbPerSec) {
+            // the rate of the share is set by the budget whenever merges start or finish, so it can't be overridden
+        }
+
+        @Override
+        public double getMBPerSec() {
+            return mbPerSec;
+        }
+
+        @Override
+        public long getMinPauseCheckBytes() {
+            final double mbPerSec = this.mbPerSec;
+            if (mbPerSec == Double.POSITIVE_INFINITY) {
+                return Long.MAX_VALUE;
+            }
+            // check roughly every 25ms worth of bytes, like Lucene's rate limiters
+            return Math.max(1, (long) (0.025 * mbPerSec * 1024 * 1024));
+        }
+
+        @Override
+        public synchronized long pause(long bytes) throws IOException {
+            final double mbPerSec = this.mbPerSec;
+            final long startNS = System.nanoTime();
+            if (mbPerSec == Double.POSITIVE_INFINITY) {
+                lastNS = startNS;
+                return 0;
+            }
+            final long targetNS = lastNS + (long) (TimeUnit.SECONDS.toNanos(1) * (bytes / 1024. / 1024.) / mbPerSec);
+            if (targetNS <= startNS) {
+                // no need to pause, the merge wrote slower than its share allows
+                lastNS = startNS;
+                return 0;
+            }
+            lastNS = targetNS;
+            long curNS = startNS;
+            while (curNS < targetNS) {
+                // throws if the merge was aborted, like when the shard is closed while the merge waits on its share
+                abortCheck.run();
+                final long pauseNS = Math.min(MAX_PAUSE_NANOS, targetNS - curNS);
+                try {
+                    Thread.sleep(pauseNS / 1_000_000, (int) (pauseNS % 1_000_000));
+                } catch (InterruptedException e) {
+                    throw new ThreadInterruptedException(e);
+                }
+                curNS = System.nanoTime();
+            }
+            final long paused = curNS - startNS;
+            pausedNanos += paused;
+            return paused;
+        }
+
+        /**
+         * Returns the total time the merge waited on its share.
+         */
+        public long getPausedNanos() {
+            return pausedNanos;
+        }
+
+        /**
+         * Returns the merge back to the budget, which redistributes its share among the remaining merges.
+         */
+        public void release() {
+            MergeIoBudget.this.release(this);
+        }
+
+        @Override
+        public String toString() {
+            return "merge io share of " + shardId + " [" + mbPerSec + "mb/s]";
+        }
+    }
+}
@@ -70,6 +70,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long unreferencedFileCleanUpsPerformed;
 
+    /** Total millis that merges spent building star-tree indices. */
+    private long totalStarTreeBuildTimeInMillis;
+
     private final MergedSegmentWarmerStats warmerStats;
 
     public MergeStats() {
@@ -96,6 +99,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         } else {
             this.warmerStats = new MergedSegmentWarmerStats();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            totalStarTreeBuildTimeInMillis = in.readVLong();
+        }
     }
 
     public void add(
@@ -187,6 +193,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.totalStoppedTimeInMillis += mergeStats.totalStoppedTimeInMillis;
         this.totalThrottledTimeInMillis += mergeStats.totalThrottledTimeInMillis;
         addUnreferencedFileCleanUpStats(mergeStats.unreferencedFileCleanUpsPerformed);
+        addStarTreeBuildTime(mergeStats.totalStarTreeBuildTimeInMillis);
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
         } else {
@@ -203,6 +210,24 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return this.unreferencedFileCleanUpsPerformed;
     }
 
+    public void addStarTreeBuildTime(long starTreeBuildTimeInMillis) {
+        this.totalStarTreeBuildTimeInMillis += starTreeBuildTimeInMillis;
+    }
+
+    /**
+     * The total time merges spent building star-tree indices (in milliseconds), which is part of {@link #getTotalTimeInMillis()}.
+     */
+    public long getTotalStarTreeBuildTimeInMillis() {
+        return this.totalStarTreeBuildTimeInMillis;
+    }
+
+    /**
+     * The total time merges spent building star-tree indices.
+     */
+    public TimeValue getTotalStarTreeBuildTime() {
+        return new TimeValue(totalStarTreeBuildTimeInMillis);
+    }
+
     /**
      * The total number of merges executed.
      */
@@ -308,6 +333,11 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
         builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAutoThrottle);
         builder.field(Fields.UNREFERENCED_FILE_CLEANUPS_PERFORMED, unreferencedFileCleanUpsPerformed);
+        builder.humanReadableField(
+            Fields.TOTAL_STAR_TREE_BUILD_TIME_IN_MILLIS,
+            Fields.TOTAL_STAR_TREE_BUILD_TIME,
+            getTotalStarTreeBuildTime()
+        );
         this.warmerStats.toXContent(builder, params);
         builder.endObject();
         return builder;
@@ -337,6 +367,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_auto_throttle_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC = "total_auto_throttle";
         static final String UNREFERENCED_FILE_CLEANUPS_PERFORMED = "unreferenced_file_cleanups_performed";
+        static final String TOTAL_STAR_TREE_BUILD_TIME = "total_star_tree_build_time";
+        static final String TOTAL_STAR_TREE_BUILD_TIME_IN_MILLIS = "total_star_tree_build_time_in_millis";
     }
 
     @Override
@@ -358,5 +390,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
             this.warmerStats.writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeVLong(totalStarTreeBuildTimeInMillis);
+        }
     }
 }
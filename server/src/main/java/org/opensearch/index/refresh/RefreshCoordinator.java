@@ -0,0 +1,366 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.refresh;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coordinates the scheduled refreshes of all shards of the node. Instead of refreshing as soon as their refresh interval
+ * elapses, shards are handed to the coordinator, which collects them for {@link #WAVE_INTERVAL_SETTING} and then refreshes
+ * them together in a refresh wave. Waves run one at a time, so that the refreshes of thousands of shards turn into a steady
+ * sequence of bounded waves rather than uncoordinated bursts of small refreshes.
+ * <p>
+ * Within a wave, shards with pending refresh listeners, i.e. writes waiting for a refresh or searches waiting for a search
+ * idle shard to become active, are refreshed first and search idle shards last, which skip their refresh as usual. The number
+ * of concurrent refreshes starts at {@link #MAX_CONCURRENT_REFRESHES_SETTING} and is halved whenever the mean refresh latency
+ * of a wave exceeds {@link #TARGET_REFRESH_LATENCY_SETTING}, then grows back by one per wave while refreshes are fast.
+ *
+ * @opensearch.internal
+ */
+public class RefreshCoordinator extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(RefreshCoordinator.class);
+
+    /**
+     * Whether the scheduled refreshes of the shards of the node are coordinated in refresh waves.
+     */
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "indices.refresh.coordinator.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * How long shards that are due for a refresh are collected before they are refreshed together.
+     */
+    public static final Setting<TimeValue> WAVE_INTERVAL_SETTING = Setting.timeSetting(
+        "indices.refresh.coordinator.wave_interval",
+        TimeValue.timeValueMillis(100),
+        TimeValue.timeValueMillis(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of shards a refresh wave refreshes concurrently, defaults to the size of the refresh thread pool.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_REFRESHES_SETTING = new Setting<>(
+        "indices.refresh.coordinator.max_concurrent_refreshes",
+        s -> Integer.toString(Math.min(10, (OpenSearchExecutors.allocatedProcessors(s) + 1) / 2)),
+        s -> Setting.parseInt(s, 1, "indices.refresh.coordinator.max_concurrent_refreshes"),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The mean shard refresh latency above which refresh waves reduce the number of concurrent refreshes.
+     */
+    public static final Setting<TimeValue> TARGET_REFRESH_LATENCY_SETTING = Setting.timeSetting(
+        "indices.refresh.coordinator.target_refresh_latency",
+        TimeValue.timeValueSeconds(1),
+        TimeValue.timeValueMillis(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    private final ThreadPool threadPool;
+    private final RefreshCoordinatorMetrics metrics;
+    private final Set<IndexShard> dueShards = ConcurrentCollections.newConcurrentSet();
+    private final AtomicBoolean waveScheduled = new AtomicBoolean();
+    private final AtomicLong completedWaves = new AtomicLong();
+
+    private volatile boolean enabled;
+    private volatile TimeValue waveInterval;
+    private volatile int maxConcurrentRefreshes;
+    private volatile long targetRefreshLatencyNanos;
+    private volatile int concurrentRefreshes;
+
+    public RefreshCoordinator(ThreadPool threadPool, ClusterService clusterService, RefreshCoordinatorMetrics metrics) {
+        this.threadPool = threadPool;
+        this.metrics = metrics;
+        this.enabled = ENABLED_SETTING.get(clusterService.getSettings());
+        this.waveInterval = WAVE_INTERVAL_SETTING.get(clusterService.getSettings());
+        this.maxConcurrentRefreshes = MAX_CONCURRENT_REFRESHES_SETTING.get(clusterService.getSettings());
+        this.targetRefreshLatencyNanos = TARGET_REFRESH_LATENCY_SETTING.get(clusterService.getSettings()).nanos();
+        this.concurrentRefreshes = maxConcurrentRefreshes;
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(WAVE_INTERVAL_SETTING, this::setWaveInterval);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_CONCURRENT_REFRESHES_SETTING, this::setMaxConcurrentRefreshes);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(TARGET_REFRESH_LATENCY_SETTING, this::setTargetRefreshLatency);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setWaveInterval(TimeValue waveInterval) {
+        this.waveInterval = waveInterval;
+    }
+
+    private void setMaxConcurrentRefreshes(int maxConcurrentRefreshes) {
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+        this.concurrentRefreshes = maxConcurrentRefreshes;
+    }
+
+    private void setTargetRefreshLatency(TimeValue targetRefreshLatency) {
+        this.targetRefreshLatencyNanos = targetRefreshLatency.nanos();
+    }
+
+    @Override
+    protected void doStart() {}
+
+    @Override
+    protected void doStop() {
+        // shards that are still due are refreshed again once their next scheduled refresh is due
+        dueShards.clear();
+    }
+
+    @Override
+    protected void doClose() {}
+
+    /**
+     * Returns true if scheduled refreshes should be handed to this coordinator.
+     */
+    public boolean isEnabled() {
+        return enabled && lifecycle.started();
+    }
+
+    /**
+     * Marks the given shard as due for its scheduled refresh, which the next refresh wave runs. A shard that is already due is
+     * only refreshed once.
+     */
+    public void onRefreshDue(IndexShard shard) {
+        dueShards.add(shard);
+        maybeScheduleWave();
+    }
+
+    /**
+     * Returns the number of refresh waves that completed.
+     */
+    public long getCompletedWaves() {
+        return completedWaves.get();
+    }
+
+    /**
+     * Returns the number of concurrent refreshes the next refresh wave is allowed.
+     */
+    public int getConcurrentRefreshes() {
+        return concurrentRefreshes;
+    }
+
+    private void maybeScheduleWave() {
+        if (dueShards.isEmpty() == false && waveScheduled.compareAndSet(false, true)) {
+            try {
+                threadPool.schedule(this::runWave, waveInterval, ThreadPool.Names.REFRESH);
+            } catch (Exception e) {
+                // the thread pool is shutting down
+                waveScheduled.set(false);
+                logger.debug("failed to schedule refresh wave", e);
+            }
+        }
+    }
+
+    private void runWave() {
+        final Wave wave;
+        try {
+            final List<WaveShard> shards = new ArrayList<>();
+            for (Iterator<IndexShard> iterator = dueShards.iterator(); iterator.hasNext();) {
+                shards.add(new WaveShard(iterator.next()));
+                iterator.remove();
+            }
+            shards.sort(Comparator.comparingInt(shard -> shard.priority));
+            wave = new Wave(shards.toArray(new WaveShard[0]), concurrentRefreshes);
+        } catch (Exception e) {
+            logger.warn("failed to start refresh wave", e);
+            waveScheduled.set(false);
+            maybeScheduleWave();
+            return;
+        }
+        if (wave.shards.length == 0) {
+            waveScheduled.set(false);
+            maybeScheduleWave();
+        } else {
+            wave.start();
+        }
+    }
+
+    private void onWaveCompleted(Wave wave) {
+        try {
+            recordWave(wave);
+        } finally {
+            completedWaves.incrementAndGet();
+            waveScheduled.set(false);
+            maybeScheduleWave();
+        }
+    }
+
+    private void recordWave(Wave wave) {
+        final long tookNanos = System.nanoTime() - wave.startNanos;
+        final long refreshes = wave.refreshes.sum();
+        final long meanRefreshNanos = refreshes == 0 ? 0 : wave.refreshNanos.sum() / refreshes;
+        metrics.waves.add(1);
+        metrics.waveShards.record(wave.shards.length);
+        metrics.waveLatency.record(TimeUnit.NANOSECONDS.toMillis(tookNanos));
+        metrics.waveConcurrency.record(wave.concurrentRefreshes);
+        metrics.refreshes.add(refreshes);
+        metrics.searchIdleShards.add(wave.searchIdleShards.sum());
+        metrics.failures.add(wave.failures.sum());
+        if (refreshes > 0) {
+            metrics.refreshLatency.record(TimeUnit.NANOSECONDS.toMillis(meanRefreshNanos));
+            concurrentRefreshes = nextConcurrentRefreshes(
+                wave.concurrentRefreshes,
+                maxConcurrentRefreshes,
+                meanRefreshNanos,
+                targetRefreshLatencyNanos,
+                wave.shards.length
+            );
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace(
+                "refresh wave of [{}] shards took [{}], [{}] refreshes with a mean latency of [{}], concurrency [{}] -> [{}]",
+                wave.shards.length,
+                TimeValue.timeValueNanos(tookNanos),
+                refreshes,
+                TimeValue.timeValueNanos(meanRefreshNanos),
+                wave.concurrentRefreshes,
+                concurrentRefreshes
+            );
+        }
+    }
+
+    /**
+     * Returns the number of concurrent refreshes of the next wave: halved if the mean refresh latency of the last wave exceeded
+     * the target, increased by one if it was below half the target and the wave had more shards than concurrent refreshes.
+     */
+    static int nextConcurrentRefreshes(int current, int max, long meanRefreshNanos, long targetRefreshLatencyNanos, int waveShards) {
+        if (meanRefreshNanos > targetRefreshLatencyNanos) {
+            return Math.max(1, current / 2);
+        } else if (meanRefreshNanos < targetRefreshLatencyNanos / 2 && waveShards > current) {
+            return Math.min(max, current + 1);
+        }
+        return Math.min(max, current);
+    }
+
+    /**
+     * A shard of a wave along with its priority, which is taken when the wave starts so that sorting is stable.
+     */
+    private static final class WaveShard {
+        private final IndexShard shard;
+        private final int priority;
+        private final boolean searchIdle;
+
+        WaveShard(IndexShard shard) {
+            this.shard = shard;
+            this.searchIdle = shard.isSearchIdleSupported() && shard.isSearchIdle();
+            if (shard.hasPendingRefreshListeners()) {
+                priority = 0;
+            } else if (searchIdle) {
+                priority = 2;
+            } else {
+                priority = 1;
+            }
+        }
+    }
+
+    /**
+     * Refreshes the shards of a wave in order with a bounded number of workers. The thread that starts the wave is one of them,
+     * the last worker to finish completes the wave.
+     */
+    private final class Wave {
+        private final WaveShard[] shards;
+        private final int concurrentRefreshes;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger nextShard = new AtomicInteger();
+        private final AtomicInteger activeWorkers = new AtomicInteger();
+        private final LongAdder refreshes = new LongAdder();
+        private final LongAdder refreshNanos = new LongAdder();
+        private final LongAdder searchIdleShards = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        Wave(WaveShard[] shards, int concurrentRefreshes) {
+            this.shards = shards;
+            this.concurrentRefreshes = concurrentRefreshes;
+        }
+
+        void start() {
+            final int numWorkers = Math.min(concurrentRefreshes, shards.length);
+            activeWorkers.set(numWorkers);
+            final Executor executor = threadPool.executor(ThreadPool.Names.REFRESH);
+            for (int i = 1; i < numWorkers; i++) {
+                try {
+                    executor.execute(this::work);
+                } catch (RejectedExecutionException e) {
+                    // the remaining shards are refreshed by the workers that are running
+                    workerDone();
+                }
+            }
+            work();
+        }
+
+        private void work() {
+            try {
+                for (int i = nextShard.getAndIncrement(); i < shards.length; i = nextShard.getAndIncrement()) {
+                    refresh(shards[i]);
+                }
+            } finally {
+                workerDone();
+            }
+        }
+
+        private void refresh(WaveShard waveShard) {
+            final long startNanos = System.nanoTime();
+            try {
+                if (waveShard.shard.scheduledRefresh()) {
+                    refreshes.increment();
+                    refreshNanos.add(System.nanoTime() - startNanos);
+                } else if (waveShard.searchIdle) {
+                    searchIdleShards.increment();
+                }
+            } catch (IndexShardClosedException | AlreadyClosedException e) {
+                // fine - the shard was closed after it became due
+            } catch (Exception e) {
+                failures.increment();
+                logger.warn(() -> new ParameterizedMessage("{} failed to run scheduled refresh", waveShard.shard.shardId()), e);
+            }
+        }
+
+        private void workerDone() {
+            if (activeWorkers.decrementAndGet() == 0) {
+                onWaveCompleted(this);
+            }
+        }
+    }
+}
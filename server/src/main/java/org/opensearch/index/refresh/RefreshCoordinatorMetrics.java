@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.refresh;
+
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+
+/**
+ * Metrics of the refresh waves run by the {@link RefreshCoordinator}, recorded once per wave.
+ *
+ * @opensearch.internal
+ */
+public class RefreshCoordinatorMetrics {
+
+    private static final String LATENCY_METRIC_UNIT_MS = "ms";
+    private static final String COUNTER_METRICS_UNIT = "1";
+
+    public final Counter waves;
+    public final Histogram waveShards;
+    public final Histogram waveLatency;
+    public final Histogram waveConcurrency;
+    public final Counter refreshes;
+    public final Counter searchIdleShards;
+    public final Counter failures;
+    public final Histogram refreshLatency;
+
+    public RefreshCoordinatorMetrics(MetricsRegistry metricsRegistry) {
+        waves = metricsRegistry.createCounter(
+            "refresh_coordinator.waves",
+            "Counter for number of refresh waves run.",
+            COUNTER_METRICS_UNIT
+        );
+        waveShards = metricsRegistry.createHistogram(
+            "refresh_coordinator.wave.shards",
+            "Histogram for tracking the number of shards of a refresh wave.",
+            COUNTER_METRICS_UNIT
+        );
+        waveLatency = metricsRegistry.createHistogram(
+            "refresh_coordinator.wave.latency",
+            "Histogram for tracking time taken by a refresh wave.",
+            LATENCY_METRIC_UNIT_MS
+        );
+        waveConcurrency = metricsRegistry.createHistogram(
+            "refresh_coordinator.wave.concurrency",
+            "Histogram for tracking the number of concurrent refreshes a refresh wave was allowed.",
+            COUNTER_METRICS_UNIT
+        );
+        refreshes = metricsRegistry.createCounter(
+            "refresh_coordinator.refreshes",
+            "Counter for number of shard refreshes run by refresh waves.",
+            COUNTER_METRICS_UNIT
+        );
+        searchIdleShards = metricsRegistry.createCounter(
+            "refresh_coordinator.shards.search_idle",
+            "Counter for number of search idle shards whose refresh was skipped by refresh waves.",
+            COUNTER_METRICS_UNIT
+        );
+        failures = metricsRegistry.createCounter(
+            "refresh_coordinator.refreshes.failed",
+            "Counter for number of shard refreshes of refresh waves that failed.",
+            COUNTER_METRICS_UNIT
+        );
+        refreshLatency = metricsRegistry.createHistogram(
+            "refresh_coordinator.refresh.latency",
+            "Histogram for tracking the mean time taken by the shard refreshes of a refresh wave.",
+            LATENCY_METRIC_UNIT_MS
+        );
+    }
+}
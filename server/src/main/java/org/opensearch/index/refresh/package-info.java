@@ -6,5 +6,5 @@
  * compatible open source license.
  */
 
-/** Refresh stats implementation */
+/** Refresh stats and node level coordination of scheduled refreshes */
 package org.opensearch.index.refresh;
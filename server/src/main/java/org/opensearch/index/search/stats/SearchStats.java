@@ -124,11 +124,16 @@ public class SearchStats implements Writeable, ToXContentFragment {
     public static class RequestStatsLongHolder {
 
         Map<String, PhaseStatsLongHolder> requestStatsHolder = new HashMap<>();
+        long shardsSkippedWithoutRoundTrip;
 
         public Map<String, PhaseStatsLongHolder> getRequestStatsHolder() {
             return requestStatsHolder;
         }
 
+        public long getShardsSkippedWithoutRoundTrip() {
+            return shardsSkippedWithoutRoundTrip;
+        }
+
         RequestStatsLongHolder() {
             requestStatsHolder.put(Fields.TOOK, new PhaseStatsLongHolder());
             for (SearchPhaseName searchPhaseName : SearchPhaseName.values()) {
@@ -154,6 +159,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long concurrentQueryTimeInMillis;
         private long concurrentQueryCurrent;
         private long queryConcurrency;
+        private long sliceMaxTimeInMicros;
+        private long sliceMeanTimeInMicros;
 
         private long fetchCount;
         private long fetchTimeInMillis;
@@ -205,6 +212,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.concurrentQueryTimeInMillis = builder.concurrentQueryTimeInMillis;
             this.concurrentQueryCurrent = builder.concurrentQueryCurrent;
             this.queryConcurrency = builder.queryConcurrency;
+            this.sliceMaxTimeInMicros = builder.sliceMaxTimeInMicros;
+            this.sliceMeanTimeInMicros = builder.sliceMeanTimeInMicros;
 
             this.fetchCount = builder.fetchCount;
             this.fetchTimeInMillis = builder.fetchTimeInMillis;
@@ -334,6 +343,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 queryFailedCount = in.readVLong();
                 starTreeQueryFailed = in.readVLong();
             }
+
+            if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+                sliceMaxTimeInMicros = in.readVLong();
+                sliceMeanTimeInMicros = in.readVLong();
+                requestStatsLongHolder.shardsSkippedWithoutRoundTrip = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -346,6 +361,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             concurrentQueryTimeInMillis += stats.concurrentQueryTimeInMillis;
             concurrentQueryCurrent += stats.concurrentQueryCurrent;
             queryConcurrency += stats.queryConcurrency;
+            sliceMaxTimeInMicros += stats.sliceMaxTimeInMicros;
+            sliceMeanTimeInMicros += stats.sliceMeanTimeInMicros;
 
             fetchCount += stats.fetchCount;
             fetchTimeInMillis += stats.fetchTimeInMillis;
@@ -394,6 +411,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             pitTimeInMillis += stats.pitTimeInMillis;
             pitCurrent += stats.pitCurrent;
             queryConcurrency += stats.queryConcurrency;
+            sliceMaxTimeInMicros += stats.sliceMaxTimeInMicros;
+            sliceMeanTimeInMicros += stats.sliceMeanTimeInMicros;
 
             searchIdleReactivateCount += stats.searchIdleReactivateCount;
 
@@ -438,6 +457,18 @@ public class SearchStats implements Writeable, ToXContentFragment {
             }
         }
 
+        /**
+         * The ratio of the time the slowest slice of the concurrent queries took to the time their average slice took, weighted by
+         * the time of the queries. A ratio of 1 means that the slices of the queries were perfectly balanced.
+         */
+        public double getConcurrentSliceImbalance() {
+            if (sliceMeanTimeInMicros == 0) {
+                return 0;
+            } else {
+                return sliceMaxTimeInMicros / (double) sliceMeanTimeInMicros;
+            }
+        }
+
         public long getConcurrentQueryTimeInMillis() {
             return concurrentQueryTimeInMillis;
         }
@@ -603,6 +634,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(queryFailedCount);
                 out.writeVLong(starTreeQueryFailed);
             }
+
+            if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+                out.writeVLong(sliceMaxTimeInMicros);
+                out.writeVLong(sliceMeanTimeInMicros);
+                out.writeVLong(requestStatsLongHolder.shardsSkippedWithoutRoundTrip);
+            }
         }
 
         @Override
@@ -616,6 +653,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.CONCURRENT_QUERY_TIME_IN_MILLIS, Fields.CONCURRENT_QUERY_TIME, getConcurrentQueryTime());
             builder.field(Fields.CONCURRENT_QUERY_CURRENT, concurrentQueryCurrent);
             builder.field(Fields.CONCURRENT_AVG_SLICE_COUNT, getConcurrentAvgSliceCount());
+            builder.field(Fields.CONCURRENT_SLICE_IMBALANCE, getConcurrentSliceImbalance());
 
             builder.field(Fields.STARTREE_QUERY_TOTAL, starTreeQueryCount);
             builder.humanReadableField(Fields.STARTREE_QUERY_TIME_IN_MILLIS, Fields.STARTREE_QUERY_TIME, getStarTreeQueryTime());
@@ -663,6 +701,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
                     builder.field(Fields.TOTAL, statsLongHolder.total);
                     builder.endObject();
                 }
+                builder.field(Fields.SHARDS_SKIPPED_WITHOUT_ROUND_TRIP_TOTAL, requestStatsLongHolder.shardsSkippedWithoutRoundTrip);
                 builder.endObject();
             }
             return builder;
@@ -681,6 +720,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             private long concurrentQueryTimeInMillis = 0;
             private long concurrentQueryCurrent = 0;
             private long queryConcurrency = 0;
+            private long sliceMaxTimeInMicros = 0;
+            private long sliceMeanTimeInMicros = 0;
             private long fetchCount = 0;
             private long fetchTimeInMillis = 0;
             private long fetchCurrent = 0;
@@ -743,6 +784,16 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 return this;
             }
 
+            public Builder sliceMaxTimeInMicros(long time) {
+                this.sliceMaxTimeInMicros = time;
+                return this;
+            }
+
+            public Builder sliceMeanTimeInMicros(long time) {
+                this.sliceMeanTimeInMicros = time;
+                return this;
+            }
+
             public Builder fetchCount(long count) {
                 this.fetchCount = count;
                 return this;
@@ -875,6 +926,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 )
             );
         }
+        totalStats.requestStatsLongHolder.shardsSkippedWithoutRoundTrip = searchRequestStats.getShardsSkippedWithoutRoundTrip();
     }
 
     public SearchStats(Stats totalStats, long openContexts, @Nullable Map<String, Stats> groupStats) {
@@ -977,6 +1029,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String CONCURRENT_QUERY_TIME_IN_MILLIS = "concurrent_query_time_in_millis";
         static final String CONCURRENT_QUERY_CURRENT = "concurrent_query_current";
         static final String CONCURRENT_AVG_SLICE_COUNT = "concurrent_avg_slice_count";
+        static final String CONCURRENT_SLICE_IMBALANCE = "concurrent_slice_imbalance";
         static final String STARTREE_QUERY_TOTAL = "startree_query_total";
         static final String STARTREE_QUERY_TIME = "startree_query_time";
         static final String STARTREE_QUERY_TIME_IN_MILLIS = "startree_query_time_in_millis";
@@ -1005,6 +1058,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String TOTAL = "total";
         static final String SEARCH_IDLE_REACTIVATE_COUNT_TOTAL = "search_idle_reactivate_count_total";
         static final String TOOK = "took";
+        static final String SHARDS_SKIPPED_WITHOUT_ROUND_TRIP_TOTAL = "shards_skipped_without_round_trip_total";
 
     }
 
@@ -141,6 +141,8 @@ public final class ShardSearchStats implements SearchOperationListener {
                     assert statsHolder.concurrentQueryCurrent.count() >= 0;
                     assert searchContext.searcher().getSlices() != null;
                     statsHolder.queryConcurrencyMetric.inc(searchContext.searcher().getSlices().length);
+                    statsHolder.sliceMaxTimeMetric.inc(TimeUnit.NANOSECONDS.toMicros(searchContext.searcher().getMaxSliceTimeInNanos()));
+                    statsHolder.sliceMeanTimeMetric.inc(TimeUnit.NANOSECONDS.toMicros(searchContext.searcher().getMeanSliceTimeInNanos()));
                 }
                 if (searchContext.getQueryShardContext().getStarTreeQueryContext() != null) {
                     statsHolder.starTreeQueryMetric.inc(tookInNanos);
@@ -242,6 +244,9 @@ public final class ShardSearchStats implements SearchOperationListener {
         final CounterMetric queryFailed = new CounterMetric();
         final MeanMetric concurrentQueryMetric = new MeanMetric();
         final CounterMetric queryConcurrencyMetric = new CounterMetric();
+        // in microseconds, like scroll statistics
+        final CounterMetric sliceMaxTimeMetric = new CounterMetric();
+        final CounterMetric sliceMeanTimeMetric = new CounterMetric();
         final MeanMetric fetchMetric = new MeanMetric();
         /* We store scroll statistics in microseconds because with nanoseconds we run the risk of overflowing the total stats if there are
          * many scrolls. For example, on a system with 2^24 scrolls that have been executed, each executing for 2^10 seconds, then using
@@ -273,6 +278,8 @@ public final class ShardSearchStats implements SearchOperationListener {
                 .concurrentQueryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(concurrentQueryMetric.sum()))
                 .concurrentQueryCurrent(concurrentQueryCurrent.count())
                 .queryConcurrency(queryConcurrencyMetric.count())
+                .sliceMaxTimeInMicros(sliceMaxTimeMetric.count())
+                .sliceMeanTimeInMicros(sliceMeanTimeMetric.count())
                 .fetchCount(fetchMetric.count())
                 .fetchTimeInMillis(TimeUnit.NANOSECONDS.toMillis(fetchMetric.sum()))
                 .fetchCurrent(fetchCurrent.count())
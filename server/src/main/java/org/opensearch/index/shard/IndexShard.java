@@ -55,6 +55,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.ThreadInterruptedException;
 import org.apache.lucene.util.Version;
 import org.opensearch.ExceptionsHelper;
@@ -78,6 +79,7 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
 import org.opensearch.cluster.service.ClusterApplierService;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.CheckedRunnable;
@@ -158,9 +160,11 @@ import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.RootObjectMapper;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.merge.MergeIoBudget;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.recovery.RecoveryStats;
+import org.opensearch.index.refresh.RefreshCoordinator;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.remote.RemoteSegmentStats;
 import org.opensearch.index.remote.RemoteStorePathStrategy;
@@ -248,6 +252,7 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -390,6 +395,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final Function<ShardId, ReplicationStats> segmentReplicationStatsProvider;
     private final MergedSegmentWarmerFactory mergedSegmentWarmerFactory;
     private final Supplier<Boolean> fixedRefreshIntervalSchedulingEnabled;
+    @Nullable
+    private volatile RefreshCoordinator refreshCoordinator;
+    @Nullable
+    private volatile MergeIoBudget mergeIoBudget;
     private final Supplier<TimeValue> refreshInterval;
     private final Object refreshMutex;
     private volatile AsyncShardRefreshTask refreshTask;
@@ -1120,6 +1129,19 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return previousState;
     }
 
+    /**
+     * Resolves the current versions of the documents with the given ids together, before they are indexed, updated or deleted
+     * one by one on this primary. See {@link Engine#prefetchDocVersions(Collection)}.
+     */
+    public void prefetchDocVersionsOnPrimary(Collection<String> ids) throws IOException {
+        assert shardRouting.primary() : "prefetching versions on a replica " + shardRouting;
+        final List<BytesRef> uids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uids.add(Uid.encodeId(id));
+        }
+        getEngine().prefetchDocVersions(uids);
+    }
+
     public Engine.IndexResult applyIndexOperationOnPrimary(
         long version,
         VersionType versionType,
@@ -1128,6 +1150,33 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long ifPrimaryTerm,
         long autoGeneratedTimestamp,
         boolean isRetry
+    ) throws IOException {
+        return applyIndexOperationOnPrimary(
+            version,
+            versionType,
+            sourceToParse,
+            ifSeqNo,
+            ifPrimaryTerm,
+            autoGeneratedTimestamp,
+            isRetry,
+            null
+        );
+    }
+
+    /**
+     * Same as {@link #applyIndexOperationOnPrimary(long, VersionType, SourceToParse, long, long, long, boolean)} but uses the
+     * given document if it was parsed from the same source with the current mapping, see {@link #parseDocumentOnPrimary}.
+     */
+    @InternalApi
+    public Engine.IndexResult applyIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry,
+        @Nullable PreParsedDocument preParsedDocument
     ) throws IOException {
         assert versionType.validateVersionForWrites(version);
         return applyIndexOperation(
@@ -1142,10 +1191,32 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             isRetry,
             Engine.Operation.Origin.PRIMARY,
             sourceToParse,
-            null
+            null,
+            preParsedDocument
         );
     }
 
+    /**
+     * Parses the source of a document with the current mapping ahead of indexing it on the primary, so that the documents of a
+     * bulk request can be parsed concurrently while their operations are still applied one by one and in order.
+     *
+     * @return the parsed document, or null if the shard has no mapping yet or the source can't be parsed. The document is then
+     * parsed when the operation is applied, which reports failures as usual.
+     */
+    @InternalApi
+    @Nullable
+    public PreParsedDocument parseDocumentOnPrimary(SourceToParse sourceToParse) {
+        final DocumentMapper documentMapper = mapperService.documentMapper();
+        if (documentMapper == null) {
+            return null;
+        }
+        try {
+            return new PreParsedDocument(documentMapper, documentMapper.parse(sourceToParse));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -1167,7 +1238,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             isRetry,
             Engine.Operation.Origin.REPLICA,
             sourceToParse,
-            id
+            id,
+            null
         );
     }
 
@@ -1183,7 +1255,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         boolean isRetry,
         Engine.Operation.Origin origin,
         SourceToParse sourceToParse,
-        String id
+        String id,
+        @Nullable PreParsedDocument preParsedDocument
     ) throws IOException {
 
         // For Segment Replication enabled replica shards we can be skip parsing the documents as we directly copy segments from primary
@@ -1213,19 +1286,37 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         ensureWriteAllowed(origin);
         Engine.Index operation;
         try {
-            operation = engine.prepareIndex(
-                docMapper(),
-                sourceToParse,
-                seqNo,
-                opPrimaryTerm,
-                version,
-                versionType,
-                origin,
-                autoGeneratedTimeStamp,
-                isRetry,
-                ifSeqNo,
-                ifPrimaryTerm
-            );
+            final DocumentMapperForType docMapper = docMapper();
+            if (preParsedDocument != null && preParsedDocument.isParsedWith(docMapper)) {
+                assert preParsedDocument.document.id().equals(sourceToParse.id()) : "document was parsed from another source";
+                operation = engine.prepareIndex(
+                    preParsedDocument.document,
+                    System.nanoTime(),
+                    seqNo,
+                    opPrimaryTerm,
+                    version,
+                    versionType,
+                    origin,
+                    autoGeneratedTimeStamp,
+                    isRetry,
+                    ifSeqNo,
+                    ifPrimaryTerm
+                );
+            } else {
+                operation = engine.prepareIndex(
+                    docMapper,
+                    sourceToParse,
+                    seqNo,
+                    opPrimaryTerm,
+                    version,
+                    versionType,
+                    origin,
+                    autoGeneratedTimeStamp,
+                    isRetry,
+                    ifSeqNo,
+                    ifPrimaryTerm
+                );
+            }
             Mapping update = operation.parsedDoc().dynamicMappingsUpdate();
             if (update != null) {
                 return new Engine.IndexResult(update);
@@ -2695,7 +2786,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                         MediaTypeRegistry.xContentType(index.source()),
                         index.routing()
                     ),
-                    index.id()
+                    index.id(),
+                    null
                 );
                 break;
             case DELETE:
@@ -2728,38 +2820,130 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      */
     int runTranslogRecovery(Engine engine, Translog.Snapshot snapshot, Engine.Operation.Origin origin, Runnable onOperationRecovered)
         throws IOException {
+        final int partitions = origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY ? translogReplayPartitions() : 1;
+        if (partitions > 1) {
+            return runPartitionedTranslogRecovery(engine, snapshot, origin, onOperationRecovered, partitions);
+        }
         int opsRecovered = 0;
         Translog.Operation operation;
         while ((operation = snapshot.next()) != null) {
-            try {
-                logger.trace("[translog] recover op {}", operation);
-                Engine.Result result = applyTranslogOperation(engine, operation, origin);
-                switch (result.getResultType()) {
-                    case FAILURE:
-                        throw result.getFailure();
-                    case MAPPING_UPDATE_REQUIRED:
-                        throw new IllegalArgumentException("unexpected mapping update: " + result.getRequiredMappingUpdate());
-                    case SUCCESS:
-                        break;
-                    default:
-                        throw new AssertionError("Unknown result type [" + result.getResultType() + "]");
-                }
-
+            if (recoverTranslogOperation(engine, operation, origin)) {
                 opsRecovered++;
                 onOperationRecovered.run();
-            } catch (Exception e) {
-                // TODO: Don't enable this leniency unless users explicitly opt-in
-                if (origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY && ExceptionsHelper.status(e) == RestStatus.BAD_REQUEST) {
-                    // mainly for MapperParsingException and Failure to detect xcontent
-                    logger.info("ignoring recovery of a corrupt translog entry", e);
-                } else {
+            }
+        }
+        return opsRecovered;
+    }
+
+    /**
+     * Replays the operations of the given translog {@code snapshot} in batches, each partitioned by the ids of its operations across
+     * threads of the translog recovery pool.
+     */
+    private int runPartitionedTranslogRecovery(
+        Engine engine,
+        Translog.Snapshot snapshot,
+        Engine.Operation.Origin origin,
+        Runnable onOperationRecovered,
+        int partitions
+    ) throws IOException {
+        final int batchSize = partitions * PartitionedTranslogReplay.OPERATIONS_PER_PARTITION;
+        final List<Translog.Operation> batch = new ArrayList<>(batchSize);
+        int opsRecovered = 0;
+        Translog.Operation operation;
+        do {
+            operation = snapshot.next();
+            if (operation != null) {
+                batch.add(operation);
+            }
+            if (batch.size() == batchSize || (operation == null && batch.isEmpty() == false)) {
+                final AtomicInteger batchRecovered = new AtomicInteger();
+                try {
+                    PartitionedTranslogReplay.replay(
+                        batch,
+                        partitions,
+                        threadPool.executor(ThreadPool.Names.TRANSLOG_RECOVERY),
+                        threadPool.getThreadContext(),
+                        op -> {
+                            if (recoverTranslogOperation(engine, op, origin)) {
+                                batchRecovered.incrementAndGet();
+                            }
+                        }
+                    );
+                } catch (Exception e) {
                     throw ExceptionsHelper.convertToRuntime(e);
                 }
+                for (int i = 0; i < batchRecovered.get(); i++) {
+                    onOperationRecovered.run();
+                }
+                opsRecovered += batchRecovered.get();
+                batch.clear();
             }
-        }
+        } while (operation != null);
         return opsRecovered;
     }
 
+    /**
+     * Replays a single translog operation during recovery, returns false if it was skipped as a corrupt entry.
+     */
+    private boolean recoverTranslogOperation(Engine engine, Translog.Operation operation, Engine.Operation.Origin origin) {
+        try {
+            logger.trace("[translog] recover op {}", operation);
+            Engine.Result result = applyTranslogOperation(engine, operation, origin);
+            switch (result.getResultType()) {
+                case FAILURE:
+                    throw result.getFailure();
+                case MAPPING_UPDATE_REQUIRED:
+                    throw new IllegalArgumentException("unexpected mapping update: " + result.getRequiredMappingUpdate());
+                case SUCCESS:
+                    break;
+                default:
+                    throw new AssertionError("Unknown result type [" + result.getResultType() + "]");
+            }
+            return true;
+        } catch (Exception e) {
+            // TODO: Don't enable this leniency unless users explicitly opt-in
+            if (origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY && ExceptionsHelper.status(e) == RestStatus.BAD_REQUEST) {
+                // mainly for MapperParsingException and Failure to detect xcontent
+                logger.info("ignoring recovery of a corrupt translog entry", e);
+                return false;
+            } else {
+                throw ExceptionsHelper.convertToRuntime(e);
+            }
+        }
+    }
+
+    /**
+     * Applies a batch of translog operations received from the primary during peer recovery, partitioned by the ids of the operations
+     * across threads of the translog recovery pool if {@link RecoverySettings#INDICES_TRANSLOG_CONCURRENT_RECOVERY_REPLAY_PARTITIONS}
+     * is greater than one. The given consumer checks the result of each applied operation and may throw to fail the batch.
+     */
+    @InternalApi
+    public void applyTranslogOperations(
+        List<Translog.Operation> operations,
+        Engine.Operation.Origin origin,
+        CheckedBiConsumer<Translog.Operation, Engine.Result, Exception> onResult
+    ) throws Exception {
+        final Engine engine = getEngine();
+        final int partitions = operations.size() > 1 ? translogReplayPartitions() : 1;
+        if (partitions > 1) {
+            PartitionedTranslogReplay.replay(
+                operations,
+                partitions,
+                threadPool.executor(ThreadPool.Names.TRANSLOG_RECOVERY),
+                threadPool.getThreadContext(),
+                operation -> onResult.accept(operation, applyTranslogOperation(engine, operation, origin))
+            );
+        } else {
+            for (Translog.Operation operation : operations) {
+                onResult.accept(operation, applyTranslogOperation(engine, operation, origin));
+            }
+        }
+    }
+
+    private int translogReplayPartitions() {
+        return recoverySettings == null ? 1 : recoverySettings.getTranslogReplayPartitions();
+    }
+
     private void loadGlobalCheckpointToReplicationTracker() throws IOException {
         // we have to set it before we open an engine and recover from the translog because
         // acquiring a snapshot from the translog causes a sync which causes the global checkpoint to be pulled in,
@@ -3945,6 +4129,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         internalIndexingStats.noopUpdate();
     }
 
+    /**
+     * Should be called for each mapping update that merges the dynamic mapping updates of {@code mergedUpdates} bulk items.
+     */
+    public void dynamicMappingUpdatesBatched(int mergedUpdates) {
+        internalIndexingStats.dynamicMappingUpdatesBatched(mergedUpdates);
+    }
+
     public void maybeCheckIndex() {
         recoveryState.setStage(RecoveryState.Stage.VERIFY_INDEX);
         if (Booleans.isTrue(checkIndexOnStartup) || "checksum".equals(checkIndexOnStartup)) {
@@ -4328,7 +4519,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             isReadOnlyReplica = false;
         }
 
-        return this.engineConfigFactory.newEngineConfig(
+        final EngineConfig engineConfig = this.engineConfigFactory.newEngineConfig(
             shardId,
             threadPool,
             indexSettings,
@@ -4361,6 +4552,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             clusterApplierService,
             mergedSegmentTransferTracker
         );
+        final MergeIoBudget mergeIoBudget = this.mergeIoBudget;
+        return mergeIoBudget == null ? engineConfig : engineConfig.toBuilder().mergeIoBudget(mergeIoBudget).build();
     }
 
     private boolean isRemoteStoreEnabled() {
@@ -4936,6 +5129,46 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * A document parsed ahead of being indexed on the primary, see {@link IndexShard#parseDocumentOnPrimary(SourceToParse)}.
+     *
+     * @opensearch.internal
+     */
+    @InternalApi
+    public static final class PreParsedDocument {
+        private final DocumentMapper documentMapper;
+        private final ParsedDocument document;
+
+        private PreParsedDocument(DocumentMapper documentMapper, ParsedDocument document) {
+            this.documentMapper = documentMapper;
+            this.document = document;
+        }
+
+        /**
+         * Returns the mapping update that parsing the document requires, or null if all its fields were already mapped.
+         */
+        @Nullable
+        public Mapping dynamicMappingsUpdate() {
+            return document.dynamicMappingsUpdate();
+        }
+
+        /**
+         * Returns true if the document was parsed with the given mapper, in which case parsing it again would produce the same
+         * document. Any mapping update creates a new mapper.
+         */
+        private boolean isParsedWith(DocumentMapperForType docMapper) {
+            return docMapper.getMapping() == null && docMapper.getDocumentMapper() == documentMapper;
+        }
+
+        /**
+         * Returns true if the document was parsed with the current mapper of the given mapper service, in which case its mapping
+         * update, if any, was not applied yet.
+         */
+        public boolean isParsedWithCurrentMapping(MapperService mapperService) {
+            return mapperService.documentMapper() == documentMapper;
+        }
+    }
+
     EngineFactory getEngineFactory() {
         return engineFactory;
     }
@@ -4982,6 +5215,41 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    /**
+     * Runs the scheduled refresh of this shard, or hands it to the node's {@link RefreshCoordinator} if it is enabled, which then
+     * runs it as part of its next refresh wave.
+     */
+    public void onScheduledRefreshDue() {
+        final RefreshCoordinator refreshCoordinator = this.refreshCoordinator;
+        if (refreshCoordinator != null && refreshCoordinator.isEnabled()) {
+            verifyNotClosed();
+            refreshCoordinator.onRefreshDue(this);
+        } else {
+            scheduledRefresh();
+        }
+    }
+
+    /**
+     * Sets the coordinator that scheduled refreshes of this shard are handed to when it is enabled.
+     */
+    public void setRefreshCoordinator(@Nullable RefreshCoordinator refreshCoordinator) {
+        this.refreshCoordinator = refreshCoordinator;
+    }
+
+    /**
+     * Sets the node wide budget that the merges of engines created for this shard from now on write with.
+     */
+    public void setMergeIoBudget(@Nullable MergeIoBudget mergeIoBudget) {
+        this.mergeIoBudget = mergeIoBudget;
+    }
+
+    /**
+     * Returns true if there are listeners waiting for a refresh of this shard to make a write visible.
+     */
+    public boolean hasPendingRefreshListeners() {
+        return refreshListeners.refreshNeeded();
+    }
+
     /**
      * Returns true if this shards is search idle
      */
@@ -5023,6 +5291,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return pendingRefreshLocation.get() != null;
     }
 
+    /**
+     * Returns true if some operations of this shard are not visible to searches yet.
+     */
+    public boolean isRefreshNeeded() {
+        return hasRefreshPending() || hasPendingRefreshListeners() || getEngine().refreshNeeded();
+    }
+
     private void setRefreshPending(Engine engine) {
         final Translog.Location lastWriteLocation = engine.translogManager().getTranslogLastWriteLocation();
         pendingRefreshLocation.updateAndGet(curr -> {
@@ -5865,7 +6140,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
         @Override
         protected void runInternal() {
-            indexShard.scheduledRefresh();
+            indexShard.onScheduledRefreshDue();
         }
 
         @Override
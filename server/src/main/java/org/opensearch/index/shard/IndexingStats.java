@@ -158,6 +158,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
         private long deleteTimeInMillis;
         private long deleteCurrent;
         private long noopUpdateCount;
+        private long batchedMappingUpdateCount;
+        private long avoidedMappingUpdateCount;
         private long throttleTimeInMillis;
         private boolean isThrottled;
         private final DocStatusStats docStatusStats;
@@ -181,6 +183,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             this.deleteTimeInMillis = builder.deleteTimeInMillis;
             this.deleteCurrent = builder.deleteCurrent;
             this.noopUpdateCount = builder.noopUpdateCount;
+            this.batchedMappingUpdateCount = builder.batchedMappingUpdateCount;
+            this.avoidedMappingUpdateCount = builder.avoidedMappingUpdateCount;
             this.throttleTimeInMillis = builder.throttleTimeInMillis;
             this.isThrottled = builder.isThrottled;
             this.docStatusStats = builder.docStatusStats;
@@ -208,6 +212,10 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             } else {
                 docStatusStats = null;
             }
+            if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+                batchedMappingUpdateCount = in.readVLong();
+                avoidedMappingUpdateCount = in.readVLong();
+            }
         }
 
         /**
@@ -288,6 +296,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             deleteCurrent += stats.deleteCurrent;
 
             noopUpdateCount += stats.noopUpdateCount;
+            batchedMappingUpdateCount += stats.batchedMappingUpdateCount;
+            avoidedMappingUpdateCount += stats.avoidedMappingUpdateCount;
             throttleTimeInMillis += stats.throttleTimeInMillis;
             isThrottled |= stats.isThrottled; // When combining if one is throttled set result to throttled.
 
@@ -365,6 +375,20 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             return noopUpdateCount;
         }
 
+        /**
+         * Returns the number of mapping updates that merged the dynamic mapping updates of several bulk items
+         */
+        public long getBatchedMappingUpdateCount() {
+            return batchedMappingUpdateCount;
+        }
+
+        /**
+         * Returns the number of mapping update round-trips to the cluster-manager that batching dynamic mapping updates avoided
+         */
+        public long getAvoidedMappingUpdateCount() {
+            return avoidedMappingUpdateCount;
+        }
+
         public DocStatusStats getDocStatusStats() {
             return docStatusStats;
         }
@@ -391,6 +415,10 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             if (out.getVersion().onOrAfter(Version.V_2_11_0) && out.getVersion().before(Version.V_3_4_0)) {
                 out.writeOptionalWriteable(docStatusStats);
             }
+            if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+                out.writeVLong(batchedMappingUpdateCount);
+                out.writeVLong(avoidedMappingUpdateCount);
+            }
         }
 
         @Override
@@ -405,6 +433,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             builder.field(Fields.DELETE_CURRENT, deleteCurrent);
 
             builder.field(Fields.NOOP_UPDATE_TOTAL, noopUpdateCount);
+            builder.field(Fields.BATCHED_MAPPING_UPDATE_TOTAL, batchedMappingUpdateCount);
+            builder.field(Fields.AVOIDED_MAPPING_UPDATE_TOTAL, avoidedMappingUpdateCount);
 
             builder.field(Fields.IS_THROTTLED, isThrottled);
             builder.humanReadableField(Fields.THROTTLED_TIME_IN_MILLIS, Fields.THROTTLED_TIME, getThrottleTime());
@@ -431,6 +461,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             private long deleteTimeInMillis = 0;
             private long deleteCurrent = 0;
             private long noopUpdateCount = 0;
+            private long batchedMappingUpdateCount = 0;
+            private long avoidedMappingUpdateCount = 0;
             private long throttleTimeInMillis = 0;
             private boolean isThrottled = false;
             private DocStatusStats docStatusStats = null;
@@ -478,6 +510,16 @@ public class IndexingStats implements Writeable, ToXContentFragment {
                 return this;
             }
 
+            public Builder batchedMappingUpdateCount(long count) {
+                this.batchedMappingUpdateCount = count;
+                return this;
+            }
+
+            public Builder avoidedMappingUpdateCount(long count) {
+                this.avoidedMappingUpdateCount = count;
+                return this;
+            }
+
             public Builder throttleTimeInMillis(long time) {
                 this.throttleTimeInMillis = time;
                 return this;
@@ -573,6 +615,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
         static final String DELETE_TIME_IN_MILLIS = "delete_time_in_millis";
         static final String DELETE_CURRENT = "delete_current";
         static final String NOOP_UPDATE_TOTAL = "noop_update_total";
+        static final String BATCHED_MAPPING_UPDATE_TOTAL = "batched_mapping_update_total";
+        static final String AVOIDED_MAPPING_UPDATE_TOTAL = "avoided_mapping_update_total";
         static final String IS_THROTTLED = "is_throttled";
         static final String THROTTLED_TIME_IN_MILLIS = "throttle_time_in_millis";
         static final String THROTTLED_TIME = "throttle_time";
@@ -139,6 +139,11 @@ final class InternalIndexingStats implements IndexingOperationListener {
         totalStats.noopUpdates.inc();
     }
 
+    void dynamicMappingUpdatesBatched(int mergedUpdates) {
+        totalStats.batchedMappingUpdates.inc();
+        totalStats.avoidedMappingUpdates.inc(mergedUpdates - 1);
+    }
+
     /**
      * Holder for base indexing statistics
      *
@@ -151,6 +156,8 @@ final class InternalIndexingStats implements IndexingOperationListener {
         private final CounterMetric indexFailed = new CounterMetric();
         private final CounterMetric deleteCurrent = new CounterMetric();
         private final CounterMetric noopUpdates = new CounterMetric();
+        private final CounterMetric batchedMappingUpdates = new CounterMetric();
+        private final CounterMetric avoidedMappingUpdates = new CounterMetric();
         private final MaxMetric maxLastIndexRequestTimestamp = new MaxMetric();
 
         IndexingStats.Stats stats(boolean isThrottled, long currentThrottleMillis) {
@@ -162,6 +169,8 @@ final class InternalIndexingStats implements IndexingOperationListener {
                 .deleteTimeInMillis(TimeUnit.NANOSECONDS.toMillis(deleteMetric.sum()))
                 .deleteCurrent(deleteCurrent.count())
                 .noopUpdateCount(noopUpdates.count())
+                .batchedMappingUpdateCount(batchedMappingUpdates.count())
+                .avoidedMappingUpdateCount(avoidedMappingUpdates.count())
                 .isThrottled(isThrottled)
                 .throttleTimeInMillis(TimeUnit.MILLISECONDS.toMillis(currentThrottleMillis))
                 .maxLastIndexRequestTimestamp(maxLastIndexRequestTimestamp.get())
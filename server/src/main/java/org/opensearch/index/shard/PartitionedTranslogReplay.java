@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.cluster.routing.Murmur3HashFunction;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.translog.Translog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Replays batches of translog operations on several threads.
+ * <p>
+ * Operations on different ids are independent of each other, so a batch is partitioned by the hash of the ids of its operations
+ * and each partition is replayed by a single thread, in the order of the batch. Operations on the same id therefore keep their
+ * order, while the engine resolves the order of operations across partitions by their sequence numbers, like it does for
+ * operations replicated concurrently. No-ops have no id and are spread by their sequence number.
+ * <p>
+ * A batch is fully replayed before the next one is read, so at most one batch of operations is held in memory and the
+ * local checkpoint never lags the replayed operations by more than a batch.
+ *
+ * @opensearch.internal
+ */
+final class PartitionedTranslogReplay {
+
+    /**
+     * The number of operations per partition that {@link IndexShard} reads from a translog snapshot before replaying them.
+     */
+    static final int OPERATIONS_PER_PARTITION = 1024;
+
+    private PartitionedTranslogReplay() {}
+
+    /**
+     * Returns the partition of the given operation.
+     */
+    static int partition(Translog.Operation operation, int partitions) {
+        final int hash;
+        switch (operation.opType()) {
+            case INDEX:
+                hash = Murmur3HashFunction.hash(((Translog.Index) operation).id());
+                break;
+            case DELETE:
+                hash = Murmur3HashFunction.hash(((Translog.Delete) operation).id());
+                break;
+            case NO_OP:
+                hash = Long.hashCode(operation.seqNo());
+                break;
+            default:
+                throw new IllegalStateException("No operation defined for [" + operation + "]");
+        }
+        return Math.floorMod(hash, partitions);
+    }
+
+    /**
+     * Replays the given operations, partitioned across up to {@code partitions} threads: the calling thread and tasks forked to
+     * the given executor. Waits for all operations to be replayed, and rethrows the first failure, if any, after which the
+     * remaining operations are skipped.
+     */
+    static void replay(
+        List<Translog.Operation> operations,
+        int partitions,
+        Executor executor,
+        ThreadContext threadContext,
+        CheckedConsumer<Translog.Operation, Exception> replayOperation
+    ) throws Exception {
+        final List<List<Translog.Operation>> partitioned = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            partitioned.add(new ArrayList<>(operations.size() / partitions + 1));
+        }
+        for (Translog.Operation operation : operations) {
+            partitioned.get(partition(operation, partitions)).add(operation);
+        }
+        final AtomicInteger nextPartition = new AtomicInteger();
+        final CountDownLatch replayed = new CountDownLatch(partitions);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final Runnable replayer = () -> {
+            for (int p = nextPartition.getAndIncrement(); p < partitions; p = nextPartition.getAndIncrement()) {
+                try {
+                    for (Translog.Operation operation : partitioned.get(p)) {
+                        if (failure.get() != null) {
+                            break;
+                        }
+                        replayOperation.accept(operation);
+                    }
+                } catch (Exception e) {
+                    failure.accumulateAndGet(e, (first, next) -> {
+                        if (first == null) {
+                            return next;
+                        }
+                        first.addSuppressed(next);
+                        return first;
+                    });
+                } finally {
+                    replayed.countDown();
+                }
+            }
+        };
+        for (int i = 1; i < partitions; i++) {
+            try {
+                executor.execute(threadContext.preserveContext(replayer));
+            } catch (RejectedExecutionException e) {
+                // the remaining partitions are replayed by the threads that are already replaying
+                break;
+            }
+        }
+        replayer.run();
+        // only waits for the partitions that forked tasks are currently replaying
+        replayed.await();
+        final Exception e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+}
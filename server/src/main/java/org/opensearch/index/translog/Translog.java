@@ -38,13 +38,16 @@ import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -52,6 +55,7 @@ import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
@@ -67,6 +71,8 @@ import org.opensearch.index.shard.IndexShardComponent;
 import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -137,6 +143,15 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
     static final Pattern PARSE_STRICT_ID_PATTERN = Pattern.compile("^" + TRANSLOG_FILE_PREFIX + "(\\d+)(\\.tlog)$");
     public static final int DEFAULT_HEADER_SIZE_IN_BYTES = TranslogHeader.headerSizeInBytes(UUIDs.randomBase64UUID());
 
+    /*
+     * Marks an operation that was compressed when it was added to the translog, see IndexSettings#INDEX_TRANSLOG_COMPRESS_SETTING.
+     * It's read in place of the operation type and is not a valid Operation.Type id.
+     */
+    static final byte COMPRESSED_OPERATION = 5;
+    // serialized operations below this size are never compressed, as that hardly ever saves any bytes
+    static final int MIN_COMPRESSED_OPERATION_SIZE = 256;
+    private static final Compressor OPERATION_COMPRESSOR = new ZstdCompressor();
+
     // the list of translog readers is guaranteed to be in order of translog generation
     protected final List<TranslogReader> readers = new ArrayList<>();
     protected final BigArrays bigArrays;
@@ -155,6 +170,9 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
     protected final LongConsumer persistedSequenceNumberConsumer;
     protected final TranslogOperationHelper translogOperationHelper;
     protected final ChannelFactory channelFactory;
+    // sizes of the operations added while compression was enabled, before and after compression
+    private final CounterMetric rawCompressedOperationsSize = new CounterMetric();
+    private final CounterMetric compressedOperationsSize = new CounterMetric();
 
     /**
      * Creates a new Translog instance. This method will create a new transaction log unless the given {@link TranslogGeneration} is
@@ -588,7 +606,8 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
                 persistedSequenceNumberConsumer,
                 bigArrays,
                 indexSettings.isAssignedOnRemoteNode(),
-                translogOperationHelper
+                translogOperationHelper,
+                indexSettings.getTranslogWriteStripes()
             );
         } catch (final IOException e) {
             throw new TranslogException(shardId, "failed to create new translog file", e);
@@ -606,9 +625,16 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
     public Location add(final Operation operation) throws IOException {
         final ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(bigArrays);
         try {
+            final boolean compress = indexSettings.isTranslogCompressionEnabled();
             final long start = out.position();
             out.skip(Integer.BYTES);
-            writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+            final int rawOperationSize;
+            if (compress) {
+                rawOperationSize = writeCompressedOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+            } else {
+                writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+                rawOperationSize = -1;
+            }
             final long end = out.position();
             final int operationSize = (int) (end - Integer.BYTES - start);
             out.seek(start);
@@ -633,7 +659,12 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
                             + "]"
                     );
                 }
-                return current.add(bytes, operation.seqNo());
+                final Location location = current.add(bytes, operation.seqNo());
+                if (compress) {
+                    rawCompressedOperationsSize.inc(Integer.BYTES + rawOperationSize);
+                    compressedOperationsSize.inc(bytes.length());
+                }
+                return location;
             }
         } catch (final AlreadyClosedException | IOException ex) {
             closeOnTragicEvent(ex);
@@ -943,6 +974,8 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
                 .uncommittedOperations(totalOperationsByMinGen(uncommittedGen))
                 .uncommittedSizeInBytes(sizeInBytesByMinGen(uncommittedGen))
                 .earliestLastModifiedAge(earliestLastModifiedAge())
+                .rawCompressedOperationsSizeInBytes(rawCompressedOperationsSize.count())
+                .compressedOperationsSizeInBytes(compressedOperationsSize.count())
                 .build();
         }
     }
@@ -1181,7 +1214,11 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
          * {@link Operation#writeOperation(StreamOutput, Operation)}
          */
         static Operation readOperation(final StreamInput input) throws IOException {
-            final Translog.Operation.Type type = Translog.Operation.Type.fromId(input.readByte());
+            final byte id = input.readByte();
+            if (id == COMPRESSED_OPERATION) {
+                return readCompressedOperation(input);
+            }
+            final Translog.Operation.Type type = Translog.Operation.Type.fromId(id);
             switch (type) {
                 case CREATE:
                     // the de-serialization logic in Index was identical to that of Create when create was deprecated
@@ -1761,6 +1798,55 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         out.writeInt((int) checksum);
     }
 
+    /**
+     * Like {@link #writeOperationNoSize(BufferedChecksumStreamOutput, Operation)} but compresses the serialized operation unless
+     * that doesn't make it smaller. Each operation is compressed on its own so that it can still be read from its location, and
+     * the checksum is computed over the bytes that are written.
+     *
+     * @return the number of bytes the operation would have taken without compression
+     */
+    static int writeCompressedOperationNoSize(BufferedChecksumStreamOutput out, Translog.Operation op) throws IOException {
+        final BytesStreamOutput raw = new BytesStreamOutput();
+        Translog.Operation.writeOperation(raw, op);
+        final int rawSize = Math.toIntExact(raw.size());
+        out.resetDigest();
+        if (rawSize >= MIN_COMPRESSED_OPERATION_SIZE) {
+            final BytesStreamOutput compressed = new BytesStreamOutput();
+            try (OutputStream compressedStream = OPERATION_COMPRESSOR.threadLocalOutputStream(compressed)) {
+                raw.bytes().writeTo(compressedStream);
+            }
+            // the marker and the lengths take a handful of bytes
+            if (compressed.size() + 10 < rawSize) {
+                out.writeByte(COMPRESSED_OPERATION);
+                out.writeVInt(rawSize);
+                out.writeBytesReference(compressed.bytes());
+                out.writeInt((int) out.getChecksum());
+                return rawSize + Integer.BYTES;
+            }
+        }
+        raw.bytes().writeTo(out);
+        out.writeInt((int) out.getChecksum());
+        return rawSize + Integer.BYTES;
+    }
+
+    private static Translog.Operation readCompressedOperation(StreamInput in) throws IOException {
+        final int rawSize = in.readVInt();
+        final BytesReference compressed = in.readBytesReference();
+        final byte[] raw;
+        try (InputStream rawStream = OPERATION_COMPRESSOR.threadLocalInputStream(compressed.streamInput())) {
+            raw = rawStream.readNBytes(rawSize);
+        }
+        if (raw.length != rawSize) {
+            throw new EOFException("expected a compressed operation of [" + rawSize + "] bytes but got [" + raw.length + "]");
+        }
+        try (StreamInput rawInput = new BytesArray(raw).streamInput()) {
+            rawInput.setVersion(in.getVersion());
+            final Translog.Operation operation = Translog.Operation.readOperation(rawInput);
+            assert rawInput.available() == 0 : "compressed operation has [" + rawInput.available() + "] trailing bytes";
+            return operation;
+        }
+    }
+
     /**
      * Gets the minimum generation that could contain any sequence number after the specified sequence number, or the current generation if
      * there is no generation that could any such sequence number.
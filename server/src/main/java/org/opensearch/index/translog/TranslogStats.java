@@ -57,6 +57,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int uncommittedOperations;
     private long earliestLastModifiedAge;
+    // sizes of the operations that were added while translog compression was enabled, before and after compression
+    private long rawCompressedOperationsSizeInBytes;
+    private long compressedOperationsSizeInBytes;
 
     /**
      * Stats related to the Remote Translog Store operations
@@ -78,6 +81,8 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedSizeInBytes = builder.uncommittedSizeInBytes;
         this.uncommittedOperations = builder.uncommittedOperations;
         this.earliestLastModifiedAge = builder.earliestLastModifiedAge;
+        this.rawCompressedOperationsSizeInBytes = builder.rawCompressedOperationsSizeInBytes;
+        this.compressedOperationsSizeInBytes = builder.compressedOperationsSizeInBytes;
         this.remoteTranslogStats = builder.remoteTranslogStats;
     }
 
@@ -90,6 +95,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            rawCompressedOperationsSizeInBytes = in.readVLong();
+            compressedOperationsSizeInBytes = in.readVLong();
+        }
     }
 
     /**
@@ -143,6 +152,8 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.translogSizeInBytes += other.translogSizeInBytes;
         this.uncommittedOperations += other.uncommittedOperations;
         this.uncommittedSizeInBytes += other.uncommittedSizeInBytes;
+        this.rawCompressedOperationsSizeInBytes += other.rawCompressedOperationsSizeInBytes;
+        this.compressedOperationsSizeInBytes += other.compressedOperationsSizeInBytes;
         if (this.earliestLastModifiedAge == 0) {
             this.earliestLastModifiedAge = other.earliestLastModifiedAge;
         } else {
@@ -174,6 +185,16 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return earliestLastModifiedAge;
     }
 
+    /** the size the operations added while translog compression was enabled would have taken without compression */
+    public long getRawCompressedOperationsSizeInBytes() {
+        return rawCompressedOperationsSizeInBytes;
+    }
+
+    /** the size the operations added while translog compression was enabled take in the translog */
+    public long getCompressedOperationsSizeInBytes() {
+        return compressedOperationsSizeInBytes;
+    }
+
     public RemoteTranslogStats getRemoteTranslogStats() {
         return remoteTranslogStats;
     }
@@ -188,6 +209,8 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         private int uncommittedOperations = 0;
         private long uncommittedSizeInBytes = 0;
         private long earliestLastModifiedAge = 0;
+        private long rawCompressedOperationsSizeInBytes = 0;
+        private long compressedOperationsSizeInBytes = 0;
         private final RemoteTranslogStats remoteTranslogStats = new RemoteTranslogStats();
 
         public Builder() {}
@@ -232,6 +255,22 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder rawCompressedOperationsSizeInBytes(long bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("rawCompressedOperationsSizeInBytes must be >= 0");
+            }
+            this.rawCompressedOperationsSizeInBytes = bytes;
+            return this;
+        }
+
+        public Builder compressedOperationsSizeInBytes(long bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("compressedOperationsSizeInBytes must be >= 0");
+            }
+            this.compressedOperationsSizeInBytes = bytes;
+            return this;
+        }
+
         /**
          * Creates a {@link TranslogStats} object from the builder's current state.
          * @return A new TranslogStats instance.
@@ -269,6 +308,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeVLong(rawCompressedOperationsSizeInBytes);
+            out.writeVLong(compressedOperationsSizeInBytes);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
@@ -277,5 +320,20 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        if (rawCompressedOperationsSizeInBytes > 0) {
+            // only shown for indices that compress their translog
+            builder.startObject("compression");
+            builder.humanReadableField(
+                "raw_operations_size_in_bytes",
+                "raw_operations_size",
+                new ByteSizeValue(rawCompressedOperationsSizeInBytes)
+            );
+            builder.humanReadableField(
+                "compressed_operations_size_in_bytes",
+                "compressed_operations_size",
+                new ByteSizeValue(compressedOperationsSizeInBytes)
+            );
+            builder.endObject();
+        }
     }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.index.translog;
 
 import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.Nullable;
@@ -58,6 +59,7 @@ import org.opensearch.index.seqno.SequenceNumbers;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
@@ -68,6 +70,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
@@ -115,6 +118,13 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     private final Map<Long, Tuple<BytesReference, Exception>> seenSequenceNumbers;
 
+    // stripes operations are appended to by concurrent writers, null if all operations are appended to the buffer directly.
+    // lock order synchronized(this) -> stripe locks in index order
+    @Nullable
+    private final WriteStripe[] stripes;
+    /* the offset the next operation added to a stripe is written at, only used with stripes */
+    private final AtomicLong nextStripedOffset;
+
     @Nullable
     private final TranslogCheckedContainer translogCheckedContainer;
 
@@ -138,7 +148,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final BigArrays bigArrays,
         TranslogCheckedContainer translogCheckedContainer,
         Boolean remoteTranslogEnabled,
-        TranslogOperationHelper translogOperationHelper
+        TranslogOperationHelper translogOperationHelper,
+        int writeStripes
     ) throws IOException {
         super(initialCheckpoint.generation, channel, path, header);
         assert initialCheckpoint.offset == channel.position() : "initial checkpoint offset ["
@@ -166,6 +177,16 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         this.translogCheckedContainer = translogCheckedContainer;
         this.remoteTranslogEnabled = remoteTranslogEnabled;
         this.translogOperationHelper = translogOperationHelper;
+        if (writeStripes > 1) {
+            this.stripes = new WriteStripe[writeStripes];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new WriteStripe();
+            }
+            this.nextStripedOffset = new AtomicLong(initialCheckpoint.offset);
+        } else {
+            this.stripes = null;
+            this.nextStripedOffset = null;
+        }
     }
 
     public static TranslogWriter create(
@@ -222,6 +243,46 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final BigArrays bigArrays,
         Boolean remoteTranslogEnabled,
         TranslogOperationHelper translogOperationHelper
+    ) throws IOException {
+        return create(
+            shardId,
+            translogUUID,
+            fileGeneration,
+            file,
+            channelFactory,
+            bufferSize,
+            initialMinTranslogGen,
+            initialGlobalCheckpoint,
+            globalCheckpointSupplier,
+            minTranslogGenerationSupplier,
+            primaryTerm,
+            tragedy,
+            persistedSequenceNumberConsumer,
+            bigArrays,
+            remoteTranslogEnabled,
+            translogOperationHelper,
+            1
+        );
+    }
+
+    public static TranslogWriter create(
+        ShardId shardId,
+        String translogUUID,
+        long fileGeneration,
+        Path file,
+        ChannelFactory channelFactory,
+        ByteSizeValue bufferSize,
+        final long initialMinTranslogGen,
+        long initialGlobalCheckpoint,
+        final LongSupplier globalCheckpointSupplier,
+        final LongSupplier minTranslogGenerationSupplier,
+        final long primaryTerm,
+        TragicExceptionHolder tragedy,
+        final LongConsumer persistedSequenceNumberConsumer,
+        final BigArrays bigArrays,
+        Boolean remoteTranslogEnabled,
+        TranslogOperationHelper translogOperationHelper,
+        int writeStripes
     ) throws IOException {
         final Path checkpointFile = file.getParent().resolve(Translog.CHECKPOINT_FILE_NAME);
 
@@ -274,7 +335,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 bigArrays,
                 translogCheckedContainer,
                 remoteTranslogEnabled,
-                translogOperationHelper
+                translogOperationHelper,
+                writeStripes
             );
         } catch (Exception exception) {
             // if we fail to bake the file-generation into the checkpoint we stick with the file and once we recover and that
@@ -303,6 +365,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
      * @throws IOException if writing to the translog resulted in an I/O exception
      */
     public Translog.Location add(final BytesReference data, final long seqNo) throws IOException {
+        if (stripes != null) {
+            return addToStripe(data, seqNo);
+        }
         long bufferedBytesBeforeAdd = this.bufferedBytes;
         if (bufferedBytesBeforeAdd >= forceWriteThreshold) {
             writeBufferedOps(Long.MAX_VALUE, bufferedBytesBeforeAdd >= forceWriteThreshold * 4);
@@ -338,6 +403,103 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         return location;
     }
 
+    /**
+     * Adds an operation to the stripe of the calling thread. The operation's offset is reserved while holding the stripe's lock
+     * only, so concurrent writers on different stripes don't contend. Operations are moved from the stripes to the buffer, in
+     * offset order, whenever the buffer is written or a checkpoint is taken, see {@link #drainStripes()}.
+     */
+    private Translog.Location addToStripe(final BytesReference data, final long seqNo) throws IOException {
+        final long writtenOffset = totalOffset - bufferedBytes;
+        final long pendingBytes = nextStripedOffset.get() - writtenOffset;
+        if (pendingBytes >= forceWriteThreshold) {
+            writeBufferedOps(Long.MAX_VALUE, pendingBytes >= forceWriteThreshold * 4L);
+        }
+
+        final WriteStripe stripe = stripes[Math.floorMod(Thread.currentThread().hashCode(), stripes.length)];
+        stripe.lock.lock();
+        try {
+            ensureOpen();
+            return new Translog.Location(generation, stripe.add(bigArrays, nextStripedOffset, data, seqNo), data.length());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Moves all operations that were added to the stripes to the buffer, in the order of their offsets, and accounts for them in
+     * the writer's state. Once this returns, the buffer and the state of the writer cover all operations added until then.
+     */
+    private void drainStripes() throws IOException {
+        assert Thread.holdsLock(this);
+        if (stripes == null) {
+            return;
+        }
+        lockStripes();
+        try {
+            final long drainedOffset = nextStripedOffset.get();
+            if (drainedOffset == totalOffset) {
+                return;
+            }
+            if (buffer == null) {
+                buffer = new ReleasableBytesStreamOutput(bigArrays);
+            }
+            final int[] cursors = new int[stripes.length];
+            while (totalOffset < drainedOffset) {
+                // each stripe holds its operations in offset order, and together the stripes hold exactly the operations
+                // in [totalOffset, drainedOffset), so the next operation is always at the head of one of them
+                WriteStripe stripe = null;
+                int stripeIndex = 0;
+                for (; stripeIndex < stripes.length; stripeIndex++) {
+                    final WriteStripe candidate = stripes[stripeIndex];
+                    if (cursors[stripeIndex] < candidate.numOps && candidate.offsets[cursors[stripeIndex]] == totalOffset) {
+                        stripe = candidate;
+                        break;
+                    }
+                }
+                assert stripe != null : "no stripe holds the operation at offset [" + totalOffset + "]";
+                final int op = cursors[stripeIndex]++;
+                final BytesReference data = stripe.operation(op);
+                data.writeTo(buffer);
+                final long seqNo = stripe.seqNos[op];
+                minSeqNo = SequenceNumbers.min(minSeqNo, seqNo);
+                maxSeqNo = SequenceNumbers.max(maxSeqNo, seqNo);
+                nonFsyncedSequenceNumbers.add(seqNo);
+                operationCounter++;
+                totalOffset += data.length();
+                assert assertNoSeqNumberConflict(seqNo, data);
+            }
+            for (WriteStripe stripe : stripes) {
+                stripe.reset();
+            }
+            bufferedBytes = buffer.size();
+        } finally {
+            unlockStripes();
+        }
+    }
+
+    private void lockStripes() {
+        if (stripes != null) {
+            for (WriteStripe stripe : stripes) {
+                stripe.lock.lock();
+            }
+        }
+    }
+
+    private void unlockStripes() {
+        if (stripes != null) {
+            for (WriteStripe stripe : stripes) {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The offset after the last operation added to this writer, including operations that are still held in stripes.
+     */
+    private long currentOffset() {
+        return stripes == null ? totalOffset : nextStripedOffset.get();
+    }
+
     private synchronized boolean assertNoSeqNumberConflict(long seqNo, BytesReference data) throws IOException {
         if (seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO) {
             // nothing to do
@@ -390,6 +552,11 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     }
 
     synchronized boolean assertNoSeqAbove(long belowTerm, long aboveSeqNo) {
+        try {
+            drainStripes();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
         seenSequenceNumbers.entrySet().stream().filter(e -> e.getKey().longValue() > aboveSeqNo).forEach(e -> {
             final Translog.Operation op;
             try {
@@ -431,18 +598,29 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
      * checkpoint has not yet been fsynced
      */
     public boolean syncNeeded() {
-        return totalOffset != lastSyncedCheckpoint.offset
+        return currentOffset() != lastSyncedCheckpoint.offset
             || globalCheckpointSupplier.getAsLong() != lastSyncedCheckpoint.globalCheckpoint
             || minTranslogGenerationSupplier.getAsLong() != lastSyncedCheckpoint.minTranslogGeneration;
     }
 
     @Override
     public int totalOperations() {
-        return operationCounter;
+        int totalOperations = operationCounter;
+        if (stripes != null) {
+            for (WriteStripe stripe : stripes) {
+                totalOperations += stripe.numOps;
+            }
+        }
+        return totalOperations;
     }
 
     @Override
     synchronized Checkpoint getCheckpoint() {
+        try {
+            drainStripes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
         return new Checkpoint(
             totalOffset,
             operationCounter,
@@ -457,7 +635,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     @Override
     public long sizeInBytes() {
-        return totalOffset;
+        return currentOffset();
     }
 
     /**
@@ -476,35 +654,41 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         synchronized (syncLock) {
             try (ReleasableLock toClose = writeLock.acquire()) {
                 synchronized (this) {
+                    // operations are added to stripes without the write lock, hold them so none is added after the final sync
+                    lockStripes();
                     try {
-                        sync(); // sync before we close..
-                    } catch (final Exception ex) {
-                        closeWithTragicEvent(ex);
-                        throw ex;
-                    }
-                    // If we reached this point, all of the buffered ops should have been flushed successfully.
-                    assert buffer == null;
-                    assert checkChannelPositionWhileHandlingException(totalOffset);
-                    assert totalOffset == lastSyncedCheckpoint.offset;
-                    if (closed.compareAndSet(false, true)) {
                         try {
-                            checkpointChannel.close();
+                            sync(); // sync before we close..
                         } catch (final Exception ex) {
                             closeWithTragicEvent(ex);
                             throw ex;
                         }
-                        return new TranslogReader(
-                            getLastSyncedCheckpoint(),
-                            channel,
-                            path,
-                            header,
-                            (translogCheckedContainer != null) ? translogCheckedContainer.getChecksum() : null
-                        );
-                    } else {
-                        throw new AlreadyClosedException(
-                            "translog [" + getGeneration() + "] is already closed (path [" + path + "]",
-                            tragedy.get()
-                        );
+                        // If we reached this point, all of the buffered ops should have been flushed successfully.
+                        assert buffer == null;
+                        assert checkChannelPositionWhileHandlingException(totalOffset);
+                        assert totalOffset == lastSyncedCheckpoint.offset;
+                        if (closed.compareAndSet(false, true)) {
+                            try {
+                                checkpointChannel.close();
+                            } catch (final Exception ex) {
+                                closeWithTragicEvent(ex);
+                                throw ex;
+                            }
+                            return new TranslogReader(
+                                getLastSyncedCheckpoint(),
+                                channel,
+                                path,
+                                header,
+                                (translogCheckedContainer != null) ? translogCheckedContainer.getChecksum() : null
+                            );
+                        } else {
+                            throw new AlreadyClosedException(
+                                "translog [" + getGeneration() + "] is already closed (path [" + path + "]",
+                                tragedy.get()
+                            );
+                        }
+                    } finally {
+                        unlockStripes();
                     }
                 }
             }
@@ -521,16 +705,21 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
             try (ReleasableLock toClose = writeLock.acquire()) {
                 synchronized (this) {
                     ensureOpen();
+                    lockStripes();
                     try {
-                        sync();
-                    } catch (IOException e) {
-                        throw new TranslogException(shardId, "exception while syncing before creating a snapshot", e);
+                        try {
+                            sync();
+                        } catch (IOException e) {
+                            throw new TranslogException(shardId, "exception while syncing before creating a snapshot", e);
+                        }
+                        // If we reached this point, all of the buffered ops should have been flushed successfully.
+                        assert buffer == null;
+                        assert checkChannelPositionWhileHandlingException(totalOffset);
+                        assert totalOffset == lastSyncedCheckpoint.offset;
+                        return super.newSnapshot();
+                    } finally {
+                        unlockStripes();
                     }
-                    // If we reached this point, all of the buffered ops should have been flushed successfully.
-                    assert buffer == null;
-                    assert checkChannelPositionWhileHandlingException(totalOffset);
-                    assert totalOffset == lastSyncedCheckpoint.offset;
-                    return super.newSnapshot();
                 }
             }
         }
@@ -599,7 +788,12 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         try (ReleasableLock locked = blockOnExistingWriter ? writeLock.acquire() : writeLock.tryAcquire()) {
             try {
                 if (locked != null && offset > getWrittenOffset()) {
-                    writeAndReleaseOps(pollOpsToWrite());
+                    final ReleasableBytesReference toWrite;
+                    synchronized (this) {
+                        drainStripes();
+                        toWrite = pollOpsToWrite();
+                    }
+                    writeAndReleaseOps(toWrite);
                 }
             } catch (Exception e) {
                 closeWithTragicEvent(e);
@@ -713,6 +907,16 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 Releasables.closeWhileHandlingException(buffer);
                 buffer = null;
                 bufferedBytes = 0;
+                if (stripes != null) {
+                    lockStripes();
+                    try {
+                        for (WriteStripe stripe : stripes) {
+                            stripe.reset();
+                        }
+                    } finally {
+                        unlockStripes();
+                    }
+                }
             }
             IOUtils.close(checkpointChannel, channel);
         }
@@ -721,4 +925,62 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     protected final boolean isClosed() {
         return closed.get();
     }
+
+    /**
+     * Buffers the operations that writers mapped to the same stripe added since the stripes were last drained, together with
+     * the offsets reserved for them and their sequence numbers. Operations are held in the order they were added, which is
+     * also the order of their offsets. All access is guarded by the stripe's lock.
+     *
+     * @opensearch.internal
+     */
+    private static final class WriteStripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private ReleasableBytesStreamOutput buffer;
+        private long[] offsets = new long[16];
+        private long[] seqNos = new long[16];
+        private int[] positions = new int[16];
+        private int[] lengths = new int[16];
+        // read without the lock for stats
+        private volatile int numOps;
+
+        /**
+         * Copies the operation into this stripe and reserves its offset, which is returned. The offset is only reserved once
+         * the operation was copied, while holding the stripe's lock: this guarantees that all offsets below the next offset
+         * are held by the stripes once the locks of all stripes are acquired.
+         */
+        long add(BigArrays bigArrays, AtomicLong nextOffset, BytesReference data, long seqNo) throws IOException {
+            assert lock.isHeldByCurrentThread();
+            if (buffer == null) {
+                buffer = new ReleasableBytesStreamOutput(bigArrays);
+            }
+            final int op = numOps;
+            if (op == offsets.length) {
+                offsets = ArrayUtil.grow(offsets, op + 1);
+                seqNos = ArrayUtil.grow(seqNos, op + 1);
+                positions = ArrayUtil.grow(positions, op + 1);
+                lengths = ArrayUtil.grow(lengths, op + 1);
+            }
+            final int position = Math.toIntExact(buffer.position());
+            data.writeTo(buffer);
+            final long offset = nextOffset.getAndAdd(data.length());
+            offsets[op] = offset;
+            seqNos[op] = seqNo;
+            positions[op] = position;
+            lengths[op] = data.length();
+            numOps = op + 1;
+            return offset;
+        }
+
+        BytesReference operation(int op) {
+            assert lock.isHeldByCurrentThread();
+            return buffer.bytes().slice(positions[op], lengths[op]);
+        }
+
+        void reset() {
+            assert lock.isHeldByCurrentThread();
+            Releasables.closeWhileHandlingException(buffer);
+            buffer = null;
+            numOps = 0;
+        }
+    }
 }
@@ -36,11 +36,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.ICacheKey;
@@ -125,6 +127,17 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         Property.IndexScope
     );
 
+    /**
+     * A setting to cache the results of aggregation-only requests per segment rather than per shard, so that a refresh only
+     * invalidates the results of the segments that it changed.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_level",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * If pluggable caching is off, or pluggable caching is on but a store name isn't specified, this setting determines the cache size.
      * Otherwise, the implementation-specific size setting like indices.requests.cache.opensearch_onheap.size is used instead.
@@ -174,6 +187,7 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
     private final static long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<IndexReader.CacheKey, String> segmentCacheKeyIds = ConcurrentCollections.newConcurrentMap();
     private final TimeValue expire;
     private final ICache<Key, BytesReference> cache;
     private final ClusterService clusterService;
@@ -341,6 +355,64 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         return value;
     }
 
+    /**
+     * Returns the cached result of a request on a single segment, computing it if needed. Segment results are keyed on the reader
+     * cache key of the segment, which survives the refreshes that don't change the segment, and are cleaned up once the segment
+     * reader is closed. The results of segments without a reader cache key are computed on every request.
+     *
+     * @param cacheEntity the cache entity of the shard the segment belongs to
+     * @param loader loads the result of the request on the segment if needed
+     * @param leaf the segment
+     * @param cacheKey the cache key of the request
+     */
+    BytesReference getOrComputeSegment(
+        IndicesService.IndexShardCacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        LeafReaderContext leaf,
+        BytesReference cacheKey
+    ) throws Exception {
+        final IndexReader.CacheHelper cacheHelper = leaf.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return loader.get();
+        }
+        final String segmentCacheKeyId = segmentCacheKeyId(cacheHelper);
+        IndexShard indexShard = ((IndexShard) cacheEntity.getCacheIdentity());
+        final Key key = new Key(indexShard.shardId(), cacheKey, segmentCacheKeyId, System.identityHashCode(indexShard));
+        Loader cacheLoader = new Loader(cacheEntity, loader);
+        BytesReference value = cache.computeIfAbsent(getICacheKey(key), cacheLoader);
+        if (cacheLoader.isLoaded()) {
+            // the entries of the segment are cleaned up like the ones of a closed directory reader
+            CleanupKey cleanupKey = new CleanupKey(cacheEntity, segmentCacheKeyId);
+            if (registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE) == null) {
+                cacheHelper.addClosedListener(cleanupKey);
+            }
+            cacheCleanupManager.updateStaleCountOnCacheInsert(cleanupKey);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the id that identifies the given segment reader cache key in the keys of the cache.
+     */
+    private String segmentCacheKeyId(IndexReader.CacheHelper cacheHelper) {
+        final IndexReader.CacheKey readerCacheKey = cacheHelper.getKey();
+        String id = segmentCacheKeyIds.get(readerCacheKey);
+        if (id == null) {
+            final String newId = UUIDs.randomBase64UUID();
+            id = segmentCacheKeyIds.putIfAbsent(readerCacheKey, newId);
+            if (id == null) {
+                id = newId;
+                cacheHelper.addClosedListener(segmentCacheKeyIds::remove);
+            }
+        }
+        return id;
+    }
+
+    // pkg-private for testing
+    int numSegmentCacheKeyIds() {
+        return segmentCacheKeyIds.size();
+    }
+
     /**
      * Invalidates the given the cache entry for the given key and it's context
      * @param cacheEntity the cache entity to invalidate for
@@ -37,6 +37,13 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -71,7 +78,9 @@ import org.opensearch.common.cache.service.CacheService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader.DelegatingCacheHelper;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -88,13 +97,16 @@ import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.core.util.FileSystemUtils;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -128,11 +140,13 @@ import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.MergeIoBudget;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.query.BaseQueryRewriteContext;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.recovery.RecoveryStats;
+import org.opensearch.index.refresh.RefreshCoordinator;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.remote.RemoteStoreUtils;
@@ -170,8 +184,14 @@ import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.SegmentPartialAggregations;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QueryPhase;
@@ -413,6 +433,8 @@ public class IndicesService extends AbstractLifecycleComponent
     private volatile TimeValue clusterDefaultRefreshInterval;
     private volatile boolean fixedRefreshIntervalSchedulingEnabled;
     private volatile boolean shardLevelRefreshEnabled;
+    private volatile RefreshCoordinator refreshCoordinator;
+    private volatile MergeIoBudget mergeIoBudget;
     private final SearchRequestStats searchRequestStats;
     private final FileCache fileCache;
     private final CompositeIndexSettings compositeIndexSettings;
@@ -1104,7 +1126,7 @@ public class IndicesService extends AbstractLifecycleComponent
         for (IndexEventListener listener : builtInListeners) {
             indexModule.addIndexEventListener(listener);
         }
-        return indexModule.newIndexService(
+        final IndexService indexService = indexModule.newIndexService(
             indexCreationContext,
             nodeEnv,
             xContentRegistry,
@@ -1133,6 +1155,9 @@ public class IndicesService extends AbstractLifecycleComponent
             this::getClusterDefaultMaxMergeAtOnce,
             clusterMergeSchedulerConfig
         );
+        indexService.setRefreshCoordinator(refreshCoordinator);
+        indexService.setMergeIoBudget(mergeIoBudget);
+        return indexService;
     }
 
     private EngineConfigFactory getEngineConfigFactory(final IndexSettings idxSettings) {
@@ -2004,6 +2029,9 @@ public class IndicesService extends AbstractLifecycleComponent
      */
     public void loadIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws Exception {
         assert canCache(request, context);
+        if (canCacheSegments(context) && loadSegmentsIntoContext(request, context)) {
+            return;
+        }
         final DirectoryReader directoryReader = context.searcher().getDirectoryReader();
 
         boolean[] loadedFromCache = new boolean[] { true };
@@ -2023,6 +2051,9 @@ public class IndicesService extends AbstractLifecycleComponent
             // Load the cached QSR into result, discarding values used only in the cache
             CachedQueryResult.loadQSR(bytesReference, result, context.id(), namedWriteableRegistry);
             result.setSearchShardTarget(context.shardTarget());
+            if (request.isCanonicalized()) {
+                context.indexShard().requestCache().onCanonicalizedRequestHit();
+            }
         } else if (context.queryResult().searchTimedOut()) {
             // we have to invalidate the cache entry if we cached a query result form a request that timed out.
             // we can't really throw exceptions in the loading part to signal a timed out search to the outside world since if there are
@@ -2042,6 +2073,112 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Can the results of the shard request be cached per segment? Only requests that return nothing but non-global aggregations
+     * and a hit count, which can be computed for each segment on its own, are cached per segment.
+     */
+    private static boolean canCacheSegments(SearchContext context) {
+        if (context.indexShard().indexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING) == false) {
+            return false;
+        }
+        final SearchContextAggregations aggregations = context.aggregations();
+        return aggregations != null
+            && aggregations.factories().hasNonGlobalAggregator()
+            && aggregations.factories().hasGlobalAggregator() == false
+            && context.size() == 0
+            && context.suggest() == null
+            && context.rescore().isEmpty()
+            && context.sort() == null
+            && context.parsedPostFilter() == null
+            && context.minimumScore() == null
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && (context.timeout() == null || context.timeout().equals(SearchService.NO_TIMEOUT))
+            && context.shouldUseConcurrentSearch() == false;
+    }
+
+    /**
+     * Loads the aggregations and the hit count of the request segment by segment, taking the results of the segments that didn't
+     * change since they were cached from the cache and computing the results of the others. The results of the segments are then
+     * combined into the {@link SearchContext#queryResult() context's query result}.
+     *
+     * @return whether the results were loaded, they are not if the aggregations need scores, which depend on the whole shard
+     */
+    private boolean loadSegmentsIntoContext(ShardSearchRequest request, SearchContext context) throws Exception {
+        final ContextIndexSearcher searcher = context.searcher();
+        // the first collector is used by the first segment that needs to be computed, or to build empty aggregations
+        final Collector[] firstCollector = new Collector[] { SegmentPartialAggregations.newCollector(context) };
+        if (firstCollector[0].scoreMode().needsScores()) {
+            return false;
+        }
+        final Weight weight = searcher.createWeight(
+            searcher.rewrite(new ConstantScoreQuery(context.query())),
+            ScoreMode.COMPLETE_NO_SCORES,
+            1f
+        );
+        final IndexShardCacheEntity cacheEntity = new IndexShardCacheEntity(context.indexShard());
+        final ShardRequestCache stats = context.indexShard().requestCache();
+        final List<InternalAggregations> segmentAggregations = new ArrayList<>();
+        long totalHits = 0;
+        int cachedSegments = 0;
+        int computedSegments = 0;
+        for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+            if (context.isCancelled()) {
+                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+            }
+            final InternalAggregations[] computed = new InternalAggregations[1];
+            final long[] computedHits = new long[1];
+            final BytesReference bytesReference = indicesRequestCache.getOrComputeSegment(cacheEntity, () -> {
+                final long beforeCollection = System.nanoTime();
+                Collector collector = firstCollector[0];
+                if (collector == null) {
+                    collector = SegmentPartialAggregations.newCollector(context);
+                } else {
+                    firstCollector[0] = null;
+                }
+                computedHits[0] = SegmentPartialAggregations.collect(context, weight, leaf, collector);
+                computed[0] = SegmentPartialAggregations.build(context, collector);
+                try (BytesStreamOutput out = new BytesStreamOutput(512)) {
+                    // the policy values come first, like they do in cached query results
+                    new CachedQueryResult.PolicyValues(System.nanoTime() - beforeCollection).writeTo(out);
+                    out.writeVLong(computedHits[0]);
+                    computed[0].writeTo(out);
+                    return out.bytes();
+                }
+            }, leaf, request.cacheKey());
+            if (computed[0] != null) {
+                computedSegments++;
+                stats.onSegmentMiss();
+                totalHits += computedHits[0];
+                segmentAggregations.add(computed[0]);
+            } else {
+                cachedSegments++;
+                stats.onSegmentHit();
+                try (StreamInput in = new NamedWriteableAwareStreamInput(bytesReference.streamInput(), namedWriteableRegistry)) {
+                    new CachedQueryResult.PolicyValues(in);
+                    totalHits += in.readVLong();
+                    segmentAggregations.add(InternalAggregations.readFrom(in));
+                }
+            }
+        }
+        if (segmentAggregations.isEmpty()) {
+            segmentAggregations.add(SegmentPartialAggregations.build(context, firstCollector[0]));
+        }
+        if (cachedSegments > 0 && computedSegments > 0) {
+            stats.onSegmentReuse();
+        }
+
+        final QuerySearchResult result = context.queryResult();
+        result.searchTimedOut(false);
+        result.from(context.from());
+        result.size(context.size());
+        final TotalHits hits = context.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED
+            ? new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO)
+            : new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO);
+        result.topDocs(new TopDocsAndMaxScore(new TopDocs(hits, Lucene.EMPTY_SCORE_DOCS), Float.NaN), new DocValueFormat[0]);
+        result.aggregations(SegmentPartialAggregations.reduce(context, segmentAggregations));
+        return true;
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -2367,6 +2504,21 @@ public class IndicesService extends AbstractLifecycleComponent
         this.maxSizeInRequestCache = maxSizeInRequestCache;
     }
 
+    /**
+     * Sets the coordinator that the scheduled refreshes of the shards of indices created from now on are handed to when it is
+     * enabled.
+     */
+    public void setRefreshCoordinator(RefreshCoordinator refreshCoordinator) {
+        this.refreshCoordinator = refreshCoordinator;
+    }
+
+    /**
+     * Sets the node wide budget that the merges of the shards of indices created from now on write with.
+     */
+    public void setMergeIoBudget(MergeIoBudget mergeIoBudget) {
+        this.mergeIoBudget = mergeIoBudget;
+    }
+
     public void setFixedRefreshIntervalSchedulingEnabled(boolean fixedRefreshIntervalSchedulingEnabled) {
         this.fixedRefreshIntervalSchedulingEnabled = fixedRefreshIntervalSchedulingEnabled;
     }
@@ -250,6 +250,19 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * The number of partitions, replayed by threads of the translog_recovery pool, that local translog recovery and peer recovery
+     * split the translog operations into by the hash of their ids. A single partition replays the operations sequentially.
+     */
+    public static final Setting<Integer> INDICES_TRANSLOG_CONCURRENT_RECOVERY_REPLAY_PARTITIONS = Setting.intSetting(
+        "indices.translog_concurrent_recovery.replay_partitions",
+        1,
+        1,
+        64,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private volatile ByteSizeValue mergedSegmentWarmerMinSegmentSizeThreshold;
     private volatile ByteSizeValue recoveryMaxBytesPerSec;
     private volatile ByteSizeValue replicationMaxBytesPerSec;
@@ -274,6 +287,7 @@ public class RecoverySettings {
 
     private volatile boolean isTranslogConcurrentRecoveryEnable;
     private volatile int translogConcurrentRecoveryBatchSize;
+    private volatile int translogReplayPartitions;
 
     public RecoverySettings(Settings settings, ClusterSettings clusterSettings) {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
@@ -311,6 +325,7 @@ public class RecoverySettings {
 
         this.isTranslogConcurrentRecoveryEnable = INDICES_TRANSLOG_CONCURRENT_RECOVERY_ENABLE.get(settings);
         this.translogConcurrentRecoveryBatchSize = INDICES_TRANSLOG_CONCURRENT_RECOVERY_BATCH_SIZE.get(settings);
+        this.translogReplayPartitions = INDICES_TRANSLOG_CONCURRENT_RECOVERY_REPLAY_PARTITIONS.get(settings);
 
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING, this::setRecoveryMaxBytesPerSec);
         clusterSettings.addSettingsUpdateConsumer(INDICES_REPLICATION_MAX_BYTES_PER_SEC_SETTING, this::setReplicationMaxBytesPerSec);
@@ -355,6 +370,10 @@ public class RecoverySettings {
             INDICES_TRANSLOG_CONCURRENT_RECOVERY_BATCH_SIZE,
             this::setTranslogConcurrentRecoveryBatchSize
         );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_TRANSLOG_CONCURRENT_RECOVERY_REPLAY_PARTITIONS,
+            this::setTranslogReplayPartitions
+        );
     }
 
     private void setMergedSegmentWarmerMinSegmentSizeThreshold(ByteSizeValue value) {
@@ -539,4 +558,12 @@ public class RecoverySettings {
     private void setTranslogConcurrentRecoveryBatchSize(int translogConcurrentRecoveryBatchSize) {
         this.translogConcurrentRecoveryBatchSize = translogConcurrentRecoveryBatchSize;
     }
+
+    public int getTranslogReplayPartitions() {
+        return translogReplayPartitions;
+    }
+
+    private void setTranslogReplayPartitions(int translogReplayPartitions) {
+        this.translogReplayPartitions = translogReplayPartitions;
+    }
 }
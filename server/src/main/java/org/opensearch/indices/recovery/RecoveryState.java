@@ -368,6 +368,7 @@ public class RecoveryState implements ReplicationState, ToXContentFragment, Writ
         static final String CHECK_INDEX_TIME_IN_MILLIS = "check_index_time_in_millis";
         static final String TOTAL = "total";
         static final String PERCENT = "percent";
+        static final String OPERATIONS_PER_SEC = "operations_per_sec";
     }
 
     /**
@@ -549,6 +550,17 @@ public class RecoveryState implements ReplicationState, ToXContentFragment, Writ
             return recovered * 100.0f / total;
         }
 
+        /**
+         * returns the number of translog operations replayed per second so far, or 0 if the replay has not taken any time yet
+         */
+        public synchronized double recoveredOperationsPerSecond() {
+            final long timeInMillis = time();
+            if (timeInMillis <= 0) {
+                return 0;
+            }
+            return recovered * 1000.0 / timeInMillis;
+        }
+
         @Override
         public synchronized XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.field(Fields.RECOVERED, recovered);
@@ -556,6 +568,9 @@ public class RecoveryState implements ReplicationState, ToXContentFragment, Writ
             builder.field(Fields.PERCENT, String.format(Locale.ROOT, "%1.1f%%", recoveredPercent()));
             builder.field(Fields.TOTAL_ON_START, totalOnStart);
             builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, new TimeValue(time()));
+            if (params.paramAsBoolean("detailed", false)) {
+                builder.field(Fields.OPERATIONS_PER_SEC, recoveredOperationsPerSecond());
+            }
             return builder;
         }
     }
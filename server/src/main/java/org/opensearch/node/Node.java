@@ -166,7 +166,10 @@ import org.opensearch.index.compositeindex.CompositeIndexSettings;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.engine.MergedSegmentWarmerFactory;
 import org.opensearch.index.mapper.MappingTransformerRegistry;
+import org.opensearch.index.merge.MergeIoBudget;
 import org.opensearch.index.recovery.RemoteStoreRestoreService;
+import org.opensearch.index.refresh.RefreshCoordinator;
+import org.opensearch.index.refresh.RefreshCoordinatorMetrics;
 import org.opensearch.index.remote.RemoteIndexPathUploader;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.DefaultCompositeDirectoryFactory;
@@ -472,6 +475,8 @@ public class Node implements Closeable {
     private final NodeService nodeService;
     private final Tracer tracer;
     private final AutoForceMergeManager autoForceMergeManager;
+    private final RefreshCoordinator refreshCoordinator;
+    private final MergeIoBudget mergeIoBudget;
     private final MetricsRegistry metricsRegistry;
     final NamedWriteableRegistry namedWriteableRegistry;
     private final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener;
@@ -1217,6 +1222,10 @@ public class Node implements Closeable {
                 clusterService,
                 autoForceMergeMetrics
             );
+            this.refreshCoordinator = new RefreshCoordinator(threadPool, clusterService, new RefreshCoordinatorMetrics(metricsRegistry));
+            indicesService.setRefreshCoordinator(refreshCoordinator);
+            this.mergeIoBudget = new MergeIoBudget(threadPool, clusterService, monitorService.fsService());
+            indicesService.setMergeIoBudget(mergeIoBudget);
 
             final Collection<SecureSettingsFactory> secureSettingsFactories = pluginsService.filterPlugins(Plugin.class)
                 .stream()
@@ -1682,6 +1691,8 @@ public class Node implements Closeable {
                 b.bind(MergedSegmentWarmerFactory.class).toInstance(mergedSegmentWarmerFactory);
                 b.bind(MappingTransformerRegistry.class).toInstance(mappingTransformerRegistry);
                 b.bind(AutoForceMergeManager.class).toInstance(autoForceMergeManager);
+                b.bind(RefreshCoordinator.class).toInstance(refreshCoordinator);
+                b.bind(MergeIoBudget.class).toInstance(mergeIoBudget);
                 if (isRemoteDataAttributePresent(settings)) {
                     b.bind(MergedSegmentPublisher.PublishAction.class).to(RemoteStorePublishMergedSegmentAction.class).asEagerSingleton();
                 } else {
@@ -1913,6 +1924,8 @@ public class Node implements Closeable {
         discovery.start(); // start before cluster service so that it can set initial state on ClusterApplierService
         clusterService.start();
         this.autoForceMergeManager.start();
+        this.refreshCoordinator.start();
+        this.mergeIoBudget.start();
         assert clusterService.localNode().equals(localNodeFactory.getNode())
             : "clusterService has a different local node than the factory provided";
         transportService.acceptIncomingRequests();
@@ -2016,6 +2029,8 @@ public class Node implements Closeable {
         }
         nodeService.getTaskCancellationMonitoringService().stop();
         autoForceMergeManager.stop();
+        refreshCoordinator.stop();
+        mergeIoBudget.stop();
         pluginLifecycleComponents.forEach(LifecycleComponent::stop);
         // we should stop this last since it waits for resources to get released
         // if we had scroll searchers etc or recovery going on we wait for to finish.
@@ -2120,6 +2135,8 @@ public class Node implements Closeable {
             toClose.add(() -> logger.trace("Close times for each service:\n{}", stopWatch.prettyPrint()));
         }
         autoForceMergeManager.stop();
+        refreshCoordinator.stop();
+        mergeIoBudget.stop();
         IOUtils.close(toClose);
         logger.info("closed");
     }
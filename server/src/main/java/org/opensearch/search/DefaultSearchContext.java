@@ -1196,6 +1196,14 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    @Override
+    public int getCostAwareSlicesPerTarget() {
+        if (clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICING_SETTING) == false) {
+            return 0;
+        }
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICES_PER_TARGET_SETTING);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.PointValues;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
+import org.opensearch.index.mapper.DateFieldMapper.Resolution;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The min and max values of some date fields of a shard, which a coordinating node uses to find out that a shard can't match a
+ * range query without sending it a can_match request.
+ * <p>
+ * Shards only publish a summary while their index is write blocked and all the operations they hold are searchable, so that the
+ * summary stays valid for as long as the index remains write blocked.
+ *
+ * @opensearch.internal
+ */
+public final class FieldRangeSummary implements Writeable {
+
+    private final long settingsVersion;
+    private final Map<String, FieldRange> ranges;
+
+    FieldRangeSummary(long settingsVersion, Map<String, FieldRange> ranges) {
+        this.settingsVersion = settingsVersion;
+        this.ranges = ranges;
+    }
+
+    public FieldRangeSummary(StreamInput in) throws IOException {
+        this.settingsVersion = in.readVLong();
+        this.ranges = in.readMap(StreamInput::readString, FieldRange::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(settingsVersion);
+        out.writeMap(ranges, StreamOutput::writeString, (o, range) -> range.writeTo(o));
+    }
+
+    /**
+     * Returns the settings version of the index when the summary was built. The summary is only valid for as long as the index
+     * keeps these settings, since lifting the write block bumps the settings version.
+     */
+    public long getSettingsVersion() {
+        return settingsVersion;
+    }
+
+    /**
+     * Builds the summary of the given date fields from the points of the given reader, or returns {@code null} if none of these
+     * fields is an indexed date field.
+     */
+    public static FieldRangeSummary build(
+        IndexReader reader,
+        long settingsVersion,
+        List<String> fields,
+        Function<String, MappedFieldType> fieldTypes
+    ) throws IOException {
+        final Map<String, FieldRange> ranges = new HashMap<>();
+        for (String field : fields) {
+            final MappedFieldType fieldType = fieldTypes.apply(field);
+            if (fieldType instanceof DateFieldType == false || fieldType.isSearchable() == false) {
+                continue;
+            }
+            final DateFieldType dateFieldType = (DateFieldType) fieldType;
+            final FieldRange range;
+            if (PointValues.size(reader, field) == 0) {
+                range = new FieldRange(dateFieldType, Long.MAX_VALUE, Long.MIN_VALUE);
+            } else {
+                range = new FieldRange(
+                    dateFieldType,
+                    LongPoint.decodeDimension(PointValues.getMinPackedValue(reader, field), 0),
+                    LongPoint.decodeDimension(PointValues.getMaxPackedValue(reader, field), 0)
+                );
+            }
+            ranges.put(field, range);
+        }
+        return ranges.isEmpty() ? null : new FieldRangeSummary(settingsVersion, ranges);
+    }
+
+    /**
+     * Returns {@code false} if the given query can't match any document of the shard. Like the can_match phase, this only looks at
+     * the range queries that all matching documents must satisfy, and may return {@code true} for queries that match nothing.
+     */
+    public boolean canMatch(QueryBuilder query, long nowInMillis) {
+        if (query instanceof RangeQueryBuilder) {
+            final RangeQueryBuilder rangeQuery = (RangeQueryBuilder) query;
+            final FieldRange range = ranges.get(rangeQuery.fieldName());
+            return range == null || range.intersects(rangeQuery, nowInMillis);
+        } else if (query instanceof BoolQueryBuilder) {
+            final BoolQueryBuilder boolQuery = (BoolQueryBuilder) query;
+            return canMatchAll(boolQuery.filter(), nowInMillis) && canMatchAll(boolQuery.must(), nowInMillis);
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            return canMatch(((ConstantScoreQueryBuilder) query).innerQuery(), nowInMillis);
+        }
+        return true;
+    }
+
+    private boolean canMatchAll(List<QueryBuilder> clauses, long nowInMillis) {
+        for (QueryBuilder clause : clauses) {
+            if (canMatch(clause, nowInMillis) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The min and max values of a date field, in the resolution of the field, along with what it takes to parse the bounds of
+     * range queries on that field the way the shard would.
+     */
+    static final class FieldRange implements Writeable {
+        private final String format;
+        private final Locale locale;
+        private final Resolution resolution;
+        private final long min;
+        private final long max;
+
+        private DateFieldType fieldType;
+
+        FieldRange(DateFieldType fieldType, long min, long max) {
+            this.format = fieldType.dateTimeFormatter().pattern();
+            this.locale = fieldType.dateTimeFormatter().locale();
+            this.resolution = fieldType.resolution();
+            this.min = min;
+            this.max = max;
+            this.fieldType = fieldType;
+        }
+
+        FieldRange(StreamInput in) throws IOException {
+            this.format = in.readString();
+            this.locale = Locale.forLanguageTag(in.readString());
+            this.resolution = in.readEnum(Resolution.class);
+            this.min = in.readLong();
+            this.max = in.readLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(format);
+            out.writeString(locale.toLanguageTag());
+            out.writeEnum(resolution);
+            out.writeLong(min);
+            out.writeLong(max);
+        }
+
+        /**
+         * Mirrors {@link DateFieldType#isFieldWithinQuery}, which the can_match phase uses to rewrite range queries on the shard.
+         */
+        boolean intersects(RangeQueryBuilder rangeQuery, long nowInMillis) {
+            if (min > max) {
+                // the shard doesn't have any value for this field
+                return false;
+            }
+            final DateFieldType fieldType = fieldType(rangeQuery.fieldName());
+            try {
+                final ZoneId timeZone = rangeQuery.timeZone() == null ? null : ZoneId.of(rangeQuery.timeZone());
+                final DateMathParser dateParser = rangeQuery.format() == null
+                    ? null
+                    : DateFormatter.forPattern(rangeQuery.format()).toDateMathParser();
+                if (rangeQuery.from() != null) {
+                    final boolean includeLower = rangeQuery.includeLower();
+                    long fromInclusive = fieldType.parseToLong(
+                        rangeQuery.from(),
+                        includeLower == false,
+                        timeZone,
+                        dateParser,
+                        () -> nowInMillis
+                    );
+                    if (includeLower == false) {
+                        if (fromInclusive == Long.MAX_VALUE) {
+                            return false;
+                        }
+                        ++fromInclusive;
+                    }
+                    if (max < fromInclusive) {
+                        return false;
+                    }
+                }
+                if (rangeQuery.to() != null) {
+                    final boolean includeUpper = rangeQuery.includeUpper();
+                    long toInclusive = fieldType.parseToLong(rangeQuery.to(), includeUpper, timeZone, dateParser, () -> nowInMillis);
+                    if (includeUpper == false) {
+                        if (toInclusive == Long.MIN_VALUE) {
+                            return false;
+                        }
+                        --toInclusive;
+                    }
+                    if (min > toInclusive) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (RuntimeException e) {
+                // let the shard report bounds it can't parse
+                return true;
+            }
+        }
+
+        private DateFieldType fieldType(String fieldName) {
+            if (fieldType == null) {
+                // only used to parse the bounds of range queries, so the name and the other properties of the field don't matter
+                fieldType = new DateFieldType(fieldName, resolution, DateFormatter.forPattern(format).withLocale(locale));
+            }
+            return fieldType;
+        }
+    }
+}
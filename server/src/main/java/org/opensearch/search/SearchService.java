@@ -40,6 +40,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.IndicesRequest;
 import org.opensearch.action.OriginalIndices;
@@ -54,6 +55,7 @@ import org.opensearch.action.search.UpdatePitContextResponse;
 import org.opensearch.action.support.StreamSearchChannelListener;
 import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlockLevel;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.UUIDs;
@@ -97,6 +99,7 @@ import org.opensearch.index.search.QueryStringQueryParser;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
 import org.opensearch.node.ResponseCollectorService;
@@ -142,6 +145,7 @@ import org.opensearch.search.query.QueryRewriterRegistry;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.search.query.rewriters.RequestCacheKeyRewriter;
 import org.opensearch.search.rescore.RescorerBuilder;
 import org.opensearch.search.searchafter.SearchAfterBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -300,6 +304,29 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * Puts the query of search requests that can use the request cache in a canonical form, so that equivalent queries share their
+     * entry in the cache. See {@link RequestCacheKeyRewriter}.
+     */
+    public static final Setting<Boolean> REQUEST_CACHE_CANONICALIZE_KEYS_SETTING = Setting.boolSetting(
+        "search.request_cache.canonicalize_keys.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The granularity that {@code now} is rounded down to when canonicalizing range queries that use date math, which trades up to
+     * this much stale data for cacheable ranges. Ranges that use {@code now} are left alone when set to 0, which is the default.
+     */
+    public static final Setting<TimeValue> REQUEST_CACHE_CANONICALIZE_NOW_ROUNDING_SETTING = Setting.timeSetting(
+        "search.request_cache.canonicalize_keys.now_rounding",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // Allow concurrent segment search for all requests
     public static final String CONCURRENT_SEGMENT_SEARCH_MODE_ALL = "all";
 
@@ -341,6 +368,26 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.Dynamic,
         Property.NodeScope
     );
+    // setting to group the leaves into slices by their estimated cost for the query, rather than by their document count, when
+    // the maximum slice count is set with a value > 0
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICING_SETTING = Setting.boolSetting(
+        "search.concurrent.cost_aware_slicing.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // number of slices created per target slice by cost aware slicing. More slices than search threads let the threads that are
+    // done with their slices pick up the remaining ones
+    public static final Setting<Integer> CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICES_PER_TARGET_SETTING = Setting.intSetting(
+        "search.concurrent.cost_aware_slicing.slices_per_target",
+        1,
+        1,
+        8,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     @ExperimentalApi
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
@@ -459,6 +506,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile boolean allowDerivedField;
 
+    private volatile boolean canonicalizeRequestCacheKeys;
+
+    private volatile TimeValue canonicalizeNowRounding;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -554,6 +605,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         allowDerivedField = CLUSTER_ALLOW_DERIVED_FIELD_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(CLUSTER_ALLOW_DERIVED_FIELD_SETTING, this::setAllowDerivedField);
 
+        canonicalizeRequestCacheKeys = REQUEST_CACHE_CANONICALIZE_KEYS_SETTING.get(settings);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(REQUEST_CACHE_CANONICALIZE_KEYS_SETTING, this::setCanonicalizeRequestCacheKeys);
+        canonicalizeNowRounding = REQUEST_CACHE_CANONICALIZE_NOW_ROUNDING_SETTING.get(settings);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(REQUEST_CACHE_CANONICALIZE_NOW_ROUNDING_SETTING, this::setCanonicalizeNowRounding);
+
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
 
         this.pluginProfilers = pluginProfilers;
@@ -641,6 +699,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setCanonicalizeRequestCacheKeys(boolean canonicalizeRequestCacheKeys) {
+        this.canonicalizeRequestCacheKeys = canonicalizeRequestCacheKeys;
+    }
+
+    private void setCanonicalizeNowRounding(TimeValue canonicalizeNowRounding) {
+        this.canonicalizeNowRounding = canonicalizeNowRounding;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -1261,12 +1327,26 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         SearchShardTask task,
         boolean includeAggregations,
         boolean isStreamSearch
+    ) throws IOException {
+        return createContext(readerContext, request, task, includeAggregations, isStreamSearch, canonicalizeRequestCacheKeys);
+    }
+
+    private SearchContext createContext(
+        ReaderContext readerContext,
+        ShardSearchRequest request,
+        SearchShardTask task,
+        boolean includeAggregations,
+        boolean isStreamSearch,
+        boolean canonicalizeRequestCacheKey
     ) throws IOException {
         final DefaultSearchContext context = createSearchContext(readerContext, request, defaultSearchTimeout, false, isStreamSearch);
+        final SearchSourceBuilder source = request.source();
+        final boolean canonicalized;
         try {
             if (request.scroll() != null) {
                 context.scrollContext().scroll = request.scroll();
             }
+            canonicalized = canonicalizeRequestCacheKey && canonicalizeForRequestCache(context, request);
             parseSource(context, request.source(), includeAggregations);
 
             // if the from and size are still not set, default them
@@ -1285,9 +1365,49 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             throw e;
         }
 
+        if (canonicalized && indicesService.canCache(request, context) == false) {
+            // the canonical query may round now, which is only worth it for requests that are served from the request cache
+            context.close();
+            request.source(source);
+            request.setCanonicalized(false);
+            return createContext(readerContext, request, task, includeAggregations, isStreamSearch, false);
+        }
         return context;
     }
 
+    /**
+     * Puts the query of a request that may be served from the request cache in its canonical form, before the request cache key is
+     * computed from the request.
+     *
+     * @return whether the query of the request was replaced by its canonical form
+     */
+    private boolean canonicalizeForRequestCache(SearchContext context, ShardSearchRequest request) {
+        final SearchSourceBuilder source = request.source();
+        if (source == null
+            || source.query() == null
+            || source.profile()
+            || request.scroll() != null
+            || request.searchType() != SearchType.QUERY_THEN_FETCH
+            || request.requestCache() == Boolean.FALSE) {
+            return false;
+        }
+        if (request.requestCache() == null
+            && context.indexShard().indexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false) {
+            return false;
+        }
+        final QueryBuilder query = source.query();
+        final QueryBuilder canonical = new RequestCacheKeyRewriter(request.nowInMillis(), canonicalizeNowRounding.millis()).rewrite(
+            query,
+            context.getQueryShardContext()
+        );
+        if (canonical.equals(query)) {
+            return false;
+        }
+        request.source(source.shallowCopy().query(canonical));
+        request.setCanonicalized(true);
+        return true;
+    }
+
     public DefaultSearchContext createSearchContext(ShardSearchRequest request, TimeValue timeout, boolean validate) throws IOException {
         final IndexService indexService = indicesService.indexServiceSafe(request.shardId().getIndex());
         final IndexShard indexShard = indexService.getShard(request.shardId().getId());
@@ -1844,14 +1964,28 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             final IndexService indexService;
             final Engine.Searcher canMatchSearcher;
             final boolean hasRefreshPending;
+            final long fieldRangesSettingsVersion;
             if (readerContext != null) {
                 indexService = readerContext.indexService();
                 canMatchSearcher = readerContext.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
                 hasRefreshPending = false;
+                fieldRangesSettingsVersion = -1;
             } else {
                 indexService = indicesService.indexServiceSafe(request.shardId().getIndex());
                 IndexShard indexShard = indexService.getShard(request.shardId().getId());
                 hasRefreshPending = indexShard.hasRefreshPending() && checkRefreshPending;
+                // the ranges must cover all the operations of the shard, which can't change until the write block is lifted. Only
+                // blocks of the index itself count: lifting a global block doesn't change the settings version of the index, so the
+                // coordinating node couldn't tell that the ranges went stale
+                final ClusterState state = clusterService.state();
+                if (checkRefreshPending
+                    && indexService.getIndexSettings().getFieldRangeSummaryFields().isEmpty() == false
+                    && state.blocks().hasIndexBlockWithLevel(request.shardId().getIndexName(), ClusterBlockLevel.WRITE)
+                    && indexShard.isRefreshNeeded() == false) {
+                    fieldRangesSettingsVersion = state.metadata().getIndexSafe(request.shardId().getIndex()).getSettingsVersion();
+                } else {
+                    fieldRangesSettingsVersion = -1;
+                }
                 canMatchSearcher = indexShard.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
             }
 
@@ -1878,7 +2012,15 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 final Integer trackTotalHitsUpto = request.source() == null ? null : request.source().trackTotalHitsUpTo();
                 canMatch = canMatch && canMatchSearchAfter(searchAfterFieldDoc, minMax, sortBuilder, trackTotalHitsUpto);
 
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                final FieldRangeSummary fieldRanges = fieldRangesSettingsVersion >= 0
+                    ? FieldRangeSummary.build(
+                        canMatchSearcher.getIndexReader(),
+                        fieldRangesSettingsVersion,
+                        indexService.getIndexSettings().getFieldRangeSummaryFields(),
+                        context::fieldMapper
+                    )
+                    : null;
+                return new CanMatchResponse(canMatch || hasRefreshPending, minMax, fieldRanges);
             }
         }
     }
@@ -2015,16 +2157,27 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final FieldRangeSummary fieldRanges;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
             this.canMatch = in.readBoolean();
             this.estimatedMinAndMax = in.readOptionalWriteable(MinAndMax::new);
+            if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+                this.fieldRanges = in.readOptionalWriteable(FieldRangeSummary::new);
+            } else {
+                this.fieldRanges = null;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, null);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, FieldRangeSummary fieldRanges) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.fieldRanges = fieldRanges;
         }
 
         @Override
@@ -2032,6 +2185,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             super.writeTo(out);
             out.writeBoolean(canMatch);
             out.writeOptionalWriteable(estimatedMinAndMax);
+            if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+                out.writeOptionalWriteable(fieldRanges);
+            }
         }
 
         public boolean canMatch() {
@@ -2041,6 +2197,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * Returns the min and max values of the summary fields of the shard, or {@code null} if the shard didn't publish them.
+         */
+        public FieldRangeSummary fieldRanges() {
+            return fieldRanges;
+        }
     }
 
     /**
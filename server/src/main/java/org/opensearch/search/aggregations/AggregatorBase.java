@@ -40,6 +40,9 @@ import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.bucket.BucketUtils;
+import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregator;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.query.QueryPhaseExecutionException;
@@ -74,6 +77,7 @@ public abstract class AggregatorBase extends Aggregator {
     private final CircuitBreakerService breakerService;
     private long requestBytesUsed;
     protected LeafCollectionMode leafCollectorMode = LeafCollectionMode.NORMAL;
+    private boolean buildsSegmentPartialAggregations;
 
     /**
      * Constructs a new Aggregator.
@@ -285,6 +289,35 @@ public abstract class AggregatorBase extends Aggregator {
         return subAggregators;
     }
 
+    /**
+     * Makes this aggregator and its sub-aggregators build the partial aggregations of a single segment, see
+     * {@link SegmentPartialAggregations}.
+     */
+    final void buildSegmentPartialAggregations() {
+        buildsSegmentPartialAggregations = true;
+        for (Aggregator subAggregator : subAggregators) {
+            if (subAggregator.unwrapAggregator() instanceof AggregatorBase aggregatorBase) {
+                aggregatorBase.buildSegmentPartialAggregations();
+            }
+        }
+    }
+
+    /**
+     * Returns the bucket count thresholds that the buckets this aggregator builds are selected with, before they are reduced.
+     */
+    protected LocalBucketCountThresholds asLocalBucketCountThresholds(TermsAggregator.BucketCountThresholds bucketCountThresholds) {
+        if (buildsSegmentPartialAggregations) {
+            // the buckets of a segment are cached and combined with the buckets of the other segments later on, which is when the
+            // shard level `shard_min_doc_count` and `shard_size` are applied, so a segment keeps more buckets than the shard size,
+            // the way a shard keeps more buckets than the size
+            return new LocalBucketCountThresholds(
+                Math.min(bucketCountThresholds.getMinDocCount(), 1),
+                BucketUtils.suggestShardSideQueueSize(bucketCountThresholds.getShardSize())
+            );
+        }
+        return context.asLocalBucketCountThresholds(bucketCountThresholds);
+    }
+
     @Override
     public Aggregator subAggregator(String aggName) {
         if (subAggregatorbyName == null) {
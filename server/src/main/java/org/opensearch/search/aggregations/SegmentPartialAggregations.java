@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.Weight;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Collects the non-global aggregations of a request one segment at a time, so that the aggregations of each segment can be cached
+ * before they are reduced and combined with the aggregations of the other segments later on.
+ * <p>
+ * The aggregations of a segment are built like the aggregations of a slice of a concurrent segment search, except that they keep
+ * more buckets than the shard size: the segments are combined with a slice level reduce, which is what applies the shard level
+ * bucket count thresholds, so that a term that is split across segments is counted as a whole.
+ *
+ * @opensearch.internal
+ */
+public final class SegmentPartialAggregations {
+
+    private SegmentPartialAggregations() {}
+
+    /**
+     * Creates the collector of the non-global aggregations of the request for a single segment.
+     */
+    public static Collector newCollector(SearchContext context) throws IOException {
+        return AggregationCollectorManager.createCollector(context, searchContext -> {
+            final List<Aggregator> aggregators = searchContext.aggregations().factories().createTopLevelNonGlobalAggregators(searchContext);
+            for (Aggregator aggregator : aggregators) {
+                if (aggregator.unwrapAggregator() instanceof AggregatorBase aggregatorBase) {
+                    aggregatorBase.buildSegmentPartialAggregations();
+                }
+            }
+            return aggregators;
+        });
+    }
+
+    /**
+     * Collects the documents of the given segment that match the given weight with the given collector.
+     *
+     * @return the number of matching documents
+     */
+    public static long collect(SearchContext context, Weight weight, LeafReaderContext leaf, Collector collector) throws IOException {
+        final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+        context.searcher().searchLeaf(leaf, weight, MultiCollector.wrap(collector, hitCountCollector));
+        return hitCountCollector.getTotalHits();
+    }
+
+    /**
+     * Builds the aggregations that the given collector collected, without reducing them.
+     */
+    public static InternalAggregations build(SearchContext context, Collector collector) throws IOException {
+        final BucketCollectorProcessor processor = new BucketCollectorProcessor();
+        processor.processPostCollection(collector);
+        final List<InternalAggregation> internals = processor.toInternalAggregations(List.of(collector));
+        // buckets are accounted per segment, like they are per slice
+        context.aggregations().resetBucketMultiConsumer();
+        return InternalAggregations.from(internals);
+    }
+
+    /**
+     * Combines the aggregations of the segments of the shard into the aggregations of the shard.
+     */
+    public static InternalAggregations reduce(SearchContext context, List<InternalAggregations> segmentAggregations) {
+        final InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+        reduceContext.setSliceLevel(true);
+        return InternalAggregations.reduce(segmentAggregations, reduceContext);
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.bucket.composite;
 
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -40,6 +41,8 @@ import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -47,7 +50,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CompositeAggregationFactory extends AggregatorFactory {
+public class CompositeAggregationFactory extends AggregatorFactory {
     private final int size;
     private final CompositeValuesSourceConfig[] sources;
     private final CompositeKey afterKey;
@@ -68,6 +71,22 @@ class CompositeAggregationFactory extends AggregatorFactory {
         this.afterKey = afterKey;
     }
 
+    /**
+     * Returns the star-tree dimensions that the sources of this aggregation resolve against, in the order of the sources, or null if
+     * any of them can't be resolved against the provided star-tree.
+     */
+    public List<String> getStarTreeDimensions(CompositeDataCubeFieldType starTreeFieldType) {
+        List<String> dimensions = new ArrayList<>(sources.length);
+        for (CompositeValuesSourceConfig source : sources) {
+            String dimension = source.getStarTreeDimension(starTreeFieldType);
+            if (dimension == null) {
+                return null;
+            }
+            dimensions.add(dimension);
+        }
+        return dimensions;
+    }
+
     @Override
     protected Aggregator createInternal(
         SearchContext searchContext,
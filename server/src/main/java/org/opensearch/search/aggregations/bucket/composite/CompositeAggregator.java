@@ -57,11 +57,20 @@ import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.comparators.LongComparator;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CollectionUtil;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.RoaringDocIdSet;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.index.IndexSortConfig;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.lucene.queries.SearchAfterSortedDocQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -73,6 +82,8 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.filterrewrite.CompositeAggregatorBridge;
 import org.opensearch.search.aggregations.bucket.filterrewrite.FilterRewriteOptimizationContext;
@@ -81,6 +92,11 @@ import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.searchafter.SearchAfterBuilder;
 import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.startree.StarTreeQueryContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
+import org.opensearch.search.startree.filter.StarTreeFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -95,13 +111,14 @@ import java.util.function.LongUnaryOperator;
 
 import static org.opensearch.search.aggregations.MultiBucketConsumerService.MAX_BUCKET_SETTING;
 import static org.opensearch.search.aggregations.bucket.filterrewrite.AggregatorBridge.segmentMatchAll;
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
 
 /**
  * Main aggregator that aggregates docs from multiple aggregations
  *
  * @opensearch.internal
  */
-public final class CompositeAggregator extends BucketsAggregator {
+public final class CompositeAggregator extends BucketsAggregator implements StarTreePreComputeCollector {
     private final int size;
     private final List<String> sourceNames;
     private final int[] reverseMuls;
@@ -120,6 +137,11 @@ public final class CompositeAggregator extends BucketsAggregator {
 
     private boolean earlyTerminated;
 
+    // the star-tree dimensions of the sources, null when the search doesn't use a star-tree index
+    private final List<String> starTreeDimensions;
+    private final List<StarTreeEntry> starTreeEntries = new ArrayList<>();
+    private int starTreeSegments;
+
     private final FilterRewriteOptimizationContext filterRewriteOptimizationContext;
     private LongKeyedBucketOrds bucketOrds;
 
@@ -181,6 +203,27 @@ public final class CompositeAggregator extends BucketsAggregator {
         this.queue = new CompositeValuesCollectorQueue(context.bigArrays(), sources, size, rawAfterKey);
         this.rawAfterKey = rawAfterKey;
 
+        StarTreeQueryContext starTreeQueryContext = context.getQueryShardContext().getStarTreeQueryContext();
+        if (starTreeQueryContext != null) {
+            CompositeDataCubeFieldType starTreeFieldType = (CompositeDataCubeFieldType) context.mapperService()
+                .getCompositeFieldTypes()
+                .iterator()
+                .next();
+            // the star-tree is only used when every source resolves against one of its dimensions
+            List<String> dimensions = new ArrayList<>(numSources);
+            for (CompositeValuesSourceConfig sourceConfig : sourceConfigs) {
+                String dimension = sourceConfig.getStarTreeDimension(starTreeFieldType);
+                if (dimension == null) {
+                    dimensions = null;
+                    break;
+                }
+                dimensions.add(dimension);
+            }
+            this.starTreeDimensions = dimensions;
+        } else {
+            this.starTreeDimensions = null;
+        }
+
         CompositeAggregatorBridge bridge = new CompositeAggregatorBridge() {
             private RoundingValuesSource valuesSource;
             private long afterKey = -1L;
@@ -584,6 +627,11 @@ public final class CompositeAggregator extends BucketsAggregator {
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
         finishLeaf(); // May need to wrap up previous leaf if it could not be precomputed
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null && starTreeDimensions != null) {
+            preComputeWithStarTree(ctx, supportedStarTree);
+            return true;
+        }
         return filterRewriteOptimizationContext.tryOptimize(
             ctx,
             this::incrementBucketDocCount,
@@ -592,6 +640,106 @@ public final class CompositeAggregator extends BucketsAggregator {
         );
     }
 
+    /**
+     * The first pass over a segment with a star-tree index selects the top composite buckets from the matching star-tree entries
+     * rather than from the matching documents, and records these entries so that the second pass replays them to the sub-aggregations.
+     */
+    private void preComputeWithStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        StarTreeBucketCollector starTreeBucketCollector = getStarTreeBucketCollector(ctx, starTree, null);
+        StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
+        if (deferredCollectors != NO_OP_COLLECTOR) {
+            starTreeEntries.add(new StarTreeEntry(ctx, starTreeBucketCollector.getMatchingDocsBitSet()));
+        }
+        starTreeSegments++;
+    }
+
+    /**
+     * Creates a {@link StarTreeBucketCollector} that sets the values of the sources from the dimensions of each star-tree entry and
+     * adds the entry to the queue with its document count. Sub-aggregations are deferred, so it doesn't have sub-collectors.
+     */
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        assert parentCollector == null : "composite aggregations must be at the top of the aggregation tree";
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
+        StarTreeEntryValues entryValues = new StarTreeEntryValues(ctx, starTreeValues);
+        FixedBitSet matchingEntries = StarTreeQueryHelper.getStarTreeResult(starTreeValues, context, getDimensionFilters());
+        return new StarTreeBucketCollector(starTreeValues, matchingEntries) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                assert owningBucketOrd == 0L;
+                if (docCountsIterator.advanceExact(starTreeEntry) == false || entryValues.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                queue.addIfCompetitive(docCountsIterator.nextValue());
+            }
+        };
+    }
+
+    /**
+     * The star-tree entries must be split by the dimensions of all sources. When paginating in ascending order, the entries of the
+     * leading source that sort before the after key are skipped while traversing the star-tree, since they can't be competitive.
+     */
+    @Override
+    public List<DimensionFilter> getDimensionFilters() {
+        List<DimensionFilter> dimensionFilters = new ArrayList<>(sources.length + 1);
+        for (int i = 0; i < sources.length; i++) {
+            String field = sourceConfigs[i].fieldType().name();
+            String dimension = starTreeDimensions.get(i);
+            dimensionFilters.add(field.equals(dimension) ? new MatchAllFilter(field) : new MatchAllFilter(field, dimension));
+        }
+        List<DimensionFilter> afterKeyFilters = getAfterKeyDimensionFilters();
+        if (afterKeyFilters != null) {
+            for (DimensionFilter afterKeyFilter : afterKeyFilters) {
+                if (afterKeyFilter.getMatchingDimension().equals(dimensionFilters.getFirst().getMatchingDimension())) {
+                    dimensionFilters.set(0, afterKeyFilter);
+                } else {
+                    dimensionFilters.add(afterKeyFilter);
+                }
+            }
+        }
+        return StarTreeQueryHelper.collectDimensionFilters(dimensionFilters, subAggregators);
+    }
+
+    /**
+     * Returns the dimension filters that match the values of the leading source that are greater than or equal to its after key, or
+     * null if they can't be expressed as a star-tree filter.
+     */
+    private List<DimensionFilter> getAfterKeyDimensionFilters() {
+        if (rawAfterKey == null || reverseMuls[0] != 1 || sourceConfigs[0].missingBucket()) {
+            return null;
+        }
+        Object afterValue = sources[0].getAfter();
+        RangeQueryBuilder rangeQuery = new RangeQueryBuilder(sourceConfigs[0].fieldType().name());
+        if (afterValue instanceof Long value) {
+            rangeQuery.gte(value);
+            if (sourceConfigs[0].fieldType() instanceof DateFieldMapper.DateFieldType) {
+                rangeQuery.format("epoch_millis");
+            }
+        } else if (afterValue instanceof BytesRef value && sources[0] instanceof GlobalOrdinalValuesSource) {
+            rangeQuery.gte(value.utf8ToString());
+        } else {
+            return null;
+        }
+        StarTreeFilter starTreeFilter = context.getQueryShardContext().getStarTreeQueryContext().getStarTreeFilter(context, rangeQuery);
+        if (starTreeFilter == null || starTreeFilter.getDimensions().size() != 1) {
+            return null;
+        }
+        List<DimensionFilter> filters = starTreeFilter.getFiltersForDimension(starTreeFilter.getDimensions().iterator().next());
+        // filters that match nothing don't know their dimension, the queue rejects these values anyway
+        for (DimensionFilter filter : filters) {
+            if (filter.getMatchingDimension() == null) {
+                return null;
+            }
+        }
+        return filters;
+    }
+
     @Override
     protected LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         finishLeaf();
@@ -727,9 +875,50 @@ public final class CompositeAggregator extends BucketsAggregator {
                 collector.collect(docID);
             }
         }
+        for (StarTreeEntry entry : starTreeEntries) {
+            replayStarTreeEntries(entry);
+        }
         deferredCollectors.postCollection();
     }
 
+    /**
+     * Replays the star-tree entries of a segment that might contain a top bucket to the sub-aggregations.
+     */
+    private void replayStarTreeEntries(StarTreeEntry entry) throws IOException {
+        CompositeIndexFieldInfo starTree = getSupportedStarTree(context.getQueryShardContext());
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(entry.context(), starTree);
+        StarTreeEntryValues entryValues = new StarTreeEntryValues(entry.context(), starTreeValues);
+        StarTreeBucketCollector collector = new StarTreeBucketCollector(starTreeValues, entry.matchingEntries()) {
+            @Override
+            public void setSubCollectors() throws IOException {
+                for (Aggregator aggregator : subAggregators) {
+                    this.subCollectors.add(
+                        ((StarTreePreComputeCollector) aggregator.unwrapAggregator()).getStarTreeBucketCollector(
+                            entry.context(),
+                            starTree,
+                            this
+                        )
+                    );
+                }
+            }
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (entryValues.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                Integer slot = queue.getCurrentSlot();
+                if (slot != null) {
+                    // The candidate key is a top bucket.
+                    for (StarTreeBucketCollector subCollector : getSubCollectors()) {
+                        subCollector.collectStarTreeEntry(starTreeEntry, slot);
+                    }
+                }
+            }
+        };
+        StarTreeQueryHelper.preComputeBucketsWithStarTree(collector);
+    }
+
     /**
      * Replay the top buckets from the matching documents.
      */
@@ -766,8 +955,58 @@ public final class CompositeAggregator extends BucketsAggregator {
     private record Entry(LeafReaderContext context, DocIdSet docIdSet) {
     }
 
+    /**
+     * The star-tree entries of a segment that the first pass collected
+     *
+     * @opensearch.internal
+     */
+    private record StarTreeEntry(LeafReaderContext context, FixedBitSet matchingEntries) {
+    }
+
+    /**
+     * Sets the current values of the sources from the dimensions of star-tree entries of a segment.
+     *
+     * @opensearch.internal
+     */
+    private final class StarTreeEntryValues {
+        private final StarTreeValuesIterator[] dimensionIterators;
+        private final SingleDimensionValuesSource.StarTreeValueSetter[] valueSetters;
+
+        StarTreeEntryValues(LeafReaderContext ctx, StarTreeValues starTreeValues) throws IOException {
+            this.dimensionIterators = new StarTreeValuesIterator[sources.length];
+            this.valueSetters = new SingleDimensionValuesSource.StarTreeValueSetter[sources.length];
+            for (int i = 0; i < sources.length; i++) {
+                dimensionIterators[i] = starTreeValues.getDimensionValuesIterator(starTreeDimensions.get(i));
+                valueSetters[i] = sources[i].getStarTreeValueSetter(ctx, sourceConfigs[i].valuesSource());
+                if (valueSetters[i] == null) {
+                    throw new IllegalStateException("source [" + sourceNames.get(i) + "] can't be resolved against the star-tree");
+                }
+            }
+        }
+
+        /**
+         * Sets the current values of the sources from the provided star-tree entry. Returns false if the entry doesn't have a value
+         * for a source that doesn't have a missing bucket, in which case the entry doesn't belong to any composite bucket.
+         */
+        boolean advanceExact(int starTreeEntry) throws IOException {
+            for (int i = 0; i < sources.length; i++) {
+                if (dimensionIterators[i].advanceExact(starTreeEntry)) {
+                    valueSetters[i].setValue(dimensionIterators[i].value());
+                } else if (sources[i].missingBucket) {
+                    valueSetters[i].setMissing();
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         filterRewriteOptimizationContext.populateDebugInfo(add);
+        if (starTreeDimensions != null) {
+            add.accept("star_tree_segments", starTreeSegments);
+        }
     }
 }
@@ -34,12 +34,22 @@ package org.opensearch.search.aggregations.bucket.composite;
 
 import org.apache.lucene.index.IndexReader;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.Rounding;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
+import org.opensearch.index.compositeindex.datacube.UnsignedLongDimension;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.search.startree.StarTreeQueryHelper;
 
 import java.util.function.LongConsumer;
 
@@ -176,4 +186,42 @@ public class CompositeValuesSourceConfig {
     ) {
         return this.singleDimensionValuesSourceProvider.createValuesSource(bigArrays, reader, size, addRequestCircuitBreakerBytes, this);
     }
+
+    /**
+     * Returns the name of the star-tree dimension that this source can be resolved against, or null if it can't be resolved
+     * against the provided star-tree.
+     */
+    public String getStarTreeDimension(CompositeDataCubeFieldType starTreeFieldType) {
+        if (hasScript || fieldType == null) {
+            return null;
+        }
+        Dimension dimension = StarTreeQueryHelper.getMatchingDimensionOrNull(fieldType.name(), starTreeFieldType.getDimensions());
+        if (dimension == null) {
+            return null;
+        }
+        if (vs instanceof RoundingValuesSource roundingValuesSource) {
+            // date histograms need a date dimension with an interval that divides theirs. The dimension holds values rounded in UTC,
+            // so rounding them again only gives the same buckets as rounding the field values for UTC roundings without an offset.
+            Rounding rounding = roundingValuesSource.getRounding();
+            if (dimension instanceof DateDimension == false || rounding.unit() == null) {
+                return null;
+            }
+            if (rounding.isUTC() == false || rounding.offset() != 0) {
+                return null;
+            }
+            DateTimeUnitRounding starTreeRounding = ((DateDimension) dimension).findClosestValidInterval(
+                new DateTimeUnitAdapter(rounding.unit())
+            );
+            return starTreeRounding == null ? null : dimension.getField() + "_" + starTreeRounding.shortName();
+        }
+        if (vs instanceof ValuesSource.Bytes.WithOrdinals) {
+            return dimension instanceof OrdinalDimension ? dimension.getField() : null;
+        }
+        if (vs instanceof ValuesSource.Numeric numeric && numeric.isBigInteger() == false) {
+            // date dimensions only hold rounded values
+            boolean signedNumericDimension = dimension instanceof NumericDimension && dimension instanceof UnsignedLongDimension == false;
+            return signedNumericDimension ? dimension.getField() : null;
+        }
+        return null;
+    }
 }
@@ -42,9 +42,11 @@ import org.opensearch.common.util.BitArray;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.support.ValuesSource;
 
 import java.io.IOException;
 
@@ -202,6 +204,28 @@ class DoubleValuesSource extends SingleDimensionValuesSource<Double> {
         };
     }
 
+    @Override
+    StarTreeValueSetter getStarTreeValueSetter(LeafReaderContext context, ValuesSource valuesSource) {
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType == false) {
+            return null;
+        }
+        final NumberFieldMapper.NumberFieldType numberFieldType = (NumberFieldMapper.NumberFieldType) fieldType;
+        final HistogramValuesSource histogram = valuesSource instanceof HistogramValuesSource ? (HistogramValuesSource) valuesSource : null;
+        return new StarTreeValueSetter() {
+            @Override
+            public void setValue(long dimensionValue) {
+                double value = numberFieldType.toDoubleValue(dimensionValue);
+                currentValue = histogram == null ? value : histogram.round(value);
+                missingCurrentValue = false;
+            }
+
+            @Override
+            public void setMissing() {
+                missingCurrentValue = true;
+            }
+        };
+    }
+
     @Override
     SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query) {
         return null;
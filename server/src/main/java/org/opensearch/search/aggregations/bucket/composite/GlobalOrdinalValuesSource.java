@@ -49,8 +49,10 @@ import org.opensearch.index.mapper.StringFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.support.ValuesSource;
 
 import java.io.IOException;
+import java.util.function.LongUnaryOperator;
 
 import static org.apache.lucene.index.SortedSetDocValues.NO_MORE_DOCS;
 
@@ -245,6 +247,29 @@ class GlobalOrdinalValuesSource extends SingleDimensionValuesSource<BytesRef> {
         };
     }
 
+    @Override
+    StarTreeValueSetter getStarTreeValueSetter(LeafReaderContext context, ValuesSource valuesSource) throws IOException {
+        if (valuesSource instanceof ValuesSource.Bytes.WithOrdinals == false) {
+            return null;
+        }
+        if (lookup == null) {
+            initLookup(docValuesFunc.apply(context));
+        }
+        // star-tree indices store the segment ordinals of keyword dimensions
+        final LongUnaryOperator globalOrdinalsMapping = ((ValuesSource.Bytes.WithOrdinals) valuesSource).globalOrdinalsMapping(context);
+        return new StarTreeValueSetter() {
+            @Override
+            public void setValue(long dimensionValue) {
+                currentValue = globalOrdinalsMapping.applyAsLong(dimensionValue);
+            }
+
+            @Override
+            public void setMissing() {
+                currentValue = -1;
+            }
+        };
+    }
+
     @Override
     SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query) {
         if (checkIfSortedDocsIsApplicable(reader, fieldType) == false
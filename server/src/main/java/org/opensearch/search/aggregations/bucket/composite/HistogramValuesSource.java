@@ -68,13 +68,20 @@ class HistogramValuesSource extends ValuesSource.Numeric {
         return false;
     }
 
+    /**
+     * Rounds the provided value down to the start of its interval.
+     */
+    double round(double value) {
+        return Math.floor(value / interval) * interval;
+    }
+
     @Override
     public SortedNumericDoubleValues doubleValues(LeafReaderContext context) throws IOException {
         SortedNumericDoubleValues values = vs.doubleValues(context);
         return new SortedNumericDoubleValues() {
             @Override
             public double nextValue() throws IOException {
-                return Math.floor(values.nextValue() / interval) * interval;
+                return round(values.nextValue());
             }
 
             @Override
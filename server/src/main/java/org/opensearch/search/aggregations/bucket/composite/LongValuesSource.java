@@ -55,6 +55,7 @@ import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.support.ValuesSource;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -219,6 +220,23 @@ public class LongValuesSource extends SingleDimensionValuesSource<Long> {
         };
     }
 
+    @Override
+    StarTreeValueSetter getStarTreeValueSetter(LeafReaderContext context, ValuesSource valuesSource) {
+        return new StarTreeValueSetter() {
+            @Override
+            public void setValue(long dimensionValue) {
+                // date histogram dimensions hold values rounded to the closest valid interval, which may be finer than ours
+                currentValue = rounding.applyAsLong(dimensionValue);
+                missingCurrentValue = false;
+            }
+
+            @Override
+            public void setMissing() {
+                missingCurrentValue = true;
+            }
+        };
+    }
+
     static Query extractQuery(Query query) {
         if (query instanceof BoostQuery) {
             return extractQuery(((BoostQuery) query).getQuery());
@@ -42,6 +42,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
@@ -167,6 +168,18 @@ public abstract class SingleDimensionValuesSource<T extends Comparable<T>> imple
      */
     abstract LeafBucketCollector getLeafCollector(Comparable value, LeafReaderContext context, LeafBucketCollector next) throws IOException;
 
+    /**
+     * Creates a {@link StarTreeValueSetter} that sets the current value of this source from the values that a star-tree index stores
+     * for its dimension in the provided segment, like the {@link LeafBucketCollector} returned by {@link #getLeafCollector} does from
+     * the values of a document. Returns null if this source can't be resolved against a star-tree index.
+     *
+     * @param context The segment to read the star-tree values from.
+     * @param valuesSource The {@link ValuesSource} of the configuration this source was created from.
+     */
+    StarTreeValueSetter getStarTreeValueSetter(LeafReaderContext context, ValuesSource valuesSource) throws IOException {
+        return null;
+    }
+
     /**
      * Returns a {@link SortedDocsProducer} or null if this source cannot produce sorted docs.
      */
@@ -191,4 +204,21 @@ public abstract class SingleDimensionValuesSource<T extends Comparable<T>> imple
         }
         return true;
     }
+
+    /**
+     * Sets the current value of a {@link SingleDimensionValuesSource} from the values of its star-tree dimension.
+     *
+     * @opensearch.internal
+     */
+    interface StarTreeValueSetter {
+        /**
+         * Sets the current value from a value of the star-tree dimension.
+         */
+        void setValue(long dimensionValue) throws IOException;
+
+        /**
+         * Marks the current value as missing, for star-tree entries without a value for the dimension.
+         */
+        void setMissing();
+    }
 }
@@ -43,6 +43,10 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -51,22 +55,32 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
+import org.opensearch.search.startree.filter.StarTreeFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
+
 /**
  * Aggregate all docs that match multiple filters.
  *
  * @opensearch.internal
  */
-public class FiltersAggregator extends BucketsAggregator {
+public class FiltersAggregator extends BucketsAggregator implements StarTreePreComputeCollector {
 
     public static final ParseField FILTERS_FIELD = new ParseField("filters");
     public static final ParseField OTHER_BUCKET_FIELD = new ParseField("other_bucket");
@@ -144,6 +158,9 @@ public class FiltersAggregator extends BucketsAggregator {
     private final boolean showOtherBucket;
     private final String otherBucketKey;
     private final int totalNumKeys;
+    // the filters resolved against the star-tree index, null when the search doesn't use a star-tree index
+    private final StarTreeFilter[] starTreeFilters;
+    private int starTreeSegments;
 
     public FiltersAggregator(
         String name,
@@ -156,11 +173,28 @@ public class FiltersAggregator extends BucketsAggregator {
         Aggregator parent,
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
+    ) throws IOException {
+        this(name, factories, keys, filters, null, keyed, otherBucketKey, context, parent, cardinality, metadata);
+    }
+
+    public FiltersAggregator(
+        String name,
+        AggregatorFactories factories,
+        String[] keys,
+        Supplier<Weight[]> filters,
+        StarTreeFilter[] starTreeFilters,
+        boolean keyed,
+        String otherBucketKey,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
     ) throws IOException {
         super(name, factories, context, parent, cardinality.multiply(keys.length + (otherBucketKey == null ? 0 : 1)), metadata);
         this.keyed = keyed;
         this.keys = keys;
         this.filters = filters;
+        this.starTreeFilters = starTreeFilters;
         this.showOtherBucket = otherBucketKey != null;
         this.otherBucketKey = otherBucketKey;
         if (showOtherBucket) {
@@ -205,6 +239,163 @@ public class FiltersAggregator extends BucketsAggregator {
         };
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null && starTreeFilters != null) {
+            StarTreeBucketCollector starTreeBucketCollector = getStarTreeBucketCollector(ctx, supportedStarTree, null);
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
+            starTreeSegments++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates a {@link StarTreeBucketCollector} that collects each star-tree entry into the buckets of the filters it matches, and
+     * into the other bucket if it doesn't match any of them. The values of the dimensions that the filters match on are read once
+     * per entry.
+     */
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parent
+    ) throws IOException {
+        assert starTreeFilters != null;
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
+
+        Map<String, Integer> dimensionOrds = new LinkedHashMap<>();
+        List<StarTreeValuesIterator> dimensionIterators = new ArrayList<>();
+        StarTreeFilterMatcher[] matchers = new StarTreeFilterMatcher[starTreeFilters.length];
+        for (int i = 0; i < starTreeFilters.length; i++) {
+            StarTreeFilter starTreeFilter = starTreeFilters[i];
+            List<String> dimensions = new ArrayList<>(starTreeFilter.getDimensions());
+            int[] ords = new int[dimensions.size()];
+            List<List<DimensionFilter>> dimensionFilters = new ArrayList<>(dimensions.size());
+            for (int j = 0; j < dimensions.size(); j++) {
+                List<DimensionFilter> filters = starTreeFilter.getFiltersForDimension(dimensions.get(j));
+                for (DimensionFilter filter : filters) {
+                    filter.initialiseForSegment(starTreeValues, context);
+                }
+                String dimension = matchingDimension(dimensions.get(j), filters);
+                Integer ord = dimensionOrds.get(dimension);
+                if (ord == null) {
+                    ord = dimensionIterators.size();
+                    dimensionOrds.put(dimension, ord);
+                    dimensionIterators.add(starTreeValues.getDimensionValuesIterator(dimension));
+                }
+                ords[j] = ord;
+                dimensionFilters.add(filters);
+            }
+            matchers[i] = new StarTreeFilterMatcher(ords, dimensionFilters);
+        }
+        final boolean[] hasValues = new boolean[dimensionIterators.size()];
+        final long[] values = new long[dimensionIterators.size()];
+
+        return new StarTreeBucketCollector(
+            starTreeValues,
+            parent == null ? StarTreeQueryHelper.getStarTreeResult(starTreeValues, context, getDimensionFilters()) : null
+        ) {
+            @Override
+            public void setSubCollectors() throws IOException {
+                for (Aggregator aggregator : subAggregators) {
+                    this.subCollectors.add(
+                        ((StarTreePreComputeCollector) aggregator.unwrapAggregator()).getStarTreeBucketCollector(ctx, starTree, this)
+                    );
+                }
+            }
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (docCountsIterator.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                long docCount = docCountsIterator.nextValue();
+                for (int i = 0; i < values.length; i++) {
+                    StarTreeValuesIterator dimensionIterator = dimensionIterators.get(i);
+                    hasValues[i] = dimensionIterator.advanceExact(starTreeEntry);
+                    if (hasValues[i]) {
+                        values[i] = dimensionIterator.value();
+                    }
+                }
+                boolean matched = false;
+                for (int i = 0; i < matchers.length; i++) {
+                    if (matchers[i].matches(hasValues, values, starTreeValues)) {
+                        collectStarTreeBucket(this, docCount, bucketOrd(owningBucketOrd, i), starTreeEntry);
+                        matched = true;
+                    }
+                }
+                if (showOtherBucket && !matched) {
+                    collectStarTreeBucket(this, docCount, bucketOrd(owningBucketOrd, matchers.length), starTreeEntry);
+                }
+            }
+        };
+    }
+
+    /**
+     * The star-tree entries must be split by every dimension that a filter matches on, so that each entry either matches a filter
+     * or doesn't.
+     */
+    @Override
+    public List<DimensionFilter> getDimensionFilters() {
+        Map<String, DimensionFilter> matchAllFilters = new LinkedHashMap<>();
+        for (StarTreeFilter starTreeFilter : starTreeFilters) {
+            for (String dimension : starTreeFilter.getDimensions()) {
+                List<DimensionFilter> filters = starTreeFilter.getFiltersForDimension(dimension);
+                String matchingDimension = matchingDimension(dimension, filters);
+                if (matchingDimension.equals(dimension)) {
+                    matchAllFilters.putIfAbsent(matchingDimension, new MatchAllFilter(dimension));
+                } else {
+                    matchAllFilters.putIfAbsent(matchingDimension, new MatchAllFilter(dimension, matchingDimension));
+                }
+            }
+        }
+        return StarTreeQueryHelper.collectDimensionFilters(new ArrayList<>(matchAllFilters.values()), subAggregators);
+    }
+
+    private static String matchingDimension(String dimension, List<DimensionFilter> filters) {
+        // filters that match nothing don't know their dimension
+        String matchingDimension = filters.isEmpty() ? null : filters.getFirst().getMatchingDimension();
+        return matchingDimension == null ? dimension : matchingDimension;
+    }
+
+    /**
+     * Matches the dimension values of a star-tree entry against a filter: an entry matches if, for every dimension of the filter, its
+     * value matches one of the {@link DimensionFilter}s of the dimension.
+     */
+    private record StarTreeFilterMatcher(int[] dimensionOrds, List<List<DimensionFilter>> dimensionFilters) {
+
+        boolean matches(boolean[] hasValues, long[] values, StarTreeValues starTreeValues) {
+            for (int i = 0; i < dimensionOrds.length; i++) {
+                int ord = dimensionOrds[i];
+                if (hasValues[ord] == false || matchesAny(dimensionFilters.get(i), values[ord], starTreeValues) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean matchesAny(List<DimensionFilter> filters, long value, StarTreeValues starTreeValues) {
+            for (DimensionFilter filter : filters) {
+                if (filter.matchDimValue(value, starTreeValues)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (starTreeFilters != null) {
+            add.accept("star_tree_segments", starTreeSegments);
+        }
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForFixedBucketCount(
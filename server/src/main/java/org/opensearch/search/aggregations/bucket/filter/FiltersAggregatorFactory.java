@@ -36,6 +36,7 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Weight;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.AggregationInitializationException;
 import org.opensearch.search.aggregations.Aggregator;
@@ -44,6 +45,8 @@ import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator.KeyedFilter;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryContext;
+import org.opensearch.search.startree.filter.StarTreeFilter;
 
 import java.io.IOException;
 import java.util.List;
@@ -57,6 +60,7 @@ import java.util.Map;
 public class FiltersAggregatorFactory extends AggregatorFactory {
 
     private final String[] keys;
+    private final QueryBuilder[] filterBuilders;
     private final Query[] filters;
     private volatile Weight[] weights;
     private final boolean keyed;
@@ -79,14 +83,40 @@ public class FiltersAggregatorFactory extends AggregatorFactory {
         this.otherBucket = otherBucket;
         this.otherBucketKey = otherBucketKey;
         keys = new String[filters.size()];
+        this.filterBuilders = new QueryBuilder[filters.size()];
         this.filters = new Query[filters.size()];
         for (int i = 0; i < filters.size(); ++i) {
             KeyedFilter keyedFilter = filters.get(i);
             this.keys[i] = keyedFilter.key();
+            this.filterBuilders[i] = keyedFilter.filter();
             this.filters[i] = keyedFilter.filter().toQuery(queryShardContext);
         }
     }
 
+    /**
+     * Returns the filters of this aggregation, in the order of their buckets.
+     */
+    public List<QueryBuilder> getFilters() {
+        return List.of(filterBuilders);
+    }
+
+    /**
+     * Returns the {@link StarTreeFilter}s of the filters of this aggregation when the search resolves against a star-tree index, or
+     * null otherwise. The star-tree context only exists once every filter was validated to resolve against the star-tree.
+     */
+    private StarTreeFilter[] getStarTreeFilters(SearchContext searchContext) {
+        StarTreeQueryContext starTreeQueryContext = searchContext.getQueryShardContext().getStarTreeQueryContext();
+        if (starTreeQueryContext == null) {
+            return null;
+        }
+        StarTreeFilter[] starTreeFilters = new StarTreeFilter[filterBuilders.length];
+        for (int i = 0; i < filterBuilders.length; i++) {
+            starTreeFilters[i] = starTreeQueryContext.getStarTreeFilter(searchContext, filterBuilders[i]);
+            assert starTreeFilters[i] != null : "filter [" + keys[i] + "] can't be resolved against the star-tree";
+        }
+        return starTreeFilters;
+    }
+
     /**
      * Returns the {@link Weight}s for this filter aggregation, creating it if
      * necessary. This is done lazily so that the {@link Weight}s are only
@@ -137,6 +167,7 @@ public class FiltersAggregatorFactory extends AggregatorFactory {
             factories,
             keys,
             () -> getWeights(searchContext),
+            getStarTreeFilters(searchContext),
             keyed,
             otherBucket ? otherBucketKey : null,
             searchContext,
@@ -138,7 +138,7 @@ public class StreamNumericTermsAggregator extends TermsAggregator implements Str
                 }
                 return results;
             }
-            LocalBucketCountThresholds localBucketCountThresholds = context.asLocalBucketCountThresholds(bucketCountThresholds);
+            LocalBucketCountThresholds localBucketCountThresholds = asLocalBucketCountThresholds(bucketCountThresholds);
             B[][] topBucketsPerOrd = buildTopBucketsPerOrd(owningBucketOrds.length);
             long[] otherDocCounts = new long[owningBucketOrds.length];
             for (int ordIdx = 0; ordIdx < owningBucketOrds.length; ordIdx++) {
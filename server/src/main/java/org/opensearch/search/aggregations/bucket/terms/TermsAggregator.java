@@ -57,6 +57,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * Base aggregator class to aggregate documents by terms
@@ -228,6 +229,8 @@ public abstract class TermsAggregator extends DeferableBucketAggregator {
     protected final Comparator<InternalTerms.Bucket<?>> partiallyBuiltBucketComparator;
     protected final Set<Aggregator> aggsUsedForSorting = new HashSet<>();
     protected final SubAggCollectionMode collectMode;
+    private TermsExecutionPlan executionPlan;
+    private SubAggCollectionMode plannedCollectMode;
 
     public TermsAggregator(
         String name,
@@ -269,6 +272,24 @@ public abstract class TermsAggregator extends DeferableBucketAggregator {
         }
     }
 
+    /**
+     * Sets the plan that picked how this aggregator executes, so that it shows up in the profile.
+     *
+     * @param plannedCollectMode the collection mode that was picked from the plan, or null if the request picked it
+     */
+    void executionPlan(TermsExecutionPlan executionPlan, SubAggCollectionMode plannedCollectMode) {
+        this.executionPlan = executionPlan;
+        this.plannedCollectMode = plannedCollectMode;
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (executionPlan != null) {
+            executionPlan.collectDebugInfo(add, plannedCollectMode);
+        }
+    }
+
     static boolean descendsFromNestedAggregator(Aggregator parent) {
         while (parent != null) {
             if (parent.getClass() == NestedAggregator.class) {
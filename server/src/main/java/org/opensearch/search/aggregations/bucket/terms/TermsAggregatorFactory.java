@@ -33,6 +33,7 @@
 package org.opensearch.search.aggregations.bucket.terms;
 
 import org.apache.lucene.search.IndexSearcher;
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.core.ParseField;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.DocValueFormat;
@@ -103,6 +104,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 TermsAggregator.BucketCountThresholds bucketCountThresholds,
                 IncludeExclude includeExclude,
                 String executionHint,
+                CheckedFunction<ValuesSource.Bytes.WithOrdinals, TermsExecutionPlan, IOException> executionPlanner,
                 SearchContext context,
                 Aggregator parent,
                 SubAggCollectionMode subAggCollectMode,
@@ -118,6 +120,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 if (valuesSource instanceof ValuesSource.Bytes.WithOrdinals == false) {
                     execution = ExecutionMode.MAP;
                 }
+                TermsExecutionPlan plan = null;
                 if (execution == null) {
                     // Check if streaming is enabled and flush mode allows it (null means not yet evaluated)
                     if (context.isStreamSearch() && (context.getFlushMode() == null || context.getFlushMode() == FlushMode.PER_SEGMENT)) {
@@ -134,12 +137,16 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                             metadata
                         );
                     } else {
-                        execution = ExecutionMode.GLOBAL_ORDINALS;
+                        plan = executionPlanner.apply((ValuesSource.Bytes.WithOrdinals) valuesSource);
+                        execution = plan.executionMode();
                     }
                 }
                 final long maxOrd = execution == ExecutionMode.GLOBAL_ORDINALS ? getMaxOrd(valuesSource, context.searcher()) : -1;
+                SubAggCollectionMode plannedCollectMode = null;
                 if (subAggCollectMode == null) {
-                    subAggCollectMode = pickSubAggCollectMode(factories, bucketCountThresholds.getShardSize(), maxOrd, context);
+                    final long expectedBuckets = plan == null ? maxOrd : plan.estimatedBuckets(maxOrd);
+                    subAggCollectMode = pickSubAggCollectMode(factories, bucketCountThresholds.getShardSize(), expectedBuckets, context);
+                    plannedCollectMode = subAggCollectMode;
                 }
 
                 if ((includeExclude != null) && (includeExclude.isRegexBased()) && format != DocValueFormat.RAW) {
@@ -154,7 +161,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 }
 
                 // TODO: [Zach] we might want refactor and remove ExecutionMode#create(), moving that logic outside the enum
-                return execution.create(
+                Aggregator aggregator = execution.create(
                     name,
                     factories,
                     valuesSource,
@@ -167,9 +174,13 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                     subAggCollectMode,
                     showTermDocCountError,
                     cardinality,
+                    plan,
                     metadata
                 );
-
+                if (plan != null) {
+                    ((TermsAggregator) aggregator).executionPlan(plan, plannedCollectMode);
+                }
+                return aggregator;
             }
         };
     }
@@ -190,6 +201,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 TermsAggregator.BucketCountThresholds bucketCountThresholds,
                 IncludeExclude includeExclude,
                 String executionHint,
+                CheckedFunction<ValuesSource.Bytes.WithOrdinals, TermsExecutionPlan, IOException> executionPlanner,
                 SearchContext context,
                 Aggregator parent,
                 SubAggCollectionMode subAggCollectMode,
@@ -272,6 +284,8 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
     private final SubAggCollectionMode collectMode;
     private final TermsAggregator.BucketCountThresholds bucketCountThresholds;
     private final boolean showTermDocCountError;
+    // the aggregators that this factory creates for the slices of a concurrent segment search share the plan of the shard
+    private TermsExecutionPlan executionPlan;
 
     TermsAggregatorFactory(
         String name,
@@ -349,6 +363,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
             bucketCountThresholds,
             includeExclude,
             executionHint,
+            valuesSource -> executionPlan(valuesSource, searchContext),
             searchContext,
             parent,
             collectMode,
@@ -358,6 +373,17 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
         );
     }
 
+    /**
+     * Plans the execution of the aggregators of this factory the first time that one of them needs it.
+     */
+    private synchronized TermsExecutionPlan executionPlan(ValuesSource.Bytes.WithOrdinals valuesSource, SearchContext searchContext)
+        throws IOException {
+        if (executionPlan == null) {
+            executionPlan = TermsExecutionPlan.plan(valuesSource, searchContext, bucketCountThresholds.getMinDocCount());
+        }
+        return executionPlan;
+    }
+
     /**
      * Pick a {@link SubAggCollectionMode} based on heuristics about what
      * we're collecting.
@@ -423,6 +449,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 SubAggCollectionMode subAggCollectMode,
                 boolean showTermDocCountError,
                 CardinalityUpperBound cardinality,
+                TermsExecutionPlan plan,
                 Map<String, Object> metadata
             ) throws IOException {
                 int maxRegexLength = context.getQueryShardContext().getIndexSettings().getMaxRegexLength();
@@ -463,6 +490,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 SubAggCollectionMode subAggCollectMode,
                 boolean showTermDocCountError,
                 CardinalityUpperBound cardinality,
+                TermsExecutionPlan plan,
                 Map<String, Object> metadata
             ) throws IOException {
 
@@ -533,6 +561,15 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                          *      ({@link SubAggCollectionMode#BREADTH_FIRST}).
                          */
                         remapGlobalOrds = false;
+                        if (plan != null && plan.remapGlobalOrds(maxOrd)) {
+                            /*
+                             * But we still remap them if we expect to only build
+                             * a small fraction of the buckets, so that we don't
+                             * allocate arrays as large as the number of global
+                             * ordinals for the few buckets that we collect.
+                             */
+                            remapGlobalOrds = true;
+                        }
                     }
                 }
                 return new GlobalOrdinalsStringTermsAggregator(
@@ -585,6 +622,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
             SubAggCollectionMode subAggCollectMode,
             boolean showTermDocCountError,
             CardinalityUpperBound cardinality,
+            TermsExecutionPlan plan,
             Map<String, Object> metadata
         ) throws IOException;
 
@@ -31,6 +31,7 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -57,6 +58,7 @@ interface TermsAggregatorSupplier {
         TermsAggregator.BucketCountThresholds bucketCountThresholds,
         IncludeExclude includeExclude,
         String executionHint,
+        CheckedFunction<ValuesSource.Bytes.WithOrdinals, TermsExecutionPlan, IOException> executionPlanner,
         SearchContext context,
         Aggregator parent,
         Aggregator.SubAggCollectionMode subAggCollectMode,
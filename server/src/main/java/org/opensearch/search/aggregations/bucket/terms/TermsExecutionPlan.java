@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.aggregations.Aggregator.SubAggCollectionMode;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory.ExecutionMode;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The execution plan of a terms aggregation on a field with ordinals, which is used when the request doesn't pick an
+ * {@code execution_hint}. It is computed once per shard from statistics that are cheap to get before collecting anything: the number of
+ * documents that the query matches when segments can count them without collecting them, the number of terms of each segment, and, only
+ * when it picks the {@code map} execution mode, a HyperLogLog++ estimate of the number of distinct terms of the field.
+ *
+ * @opensearch.internal
+ */
+final class TermsExecutionPlan {
+
+    /**
+     * Collecting terms in a hash table costs more per matching document than collecting global ordinals, so the {@code map} execution
+     * mode is only picked when the segments have this many times more terms than the query is expected to match documents, which is
+     * when building global ordinals costs more than collecting the matching documents.
+     */
+    static final int MAP_COST_FACTOR = 8;
+
+    /**
+     * Global ordinals are remapped to dense bucket ordinals when the aggregation is expected to build this many times fewer buckets
+     * than there are global ordinals, so that the buckets don't need arrays as large as the number of global ordinals.
+     */
+    static final int REMAP_GLOBAL_ORDS_FACTOR = 4;
+
+    /**
+     * The maximum number of segment terms that are hashed to estimate the number of distinct terms of the field. Beyond that, the sum of
+     * the number of terms of the segments is used as an upper bound.
+     */
+    static final long MAX_TERMS_TO_SKETCH = 1L << 16;
+
+    private static final int SKETCH_PRECISION = 12;
+
+    private final ExecutionMode executionMode;
+    private final long estimatedMatchingDocs;
+    private final long segmentTerms;
+    private final long estimatedTerms;
+    private final boolean eagerGlobalOrdinals;
+
+    TermsExecutionPlan(
+        ExecutionMode executionMode,
+        long estimatedMatchingDocs,
+        long segmentTerms,
+        long estimatedTerms,
+        boolean eagerGlobalOrdinals
+    ) {
+        this.executionMode = executionMode;
+        this.estimatedMatchingDocs = estimatedMatchingDocs;
+        this.segmentTerms = segmentTerms;
+        this.estimatedTerms = estimatedTerms;
+        this.eagerGlobalOrdinals = eagerGlobalOrdinals;
+    }
+
+    /**
+     * Plans the execution of a terms aggregation on the given values source.
+     *
+     * @param minDocCount the minimum document count of the buckets, which returns all terms of the field when it is 0
+     */
+    static TermsExecutionPlan plan(ValuesSource.Bytes.WithOrdinals valuesSource, SearchContext context, long minDocCount)
+        throws IOException {
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        long segmentTerms = 0;
+        long maxSegmentTerms = 0;
+        for (LeafReaderContext leaf : leaves) {
+            final long valueCount = valuesSource.ordinalsValues(leaf).getValueCount();
+            segmentTerms += valueCount;
+            maxSegmentTerms = Math.max(maxSegmentTerms, valueCount);
+        }
+        final long estimatedMatchingDocs = estimateMatchingDocs(context.searcher(), context.query());
+        final boolean eagerGlobalOrdinals = hasEagerGlobalOrdinals(valuesSource, context);
+        final ExecutionMode executionMode;
+        if (eagerGlobalOrdinals || segmentTerms == maxSegmentTerms) {
+            // global ordinals are either built on refresh or don't need to be built at all
+            executionMode = ExecutionMode.GLOBAL_ORDINALS;
+        } else if (minDocCount == 0) {
+            // all terms are returned, so collecting only the terms of the matching documents saves nothing
+            executionMode = ExecutionMode.GLOBAL_ORDINALS;
+        } else if (context.getQueryShardContext().getStarTreeQueryContext() != null) {
+            // only the global ordinals aggregator pre-computes its buckets, and those of its sub-aggregations, from the star-tree
+            executionMode = ExecutionMode.GLOBAL_ORDINALS;
+        } else if (estimatedMatchingDocs != -1 && estimatedMatchingDocs * MAP_COST_FACTOR < segmentTerms) {
+            executionMode = ExecutionMode.MAP;
+        } else {
+            executionMode = ExecutionMode.GLOBAL_ORDINALS;
+        }
+        final long estimatedTerms;
+        if (executionMode != ExecutionMode.MAP) {
+            // the number of buckets is estimated from the number of global ordinals instead
+            estimatedTerms = -1;
+        } else if (segmentTerms <= MAX_TERMS_TO_SKETCH) {
+            estimatedTerms = Math.max(maxSegmentTerms, estimateDistinctTerms(valuesSource, leaves));
+        } else {
+            estimatedTerms = segmentTerms;
+        }
+        return new TermsExecutionPlan(executionMode, estimatedMatchingDocs, segmentTerms, estimatedTerms, eagerGlobalOrdinals);
+    }
+
+    /**
+     * Returns the number of documents that the query matches if each segment can count them in constant time with
+     * {@link Weight#count}, or -1 if any of them can't. The query of the search context is already rewritten, and creating a weight
+     * that doesn't need scores doesn't visit the segments.
+     */
+    static long estimateMatchingDocs(IndexSearcher searcher, Query query) throws IOException {
+        if (query == null) {
+            return searcher.getIndexReader().numDocs();
+        }
+        final Weight weight = query.createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
+        long estimatedMatchingDocs = 0;
+        for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+            final int count = weight.count(leaf);
+            if (count == -1) {
+                return -1;
+            }
+            estimatedMatchingDocs += count;
+        }
+        return estimatedMatchingDocs;
+    }
+
+    private static long estimateDistinctTerms(ValuesSource.Bytes.WithOrdinals valuesSource, List<LeafReaderContext> leaves)
+        throws IOException {
+        final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(SKETCH_PRECISION);
+        final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+        for (LeafReaderContext leaf : leaves) {
+            final SortedSetDocValues values = valuesSource.ordinalsValues(leaf);
+            final TermsEnum terms = values.termsEnum();
+            for (BytesRef term = terms.next(); term != null; term = terms.next()) {
+                MurmurHash3.hash128(term.bytes, term.offset, term.length, 0, hash);
+                sketch.collect(0, hash.h1);
+            }
+        }
+        return sketch.cardinality(0);
+    }
+
+    private static boolean hasEagerGlobalOrdinals(ValuesSource valuesSource, SearchContext context) {
+        final String fieldName = valuesSource.getIndexFieldName();
+        if (fieldName == null) {
+            return false;
+        }
+        final MappedFieldType fieldType = context.getQueryShardContext().getMapperService().fieldType(fieldName);
+        return fieldType != null && fieldType.eagerGlobalOrdinals();
+    }
+
+    ExecutionMode executionMode() {
+        return executionMode;
+    }
+
+    /**
+     * The number of buckets that the aggregation is expected to build: no more than the number of terms of the field, and no more than
+     * the number of matching documents, if they are known, unless they have many values.
+     *
+     * @param maxOrd the number of global ordinals of the field, or -1 if they haven't been built
+     */
+    long estimatedBuckets(long maxOrd) {
+        assert maxOrd != -1 || estimatedTerms != -1 : "the number of terms is only estimated when global ordinals aren't built";
+        final long terms = maxOrd == -1 ? estimatedTerms : maxOrd;
+        return estimatedMatchingDocs == -1 ? terms : Math.min(terms, estimatedMatchingDocs);
+    }
+
+    /**
+     * Whether global ordinals should be remapped to dense bucket ordinals even though they could be used as bucket ordinals directly,
+     * because the aggregation is expected to only build a small fraction of the buckets.
+     */
+    boolean remapGlobalOrds(long maxOrd) {
+        return estimatedBuckets(maxOrd) * REMAP_GLOBAL_ORDS_FACTOR < maxOrd;
+    }
+
+    /**
+     * Adds this plan to the debug info of an aggregator that was created from it.
+     *
+     * @param collectMode the collection mode that was picked from this plan, or null if the request picked it
+     */
+    void collectDebugInfo(BiConsumer<String, Object> add, SubAggCollectionMode collectMode) {
+        final Map<String, Object> plan = new LinkedHashMap<>();
+        plan.put("execution_mode", executionMode.toString());
+        if (collectMode != null) {
+            plan.put("collect_mode", collectMode.parseField().getPreferredName());
+        }
+        plan.put("estimated_matching_docs", estimatedMatchingDocs);
+        plan.put("segment_terms", segmentTerms);
+        if (estimatedTerms != -1) {
+            plan.put("estimated_terms", estimatedTerms);
+        }
+        plan.put("eager_global_ordinals", eagerGlobalOrdinals);
+        add.accept("execution_plan", plan);
+    }
+}
@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.util.BitUtil;
+
 /**
  * Hyperloglog counter, implemented based on pseudo code from
  * <a href="http://static.googleusercontent.com/media/research.google.com/fr//pubs/archive/40671.pdf">40671.pdf</a> and its
@@ -45,6 +47,8 @@ public abstract class AbstractHyperLogLog extends AbstractCardinalityAlgorithm {
 
     private static final int P2 = 25;
     private static final int BIAS_K = 6;
+    // the high bit of each byte of a long
+    private static final long HIGH_BITS = 0x8080808080808080L;
 
     // these static tables come from the appendix of the paper
     private static final double[][] RAW_ESTIMATE_DATA = {
@@ -5883,6 +5887,26 @@ public abstract class AbstractHyperLogLog extends AbstractCardinalityAlgorithm {
         addRunLen(bucketOrd, index, runLen);
     }
 
+    /**
+     * Stores the register-wise maximum of {@code length} registers of {@code a} and {@code b} into {@code dest}, which may be one of
+     * them. Registers are processed eight at a time, packed into longs: run lengths are always smaller than 128, so the high bit of
+     * each byte is free to compare registers without borrowing from the next one.
+     */
+    static void maxRunLens(byte[] a, int aOffset, byte[] b, int bOffset, byte[] dest, int destOffset, int length) {
+        int i = 0;
+        for (; i <= length - Long.BYTES; i += Long.BYTES) {
+            final long x = (long) BitUtil.VH_LE_LONG.get(a, aOffset + i);
+            final long y = (long) BitUtil.VH_LE_LONG.get(b, bOffset + i);
+            // the high bit of a byte is set when the register of a is greater than or equal to the register of b
+            final long greaterOrEqual = ((x | HIGH_BITS) - y) & HIGH_BITS;
+            final long mask = (greaterOrEqual >>> 7) * 0xFF;
+            BitUtil.VH_LE_LONG.set(dest, destOffset + i, (x & mask) | (y & ~mask));
+        }
+        for (; i < length; i++) {
+            dest[destOffset + i] = (byte) Math.max(a[aOffset + i], b[bOffset + i]);
+        }
+    }
+
     static long index(long hash, int p) {
         return hash >>> (64 - p);
     }
@@ -32,12 +32,15 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.packed.PackedInts;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -68,6 +71,15 @@ public abstract class AbstractHyperLogLogPlusPlus extends AbstractCardinalityAlg
     /** Get HyperLogLog algorithm */
     protected abstract AbstractHyperLogLog.RunLenIterator getHyperLogLog(long bucketOrd);
 
+    /**
+     * Points {@code registers} to the HyperLogLog registers of the given bucket, which may be a reference to the registers of this
+     * data structure that must not be modified, so that they can be merged in bulk. Returns false if the registers can only be read
+     * with {@link #getHyperLogLog}.
+     */
+    protected boolean getHyperLogLogRegisters(long bucketOrd, BytesRef registers) {
+        return false;
+    }
+
     /** Get the number of data structures */
     public abstract long maxOrd();
 
@@ -134,6 +146,99 @@ public abstract class AbstractHyperLogLogPlusPlus extends AbstractCardinalityAlg
         }
     }
 
+    /**
+     * Writes the given bucket like {@link #writeTo} does, but in a more compact encoding: the hashes of linear counting are sorted and
+     * delta-encoded, and the HyperLogLog registers are bit-packed as offsets from the smallest register. Use {@link #readCompactFrom}
+     * to read it back.
+     */
+    public void writeCompactTo(long bucket, StreamOutput out) throws IOException {
+        out.writeVInt(precision());
+        if (getAlgorithm(bucket) == LINEAR_COUNTING) {
+            out.writeBoolean(LINEAR_COUNTING);
+            AbstractLinearCounting.HashesIterator hashes = getLinearCounting(bucket);
+            final int[] values = new int[hashes.size()];
+            for (int i = 0; hashes.next(); ++i) {
+                // flip the sign bit so that sorting signed values sorts the hashes as unsigned values
+                values[i] = hashes.value() ^ Integer.MIN_VALUE;
+            }
+            Arrays.sort(values);
+            out.writeVInt(values.length);
+            int previous = 0;
+            for (int value : values) {
+                final int hash = value ^ Integer.MIN_VALUE;
+                out.writeVInt(hash - previous);
+                previous = hash;
+            }
+        } else {
+            out.writeBoolean(HYPERLOGLOG);
+            final byte[] registers = new byte[1 << precision()];
+            AbstractHyperLogLog.RunLenIterator iterator = getHyperLogLog(bucket);
+            for (int i = 0; iterator.next(); ++i) {
+                registers[i] = iterator.value();
+            }
+            int min = Byte.MAX_VALUE;
+            int max = 0;
+            for (byte register : registers) {
+                min = Math.min(min, register);
+                max = Math.max(max, register);
+            }
+            final int bitsPerValue = PackedInts.bitsRequired(max - min);
+            out.writeByte((byte) min);
+            out.writeByte((byte) bitsPerValue);
+            // there are at least 16 registers, so that they always fill whole bytes
+            int pending = 0;
+            int pendingBits = 0;
+            for (byte register : registers) {
+                pending |= (register - min) << pendingBits;
+                pendingBits += bitsPerValue;
+                while (pendingBits >= Byte.SIZE) {
+                    out.writeByte((byte) pending);
+                    pending >>>= Byte.SIZE;
+                    pendingBits -= Byte.SIZE;
+                }
+            }
+            assert pendingBits == 0;
+        }
+    }
+
+    /**
+     * Reads a data structure that was written with {@link #writeCompactTo}.
+     */
+    public static AbstractHyperLogLogPlusPlus readCompactFrom(StreamInput in, BigArrays bigArrays) throws IOException {
+        final int precision = in.readVInt();
+        final boolean algorithm = in.readBoolean();
+        if (algorithm == LINEAR_COUNTING) {
+            // we use a sparse structure for linear counting
+            final int size = in.readVInt();
+            HyperLogLogPlusPlusSparse counts = new HyperLogLogPlusPlusSparse(precision, bigArrays, size, 1);
+            int hash = 0;
+            for (int i = 0; i < size; ++i) {
+                hash += in.readVInt();
+                counts.addEncoded(0, hash);
+            }
+            return counts;
+        } else {
+            final byte[] registers = new byte[1 << precision];
+            final int min = in.readByte();
+            final int bitsPerValue = in.readByte();
+            final int mask = (1 << bitsPerValue) - 1;
+            int pending = 0;
+            int pendingBits = 0;
+            for (int i = 0; i < registers.length; ++i) {
+                while (pendingBits < bitsPerValue) {
+                    pending |= Byte.toUnsignedInt(in.readByte()) << pendingBits;
+                    pendingBits += Byte.SIZE;
+                }
+                registers[i] = (byte) (min + (pending & mask));
+                pending >>>= bitsPerValue;
+                pendingBits -= bitsPerValue;
+            }
+            HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, bigArrays, 1);
+            counts.mergeRegisters(0, new BytesRef(registers));
+            return counts;
+        }
+    }
+
     public static AbstractHyperLogLogPlusPlus readFrom(StreamInput in, BigArrays bigArrays) throws IOException {
         final int precision = in.readVInt();
         final boolean algorithm = in.readBoolean();
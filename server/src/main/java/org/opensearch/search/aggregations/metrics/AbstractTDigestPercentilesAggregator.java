@@ -113,7 +113,7 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
         };
     }
 
-    private TDigestState getExistingOrNewHistogram(final BigArrays bigArrays, long bucket) {
+    protected TDigestState getExistingOrNewHistogram(final BigArrays bigArrays, long bucket) {
         states = bigArrays.grow(states, bucket + 1);
         TDigestState state = states.get(bucket);
         if (state == null) {
@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.plain.HllFieldData;
 import org.opensearch.index.mapper.HllFieldMapper;
@@ -42,7 +44,6 @@ import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -57,7 +58,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
+class CardinalityAggregatorFactory extends MetricAggregatorFactory {
 
     /**
      * Execution mode for cardinality agg
@@ -148,6 +149,16 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
         return true;
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.CARDINALITY;
+    }
+
+    @Override
+    public boolean supportsStarTree() {
+        return precision() == CardinalityValueAggregator.PRECISION;
+    }
+
     private int precision() {
         return precisionThreshold == null
             ? HyperLogLogPlusPlus.DEFAULT_PRECISION
@@ -141,6 +141,12 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         return hll.getRunLens(bucketOrd);
     }
 
+    @Override
+    protected boolean getHyperLogLogRegisters(long bucketOrd, BytesRef registers) {
+        hll.getRunLens(bucketOrd, registers);
+        return true;
+    }
+
     @Override
     public void collect(long bucket, long hash) {
         hll.ensureCapacity(bucket + 1);
@@ -199,8 +205,25 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         if (other.getAlgorithm(otherBucket) == LINEAR_COUNTING) {
             merge(thisBucket, other.getLinearCounting(otherBucket));
         } else {
-            merge(thisBucket, other.getHyperLogLog(otherBucket));
+            final BytesRef registers = new BytesRef();
+            if (other.getHyperLogLogRegisters(otherBucket, registers)) {
+                mergeRegisters(thisBucket, registers);
+            } else {
+                merge(thisBucket, other.getHyperLogLog(otherBucket));
+            }
+        }
+    }
+
+    /**
+     * Merges HyperLogLog registers into the given bucket in bulk.
+     */
+    void mergeRegisters(long thisBucket, BytesRef registers) {
+        assert registers.length == hll.m;
+        hll.ensureCapacity(thisBucket + 1);
+        if (algorithm.get(thisBucket) != HYPERLOGLOG) {
+            upgradeToHll(thisBucket);
         }
+        hll.merge(thisBucket, registers);
     }
 
     private void merge(long thisBucket, AbstractLinearCounting.HashesIterator values) {
@@ -237,6 +260,9 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         private final HyperLogLogIterator iterator;
         // array for holding the runlens.
         private ByteArray runLens;
+        // buffers for merging the runlens of a bucket in bulk, lazily allocated
+        private BytesRef readSpare;
+        private byte[] mergeSpare;
 
         HyperLogLog(BigArrays bigArrays, long initialBucketCount, int precision) {
             super(precision);
@@ -261,6 +287,20 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
             return iterator;
         }
 
+        protected void getRunLens(long bucketOrd, BytesRef ref) {
+            runLens.get(bucketOrd << p, m, ref);
+        }
+
+        protected void merge(long bucketOrd, BytesRef otherRunLens) {
+            if (mergeSpare == null) {
+                readSpare = new BytesRef();
+                mergeSpare = new byte[m];
+            }
+            runLens.get(bucketOrd << p, m, readSpare);
+            maxRunLens(readSpare.bytes, readSpare.offset, otherRunLens.bytes, otherRunLens.offset, mergeSpare, 0, m);
+            runLens.set(bucketOrd << p, mergeSpare, 0, m);
+        }
+
         protected void reset(long bucketOrd) {
             runLens.fill(bucketOrd << p, (bucketOrd << p) + m, (byte) 0);
         }
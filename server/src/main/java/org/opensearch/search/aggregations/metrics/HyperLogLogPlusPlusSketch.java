@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * A single bucket HyperLogLog++ sketch that lives on the heap, which star-tree indices build for each of their documents to
+ * pre-aggregate the cardinality of a field.
+ * <p>
+ * It encodes hashes and switches from linear counting to HyperLogLog exactly like {@link HyperLogLogPlusPlus} does, so that merging
+ * it into a {@link HyperLogLogPlusPlus} counts the same as collecting the hashes it was built from. Unlike {@link HyperLogLogPlusPlus},
+ * it only allocates its registers when it switches to HyperLogLog, which keeps the sketches of low cardinality documents small. For the
+ * same reason, {@link InternalCardinality} reduces shard results into such a sketch, which stays sparse for as long as the union of
+ * the shard results fits linear counting, and then merges registers in bulk.
+ *
+ * @opensearch.internal
+ */
+public final class HyperLogLogPlusPlusSketch extends AbstractHyperLogLogPlusPlus {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int MIN_CAPACITY = 8;
+    private static final float MAX_LOAD_FACTOR = 0.75f;
+
+    private final int maxCapacity;
+    private final int threshold;
+    private final LinearCounting linearCounting;
+    // an open addressing hash set of the encoded hashes, which are never 0, until the sketch switches to HyperLogLog
+    private int[] hashes = EMPTY;
+    private int size;
+    private Registers registers;
+
+    public HyperLogLogPlusPlusSketch(int precision) {
+        super(precision);
+        // the capacity of the hash set of HyperLogLogPlusPlus, and the number of hashes that it keeps before switching to HyperLogLog
+        this.maxCapacity = (1 << precision) / 4;
+        this.threshold = (int) (maxCapacity * MAX_LOAD_FACTOR);
+        this.linearCounting = new LinearCounting();
+    }
+
+    @Override
+    public long maxOrd() {
+        return 1;
+    }
+
+    @Override
+    public long cardinality(long bucketOrd) {
+        assert bucketOrd == 0;
+        return registers == null ? linearCounting.cardinality(0) : registers.cardinality(0);
+    }
+
+    @Override
+    protected boolean getAlgorithm(long bucketOrd) {
+        assert bucketOrd == 0;
+        return registers == null ? LINEAR_COUNTING : HYPERLOGLOG;
+    }
+
+    @Override
+    protected AbstractLinearCounting.HashesIterator getLinearCounting(long bucketOrd) {
+        assert bucketOrd == 0;
+        return linearCounting.values(0);
+    }
+
+    @Override
+    protected AbstractHyperLogLog.RunLenIterator getHyperLogLog(long bucketOrd) {
+        assert bucketOrd == 0;
+        return registers.getRunLens(0);
+    }
+
+    @Override
+    protected boolean getHyperLogLogRegisters(long bucketOrd, BytesRef ref) {
+        assert bucketOrd == 0;
+        ref.bytes = registers.runLens;
+        ref.offset = 0;
+        ref.length = registers.runLens.length;
+        return true;
+    }
+
+    @Override
+    public void collect(long bucketOrd, long hash) {
+        assert bucketOrd == 0;
+        if (registers == null) {
+            linearCounting.collect(0, hash);
+        } else {
+            registers.collect(0, hash);
+        }
+    }
+
+    /**
+     * Merges the given bucket of another sketch of the same precision into this sketch.
+     */
+    public void merge(AbstractHyperLogLogPlusPlus other, long otherBucket) {
+        if (precision() != other.precision()) {
+            throw new IllegalArgumentException(
+                "Cannot merge HLL++ sketches with different precision: " + precision() + " vs " + other.precision()
+            );
+        }
+        if (other.getAlgorithm(otherBucket) == LINEAR_COUNTING) {
+            AbstractLinearCounting.HashesIterator values = other.getLinearCounting(otherBucket);
+            while (values.next()) {
+                addEncoded(values.value());
+            }
+        } else {
+            if (registers == null) {
+                upgradeToHll();
+            }
+            final BytesRef otherRegisters = new BytesRef();
+            if (other.getHyperLogLogRegisters(otherBucket, otherRegisters)) {
+                final byte[] runLens = registers.runLens;
+                AbstractHyperLogLog.maxRunLens(runLens, 0, otherRegisters.bytes, otherRegisters.offset, runLens, 0, runLens.length);
+            } else {
+                AbstractHyperLogLog.RunLenIterator runLens = other.getHyperLogLog(otherBucket);
+                for (int i = 0; i < registers.runLens.length; i++) {
+                    runLens.next();
+                    registers.addRunLen(0, i, runLens.value());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this sketch.
+     */
+    public HyperLogLogPlusPlusSketch copy() {
+        HyperLogLogPlusPlusSketch copy = new HyperLogLogPlusPlusSketch(precision());
+        copy.merge(this, 0);
+        return copy;
+    }
+
+    @Override
+    public void close() {}
+
+    private int addEncoded(int encoded) {
+        if (registers != null) {
+            registers.collectEncoded(0, encoded);
+            return -1;
+        }
+        assert encoded != 0;
+        if (size >= hashes.length * MAX_LOAD_FACTOR && hashes.length < maxCapacity) {
+            resize(Math.min(Math.max(MIN_CAPACITY, hashes.length << 1), maxCapacity));
+        }
+        if (insert(hashes, encoded) == false) {
+            return -1;
+        }
+        size++;
+        if (size > threshold) {
+            upgradeToHll();
+        }
+        return size;
+    }
+
+    /**
+     * Adds the encoded hash to the given hash set, whose capacity is a power of two, unless it already holds it.
+     */
+    private static boolean insert(int[] hashes, int encoded) {
+        final int mask = hashes.length - 1;
+        for (int i = encoded & mask;; i = (i + 1) & mask) {
+            final int v = hashes[i];
+            if (v == 0) {
+                hashes[i] = encoded;
+                return true;
+            } else if (v == encoded) {
+                return false;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        final int[] resized = new int[capacity];
+        for (int encoded : hashes) {
+            if (encoded != 0) {
+                insert(resized, encoded);
+            }
+        }
+        hashes = resized;
+    }
+
+    private void upgradeToHll() {
+        registers = new Registers(precision());
+        for (int encoded : hashes) {
+            if (encoded != 0) {
+                registers.collectEncoded(0, encoded);
+            }
+        }
+        hashes = EMPTY;
+        size = 0;
+    }
+
+    /**
+     * Reads a sketch that was written with {@link #writeTo}.
+     */
+    public static HyperLogLogPlusPlusSketch readFrom(StreamInput in) throws IOException {
+        final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(in.readVInt());
+        if (in.readBoolean() == LINEAR_COUNTING) {
+            final int size = Math.toIntExact(in.readVLong());
+            for (int i = 0; i < size; i++) {
+                sketch.addEncoded(in.readInt());
+            }
+        } else {
+            sketch.upgradeToHll();
+            in.readBytes(sketch.registers.runLens, 0, sketch.registers.runLens.length);
+        }
+        return sketch;
+    }
+
+    /**
+     * Linear counting over the encoded hashes of the sketch
+     */
+    private final class LinearCounting extends AbstractLinearCounting {
+
+        LinearCounting() {
+            super(HyperLogLogPlusPlusSketch.this.precision());
+        }
+
+        @Override
+        protected int addEncoded(long bucketOrd, int encoded) {
+            return HyperLogLogPlusPlusSketch.this.addEncoded(encoded);
+        }
+
+        @Override
+        protected int size(long bucketOrd) {
+            return size;
+        }
+
+        @Override
+        protected HashesIterator values(long bucketOrd) {
+            final int[] values = hashes;
+            final int count = size;
+            return new HashesIterator() {
+                private int pos = -1;
+
+                @Override
+                public int size() {
+                    return count;
+                }
+
+                @Override
+                public boolean next() {
+                    while (++pos < values.length) {
+                        if (values[pos] != 0) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+                @Override
+                public int value() {
+                    return values[pos];
+                }
+            };
+        }
+    }
+
+    /**
+     * The HyperLogLog registers of the sketch
+     */
+    private static final class Registers extends AbstractHyperLogLog {
+
+        private final byte[] runLens;
+
+        Registers(int precision) {
+            super(precision);
+            this.runLens = new byte[m];
+        }
+
+        @Override
+        protected void addRunLen(long bucketOrd, int register, int runLen) {
+            if (runLen > runLens[register]) {
+                runLens[register] = (byte) runLen;
+            }
+        }
+
+        @Override
+        protected RunLenIterator getRunLens(long bucketOrd) {
+            return new RunLenIterator() {
+                private int pos = -1;
+
+                @Override
+                public boolean next() {
+                    return ++pos < runLens.length;
+                }
+
+                @Override
+                public byte value() {
+                    return runLens[pos];
+                }
+            };
+        }
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.Version;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -64,7 +65,11 @@ public final class InternalCardinality extends InternalNumericMetricsAggregation
         super(in);
         format = in.readNamedWriteable(DocValueFormat.class);
         if (in.readBoolean()) {
-            counts = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE);
+            if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+                counts = AbstractHyperLogLogPlusPlus.readCompactFrom(in, BigArrays.NON_RECYCLING_INSTANCE);
+            } else {
+                counts = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE);
+            }
         } else {
             counts = null;
         }
@@ -75,7 +80,11 @@ public final class InternalCardinality extends InternalNumericMetricsAggregation
         out.writeNamedWriteable(format);
         if (counts != null) {
             out.writeBoolean(true);
-            counts.writeTo(0, out);
+            if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+                counts.writeCompactTo(0, out);
+            } else {
+                counts.writeTo(0, out);
+            }
         } else {
             out.writeBoolean(false);
         }
@@ -102,14 +111,15 @@ public final class InternalCardinality extends InternalNumericMetricsAggregation
 
     @Override
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
-        HyperLogLogPlusPlus reduced = null;
+        // only allocates registers once the shard results no longer fit linear counting
+        HyperLogLogPlusPlusSketch reduced = null;
         for (InternalAggregation aggregation : aggregations) {
             final InternalCardinality cardinality = (InternalCardinality) aggregation;
             if (cardinality.counts != null) {
                 if (reduced == null) {
-                    reduced = new HyperLogLogPlusPlus(cardinality.counts.precision(), BigArrays.NON_RECYCLING_INSTANCE, 1);
+                    reduced = new HyperLogLogPlusPlusSketch(cardinality.counts.precision());
                 }
-                reduced.merge(0, cardinality.counts, 0);
+                reduced.merge(cardinality.counts, 0);
             }
         }
 
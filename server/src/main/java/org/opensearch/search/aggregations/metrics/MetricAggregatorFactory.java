@@ -34,4 +34,12 @@ public abstract class MetricAggregatorFactory extends ValuesSourceAggregatorFact
     }
 
     public abstract MetricStat getMetricStat();
+
+    /**
+     * Returns whether the values that the star-tree pre-aggregated for {@link #getMetricStat()} can answer this aggregation.
+     * Sketch metrics are pre-aggregated with fixed parameters, so aggregations that ask for more accurate sketches can't use them.
+     */
+    public boolean supportsStarTree() {
+        return true;
+    }
 }
@@ -32,13 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -53,7 +54,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
+class PercentilesAggregatorFactory extends MetricAggregatorFactory {
 
     private final double[] percents;
     private final PercentilesConfig percentilesConfig;
@@ -108,4 +109,16 @@ class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.PERCENTILES;
+    }
+
+    @Override
+    public boolean supportsStarTree() {
+        // merging the pre-aggregated t-digests into more accurate ones wouldn't make the result more accurate
+        return percentilesConfig instanceof PercentilesConfig.TDigest tDigest
+            && tDigest.getCompression() <= PercentilesValueAggregator.COMPRESSION;
+    }
 }
@@ -31,21 +31,32 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
+
 /**
  * Aggregate all docs into a single TDigest Percentile
  *
  * @opensearch.internal
  */
-class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator {
+class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator implements StarTreePreComputeCollector {
 
     TDigestPercentilesAggregator(
         String name,
@@ -61,6 +72,59 @@ class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator
         super(name, valuesSource, context, parent, percents, compression, keyed, formatter, metadata);
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if (valuesSource instanceof ValuesSource.Numeric == false) {
+            return false;
+        }
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            if (parent != null && subAggregators.length == 0) {
+                // If this a child aggregator, then the parent will trigger star-tree pre-computation.
+                // Returning NO_OP_COLLECTOR explicitly because the getLeafCollector() are invoked starting from innermost aggregators
+                return true;
+            }
+            StarTreeQueryHelper.precomputeLeafUsingStarTreeSketches(
+                context,
+                (ValuesSource.Numeric) valuesSource,
+                ctx,
+                supportedStarTree,
+                MetricStat.PERCENTILES.getTypeName(),
+                digest -> mergeStarTreeDigest(0, digest),
+                () -> {}
+            );
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The parent aggregator invokes this method to get a StarTreeBucketCollector,
+     * which exposes collectStarTreeEntry() to be evaluated on filtered star tree entries
+     */
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        return StarTreeQueryHelper.getStarTreeBucketSketchCollector(
+            starTree,
+            MetricStat.PERCENTILES.getTypeName(),
+            (ValuesSource.Numeric) valuesSource,
+            parentCollector,
+            (bucket) -> {},
+            this::mergeStarTreeDigest
+        );
+    }
+
+    /**
+     * Merges the t-digest that the star-tree pre-aggregated for the matching documents into the given bucket
+     */
+    private void mergeStarTreeDigest(long bucket, BytesRef digest) {
+        TDigestState state = getExistingOrNewHistogram(context.bigArrays(), bucket);
+        state.add(List.of(TDigestState.fromBytes(ByteBuffer.wrap(digest.bytes, digest.offset, digest.length))));
+    }
+
     @Override
     public InternalAggregation buildAggregation(long owningBucketOrdinal) {
         TDigestState state = getState(owningBucketOrdinal);
@@ -112,12 +112,19 @@ public class TDigestState extends MergingDigest {
             int byteSize = in.readVInt();
             byte[] bytes = new byte[byteSize];
             in.readBytes(bytes, 0, byteSize);
-            MergingDigest mergingDigest = MergingDigest.fromBytes(ByteBuffer.wrap(bytes));
-            if (mergingDigest.centroids().isEmpty()) {
-                return new TDigestState(mergingDigest.compression());
-            }
-            return new TDigestState(mergingDigest.compression(), mergingDigest);
+            return fromBytes(ByteBuffer.wrap(bytes));
+        }
+    }
+
+    /**
+     * Reads a digest that was serialized with {@link MergingDigest#asBytes} or {@link MergingDigest#asSmallBytes}.
+     */
+    public static TDigestState fromBytes(ByteBuffer buf) {
+        MergingDigest mergingDigest = MergingDigest.fromBytes(buf);
+        if (mergingDigest.centroids().isEmpty()) {
+            return new TDigestState(mergingDigest.compression());
         }
+        return new TDigestState(mergingDigest.compression(), mergingDigest);
     }
 
     @Override
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.StoredFieldsReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TotalHits;
@@ -100,6 +101,10 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    // the minimum number of docs of a segment, and their maximum average distance, to read their stored fields sequentially
+    static final int SEQUENTIAL_READ_MIN_DOCS = 10;
+    static final int SEQUENTIAL_READ_MAX_AVERAGE_GAP = 8;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -175,7 +180,6 @@ public class FetchPhase {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
         for (int index = 0; index < context.docIdsToLoadSize(); index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
@@ -190,10 +194,11 @@ public class FetchPhase {
                         () -> context.searcher().getIndexReader().leaves().get(readerIndex)
                     );
                     currentReaderIndex = readerIndex;
+                    final int leafDocsEnd = leafDocsEnd(docs, index, currentReaderContext);
+                    final StoredFields storedFields;
                     if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
-                        && hasSequentialDocs
-                        && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
+                        && hasDenseDocs(docs, index, leafDocsEnd)) {
+                        // The docs to fetch from this segment are close to each other but Lucene stored fields are optimized
                         // for random access and don't optimize for sequential access - except for merging.
                         // So we do a little hack here and pretend we're going to do merges in order to
                         // get better sequential access.
@@ -210,9 +215,17 @@ public class FetchPhase {
                         } else {
                             sequentialReader = lf.getSequentialStoredFieldsReader();
                         }
-                        fieldReader = sequentialReader::document;
+                        storedFields = sequentialReader;
                     } else {
-                        fieldReader = currentReaderContext.reader().storedFields()::document;
+                        storedFields = currentReaderContext.reader().storedFields();
+                    }
+                    fieldReader = storedFields::document;
+                    if (fieldsVisitor != null && leafDocsEnd - index > 1) {
+                        // let the directory fetch the blocks of all the docs of this segment ahead of reading them one by one,
+                        // which matters most when they are not in the page cache yet, like on remote or warm shards
+                        for (int i = index; i < leafDocsEnd; i++) {
+                            storedFields.prefetch(docs[i].docId - currentReaderContext.docBase);
+                        }
                     }
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
@@ -711,10 +724,25 @@ public class FetchPhase {
     }
 
     /**
-     * Returns <code>true</code> if the provided <code>docs</code> are
-     * stored sequentially (Dn = Dn-1 + 1).
+     * Returns the end, exclusive, of the docs of the given segment, which start at the given index of the sorted <code>docs</code>.
+     */
+    static int leafDocsEnd(DocIdToIndex[] docs, int from, LeafReaderContext leaf) {
+        final int leafEnd = leaf.docBase + leaf.reader().maxDoc();
+        int to = from;
+        while (to < docs.length && docs[to].docId < leafEnd) {
+            to++;
+        }
+        return to;
+    }
+
+    /**
+     * Returns <code>true</code> if there are enough of the sorted <code>docs</code> between <code>from</code> and <code>to</code>,
+     * and if they are close enough to each other, that most of them share their compressed stored fields block with the previous
+     * doc, so that reading them sequentially decompresses each block once.
      */
-    static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
+    static boolean hasDenseDocs(DocIdToIndex[] docs, int from, int to) {
+        final int count = to - from;
+        return count >= SEQUENTIAL_READ_MIN_DOCS
+            && (long) docs[to - 1].docId - docs[from].docId < (long) count * SEQUENTIAL_READ_MAX_AVERAGE_GAP;
     }
 }
@@ -98,6 +98,9 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -119,6 +122,10 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    // the time taken by the slowest slice and by all the slices that were searched, to report the imbalance of the slices
+    private final LongAccumulator maxSliceNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder totalSliceNanos = new LongAdder();
+    private final LongAdder searchedSlices = new LongAdder();
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -302,6 +309,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     @Override
     protected void search(LeafReaderContextPartition[] partitions, Weight weight, Collector collector) throws IOException {
         searchContext.indexShard().getSearchOperationListener().onPreSliceExecution(searchContext);
+        final long startNanos = System.nanoTime();
         try {
             // Time series based workload by default traverses segments in desc order i.e. latest to the oldest order.
             // This is actually beneficial for search queries to start search on latest segments first for time series workload.
@@ -322,9 +330,20 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             searchContext.indexShard().getSearchOperationListener().onFailedSliceExecution(searchContext);
             throw t;
         }
+        final long sliceNanos = System.nanoTime() - startNanos;
+        maxSliceNanos.accumulate(sliceNanos);
+        totalSliceNanos.add(sliceNanos);
+        searchedSlices.increment();
         searchContext.indexShard().getSearchOperationListener().onSliceExecution(searchContext);
     }
 
+    /**
+     * Searches a single leaf with the given collector, which is finished but not post-collected, like a leaf of a regular search.
+     */
+    public void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+        searchLeaf(ctx, 0, DocIdSetIterator.NO_MORE_DOCS, weight, collector);
+    }
+
     /**
      * Lower-level search API.
      * <p>
@@ -577,7 +596,22 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     @Override
     protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
-        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount());
+        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount(), searchContext.getCostAwareSlicesPerTarget());
+    }
+
+    /**
+     * Returns the time in nanoseconds that the slowest slice searched by this searcher took.
+     */
+    public long getMaxSliceTimeInNanos() {
+        return maxSliceNanos.get();
+    }
+
+    /**
+     * Returns the average time in nanoseconds that the slices searched by this searcher took.
+     */
+    public long getMeanSliceTimeInNanos() {
+        final long slices = searchedSlices.sum();
+        return slices == 0 ? 0 : totalSliceNanos.sum() / slices;
     }
 
     public DirectoryReader getDirectoryReader() {
@@ -648,8 +682,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     // package-private for testing
     LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
+        return slicesInternal(leaves, targetMaxSlice, 0);
+    }
+
+    // package-private for testing
+    LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice, int costAwareSlicesPerTarget) {
         LeafSlice[] leafSlices;
-        if (targetMaxSlice == 0) {
+        if (targetMaxSlice > 0 && costAwareSlicesPerTarget > 0) {
+            // use the custom slice calculation based on the estimated cost of the query on each leaf
+            leafSlices = CostAwareSliceSupplier.getSlices(leaves, targetMaxSlice, costAwareSlicesPerTarget, leafCost());
+            logger.debug("Slice count using cost aware slice supplier [{}]", leafSlices.length);
+        } else if (targetMaxSlice == 0) {
             // use the default lucene slice calculation
             leafSlices = super.slices(leaves);
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
@@ -660,4 +703,34 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
         return leafSlices;
     }
+
+    /**
+     * Returns the function that estimates the cost of searching a leaf with the query of the search context, which is the cost of
+     * the query on that leaf, or the number of live documents of the leaf if the cost of the query cannot be estimated.
+     */
+    private ToLongFunction<LeafReaderContext> leafCost() {
+        final Query query = searchContext.query();
+        if (query == null) {
+            return CostAwareSliceSupplier::liveDocsCost;
+        }
+        // estimating costs must neither populate nor count as a use of the query cache, so use a searcher without one
+        final IndexSearcher costSearcher = new IndexSearcher(getIndexReader());
+        costSearcher.setQueryCache(null);
+        final Weight weight;
+        try {
+            weight = costSearcher.createWeight(costSearcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("failed to estimate the cost of the query, slicing by live documents", e);
+            return CostAwareSliceSupplier::liveDocsCost;
+        }
+        return leaf -> {
+            try {
+                final ScorerSupplier scorerSupplier = weight.scorerSupplier(leaf);
+                return scorerSupplier == null ? 0 : scorerSupplier.cost();
+            } catch (IOException | RuntimeException e) {
+                logger.debug("failed to estimate the cost of the query on a leaf, using its live documents", e);
+                return CostAwareSliceSupplier.liveDocsCost(leaf);
+            }
+        };
+    }
 }
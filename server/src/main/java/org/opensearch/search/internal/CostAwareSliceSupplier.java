@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Supplier to compute leaf slices based on the estimated cost of searching each leaf, rather than on its document count like
+ * {@link MaxTargetSliceSupplier}. The cost of a leaf is the cost of the query on that leaf when it can be estimated, and its number of
+ * live documents otherwise, so that segments with many deleted documents or few matching documents do not make a slice look busier
+ * than it is.
+ * <p>
+ * Leaves are assigned to slices from the most to the least costly one, each to the slice with the lowest cost so far. More slices
+ * than the target slice count can be requested: the search threads that are done with their slices then pick up the slices that
+ * are still queued, which evens out the error of the cost estimates.
+ *
+ * @opensearch.internal
+ */
+final class CostAwareSliceSupplier {
+
+    private CostAwareSliceSupplier() {}
+
+    /**
+     * Returns the cost of searching the given leaf when the cost of the query cannot be estimated.
+     */
+    static long liveDocsCost(LeafReaderContext leaf) {
+        return leaf.reader().numDocs();
+    }
+
+    static IndexSearcher.LeafSlice[] getSlices(
+        List<LeafReaderContext> leaves,
+        int targetMaxSlice,
+        int slicesPerTarget,
+        ToLongFunction<LeafReaderContext> leafCost
+    ) {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("CostAwareSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        if (slicesPerTarget <= 0) {
+            throw new IllegalArgumentException("CostAwareSliceSupplier called with unexpected slices per target of " + slicesPerTarget);
+        }
+
+        // slice count should not exceed the segment count
+        final int sliceCount = (int) Math.min((long) targetMaxSlice * slicesPerTarget, leaves.size());
+
+        final List<CostedLeaf> sortedLeaves = new ArrayList<>(leaves.size());
+        for (LeafReaderContext leaf : leaves) {
+            sortedLeaves.add(new CostedLeaf(leaf, Math.max(0, leafCost.applyAsLong(leaf))));
+        }
+        // Sort by cost, descending, and by maxDoc for leaves of the same cost:
+        sortedLeaves.sort(
+            Comparator.comparingLong((CostedLeaf l) -> l.cost).thenComparingInt(l -> l.leaf.reader().maxDoc()).reversed()
+        );
+
+        final List<List<IndexSearcher.LeafReaderContextPartition>> groupedLeaves = new ArrayList<>(sliceCount);
+        final PriorityQueue<Group> groupQueue = new PriorityQueue<>(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            groupedLeaves.add(new ArrayList<>());
+            groupQueue.offer(new Group(i));
+        }
+        for (CostedLeaf costedLeaf : sortedLeaves) {
+            final Group minGroup = groupQueue.poll();
+            groupedLeaves.get(minGroup.index).add(IndexSearcher.LeafReaderContextPartition.createForEntireSegment(costedLeaf.leaf));
+            minGroup.cost += costedLeaf.cost;
+            minGroup.leaves++;
+            groupQueue.offer(minGroup);
+        }
+
+        // the most costly slices come first, so that they are started first when there are more slices than search threads
+        final List<Group> groups = new ArrayList<>(groupQueue);
+        groups.sort(Comparator.comparingLong((Group g) -> g.cost).reversed().thenComparingInt(g -> g.index));
+        return groups.stream().map(g -> new IndexSearcher.LeafSlice(groupedLeaves.get(g.index))).toArray(IndexSearcher.LeafSlice[]::new);
+    }
+
+    private static final class CostedLeaf {
+        final LeafReaderContext leaf;
+        final long cost;
+
+        CostedLeaf(LeafReaderContext leaf, long cost) {
+            this.leaf = leaf;
+            this.cost = cost;
+        }
+    }
+
+    static final class Group implements Comparable<Group> {
+        final int index;
+        long cost;
+        int leaves;
+
+        Group(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(Group other) {
+            // groups of the same cost take turns, so that leaves without cost are spread too and no slice stays empty
+            final int cmp = Long.compare(this.cost, other.cost);
+            if (cmp != 0) {
+                return cmp;
+            }
+            return Integer.compare(this.leaves, other.leaves);
+        }
+    }
+}
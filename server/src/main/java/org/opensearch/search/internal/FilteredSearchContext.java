@@ -578,6 +578,11 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.getTargetMaxSliceCount();
     }
 
+    @Override
+    public int getCostAwareSlicesPerTarget() {
+        return in.getCostAwareSlicesPerTarget();
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return in.shouldUseTimeSeriesDescSortOptimization();
@@ -522,6 +522,14 @@ public abstract class SearchContext implements Releasable {
 
     public abstract int getTargetMaxSliceCount();
 
+    /**
+     * Returns the number of slices to create per target slice when the leaves are grouped into slices by their estimated cost for
+     * the query, or {@code 0} when they are grouped by their document count.
+     */
+    public int getCostAwareSlicesPerTarget() {
+        return 0;
+    }
+
     @ExperimentalApi
     public long getStreamingMaxEstimatedBucketCount() {
         return 100_000L;
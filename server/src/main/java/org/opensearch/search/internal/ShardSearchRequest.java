@@ -106,6 +106,8 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
 
     private boolean canReturnNullResponseIfMatchNoDocs;
     private SearchSortValuesAndFormats bottomSortValues;
+    // not serialized, only set on the shard once the query was put in its canonical form for the request cache
+    private boolean canonicalized;
 
     // these are the only mutable fields, as they are subject to rewriting
     private AliasFilter aliasFilter;
@@ -287,6 +289,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.preference = clone.preference;
         this.canReturnNullResponseIfMatchNoDocs = clone.canReturnNullResponseIfMatchNoDocs;
         this.bottomSortValues = clone.bottomSortValues;
+        this.canonicalized = clone.canonicalized;
         this.originalIndices = clone.originalIndices;
         this.readerId = clone.readerId;
         this.keepAlive = clone.keepAlive;
@@ -452,6 +455,18 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.canReturnNullResponseIfMatchNoDocs = value;
     }
 
+    /**
+     * Returns true if the query of this request was put in its canonical form so that equivalent requests share their entry in the
+     * request cache.
+     */
+    public boolean isCanonicalized() {
+        return canonicalized;
+    }
+
+    public void setCanonicalized(boolean canonicalized) {
+        this.canonicalized = canonicalized;
+    }
+
     private static final ThreadLocal<BytesStreamOutput> scratch = ThreadLocal.withInitial(BytesStreamOutput::new);
 
     /**
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query.rewriters;
+
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.lucene.BytesRefs;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
+import org.opensearch.index.mapper.DateFieldMapper.Resolution;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.search.query.QueryRewriter;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Puts a query in a canonical form, so that queries that only differ in the way they are written share their entry in the request
+ * cache, whose key is the serialized search request. It:
+ * <ul>
+ *   <li>sorts the clauses of bool queries, whose order doesn't matter,</li>
+ *   <li>sorts and deduplicates the values of terms queries,</li>
+ *   <li>resolves the bounds of range queries on millisecond date fields to inclusive epoch milliseconds, whatever their format and
+ *       time zone, for example:
+ * <pre>
+ * {"range": {"@timestamp": {"gt": "01/01/2024", "format": "MM/dd/yyyy", "time_zone": "+01:00"}}}
+ * </pre>
+ *       becomes:
+ * <pre>
+ * {"range": {"@timestamp": {"gte": 1704150000000, "format": "epoch_millis"}}}
+ * </pre>
+ *   </li>
+ * </ul>
+ * Date math that uses {@code now} is resolved against the start time of the search rounded down to the configured granularity, which
+ * makes these queries cacheable at the cost of matching up to that granularity of stale data. Such ranges are left untouched when no
+ * granularity is configured.
+ * <p>
+ * Unlike the other rewriters, this one depends on the request it rewrites, so it isn't part of the {@code QueryRewriterRegistry}.
+ *
+ * @opensearch.internal
+ */
+public class RequestCacheKeyRewriter implements QueryRewriter {
+
+    private static final String EPOCH_MILLIS = "epoch_millis";
+
+    private final long nowInMillis;
+    private final long nowRoundingInMillis;
+
+    /**
+     * Creates a rewriter for a search request.
+     *
+     * @param nowInMillis The start time of the search request
+     * @param nowRoundingInMillis The granularity that {@code now} is rounded down to, or 0 to leave ranges that use {@code now} alone
+     */
+    public RequestCacheKeyRewriter(long nowInMillis, long nowRoundingInMillis) {
+        this.nowInMillis = nowInMillis;
+        this.nowRoundingInMillis = nowRoundingInMillis;
+    }
+
+    @Override
+    public QueryBuilder rewrite(QueryBuilder query, QueryShardContext context) {
+        if (query instanceof BoolQueryBuilder boolQuery) {
+            return rewriteBool(boolQuery, context);
+        } else if (query instanceof ConstantScoreQueryBuilder constantScoreQuery) {
+            final QueryBuilder inner = rewrite(constantScoreQuery.innerQuery(), context);
+            if (inner == constantScoreQuery.innerQuery()) {
+                return query;
+            }
+            return new ConstantScoreQueryBuilder(inner).boost(constantScoreQuery.boost()).queryName(constantScoreQuery.queryName());
+        } else if (query instanceof TermsQueryBuilder termsQuery) {
+            return rewriteTerms(termsQuery);
+        } else if (query instanceof RangeQueryBuilder rangeQuery) {
+            return rewriteRange(rangeQuery, context);
+        }
+        return query;
+    }
+
+    private QueryBuilder rewriteBool(BoolQueryBuilder boolQuery, QueryShardContext context) {
+        final BoolQueryBuilder rewritten = new BoolQueryBuilder();
+        rewritten.boost(boolQuery.boost());
+        rewritten.queryName(boolQuery.queryName());
+        rewritten.minimumShouldMatch(boolQuery.minimumShouldMatch());
+        rewritten.adjustPureNegative(boolQuery.adjustPureNegative());
+        rewriteClauses(boolQuery.must(), context, rewritten::must);
+        rewriteClauses(boolQuery.filter(), context, rewritten::filter);
+        rewriteClauses(boolQuery.should(), context, rewritten::should);
+        rewriteClauses(boolQuery.mustNot(), context, rewritten::mustNot);
+        return rewritten.equals(boolQuery) ? boolQuery : rewritten;
+    }
+
+    private void rewriteClauses(List<QueryBuilder> clauses, QueryShardContext context, Consumer<QueryBuilder> consumer) {
+        if (clauses.size() == 1) {
+            consumer.accept(rewrite(clauses.get(0), context));
+            return;
+        }
+        // clauses are ordered by their rendering, which is computed once per clause
+        final List<Tuple<String, QueryBuilder>> rewritten = new ArrayList<>(clauses.size());
+        for (QueryBuilder clause : clauses) {
+            final QueryBuilder rewrittenClause = rewrite(clause, context);
+            rewritten.add(new Tuple<>(rewrittenClause.toString(), rewrittenClause));
+        }
+        rewritten.sort(Comparator.comparing(Tuple::v1));
+        for (Tuple<String, QueryBuilder> clause : rewritten) {
+            consumer.accept(clause.v2());
+        }
+    }
+
+    private static QueryBuilder rewriteTerms(TermsQueryBuilder termsQuery) {
+        if (termsQuery.termsLookup() != null
+            || termsQuery.values() == null
+            || termsQuery.valueType() != TermsQueryBuilder.ValueType.DEFAULT) {
+            return termsQuery;
+        }
+        final List<Object> values = new ArrayList<>(termsQuery.values());
+        values.sort(Comparator.comparing(BytesRefs::toString));
+        final List<Object> distinctValues = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (distinctValues.isEmpty() || Objects.equals(distinctValues.get(distinctValues.size() - 1), value) == false) {
+                distinctValues.add(value);
+            }
+        }
+        if (distinctValues.equals(termsQuery.values())) {
+            return termsQuery;
+        }
+        return new TermsQueryBuilder(termsQuery.fieldName(), distinctValues).boost(termsQuery.boost()).queryName(termsQuery.queryName());
+    }
+
+    private QueryBuilder rewriteRange(RangeQueryBuilder rangeQuery, QueryShardContext context) {
+        final MappedFieldType fieldType = context.fieldMapper(rangeQuery.fieldName());
+        if (fieldType instanceof DateFieldType == false || ((DateFieldType) fieldType).resolution() != Resolution.MILLISECONDS) {
+            return rangeQuery;
+        }
+        final DateFieldType dateFieldType = (DateFieldType) fieldType;
+        final boolean[] usesNow = new boolean[1];
+        final long roundedNow = nowRoundingInMillis > 0 ? nowInMillis - Math.floorMod(nowInMillis, nowRoundingInMillis) : nowInMillis;
+        Long fromInclusive = null;
+        Long toInclusive = null;
+        try {
+            final ZoneId timeZone = rangeQuery.timeZone() == null ? null : ZoneId.of(rangeQuery.timeZone());
+            final DateMathParser dateParser = rangeQuery.format() == null
+                ? null
+                : DateFormatter.forPattern(rangeQuery.format()).toDateMathParser();
+            if (rangeQuery.from() != null) {
+                final boolean includeLower = rangeQuery.includeLower();
+                long from = dateFieldType.parseToLong(rangeQuery.from(), includeLower == false, timeZone, dateParser, () -> {
+                    usesNow[0] = true;
+                    return roundedNow;
+                });
+                if (includeLower == false) {
+                    if (from == Long.MAX_VALUE) {
+                        return rangeQuery;
+                    }
+                    ++from;
+                }
+                fromInclusive = from;
+            }
+            if (rangeQuery.to() != null) {
+                final boolean includeUpper = rangeQuery.includeUpper();
+                long to = dateFieldType.parseToLong(rangeQuery.to(), includeUpper, timeZone, dateParser, () -> {
+                    usesNow[0] = true;
+                    return roundedNow;
+                });
+                if (includeUpper == false) {
+                    if (to == Long.MIN_VALUE) {
+                        return rangeQuery;
+                    }
+                    --to;
+                }
+                toInclusive = to;
+            }
+        } catch (RuntimeException e) {
+            // let the query report the bounds it can't parse
+            return rangeQuery;
+        }
+        if (usesNow[0] && nowRoundingInMillis <= 0) {
+            return rangeQuery;
+        }
+        final RangeQueryBuilder rewritten = new RangeQueryBuilder(rangeQuery.fieldName()).from(fromInclusive, true)
+            .to(toInclusive, true)
+            .format(EPOCH_MILLIS)
+            .boost(rangeQuery.boost())
+            .queryName(rangeQuery.queryName());
+        if (rangeQuery.relation() != null) {
+            rewritten.relation(rangeQuery.relation().getRelationName());
+        }
+        return rewritten;
+    }
+
+    @Override
+    public String name() {
+        return "request_cache_key";
+    }
+}
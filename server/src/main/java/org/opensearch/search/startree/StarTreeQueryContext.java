@@ -21,6 +21,8 @@ import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTime
 import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationFactory;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationFactory;
@@ -108,7 +110,7 @@ public class StarTreeQueryContext {
     public boolean consolidateAllFilters(SearchContext context) {
         // Validate the fields and metrics required by aggregations are supported in star tree
         for (AggregatorFactory aggregatorFactory : context.aggregations().factories().getFactories()) {
-            if (validateNestedAggregationStructure(compositeMappedFieldType, aggregatorFactory)) {
+            if (validateNestedAggregationStructure(context, compositeMappedFieldType, aggregatorFactory)) {
                 continue;
             }
             // invalid query shape
@@ -145,7 +147,10 @@ public class StarTreeQueryContext {
             MetricStat metricStat = metricAggregatorFactory.getMetricStat();
             field = metricAggregatorFactory.getField();
 
-            return field != null && supportedMetrics.containsKey(field) && supportedMetrics.get(field).contains(metricStat);
+            return field != null
+                && supportedMetrics.containsKey(field)
+                && supportedMetrics.get(field).contains(metricStat)
+                && metricAggregatorFactory.supportsStarTree();
         }
         return false;
     }
@@ -172,7 +177,15 @@ public class StarTreeQueryContext {
             .anyMatch(dimension -> rangeAggregatorFactory.getField().equals(dimension.getField()) && dimension instanceof NumericDimension);
     }
 
-    private StarTreeFilter getStarTreeFilter(
+    /**
+     * Returns the {@link StarTreeFilter} that matches the same documents as the provided query, or null if the query can't be
+     * resolved against the star-tree of this context.
+     */
+    public StarTreeFilter getStarTreeFilter(SearchContext context, QueryBuilder queryBuilder) {
+        return getStarTreeFilter(context, queryBuilder, compositeMappedFieldType);
+    }
+
+    private static StarTreeFilter getStarTreeFilter(
         SearchContext context,
         QueryBuilder queryBuilder,
         CompositeDataCubeFieldType compositeMappedFieldType
@@ -238,7 +251,30 @@ public class StarTreeQueryContext {
             .containsAll(multiTermsAggregationFactory.getRequestFields());
     }
 
+    private static boolean validateCompositeAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        CompositeAggregationFactory compositeAggregationFactory
+    ) {
+        // Every source must resolve against a dimension, the after key is applied while traversing the star-tree
+        return compositeAggregationFactory.getStarTreeDimensions(compositeIndexFieldInfo) != null;
+    }
+
+    private static boolean validateFiltersAggregationSupport(
+        SearchContext context,
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        FiltersAggregatorFactory filtersAggregatorFactory
+    ) {
+        // Every filter must resolve against dimensions
+        for (QueryBuilder filter : filtersAggregatorFactory.getFilters()) {
+            if (getStarTreeFilter(context, filter, compositeIndexFieldInfo) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean validateNestedAggregationStructure(
+        SearchContext context,
         CompositeDataCubeFieldType compositeIndexFieldInfo,
         AggregatorFactory aggregatorFactory
     ) {
@@ -265,6 +301,15 @@ public class StarTreeQueryContext {
                 compositeIndexFieldInfo,
                 multiTermsAggregationFactory
             );
+            case CompositeAggregationFactory compositeAggregationFactory -> isValid = validateCompositeAggregationSupport(
+                compositeIndexFieldInfo,
+                compositeAggregationFactory
+            );
+            case FiltersAggregatorFactory filtersAggregatorFactory -> isValid = validateFiltersAggregationSupport(
+                context,
+                compositeIndexFieldInfo,
+                filtersAggregatorFactory
+            );
             case null, default -> {
                 return false;
             }
@@ -273,7 +318,7 @@ public class StarTreeQueryContext {
         if (isValid == false) return false;
 
         for (AggregatorFactory subFactory : aggregatorFactory.getSubFactories().getFactories()) {
-            if (!validateNestedAggregationStructure(compositeIndexFieldInfo, subFactory)) {
+            if (!validateNestedAggregationStructure(context, compositeIndexFieldInfo, subFactory)) {
                 return false;
             }
         }
@@ -59,6 +59,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.AllocationId;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -68,6 +69,7 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
@@ -75,6 +77,7 @@ import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.MetadataFieldMapper;
@@ -83,6 +86,7 @@ import org.opensearch.index.remote.RemoteStorePressureService;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardNotFoundException;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.IndicesService;
@@ -293,6 +297,149 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testParseDocumentsAheadOfExecution() throws Exception {
+        final int parallelism = randomIntBetween(2, 8);
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder().put(IndexSettings.INDEX_BULK_PARSE_PARALLELISM_SETTING.getKey(), parallelism).build()
+        );
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(4, 50)];
+        for (int i = 0; i < items.length - 1; i++) {
+            IndexRequest writeRequest = new IndexRequest("index").id("id_" + i);
+            if (i == 1) {
+                writeRequest.source("{\"foo\": ", Requests.INDEX_CONTENT_TYPE);
+            } else {
+                writeRequest.source(Requests.INDEX_CONTENT_TYPE);
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        items[items.length - 1] = new BulkItemRequest(items.length - 1, new DeleteRequest("index", "id_0"));
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        IndexShard.PreParsedDocument[] documents = TransportShardBulkAction.parseDocuments(
+            bulkShardRequest,
+            shard,
+            parallelism,
+            threadPool,
+            Names.WRITE
+        );
+        assertThat(documents, arrayWithSize(items.length));
+        for (int i = 0; i < items.length; i++) {
+            if (i == 1 || i == items.length - 1) {
+                // malformed documents and deletes are not parsed upfront
+                assertThat(documents[i], nullValue());
+            } else {
+                assertThat(documents[i], notNullValue());
+            }
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> {},
+            ActionListener.runAfter(ActionTestUtils.assertNoFailureListener(result -> {
+                BulkItemResponse[] responses = result.finalResponseIfSuccessful.getResponses();
+                assertThat(responses, arrayWithSize(items.length));
+                for (int i = 0; i < items.length; i++) {
+                    assertThat(responses[i].getItemId(), equalTo(i));
+                    if (i == 1) {
+                        assertTrue(responses[i].isFailed());
+                        assertThat(responses[i].getFailure().getCause(), instanceOf(MapperParsingException.class));
+                    } else {
+                        assertFalse(responses[i].isFailed());
+                    }
+                }
+                assertThat(responses[items.length - 1].getResponse().getResult(), equalTo(DocWriteResponse.Result.DELETED));
+                try {
+                    assertDocCount(shard, items.length - 3);
+                    closeShards(shard);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }), latch::countDown),
+            threadPool,
+            Names.WRITE
+        );
+
+        latch.await();
+    }
+
+    public void testBatchDynamicMappingUpdates() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder().put(IndexSettings.INDEX_BULK_BATCH_DYNAMIC_MAPPING_UPDATES_SETTING.getKey(), true).build()
+        );
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 10)];
+        for (int i = 0; i < items.length; i++) {
+            IndexRequest writeRequest = new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE, "field_" + i, i);
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        AtomicInteger batchedUpdates = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        MappingUpdatePerformer mappingUpdater = new MappingUpdatePerformer() {
+            @Override
+            public void updateMappings(Mapping update, ShardId shardId, ActionListener<Void> listener) {
+                throw new AssertionError("the dynamic mapping updates of the items should have been batched");
+            }
+
+            @Override
+            public void updateMappings(Mapping update, int mergedUpdates, ShardId shardId, ActionListener<Void> listener) {
+                // the first item requests the mapping updates of all items
+                assertThat(mergedUpdates, equalTo(items.length));
+                batchedUpdates.incrementAndGet();
+                for (int i = 0; i < items.length; i++) {
+                    assertNotNull(update.root().getMapper("field_" + i));
+                }
+                try {
+                    shard.mapperService()
+                        .merge(
+                            MapperService.SINGLE_MAPPING_NAME,
+                            new CompressedXContent(update, ToXContent.EMPTY_PARAMS),
+                            MapperService.MergeReason.MAPPING_UPDATE
+                        );
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                listener.onResponse(null);
+            }
+        };
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            mappingUpdater,
+            listener -> listener.onResponse(null),
+            ActionListener.runAfter(ActionTestUtils.assertNoFailureListener(result -> {
+                BulkItemResponse[] responses = result.finalResponseIfSuccessful.getResponses();
+                assertThat(responses, arrayWithSize(items.length));
+                for (BulkItemResponse response : responses) {
+                    assertFalse(response.isFailed());
+                }
+            }), latch::countDown),
+            threadPool,
+            Names.WRITE
+        );
+        latch.await();
+
+        assertThat(batchedUpdates.get(), equalTo(1));
+        for (int i = 0; i < items.length; i++) {
+            assertNotNull(shard.mapperService().fieldType("field_" + i));
+        }
+        IndexingStats.Stats indexingStats = shard.indexingStats().getTotal();
+        assertThat(indexingStats.getBatchedMappingUpdateCount(), equalTo(1L));
+        assertThat(indexingStats.getAvoidedMappingUpdateCount(), equalTo((long) items.length - 1));
+        closeShards(shard);
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
@@ -1336,6 +1483,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
             IndexShard shard = mock(IndexShard.class);
             when(shard.shardId()).thenReturn(shardId);
+            when(shard.indexSettings()).thenReturn(new IndexSettings(indexMetadata(), Settings.EMPTY));
             when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
                 success1,
                 mappingUpdate,
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+public class PipelinedFetchTests extends OpenSearchTestCase {
+
+    public void testPrefetchesTopDocsPrefix() {
+        final PipelinedFetch pipelinedFetch = new PipelinedFetch(4, 3);
+
+        // prefetching waits for half of the shards
+        assertTrue(pipelinedFetch.onQueryResult(queryResult(0, 10f, 1f)).isEmpty());
+
+        List<PipelinedFetch.Prefetch> prefetches = pipelinedFetch.onQueryResult(queryResult(1, 9f, 8f, 7f));
+        assertEquals(2, prefetches.size());
+        assertEquals(1, pipelinedFetch.getPrefetch(0).docCount);
+        assertArrayEquals(new int[] { 0 }, pipelinedFetch.getPrefetch(0).request.docIds());
+        assertEquals(2, pipelinedFetch.getPrefetch(1).docCount);
+        assertArrayEquals(new int[] { 0, 1 }, pipelinedFetch.getPrefetch(1).request.docIds());
+
+        prefetches = pipelinedFetch.onQueryResult(queryResult(2, 0.5f));
+        // no document of this shard is in the top docs so far
+        assertTrue(prefetches.isEmpty());
+        assertNull(pipelinedFetch.getPrefetch(2));
+
+        prefetches = pipelinedFetch.onQueryResult(queryResult(3, 20f, 19f, 18f));
+        assertEquals(1, prefetches.size());
+        assertEquals(3, pipelinedFetch.getPrefetch(3).docCount);
+        // the shard indices of the query results are left untouched for the reduce
+        assertEquals(-1, prefetches.get(0).queryResult.queryResult().topDocs().topDocs.scoreDocs[0].shardIndex);
+    }
+
+    public void testCanPipeline() {
+        final SearchRequest request = new SearchRequest().source(new SearchSourceBuilder().size(10));
+        assertTrue(PipelinedFetch.canPipeline(request, 2));
+        assertFalse(PipelinedFetch.canPipeline(request, 1));
+        assertFalse(PipelinedFetch.canPipeline(new SearchRequest().source(new SearchSourceBuilder().from(10)), 2));
+        assertFalse(PipelinedFetch.canPipeline(new SearchRequest().source(new SearchSourceBuilder().size(0)), 2));
+        assertFalse(
+            PipelinedFetch.canPipeline(new SearchRequest().source(new SearchSourceBuilder().aggregation(AggregationBuilders.count("c"))), 2)
+        );
+    }
+
+    private static QuerySearchResult queryResult(int shardIndex, float... scores) {
+        final QuerySearchResult queryResult = new QuerySearchResult(
+            new ShardSearchContextId("", shardIndex),
+            new SearchShardTarget("node", new ShardId("test", "na", shardIndex), null, OriginalIndices.NONE),
+            null
+        );
+        final ScoreDoc[] scoreDocs = new ScoreDoc[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            scoreDocs[i] = new ScoreDoc(i, scores[i]);
+        }
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO), scoreDocs), scores[0]),
+            new DocValueFormat[0]
+        );
+        queryResult.setShardIndex(shardIndex);
+        return queryResult;
+    }
+}
@@ -185,6 +185,85 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
     }
 
+    public void testParallelPartialReduce() throws Exception {
+        final OpenSearchThreadPoolExecutor parallelExecutor = OpenSearchExecutors.newFixed(
+            "test_parallel",
+            4,
+            100,
+            OpenSearchExecutors.daemonThreadFactory("test_parallel"),
+            threadPool.getThreadContext()
+        );
+        try {
+            SearchRequest searchRequest = new SearchRequest("index");
+            searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max").field("test")).size(1));
+            searchRequest.setBatchedReduceSize(randomIntBetween(2, 5));
+            final int numShards = randomIntBetween(20, 100);
+            AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+            QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+                searchRequest,
+                parallelExecutor,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+                searchPhaseController,
+                SearchProgressListener.NOOP,
+                writableRegistry(),
+                numShards,
+                onPartialMergeFailure::set,
+                () -> false,
+                randomIntBetween(2, 4)
+            );
+
+            CountDownLatch partialReduceLatch = new CountDownLatch(numShards);
+            int max = 0;
+            for (int i = 0; i < numShards; i++) {
+                int number = randomIntBetween(1, 1000);
+                max = Math.max(max, number);
+                QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                querySearchResult.topDocs(
+                    new TopDocsAndMaxScore(
+                        new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(0, number) }),
+                        number
+                    ),
+                    new DocValueFormat[0]
+                );
+                querySearchResult.aggregations(
+                    InternalAggregations.from(List.of(new InternalMax("test", number, DocValueFormat.RAW, Collections.emptyMap())))
+                );
+                querySearchResult.size(1);
+                queryPhaseResultConsumer.consumeResult(querySearchResult, partialReduceLatch::countDown);
+            }
+            assertTrue(partialReduceLatch.await(10, TimeUnit.SECONDS));
+            assertNull(onPartialMergeFailure.get());
+
+            SearchPhaseController.ReducedQueryPhase reduce = queryPhaseResultConsumer.reduce();
+            InternalMax internalMax = (InternalMax) reduce.aggregations.asList().get(0);
+            assertEquals(max, internalMax.getValue(), 0.0D);
+            assertEquals(numShards, reduce.totalHits.value());
+            assertEquals(1, reduce.sortedTopDocs.scoreDocs.length);
+            assertEquals(max, reduce.sortedTopDocs.scoreDocs[0].score, 0.0f);
+            assertTrue(reduce.numReducePhases > 1);
+        } finally {
+            parallelExecutor.shutdownNow();
+        }
+    }
+
+    public void testInvalidParallelReduceFanIn() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new QueryPhaseResultConsumer(
+                new SearchRequest("index"),
+                executor,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+                searchPhaseController,
+                SearchProgressListener.NOOP,
+                writableRegistry(),
+                10,
+                e -> {},
+                () -> false,
+                randomFrom(-1, 1)
+            )
+        );
+    }
+
     private static QuerySearchResult getQuerySearchResult(int i) {
         SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE);
 
@@ -34,7 +34,9 @@ package org.opensearch.action.search;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
@@ -66,10 +68,13 @@ import org.opensearch.transport.Transport;
 import org.junit.After;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -285,4 +290,135 @@ public class SearchQueryThenFetchAsyncActionTests extends OpenSearchTestCase {
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields.length, equalTo(1));
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields[0], equalTo(0));
     }
+
+    public void testBatchShardRequestsPerNode() throws Exception {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(
+            0,
+            System.nanoTime(),
+            System::nanoTime
+        );
+
+        Map<String, Transport.Connection> lookup = new ConcurrentHashMap<>();
+        DiscoveryNode node1 = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode node2 = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        lookup.put(node1.getId(), new SearchAsyncActionTests.MockConnection(node1));
+        lookup.put(node2.getId(), new SearchAsyncActionTests.MockConnection(node2));
+
+        final OriginalIndices originalIndices = new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS);
+        int numShardsOnNode1 = randomIntBetween(2, 5);
+        List<SearchShardIterator> shardIterators = new ArrayList<>();
+        SearchAsyncActionTests.getShardsIter("idx", originalIndices, numShardsOnNode1, false, node1, null).forEach(shardIterators::add);
+        SearchAsyncActionTests.getShardsIter("idx2", originalIndices, 1, false, node2, null).forEach(shardIterators::add);
+        GroupShardsIterator<SearchShardIterator> shardsIter = new GroupShardsIterator<>(shardIterators);
+
+        Map<String, List<ShardId>> batches = new ConcurrentHashMap<>();
+        Map<String, List<ShardId>> singleRequests = new ConcurrentHashMap<>();
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendExecuteQuery(
+                Transport.Connection connection,
+                ShardSearchRequest request,
+                SearchTask task,
+                SearchActionListener<SearchPhaseResult> listener
+            ) {
+                singleRequests.computeIfAbsent(connection.getNode().getId(), n -> new CopyOnWriteArrayList<>()).add(request.shardId());
+                listener.onResponse(emptyQueryResult(connection.getNode().getId(), request.shardId()));
+            }
+
+            @Override
+            public void sendExecuteQueryBatch(
+                Transport.Connection connection,
+                ShardSearchBatchRequest request,
+                SearchTask task,
+                List<SearchActionListener<SearchPhaseResult>> listeners
+            ) {
+                assertNull(batches.put(connection.getNode().getId(), request.shardRequests().stream().map(r -> r.shardId()).toList()));
+                for (int i = 0; i < listeners.size(); i++) {
+                    ShardId shardId = request.shardRequests().get(i).shardId();
+                    listeners.get(i).onResponse(emptyQueryResult(connection.getNode().getId(), shardId));
+                }
+            }
+        };
+        CountDownLatch latch = new CountDownLatch(1);
+        final SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setMaxConcurrentShardRequests(shardsIter.size());
+        searchRequest.source(new SearchSourceBuilder().size(0));
+        searchRequest.allowPartialSearchResults(false);
+        Executor executor = OpenSearchExecutors.newDirectExecutorService();
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            r -> InternalAggregationTestCase.emptyReduceContextBuilder()
+        );
+        SearchTask task = new SearchTask(0, "n/a", "n/a", () -> "test", null, Collections.emptyMap());
+        QueryPhaseResultConsumer resultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            controller,
+            task.getProgressListener(),
+            writableRegistry(),
+            shardsIter.size(),
+            exc -> {}
+        );
+        SearchQueryThenFetchAsyncAction action = new SearchQueryThenFetchAsyncAction(
+            logger,
+            searchTransportService,
+            (clusterAlias, node) -> lookup.get(node),
+            Map.of("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            controller,
+            executor,
+            resultConsumer,
+            searchRequest,
+            null,
+            shardsIter,
+            timeProvider,
+            null,
+            task,
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(
+                new SearchRequestOperationsListener.CompositeListener(List.of(assertingListener), LogManager.getLogger()),
+                searchRequest,
+                () -> null
+            ),
+            NoopTracer.INSTANCE,
+            true
+        ) {
+            @Override
+            protected SearchPhase getNextPhase(SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                return new SearchPhase("test") {
+                    @Override
+                    public void run() {
+                        assertingListener.onPhaseEnd(new MockSearchPhaseContext(1, searchRequest, this), null);
+                        latch.countDown();
+                    }
+                };
+            }
+        };
+
+        action.start();
+        latch.await();
+        // the shards of the first node are sent in one batch, the single shard of the second node in a request of its own
+        assertThat(batches.keySet(), equalTo(Set.of(node1.getId())));
+        assertThat(batches.get(node1.getId()).size(), equalTo(numShardsOnNode1));
+        assertThat(singleRequests.keySet(), equalTo(Set.of(node2.getId())));
+        assertThat(singleRequests.get(node2.getId()).size(), equalTo(1));
+        assertThat(action.results.getSuccessfulResults().count(), equalTo((long) numShardsOnNode1 + 1));
+    }
+
+    private static QuerySearchResult emptyQueryResult(String nodeId, ShardId shardId) {
+        QuerySearchResult queryResult = new QuerySearchResult(
+            new ShardSearchContextId("N/A", 123),
+            new SearchShardTarget(nodeId, shardId, null, OriginalIndices.NONE),
+            null
+        );
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), Float.NaN),
+            new DocValueFormat[0]
+        );
+        queryResult.from(0);
+        queryResult.size(0);
+        return queryResult;
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.search.AbstractSearchTestCase;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class ShardSearchBatchRequestTests extends AbstractSearchTestCase {
+
+    public void testSerialization() throws Exception {
+        final SearchRequest searchRequest = createSearchRequest();
+        final int numShards = randomIntBetween(1, 10);
+        final List<ShardSearchRequest> shardRequests = createShardRequests(searchRequest, numShards);
+        final ShardSearchBatchRequest request = new ShardSearchBatchRequest(shardRequests);
+        final ShardSearchBatchRequest deserialized = copyWriteable(request, namedWriteableRegistry, ShardSearchBatchRequest::new);
+        assertEquals(numShards, deserialized.shardRequests().size());
+        for (int i = 0; i < numShards; i++) {
+            final ShardSearchRequest shardRequest = deserialized.shardRequests().get(i);
+            assertEquals(shardRequests.get(i).shardId(), shardRequest.shardId());
+            assertEquals(shardRequests.get(i).nowInMillis(), shardRequest.nowInMillis());
+            assertEquals(searchRequest.source(), shardRequest.source());
+            assertEquals(shardRequests.get(i).cacheKey(), shardRequest.cacheKey());
+            if (searchRequest.source() != null && i > 0) {
+                // each shard reads its own copy of the shared source, which it may rewrite
+                assertNotSame(deserialized.shardRequests().get(0).source(), shardRequest.source());
+            }
+        }
+        assertArrayEquals(request.indices(), deserialized.indices());
+    }
+
+    public void testExecuteQueryBatchRunsEachShardInItsOwnTask() throws Exception {
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final TaskManager taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+            final SearchRequest searchRequest = createSearchRequest();
+            final List<ShardSearchRequest> shardRequests = createShardRequests(searchRequest, randomIntBetween(2, 10));
+            final ShardSearchBatchRequest request = new ShardSearchBatchRequest(shardRequests);
+            final Task batchTask = taskManager.register("transport", SearchTransportService.QUERY_BATCH_ACTION_NAME, request);
+
+            final Map<ShardId, SearchShardTask> shardTasks = new ConcurrentHashMap<>();
+            final SearchService searchService = mock(SearchService.class);
+            doAnswer(invocation -> {
+                final ShardSearchRequest shardRequest = invocation.getArgument(0);
+                final SearchShardTask shardTask = invocation.getArgument(2);
+                final ActionListener<SearchPhaseResult> listener = invocation.getArgument(3);
+                assertNull(shardTasks.put(shardRequest.shardId(), shardTask));
+                assertEquals(new TaskId("node", batchTask.getId()), shardTask.getParentTaskId());
+                assertEquals(shardRequest.getDescription(), shardTask.getDescription());
+                assertSame(shardTask, taskManager.getTask(shardTask.getId()));
+                if (shardRequest.shardId().id() % 2 == 0) {
+                    listener.onResponse(emptyQueryResult(shardRequest.shardId()));
+                } else {
+                    listener.onFailure(new IllegalStateException("shard " + shardRequest.shardId().id() + " failed"));
+                }
+                return null;
+            }).when(searchService).executeQueryPhase(any(ShardSearchRequest.class), anyBoolean(), any(SearchShardTask.class), any());
+
+            final PlainActionFuture<ShardSearchBatchResponse> future = new PlainActionFuture<>();
+            SearchTransportService.executeQueryBatch(request, batchTask, taskManager, "node", searchService, future);
+            final ShardSearchBatchResponse response = future.actionGet();
+
+            assertEquals(shardRequests.size(), shardTasks.size());
+            assertEquals(shardRequests.size(), shardTasks.values().stream().mapToLong(Task::getId).distinct().count());
+            for (SearchShardTask shardTask : shardTasks.values()) {
+                assertNull("shard tasks are unregistered once they complete", taskManager.getTask(shardTask.getId()));
+            }
+            assertResponseMatchesShards(response, shardRequests);
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testResponseSerialization() throws Exception {
+        final List<ShardSearchRequest> shardRequests = createShardRequests(createSearchRequest(), randomIntBetween(1, 10));
+        final SearchPhaseResult[] results = new SearchPhaseResult[shardRequests.size()];
+        final Exception[] failures = new Exception[shardRequests.size()];
+        for (int i = 0; i < shardRequests.size(); i++) {
+            final ShardId shardId = shardRequests.get(i).shardId();
+            if (shardId.id() % 2 == 0) {
+                results[i] = emptyQueryResult(shardId);
+            } else {
+                failures[i] = new IllegalStateException("shard " + shardId.id() + " failed");
+            }
+        }
+        final ShardSearchBatchResponse response = copyWriteable(
+            new ShardSearchBatchResponse(results, failures),
+            namedWriteableRegistry,
+            ShardSearchBatchResponse::new
+        );
+        assertResponseMatchesShards(response, shardRequests);
+    }
+
+    private static void assertResponseMatchesShards(ShardSearchBatchResponse response, List<ShardSearchRequest> shardRequests) {
+        assertEquals(shardRequests.size(), response.size());
+        for (int i = 0; i < shardRequests.size(); i++) {
+            final int shardId = shardRequests.get(i).shardId().id();
+            if (shardId % 2 == 0) {
+                assertNull(response.getFailure(i));
+                assertEquals(shardId, response.getResult(i).getSearchShardTarget().getShardId().id());
+            } else {
+                assertNull(response.getResult(i));
+                assertThat(response.getFailure(i).getMessage(), containsString("shard " + shardId + " failed"));
+            }
+        }
+    }
+
+    private static QuerySearchResult emptyQueryResult(ShardId shardId) {
+        final QuerySearchResult result = new QuerySearchResult(
+            new ShardSearchContextId("N/A", shardId.id()),
+            new SearchShardTarget("node", shardId, null, OriginalIndices.NONE),
+            null
+        );
+        result.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), Float.NaN),
+            new DocValueFormat[0]
+        );
+        result.from(0);
+        result.size(0);
+        return result;
+    }
+
+    private static List<ShardSearchRequest> createShardRequests(SearchRequest searchRequest, int numShards) {
+        final List<ShardSearchRequest> shardRequests = new ArrayList<>(numShards);
+        for (int i = 0; i < numShards; i++) {
+            shardRequests.add(
+                new ShardSearchRequest(
+                    new OriginalIndices(searchRequest),
+                    searchRequest,
+                    new ShardId("index-" + (i % 3), "uuid-" + (i % 3), i),
+                    numShards + 1,
+                    new AliasFilter(null, Strings.EMPTY_ARRAY),
+                    1.0f,
+                    randomNonNegativeLong(),
+                    null,
+                    Strings.EMPTY_ARRAY
+                )
+            );
+        }
+        return shardRequests;
+    }
+}
@@ -47,6 +47,7 @@ import org.opensearch.common.Randomness;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.tasks.CancellableTask;
 import org.opensearch.tasks.Task;
@@ -59,6 +60,7 @@ import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.node.NodeClient;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
@@ -144,6 +146,81 @@ public class TransportMultiSearchActionTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDeduplicateRequests() throws Exception {
+        Settings settings = Settings.builder().put("node.name", TransportMultiSearchActionTests.class.getSimpleName()).build();
+        ActionFilters actionFilters = mock(ActionFilters.class);
+        when(actionFilters.filters()).thenReturn(new ActionFilter[0]);
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            TransportService transportService = new TransportService(
+                Settings.EMPTY,
+                mock(Transport.class),
+                threadPool,
+                TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+                boundAddress -> DiscoveryNode.createLocal(settings, boundAddress.publishAddress(), UUIDs.randomBase64UUID()),
+                null,
+                Collections.emptySet(),
+                NoopTracer.INSTANCE
+            ) {
+                @Override
+                public TaskManager getTaskManager() {
+                    return taskManager;
+                }
+            };
+            ClusterService clusterService = mock(ClusterService.class);
+            when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).build());
+
+            MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+            multiSearchRequest.add(new SearchRequest("index").source(new SearchSourceBuilder().size(0)));
+            multiSearchRequest.add(new SearchRequest("other_index").source(new SearchSourceBuilder().size(0)));
+            multiSearchRequest.add(new SearchRequest("index").source(new SearchSourceBuilder().size(0)));
+            multiSearchRequest.add(new SearchRequest("index").source(new SearchSourceBuilder().size(0)).preference("_local"));
+            multiSearchRequest.add(new SearchRequest("index").source(new SearchSourceBuilder().size(0)).scroll("1m"));
+            multiSearchRequest.add(new SearchRequest("index").source(new SearchSourceBuilder().size(0)).scroll("1m"));
+            List<SearchRequest> executed = Collections.synchronizedList(new ArrayList<>());
+            Task task = multiSearchRequest.createTask(randomLong(), "type", "action", null, Collections.emptyMap());
+            NodeClient client = new NodeClient(settings, threadPool) {
+                @Override
+                public void search(final SearchRequest request, final ActionListener<SearchResponse> listener) {
+                    executed.add(request);
+                    listener.onResponse(SearchResponse.empty(() -> 1L, SearchResponse.Clusters.EMPTY));
+                }
+
+                @Override
+                public String getLocalNodeId() {
+                    return "local_node_id";
+                }
+            };
+            TransportMultiSearchAction action = new TransportMultiSearchAction(
+                threadPool,
+                actionFilters,
+                transportService,
+                clusterService,
+                10,
+                System::nanoTime,
+                client
+            );
+            action.setDeduplicateRequests(true);
+
+            PlainActionFuture<MultiSearchResponse> future = newFuture();
+            action.execute(task, multiSearchRequest, future);
+            MultiSearchResponse.Item[] items = future.get().getResponses();
+            assertEquals(6, items.length);
+            // the third request is the same as the first one, and the scroll requests are never shared
+            assertEquals(5, executed.size());
+            assertSame(items[0].getResponse(), items[2].getResponse());
+            assertNotSame(items[0].getResponse(), items[1].getResponse());
+            assertNotSame(items[0].getResponse(), items[3].getResponse());
+            assertNotSame(items[4].getResponse(), items[5].getResponse());
+            // the requests without a preference go to the same shard copies
+            assertEquals("msearch-" + task.getId(), multiSearchRequest.requests().get(0).preference());
+            assertEquals("msearch-" + task.getId(), multiSearchRequest.requests().get(1).preference());
+            assertEquals("_local", multiSearchRequest.requests().get(3).preference());
+        } finally {
+            assertTrue(OpenSearchTestCase.terminate(threadPool));
+        }
+    }
+
     public void testBatchExecute() {
         // Initialize dependencies of TransportMultiSearchAction
         Settings settings = Settings.builder().put("node.name", TransportMultiSearchActionTests.class.getSimpleName()).build();
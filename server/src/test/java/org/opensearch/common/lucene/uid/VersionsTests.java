@@ -39,6 +39,7 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
@@ -52,6 +53,7 @@ import org.opensearch.test.VersionUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeSet;
 
 import static org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.loadDocIdAndVersion;
 import static org.hamcrest.Matchers.equalTo;
@@ -119,6 +121,63 @@ public class VersionsTests extends OpenSearchTestCase {
         dir.close();
     }
 
+    public void testLoadDocIdsAndVersionsMatchesSingleLookups() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER));
+        int numDocs = randomIntBetween(1, 200);
+        for (int i = 0; i < numDocs; i++) {
+            String id = Integer.toString(randomIntBetween(0, 2 * numDocs));
+            if (rarely()) {
+                writer.deleteDocuments(new Term(IdFieldMapper.NAME, id));
+            } else {
+                Document doc = new Document();
+                doc.add(new Field(IdFieldMapper.NAME, id, IdFieldMapper.Defaults.FIELD_TYPE));
+                doc.add(new NumericDocValuesField(VersionFieldMapper.NAME, i + 1));
+                doc.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, i));
+                doc.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, randomLongBetween(1, Long.MAX_VALUE)));
+                writer.updateDocument(new Term(IdFieldMapper.NAME, id), doc);
+            }
+            if (rarely()) {
+                writer.commit();
+            }
+        }
+        DirectoryReader directoryReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "_na_", 1));
+
+        TreeSet<BytesRef> uidSet = new TreeSet<>();
+        int numLookups = randomIntBetween(1, 3 * numDocs);
+        for (int i = 0; i < numLookups; i++) {
+            uidSet.add(new BytesRef(Integer.toString(randomIntBetween(0, 3 * numDocs))));
+        }
+        BytesRef[] uids = uidSet.toArray(new BytesRef[0]);
+        boolean loadSeqNo = randomBoolean();
+        VersionsAndSeqNoResolver.DocIdAndVersion[] results = VersionsAndSeqNoResolver.loadDocIdsAndVersions(
+            directoryReader,
+            IdFieldMapper.NAME,
+            uids,
+            loadSeqNo
+        );
+        assertThat(results.length, equalTo(uids.length));
+        for (int i = 0; i < uids.length; i++) {
+            VersionsAndSeqNoResolver.DocIdAndVersion expected = loadDocIdAndVersion(
+                directoryReader,
+                new Term(IdFieldMapper.NAME, uids[i]),
+                loadSeqNo
+            );
+            if (expected == null) {
+                assertThat(uids[i].utf8ToString(), results[i], nullValue());
+            } else {
+                assertThat(uids[i].utf8ToString(), results[i].docId, equalTo(expected.docId));
+                assertThat(results[i].docBase, equalTo(expected.docBase));
+                assertThat(results[i].version, equalTo(expected.version));
+                assertThat(results[i].seqNo, equalTo(expected.seqNo));
+                assertThat(results[i].primaryTerm, equalTo(expected.primaryTerm));
+            }
+        }
+        directoryReader.close();
+        writer.close();
+        dir.close();
+    }
+
     public void testNestedDocuments() throws IOException {
         Directory dir = newDirectory();
         IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER));
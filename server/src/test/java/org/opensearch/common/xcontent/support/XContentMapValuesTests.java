@@ -93,6 +93,12 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
             toMap(expected, xContentType, humanReadable),
             XContentMapValues.filter(toMap(actual, xContentType, humanReadable), sourceIncludes, sourceExcludes)
         );
+        ToXContentObject actualContent = (builder, params) -> actual.apply(builder);
+        assertEquals(
+            "Streamed filtered content must be equal to the expected map",
+            toMap(expected, xContentType, humanReadable),
+            streamingFilter(toXContent(actualContent, xContentType, humanReadable), xContentType, sourceIncludes, sourceExcludes, true)
+        );
     }
 
     @SuppressWarnings({ "unchecked" })
@@ -634,6 +640,63 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
         assertEquals(expected, filtered);
     }
 
+    public void testStreamingFilterMatchesMapFilter() throws IOException {
+        Map<String, Object> inner = new HashMap<>();
+        inner.put("baz", 3);
+        inner.put("qux.quux", "a");
+        inner.put("empty", new HashMap<>());
+        inner.put("nothing", null);
+        Map<String, Object> map = new HashMap<>();
+        map.put("foo.bar", 2);
+        map.put("foo", inner);
+        map.put("photos", Arrays.asList("foo", "bar"));
+        map.put("photosCount", 2);
+        map.put("objects", Arrays.asList(inner, Collections.emptyMap(), Arrays.asList(inner, 1), Collections.emptyList(), "value"));
+        map.put("Mixed", Collections.singletonMap("Case", true));
+        map.put("empty_array", Collections.emptyList());
+        map.put("empty_object", Collections.emptyMap());
+
+        final String[][] filters = new String[][] {
+            {},
+            { "foo" },
+            { "foo.bar" },
+            { "foo.baz", "photos" },
+            { "foo.*" },
+            { "*.baz" },
+            { "*ux" },
+            { "objects" },
+            { "objects.baz" },
+            { "objects.qux.quux" },
+            { "empty_array", "empty_object.include", "empty_array.include" },
+            { "mixed.case" },
+            { "photosCount" } };
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final BytesReference source = BytesReference.bytes(XContentBuilder.builder(xContentType.xContent()).map(map));
+        final Map<String, Object> parsed = convertToMap(source, true, xContentType).v2();
+        for (String[] includes : filters) {
+            for (String[] excludes : filters) {
+                for (boolean caseSensitive : new boolean[] { true, false }) {
+                    assertEquals(
+                        "includes " + Arrays.toString(includes) + ", excludes " + Arrays.toString(excludes),
+                        XContentMapValues.filter(includes, excludes, caseSensitive).apply(parsed),
+                        streamingFilter(source, xContentType, includes, excludes, caseSensitive)
+                    );
+                }
+            }
+        }
+    }
+
+    public void testStreamingFilterKeepsContentOrder() throws IOException {
+        final BytesReference source = BytesReference.bytes(
+            XContentFactory.jsonBuilder().startObject().field("c", 1).field("b", 2).field("d", 3).field("a", 4).endObject()
+        );
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, source)) {
+            XContentMapValues.createStreamingFilter(new String[0], new String[] { "d" }, true).accept(parser, builder);
+        }
+        assertEquals("{\"c\":1,\"b\":2,\"a\":4}", BytesReference.bytes(builder).utf8ToString());
+    }
+
     public void testTransformFlat() {
         Map<String, Object> mapToTransform = Map.of(
             "test1",
@@ -841,6 +904,20 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
         assertThat(outObj, hasKey("fieldTwo"));
     }
 
+    private Map<String, Object> streamingFilter(
+        BytesReference source,
+        XContentType xContentType,
+        String[] includes,
+        String[] excludes,
+        boolean caseSensitive
+    ) throws IOException {
+        XContentBuilder builder = XContentBuilder.builder(xContentType.xContent());
+        try (XContentParser parser = createParser(xContentType.xContent(), source)) {
+            XContentMapValues.createStreamingFilter(includes, excludes, caseSensitive).accept(parser, builder);
+        }
+        return convertToMap(BytesReference.bytes(builder), true, xContentType).v2();
+    }
+
     private static Map<String, Object> toMap(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
         ToXContentObject toXContent = (builder, params) -> test.apply(builder);
         return convertToMap(toXContent(toXContent, xContentType, humanReadable), true, xContentType).v2();
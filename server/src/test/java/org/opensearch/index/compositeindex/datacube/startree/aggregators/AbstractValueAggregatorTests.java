@@ -13,6 +13,8 @@ import com.carrotsearch.randomizedtesting.annotations.ParametersFactory;
 import org.opensearch.index.mapper.FieldValueConverter;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+import org.opensearch.search.aggregations.metrics.TDigestState;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
@@ -65,6 +67,16 @@ public abstract class AbstractValueAggregatorTests extends OpenSearchTestCase {
         long randomLong = randomLong();
         if (aggregator instanceof CountValueAggregator) {
             assertEquals(CountValueAggregator.DEFAULT_INITIAL_VALUE, aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong()));
+        } else if (aggregator instanceof CardinalityValueAggregator) {
+            Object sketch = aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong);
+            assertEquals(1, ((HyperLogLogPlusPlusSketch) sketch).cardinality(0));
+        } else if (aggregator instanceof PercentilesValueAggregator) {
+            TDigestState state = (TDigestState) aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong);
+            if (Double.isNaN(fieldValueConverter.toDoubleValue(randomLong))) {
+                assertNull(state);
+            } else {
+                assertEquals(1, state.size());
+            }
         } else if (aggregator instanceof SumValueAggregator) {
             CompensatedSum sum = new CompensatedSum(0, 0);
             sum.add(fieldValueConverter.toDoubleValue(randomLong));
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+
+import java.io.IOException;
+
+public class CardinalityValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private CardinalityValueAggregator aggregator;
+
+    public CardinalityValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        HyperLogLogPlusPlusSketch sketch = aggregator.mergeAggregatedValueAndSegmentValue(null, 1L);
+        assertEquals(1, sketch.cardinality(0));
+        assertSame(sketch, aggregator.mergeAggregatedValueAndSegmentValue(sketch, 1L));
+        assertEquals(1, sketch.cardinality(0));
+        assertSame(sketch, aggregator.mergeAggregatedValueAndSegmentValue(sketch, null));
+        assertEquals(1, sketch.cardinality(0));
+        aggregator.mergeAggregatedValueAndSegmentValue(sketch, 2L);
+        assertEquals(2, sketch.cardinality(0));
+    }
+
+    public void testMergeAggregatedValues() {
+        HyperLogLogPlusPlusSketch first = sketch(0, 100);
+        HyperLogLogPlusPlusSketch second = sketch(50, 150);
+        HyperLogLogPlusPlusSketch merged = aggregator.mergeAggregatedValues(first, second);
+        assertSame(second, merged);
+        assertTrue(sketch(0, 150).equals(0, merged, 0));
+        // the value that is merged into the aggregated value is left untouched
+        assertTrue(sketch(0, 100).equals(0, first, 0));
+
+        HyperLogLogPlusPlusSketch copy = aggregator.mergeAggregatedValues(first, null);
+        assertNotSame(first, copy);
+        assertTrue(first.equals(0, copy, 0));
+        assertSame(first, aggregator.mergeAggregatedValues(null, first));
+    }
+
+    public void testGetInitialAggregatedValue() {
+        HyperLogLogPlusPlusSketch sketch = sketch(0, 10);
+        HyperLogLogPlusPlusSketch initial = aggregator.getInitialAggregatedValue(sketch);
+        assertNotSame(sketch, initial);
+        assertTrue(sketch.equals(0, initial, 0));
+    }
+
+    public void testSerialization() throws IOException {
+        HyperLogLogPlusPlusSketch sketch = sketch(0, randomIntBetween(1, 10_000));
+        assertTrue(sketch.equals(0, aggregator.deserialize(aggregator.serialize(sketch)), 0));
+    }
+
+    public void testIdentityMetricValue() {
+        assertNull(aggregator.getIdentityMetricValue());
+    }
+
+    private HyperLogLogPlusPlusSketch sketch(long from, long to) {
+        HyperLogLogPlusPlusSketch sketch = null;
+        for (long value = from; value < to; value++) {
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, value);
+        }
+        return sketch;
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new CardinalityValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+public class PercentilesValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private PercentilesValueAggregator aggregator;
+
+    public PercentilesValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        long randomLong = randomFiniteValue();
+        TDigestState state = aggregator.mergeAggregatedValueAndSegmentValue(null, randomLong);
+        assertEquals(1, state.size());
+        assertEquals(fieldValueConverter.toDoubleValue(randomLong), state.quantile(0.5), 0.0);
+        assertSame(state, aggregator.mergeAggregatedValueAndSegmentValue(state, randomFiniteValue()));
+        assertEquals(2, state.size());
+        assertSame(state, aggregator.mergeAggregatedValueAndSegmentValue(state, null));
+        assertEquals(2, state.size());
+    }
+
+    public void testNaNValuesAreIgnored() {
+        assumeTrue("only double fields hold NaN values", fieldValueConverter == NumberFieldMapper.NumberType.DOUBLE);
+        long nan = NumericUtils.doubleToSortableLong(Double.NaN);
+        assertNull(aggregator.getInitialAggregatedValueForSegmentDocValue(nan));
+        TDigestState state = digest(0, 10);
+        assertSame(state, aggregator.mergeAggregatedValueAndSegmentValue(state, nan));
+        assertEquals(10, state.size());
+    }
+
+    public void testMergeAggregatedValues() {
+        TDigestState first = digest(0, 100);
+        TDigestState second = digest(100, 300);
+        TDigestState merged = aggregator.mergeAggregatedValues(first, second);
+        assertSame(second, merged);
+        assertEquals(300, merged.size());
+        // the value that is merged into the aggregated value is left untouched
+        assertEquals(100, first.size());
+
+        TDigestState copy = aggregator.mergeAggregatedValues(first, null);
+        assertNotSame(first, copy);
+        assertEquals(first.size(), copy.size());
+        assertSame(first, aggregator.mergeAggregatedValues(null, first));
+    }
+
+    public void testGetInitialAggregatedValue() {
+        TDigestState state = digest(0, 10);
+        TDigestState initial = aggregator.getInitialAggregatedValue(state);
+        assertNotSame(state, initial);
+        assertEquals(state.size(), initial.size());
+        assertEquals(state.quantile(0.5), initial.quantile(0.5), 0.0);
+    }
+
+    public void testSerialization() {
+        TDigestState state = digest(0, randomIntBetween(1, 10_000));
+        assertEquals(state, aggregator.deserialize(aggregator.serialize(state)));
+    }
+
+    public void testIdentityMetricValue() {
+        assertNull(aggregator.getIdentityMetricValue());
+    }
+
+    private long randomFiniteValue() {
+        return randomValueOtherThanMany(value -> Double.isFinite(fieldValueConverter.toDoubleValue(value)) == false, () -> randomLong());
+    }
+
+    private TDigestState digest(long from, long to) {
+        TDigestState state = null;
+        for (long value = from; value < to; value++) {
+            state = aggregator.mergeAggregatedValueAndSegmentValue(state, value);
+        }
+        return state;
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new PercentilesValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+}
@@ -10,6 +10,7 @@ package org.opensearch.index.compositeindex.datacube.startree.builder;
 
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.codecs.lucene103.Lucene103Codec;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValuesSkipIndexType;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
@@ -154,6 +155,46 @@ public class BuilderTestsUtils {
         };
     }
 
+    public static BinaryDocValues getBinaryMock(List<BytesRef> valueList, List<Integer> docsWithField) {
+        return new BinaryDocValues() {
+            int index = -1;
+
+            @Override
+            public BytesRef binaryValue() {
+                return valueList.get(index);
+            }
+
+            @Override
+            public boolean advanceExact(int target) {
+                return false;
+            }
+
+            @Override
+            public int docID() {
+                return index;
+            }
+
+            @Override
+            public int nextDoc() {
+                if (index == docsWithField.size() - 1) {
+                    return NO_MORE_DOCS;
+                }
+                index++;
+                return docsWithField.get(index);
+            }
+
+            @Override
+            public int advance(int target) {
+                return 0;
+            }
+
+            @Override
+            public long cost() {
+                return 0;
+            }
+        };
+    }
+
     public static SortedSetDocValues getSortedSetMock(List<Long> dimList, List<Integer> docsWithField) {
         return getSortedSetMock(dimList, docsWithField, 1);
     }
@@ -43,6 +43,8 @@ import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.Sort
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+import org.opensearch.search.aggregations.metrics.TDigestState;
 
 import java.io.IOException;
 import java.time.temporal.ChronoField;
@@ -734,6 +736,74 @@ public class StarTreeBuilderFlushFlowTests extends StarTreeBuilderTestCase {
         );
     }
 
+    public void testFlushFlowWithSketchMetrics() throws IOException {
+        List<Long> dimList = new ArrayList<>(100);
+        List<Integer> docsWithField = new ArrayList<>(100);
+        List<Long> metricsList = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            dimList.add((long) i);
+            docsWithField.add(i);
+            metricsList.add(getLongFromDouble(i * 10.0));
+        }
+
+        Dimension d1 = new NumericDimension("field1");
+        Dimension d2 = new NumericDimension("field3");
+        Metric m1 = new Metric("field2", List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES));
+        StarTreeFieldConfiguration c = new StarTreeFieldConfiguration(1, new HashSet<>(), getBuildMode());
+        compositeField = new StarTreeField("sf", List.of(d1, d2), List.of(m1), c);
+
+        writeState = getWriteState(100, writeState.segmentInfo.getId());
+        SegmentWriteState consumerWriteState = getWriteState(DocIdSetIterator.NO_MORE_DOCS, writeState.segmentInfo.getId());
+        this.docValuesConsumer = LuceneDocValuesConsumerFactory.getDocValuesConsumerForCompositeCodec(
+            consumerWriteState,
+            4096, /* Lucene90DocValuesFormat#DEFAULT_SKIP_INDEX_INTERVAL_SIZE */
+            Composite912DocValuesFormat.DATA_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_EXTENSION,
+            Composite912DocValuesFormat.META_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.META_DOC_VALUES_EXTENSION
+        );
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+
+        Map<String, DocValuesProducer> fieldProducerMap = Map.of(
+            "field1",
+            getDocValuesProducer(getSortedNumericMock(dimList, docsWithField)),
+            "field3",
+            getDocValuesProducer(getSortedNumericMock(dimList, docsWithField)),
+            "field2",
+            getDocValuesProducer(getSortedNumericMock(metricsList, docsWithField))
+        );
+        builder.build(fieldProducerMap, new AtomicInteger(), docValuesConsumer);
+        /**
+         * Asserting following dim / metrics [ dim1, dim2 / Cardinality [ metric], Percentiles [ metric] ]
+         [0, 0] | [1, 0.0]
+         [1, 1] | [1, 10.0]
+         ....
+         [null, 0] | [1, 0.0]
+         ...
+         [null, null] | [100, 0.0 ... 990.0]
+         */
+        List<StarTreeDocument> starTreeDocuments = builder.getStarTreeDocuments();
+        for (StarTreeDocument starTreeDocument : starTreeDocuments) {
+            HyperLogLogPlusPlusSketch sketch = (HyperLogLogPlusPlusSketch) starTreeDocument.metrics[0];
+            TDigestState digest = (TDigestState) starTreeDocument.metrics[1];
+            if (starTreeDocument.dimensions[1] != null) {
+                assertEquals(1, sketch.cardinality(0));
+                assertEquals(1, digest.size());
+                assertEquals(starTreeDocument.dimensions[1] * 10.0, digest.quantile(0.5), 0);
+            } else {
+                assertEquals(100, sketch.cardinality(0));
+                assertEquals(100, digest.size());
+                assertEquals(0.0, digest.quantile(0), 0);
+                assertEquals(990.0, digest.quantile(1), 0);
+                assertEquals(495.0, digest.quantile(0.5), 10.0);
+            }
+        }
+
+        metaOut.close();
+        dataOut.close();
+        docValuesConsumer.close();
+    }
+
     public void testFlushFlowWithTimestamps() throws IOException {
         List<Long> dimList = List.of(1655288152000L, 1655288092000L, 1655288032000L, 1655287972000L, 1655288092000L);
         List<Integer> docsWithField = List.of(0, 1, 3, 4, 5);
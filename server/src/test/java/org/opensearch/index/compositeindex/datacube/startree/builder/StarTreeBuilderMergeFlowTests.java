@@ -14,6 +14,7 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.codec.composite.LuceneDocValuesConsumerFactory;
 import org.opensearch.index.codec.composite.composite912.Composite912DocValuesFormat;
@@ -27,9 +28,12 @@ import org.opensearch.index.compositeindex.datacube.ReadDimension;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.DimensionConfig;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
@@ -39,6 +43,8 @@ import org.opensearch.index.mapper.Mapper;
 import org.opensearch.index.mapper.MappingLookup;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlusSketch;
+import org.opensearch.search.aggregations.metrics.TDigestState;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -55,6 +61,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.opensearch.index.compositeindex.CompositeIndexConstants.SEGMENT_DOCS_COUNT;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getBinaryMock;
 import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getSortedNumericMock;
 import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getSortedSetMock;
 import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.traverseStarTree;
@@ -718,6 +725,83 @@ public class StarTreeBuilderMergeFlowTests extends StarTreeBuilderTestCase {
 
     }
 
+    public void testMergeFlowWithSketchMetrics() throws IOException {
+        List<Long> dimList = List.of(0L, 1L, 2L, 3L, 4L, 5L);
+        List<Integer> docsWithField = List.of(0, 1, 2, 3, 4, 5);
+
+        Dimension d1 = new NumericDimension("field1");
+        Dimension d2 = new NumericDimension("field3");
+        Metric m1 = new Metric("field2", List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES));
+        StarTreeFieldConfiguration c = new StarTreeFieldConfiguration(1, new HashSet<>(), getBuildMode());
+        compositeField = new StarTreeField("sf", List.of(d1, d2), List.of(m1), c);
+
+        // both segments have the same dimension values, the first one with the values 0 to 5 and the second one with 10 to 15
+        CardinalityValueAggregator cardinalityValueAggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        PercentilesValueAggregator percentilesValueAggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        List<BytesRef> sketches = new ArrayList<>();
+        List<BytesRef> digests = new ArrayList<>();
+        List<BytesRef> sketches2 = new ArrayList<>();
+        List<BytesRef> digests2 = new ArrayList<>();
+        for (long value = 0; value < 6; value++) {
+            sketches.add(
+                cardinalityValueAggregator.serialize(cardinalityValueAggregator.getInitialAggregatedValueForSegmentDocValue(value))
+            );
+            digests.add(
+                percentilesValueAggregator.serialize(percentilesValueAggregator.getInitialAggregatedValueForSegmentDocValue(value))
+            );
+            sketches2.add(
+                cardinalityValueAggregator.serialize(cardinalityValueAggregator.getInitialAggregatedValueForSegmentDocValue(value + 10))
+            );
+            digests2.add(
+                percentilesValueAggregator.serialize(percentilesValueAggregator.getInitialAggregatedValueForSegmentDocValue(value + 10))
+            );
+        }
+        StarTreeValues starTreeValues = getStarTreeValuesWithSketches(dimList, docsWithField, sketches, digests, compositeField, "6");
+        StarTreeValues starTreeValues2 = getStarTreeValuesWithSketches(dimList, docsWithField, sketches2, digests2, compositeField, "6");
+
+        writeState = getWriteState(6, writeState.segmentInfo.getId());
+        this.docValuesConsumer = LuceneDocValuesConsumerFactory.getDocValuesConsumerForCompositeCodec(
+            writeState,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_EXTENSION,
+            Composite912DocValuesFormat.META_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.META_DOC_VALUES_EXTENSION
+        );
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        Iterator<StarTreeDocument> starTreeDocumentIterator = builder.mergeStarTrees(List.of(starTreeValues, starTreeValues2));
+        /**
+         * Asserting following dim / metrics [ dim1, dim2 / Cardinality [ metric], Percentiles [ metric] ]
+         [0, 0] | [2, 0.0 10.0]
+         [1, 1] | [2, 1.0 11.0]
+         ....
+         [null, 0] | [2, 0.0 10.0]
+         ...
+         [null, null] | [12, 0.0 ... 15.0]
+         */
+        builder.appendDocumentsToStarTree(starTreeDocumentIterator);
+        assertEquals(6, builder.getStarTreeDocuments().size());
+        builder.build(starTreeDocumentIterator, new AtomicInteger(), docValuesConsumer);
+        for (StarTreeDocument starTreeDocument : builder.getStarTreeDocuments()) {
+            HyperLogLogPlusPlusSketch sketch = (HyperLogLogPlusPlusSketch) starTreeDocument.metrics[0];
+            TDigestState digest = (TDigestState) starTreeDocument.metrics[1];
+            if (starTreeDocument.dimensions[1] != null) {
+                assertEquals(2, sketch.cardinality(0));
+                assertEquals(2, digest.size());
+                assertEquals(starTreeDocument.dimensions[1], digest.getMin(), 0);
+                assertEquals(starTreeDocument.dimensions[1] + 10, digest.getMax(), 0);
+            } else {
+                assertEquals(12, sketch.cardinality(0));
+                assertEquals(12, digest.size());
+                assertEquals(0, digest.getMin(), 0);
+                assertEquals(15, digest.getMax(), 0);
+            }
+        }
+
+        metaOut.close();
+        dataOut.close();
+        docValuesConsumer.close();
+    }
+
     public void testMergeFlowNumSegmentsDocs() throws IOException {
         List<Long> dimList = List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, -1L, -1L, -1L);
         List<Integer> docsWithField = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
@@ -2260,6 +2344,41 @@ public class StarTreeBuilderMergeFlowTests extends StarTreeBuilderTestCase {
         return starTreeValues;
     }
 
+    private StarTreeValues getStarTreeValuesWithSketches(
+        List<Long> dimList,
+        List<Integer> docsWithField,
+        List<BytesRef> sketches,
+        List<BytesRef> digests,
+        StarTreeField sf,
+        String number
+    ) {
+        Map<String, Supplier<StarTreeValuesIterator>> dimDocIdSetIterators = Map.of(
+            "field1",
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList, docsWithField)),
+            "field3",
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList, docsWithField))
+        );
+
+        Map<String, Supplier<StarTreeValuesIterator>> metricDocIdSetIterators = new LinkedHashMap<>();
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues(sf.getName(), "field2", MetricStat.CARDINALITY.getTypeName()),
+            () -> new BinaryStarTreeValuesIterator(getBinaryMock(sketches, docsWithField))
+        );
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues(sf.getName(), "field2", MetricStat.PERCENTILES.getTypeName()),
+            () -> new BinaryStarTreeValuesIterator(getBinaryMock(digests, docsWithField))
+        );
+
+        return new StarTreeValues(
+            sf,
+            null,
+            dimDocIdSetIterators,
+            metricDocIdSetIterators,
+            Map.of(CompositeIndexConstants.SEGMENT_DOCS_COUNT, number),
+            null
+        );
+    }
+
     private StarTreeValues getStarTreeValuesWithKeywords(
         SortedSetDocValues dimList,
         SortedSetDocValues dimList2,
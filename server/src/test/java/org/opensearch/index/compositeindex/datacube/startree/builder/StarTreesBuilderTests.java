@@ -21,6 +21,7 @@ import org.apache.lucene.util.InfoStream;
 import org.apache.lucene.util.Version;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.StarTreeMapper;
 import org.opensearch.test.OpenSearchTestCase;
@@ -30,12 +31,27 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mockito.InOrder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -149,6 +165,79 @@ public class StarTreesBuilderTests extends OpenSearchTestCase {
         verifyNoInteractions(docValuesProducer);
     }
 
+    public void test_buildDuringMergeComputesStarTreesConcurrently() throws Exception {
+        StarTreeField otherStarTreeField = new StarTreeField(
+            "other_star_tree",
+            new ArrayList<>(),
+            new ArrayList<>(),
+            starTreeField.getStarTreeConfig()
+        );
+        StarTreeMapper.StarTreeFieldType otherStarTreeFieldType = new StarTreeMapper.StarTreeFieldType(
+            "other_star_tree",
+            otherStarTreeField
+        );
+        when(mapperService.getCompositeFieldTypes()).thenReturn(Set.of(starTreeFieldType, otherStarTreeFieldType));
+        List<StarTreeValues> starTreeValuesSubs = List.of(mockStarTreeValues(starTreeField), mockStarTreeValues(starTreeField));
+        List<StarTreeValues> otherStarTreeValuesSubs = List.of(mockStarTreeValues(otherStarTreeField));
+        Map<String, List<StarTreeValues>> starTreeValuesSubsPerField = new LinkedHashMap<>();
+        starTreeValuesSubsPerField.put("star_tree", starTreeValuesSubs);
+        starTreeValuesSubsPerField.put("other_star_tree", otherStarTreeValuesSubs);
+        DocValuesConsumer starTreeDocValuesConsumer = mock(DocValuesConsumer.class);
+        AtomicInteger fieldNumberAcrossStarTrees = new AtomicInteger();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            StarTreeBuilder starTreeBuilder = mock(StarTreeBuilder.class);
+            StarTreeBuilder otherStarTreeBuilder = mock(StarTreeBuilder.class);
+            StarTreesBuilder starTreesBuilder = spy(
+                new StarTreesBuilder(segmentWriteState, mapperService, fieldNumberAcrossStarTrees, executor)
+            );
+            doReturn(starTreeBuilder).when(starTreesBuilder).getStarTreeBuilder(any(), any(), eq(starTreeField), any(), any());
+            doReturn(otherStarTreeBuilder).when(starTreesBuilder).getStarTreeBuilder(any(), any(), eq(otherStarTreeField), any(), any());
+
+            starTreesBuilder.buildDuringMerge(metaOut, dataOut, starTreeValuesSubsPerField, starTreeDocValuesConsumer);
+
+            verify(starTreeBuilder).computeStarTree(starTreeValuesSubs);
+            verify(otherStarTreeBuilder).computeStarTree(otherStarTreeValuesSubs);
+            verify(starTreeBuilder, never()).build(any(List.class), any(), any());
+            verify(otherStarTreeBuilder, never()).build(any(List.class), any(), any());
+            // the star trees share the outputs, so they are written in the order of the fields
+            InOrder inOrder = inOrder(starTreeBuilder, otherStarTreeBuilder);
+            inOrder.verify(starTreeBuilder).writeStarTree(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+            inOrder.verify(otherStarTreeBuilder).writeStarTree(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+            verify(starTreeBuilder).close();
+            verify(otherStarTreeBuilder).close();
+
+            // a failure to compute one of the star trees fails the merge once all of them are done, and closes all builders
+            StarTreeBuilder failingStarTreeBuilder = mock(StarTreeBuilder.class);
+            StarTreeBuilder otherFailingStarTreeBuilder = mock(StarTreeBuilder.class);
+            doThrow(new IOException("simulated")).when(failingStarTreeBuilder).computeStarTree(starTreeValuesSubs);
+            doReturn(failingStarTreeBuilder).when(starTreesBuilder).getStarTreeBuilder(any(), any(), eq(starTreeField), any(), any());
+            doReturn(otherFailingStarTreeBuilder).when(starTreesBuilder)
+                .getStarTreeBuilder(any(), any(), eq(otherStarTreeField), any(), any());
+
+            IOException e = expectThrows(
+                IOException.class,
+                () -> starTreesBuilder.buildDuringMerge(metaOut, dataOut, starTreeValuesSubsPerField, starTreeDocValuesConsumer)
+            );
+            assertEquals("simulated", e.getMessage());
+            verify(otherFailingStarTreeBuilder).computeStarTree(otherStarTreeValuesSubs);
+            verify(failingStarTreeBuilder, never()).writeStarTree(any(), any());
+            verify(otherFailingStarTreeBuilder, never()).writeStarTree(any(), any());
+            verify(failingStarTreeBuilder).close();
+            verify(otherFailingStarTreeBuilder).close();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static StarTreeValues mockStarTreeValues(StarTreeField starTreeField) {
+        StarTreeValues starTreeValues = mock(StarTreeValues.class);
+        when(starTreeValues.getStarTreeField()).thenReturn(starTreeField);
+        return starTreeValues;
+    }
+
     @Override
     public void tearDown() throws Exception {
         super.tearDown();
@@ -17,6 +17,7 @@ import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTime
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.junit.Before;
 
 import java.util.ArrayList;
@@ -27,6 +28,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -203,6 +207,58 @@ public class StarTreeDocumentsSorterTests extends OpenSearchTestCase {
         }
     }
 
+    public void testParallelSort() throws InterruptedException {
+        int numDocs = StarTreeDocumentsSorter.MIN_DOCS_PER_CHUNK * randomIntBetween(2, 4) + randomIntBetween(0, 1000);
+        int numDimensions = 3;
+        Long[][] dimensions = new Long[numDocs][];
+        for (int i = 0; i < numDocs; i++) {
+            dimensions[i] = new Long[numDimensions];
+            for (int j = 0; j < numDimensions; j++) {
+                // few distinct values so that many documents share their dimensions
+                dimensions[i][j] = randomBoolean() ? null : (long) randomIntBetween(-5, 5);
+            }
+        }
+        List<Comparator<Long>> comparators = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            comparators.add(randomBoolean() ? new NumericDimension("dim").comparator() : new UnsignedLongDimension("dim").comparator());
+        }
+        int dimensionId = randomIntBetween(-1, numDimensions - 2);
+
+        int[] sortedDocIds = new int[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            sortedDocIds[i] = i;
+        }
+        AtomicInteger numReaders = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(1, 4));
+        try {
+            StarTreeDocumentsSorter.sort(sortedDocIds, dimensionId, numDocs, () -> {
+                numReaders.incrementAndGet();
+                return i -> dimensions[sortedDocIds[i]];
+            }, comparators, executor);
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+        }
+        // each chunk reads dimensions with its own reader
+        assertEquals(numDocs / StarTreeDocumentsSorter.MIN_DOCS_PER_CHUNK, numReaders.get());
+
+        int[] docIds = sortedDocIds.clone();
+        Arrays.sort(docIds);
+        for (int i = 0; i < numDocs; i++) {
+            assertEquals(i, docIds[i]);
+        }
+        for (int i = 1; i < numDocs; i++) {
+            Long[] prev = dimensions[sortedDocIds[i - 1]];
+            Long[] curr = dimensions[sortedDocIds[i]];
+            for (int j = dimensionId + 1; j < numDimensions; j++) {
+                int comparison = comparators.get(j).compare(prev[j], curr[j]);
+                assertTrue("Sorting error at index " + i, comparison <= 0);
+                if (comparison < 0) {
+                    break;
+                }
+            }
+        }
+    }
+
     private void testRandomizedSort() {
 
         int numDocs = randomIntBetween(0, 1000);
@@ -2160,6 +2160,44 @@ public class InternalEngineTests extends EngineTestCase {
 
     }
 
+    public void testPrefetchDocVersions() throws IOException {
+        int numDocs = randomIntBetween(1, 100);
+        for (int i = 0; i < numDocs; i++) {
+            engine.index(indexForDoc(testParsedDocument(Integer.toString(i), null, testDocument(), B_1, null)));
+        }
+        engine.refresh("test");
+
+        List<BytesRef> uids = new ArrayList<>();
+        for (int i = 0; i < 2 * numDocs; i++) {
+            uids.add(Uid.encodeId(Integer.toString(i)));
+        }
+        Collections.shuffle(uids, random());
+        engine.prefetchDocVersions(uids);
+        assertThat(engine.getNumPrefetchedDocVersions(), equalTo(2 * numDocs));
+
+        for (int i = 0; i < 2 * numDocs; i++) {
+            ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), B_1, null);
+            Engine.IndexResult indexResult = engine.index(new Engine.Index(newUid(doc), primaryTerm.get(), doc, Versions.MATCH_DELETED));
+            if (i < numDocs) {
+                assertThat(indexResult.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+                assertThat(indexResult.getFailure(), instanceOf(VersionConflictEngineException.class));
+            } else {
+                assertThat(indexResult.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+                assertThat(indexResult.getVersion(), equalTo(1L));
+            }
+        }
+        assertThat(engine.getNumPrefetchedDocVersions(), equalTo(0));
+
+        // versions prefetched from a reader that was refreshed away are not used
+        engine.prefetchDocVersions(uids);
+        ParsedDocument doc = testParsedDocument("0", null, testDocument(), B_1, null);
+        engine.index(indexForDoc(doc));
+        engine.refresh("test");
+        Engine.IndexResult indexResult = engine.index(indexForDoc(doc));
+        assertThat(indexResult.getVersion(), equalTo(3L));
+        assertThat(engine.getNumPrefetchedDocVersions(), equalTo(0));
+    }
+
     public void testVersioningCreateExistsException() throws IOException {
         ParsedDocument doc = testParsedDocument("1", null, testDocument(), B_1, null);
         Engine.Index create = new Engine.Index(
@@ -54,6 +54,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.nullValue;
 
 public class LiveVersionMapTests extends OpenSearchTestCase {
@@ -96,8 +97,73 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         assertEquals(actualRamBytesUsed, estimatedRamBytesUsed, tolerance);
     }
 
+    public void testRamBytesUsedPaged() throws Exception {
+        LiveVersionMap map = new LiveVersionMap(LiveVersionMap.Storage.PAGED);
+        long emptyRamBytesUsed = map.ramBytesUsed();
+        assertThat(emptyRamBytesUsed, greaterThan(0L));
+        for (int i = 0; i < 10000; ++i) {
+            BytesRefBuilder uid = new BytesRefBuilder();
+            uid.copyChars(TestUtil.randomSimpleString(random(), 10, 20));
+            try (Releasable r = map.acquireLock(uid.toBytesRef())) {
+                map.putIndexUnderLock(uid.toBytesRef(), randomIndexVersionValue());
+            }
+        }
+        long estimatedRamBytesUsed = map.ramBytesUsed();
+        // at least the primitive values (5 longs and 1 int) and the uid bytes of every entry, plus the hash table slots
+        long minRamBytesUsed = 10000L * (5 * Long.BYTES + Integer.BYTES + 10 + Long.BYTES);
+        assertThat(estimatedRamBytesUsed, greaterThan(minRamBytesUsed));
+        // but without the per entry object overhead of the hash map storage
+        assertThat(estimatedRamBytesUsed, lessThan(4 * minRamBytesUsed));
+
+        map.beforeRefresh();
+        assertEquals(estimatedRamBytesUsed, map.getRefreshingBytes());
+        map.afterRefresh(true);
+        assertEquals(0L, map.getRefreshingBytes());
+        assertEquals(map.ramBytesUsedForRefresh(), map.ramBytesUsed());
+    }
+
+    public void testPagedStorageIndexDeleteAndReindex() throws IOException {
+        LiveVersionMap map = new LiveVersionMap(LiveVersionMap.Storage.PAGED);
+        Map<BytesRef, VersionValue> expected = new HashMap<>();
+        int numKeys = randomIntBetween(100, 1000);
+        for (int i = 0; i < numKeys; i++) {
+            BytesRef uid = uid(Integer.toString(i));
+            try (Releasable r = map.acquireLock(uid)) {
+                IndexVersionValue value = randomIndexVersionValue();
+                map.putIndexUnderLock(uid, value);
+                expected.put(uid, value);
+            }
+        }
+        assertEquals(expected, map.getAllCurrent());
+        for (int i = 0; i < numKeys; i++) {
+            BytesRef uid = uid(Integer.toString(randomIntBetween(0, numKeys - 1)));
+            try (Releasable r = map.acquireLock(uid)) {
+                if (randomBoolean()) {
+                    DeleteVersionValue delete = new DeleteVersionValue(randomNonNegativeLong(), randomLong(), randomLong(), randomLong());
+                    map.putDeleteUnderLock(uid, delete);
+                    expected.remove(uid);
+                    assertEquals(delete, map.getUnderLock(uid));
+                } else {
+                    IndexVersionValue value = randomIndexVersionValue();
+                    map.putIndexUnderLock(uid, value);
+                    expected.put(uid, value);
+                    assertEquals(value, map.getUnderLock(uid));
+                }
+            }
+        }
+        assertEquals(expected, map.getAllCurrent());
+        map.beforeRefresh();
+        for (Map.Entry<BytesRef, VersionValue> entry : expected.entrySet()) {
+            try (Releasable r = map.acquireLock(entry.getKey())) {
+                assertEquals(entry.getValue(), map.getUnderLock(entry.getKey()));
+            }
+        }
+        map.afterRefresh(randomBoolean());
+        assertThat(map.getAllCurrent().entrySet(), empty());
+    }
+
     public void testRefreshingBytes() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         BytesRefBuilder uid = new BytesRefBuilder();
         uid.copyChars(TestUtil.randomSimpleString(random(), 10, 20));
         try (Releasable r = map.acquireLock(uid.toBytesRef())) {
@@ -117,7 +183,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testBasics() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         try (Releasable r = map.acquireLock(uid("test"))) {
             Translog.Location tlogLoc = randomTranslogLocation();
             map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
@@ -149,7 +215,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         List<BytesRef> keyList = new ArrayList<>(keySet);
         ConcurrentHashMap<BytesRef, VersionValue> values = new ConcurrentHashMap<>();
         ConcurrentHashMap<BytesRef, DeleteVersionValue> deletes = new ConcurrentHashMap<>();
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         int numThreads = randomIntBetween(2, 5);
 
         Thread[] threads = new Thread[numThreads];
@@ -287,7 +353,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testCarryOnSafeAccess() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         assertFalse(map.isUnsafe());
         assertFalse(map.isSafeAccessRequired());
         map.enforceSafeAccess();
@@ -319,7 +385,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRefreshTransition() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         try (Releasable r = map.acquireLock(uid("1"))) {
             map.maybePutIndexUnderLock(uid("1"), randomIndexVersionValue());
             assertTrue(map.isUnsafe());
@@ -347,7 +413,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testAddAndDeleteRefreshConcurrently() throws IOException, InterruptedException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         int numIters = randomIntBetween(1000, 5000);
         AtomicBoolean done = new AtomicBoolean(false);
         AtomicLong version = new AtomicLong();
@@ -404,7 +470,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testPruneTombstonesWhileLocked() throws InterruptedException, IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         BytesRef uid = uid("1");
 
         try (Releasable ignore = map.acquireLock(uid)) {
@@ -423,7 +489,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRandomlyIndexDeleteAndRefresh() throws Exception {
-        final LiveVersionMap versionMap = new LiveVersionMap();
+        final LiveVersionMap versionMap = newLiveVersionMap();
         final BytesRef uid = uid("1");
         final long versions = between(10, 1000);
         VersionValue latestVersion = null;
@@ -456,6 +522,10 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    private LiveVersionMap newLiveVersionMap() {
+        return new LiveVersionMap(randomFrom(LiveVersionMap.Storage.values()));
+    }
+
     IndexVersionValue randomIndexVersionValue() {
         return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
@@ -464,7 +534,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             return null;
         } else {
-            return new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+            return new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, Integer.MAX_VALUE));
         }
     }
 }
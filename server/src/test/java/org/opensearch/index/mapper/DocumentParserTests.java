@@ -117,6 +117,50 @@ public class DocumentParserTests extends MapperServiceTestCase {
         }
     }
 
+    public void testParsePlanResolvesKnownFields() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> {
+            b.startObject("foo");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("bar").field("type", "keyword").endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("baz").field("type", "long").endObject();
+        }));
+        DocumentMapper mapper = mapperService.documentMapper();
+        DocumentParsePlan plan = mapper.parsePlan();
+        ObjectMapper root = mapper.root();
+        ObjectMapper foo = mapper.objectMappers().get("foo");
+
+        assertSame(mapper.mappers().getMapper("baz"), plan.resolve(root, "baz").mapper);
+        assertSame(foo, plan.resolve(root, "foo").mapper);
+        assertSame(mapper.mappers().getMapper("foo.bar"), plan.resolve(foo, "bar").mapper);
+        assertSame(mapper.mapping().getMetadataMapper(IdFieldMapper.NAME), plan.resolve(root, IdFieldMapper.NAME).mapper);
+        // dotted and unknown field names are resolved the regular way
+        assertNull(plan.resolve(root, "foo.bar"));
+        assertNull(plan.resolve(root, "qux"));
+        assertNull(plan.resolve(foo, "baz"));
+
+        ParsedDocument doc = mapper.parse(source(b -> {
+            b.startObject("foo").field("bar", "value").endObject();
+            b.field("foo.bar", "other");
+            b.field("baz", 42);
+        }));
+        assertNull(doc.dynamicMappingsUpdate());
+        assertEquals(4, doc.rootDoc().getFields("foo.bar").length);
+        assertEquals(2, doc.rootDoc().getFields("baz").length);
+
+        // the plan is replaced on mapping updates
+        merge(mapperService, mapping(b -> b.startObject("qux").field("type", "keyword").endObject()));
+        DocumentMapper updated = mapperService.documentMapper();
+        assertNotSame(plan, updated.parsePlan());
+        assertNotNull(updated.parsePlan().resolve(updated.root(), "qux"));
+        assertNull(plan.resolve(updated.root(), "baz"));
+    }
+
     public void testDotsWithExistingMapper() throws Exception {
         DocumentMapper mapper = createDocumentMapper(mapping(b -> {
             b.startObject("foo");
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.lucene.index.MergePolicy;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.monitor.fs.FsService;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+public class MergeIoBudgetTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private ClusterService clusterService;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        if (clusterService != null) {
+            clusterService.close();
+        }
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    private MergeIoBudget newBudget(Settings settings) {
+        clusterService = ClusterServiceUtils.createClusterService(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+        return new MergeIoBudget(threadPool, clusterService, mock(FsService.class));
+    }
+
+    public void testSharesAreWeighted() {
+        final MergeIoBudget budget = newBudget(
+            Settings.builder()
+                .put(MergeIoBudget.ENABLED_SETTING.getKey(), true)
+                .put(MergeIoBudget.MAX_BYTES_PER_SEC_SETTING.getKey(), "100mb")
+                .put(MergeIoBudget.SMALL_MERGE_SIZE_SETTING.getKey(), "10mb")
+                .build()
+        );
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final MergeIoBudget.Share large = budget.register(shardId, 1L << 30, 10, () -> {});
+        assertThat(large.getMBPerSec(), closeTo(100.0, 0.001));
+
+        final MergeIoBudget.Share small = budget.register(shardId, 1L << 20, 10, () -> {});
+        assertThat(small.getMBPerSec(), closeTo(large.getMBPerSec() * MergeIoBudget.SMALL_MERGE_WEIGHT, 0.001));
+        assertThat(small.getMBPerSec() + large.getMBPerSec(), closeTo(100.0, 0.001));
+
+        // a shard with more segments gets a larger share for a merge of the same size
+        final MergeIoBudget.Share fragmented = budget.register(new ShardId("index", "_na_", 1), 1L << 30, 100, () -> {});
+        assertThat(fragmented.getMBPerSec(), greaterThan(large.getMBPerSec()));
+        assertThat(small.getMBPerSec() + large.getMBPerSec() + fragmented.getMBPerSec(), closeTo(100.0, 0.001));
+
+        // the budget sets the rate of the shares, which can't be overridden
+        large.setMBPerSec(1.0);
+        assertThat(large.getMBPerSec(), greaterThan(1.0));
+
+        // released shares go back to the remaining merges
+        small.release();
+        fragmented.release();
+        assertThat(large.getMBPerSec(), closeTo(100.0, 0.001));
+        large.release();
+    }
+
+    public void testDisabledBudget() {
+        final MergeIoBudget budget = newBudget(Settings.EMPTY);
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        assertThat(budget.register(shardId, 1L << 20, 1, () -> {}), nullValue());
+
+        clusterService.getClusterSettings()
+            .applySettings(Settings.builder().put(MergeIoBudget.ENABLED_SETTING.getKey(), true).build());
+        final MergeIoBudget.Share share = budget.register(shardId, 1L << 20, 1, () -> {});
+        assertThat(share.getMBPerSec(), closeTo(budget.getBudgetMBPerSec(), 0.001));
+
+        // disabling the budget lifts the limit of running merges right away
+        clusterService.getClusterSettings().applySettings(Settings.EMPTY);
+        assertThat(share.getMBPerSec(), equalTo(Double.POSITIVE_INFINITY));
+        share.release();
+    }
+
+    public void testPauseThrottlesToShare() throws Exception {
+        final MergeIoBudget budget = newBudget(
+            Settings.builder()
+                .put(MergeIoBudget.ENABLED_SETTING.getKey(), true)
+                .put(MergeIoBudget.MIN_BYTES_PER_SEC_SETTING.getKey(), "1mb")
+                .put(MergeIoBudget.MAX_BYTES_PER_SEC_SETTING.getKey(), "1mb")
+                .build()
+        );
+        final MergeIoBudget.Share share = budget.register(new ShardId("index", "_na_", 0), 1L << 20, 1, () -> {});
+        // writing 100kb at 1mb/sec takes about 100ms
+        share.pause(100 * 1024);
+        share.pause(100 * 1024);
+        assertThat(share.getPausedNanos(), greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+        share.release();
+    }
+
+    public void testPauseStopsOnAbortedMerge() {
+        final MergeIoBudget budget = newBudget(
+            Settings.builder()
+                .put(MergeIoBudget.ENABLED_SETTING.getKey(), true)
+                .put(MergeIoBudget.MIN_BYTES_PER_SEC_SETTING.getKey(), "1mb")
+                .put(MergeIoBudget.MAX_BYTES_PER_SEC_SETTING.getKey(), "1mb")
+                .build()
+        );
+        final MergeIoBudget.Share share = budget.register(new ShardId("index", "_na_", 0), 1L << 20, 1, () -> {
+            throw new MergePolicy.MergeAbortedException("aborted");
+        });
+        expectThrows(MergePolicy.MergeAbortedException.class, () -> {
+            share.pause(1);
+            // the first pause only sets the pace, the second one has to wait
+            share.pause(10 * 1024 * 1024);
+        });
+        share.release();
+    }
+
+    public void testWeight() {
+        final long small = 10;
+        assertThat(MergeIoBudget.weight(small, small, 0), equalTo(MergeIoBudget.SMALL_MERGE_WEIGHT));
+        assertThat(MergeIoBudget.weight(small + 1, small, 0), equalTo(1.0));
+        assertThat(MergeIoBudget.weight(small + 1, small, 100), greaterThan(MergeIoBudget.weight(small + 1, small, 10)));
+    }
+
+    public void testNextBudget() {
+        // slow disks lower the budget, down to its minimum
+        assertThat(MergeIoBudget.nextBudgetMBPerSec(100, 10, 200, 20, 10), closeTo(80, 0.001));
+        assertThat(MergeIoBudget.nextBudgetMBPerSec(11, 10, 200, 20, 10), closeTo(10, 0.001));
+        // fast disks raise it, up to its maximum
+        assertThat(MergeIoBudget.nextBudgetMBPerSec(100, 10, 200, 2, 10), closeTo(110, 0.001));
+        assertThat(MergeIoBudget.nextBudgetMBPerSec(199, 10, 200, 2, 10), closeTo(200, 0.001));
+        // disks close to the target keep it
+        assertThat(MergeIoBudget.nextBudgetMBPerSec(100, 10, 200, 8, 10), closeTo(100, 0.001));
+    }
+}
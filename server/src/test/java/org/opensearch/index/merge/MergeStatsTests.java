@@ -165,6 +165,21 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertEquals(8, stats.getUnreferencedFileCleanUpsPerformed());
     }
 
+    public void testStarTreeBuildTime() {
+        MergeStats stats1 = new MergeStats();
+        MergeStats stats2 = new MergeStats();
+        assertEquals(0, stats1.getTotalStarTreeBuildTimeInMillis());
+
+        stats1.addStarTreeBuildTime(30);
+        stats2.addStarTreeBuildTime(12);
+        stats1.add(stats2);
+        assertEquals(42, stats1.getTotalStarTreeBuildTimeInMillis());
+        assertEquals(new TimeValue(42), stats1.getTotalStarTreeBuildTime());
+
+        stats1.addTotals(stats2);
+        assertEquals(54, stats1.getTotalStarTreeBuildTimeInMillis());
+    }
+
     public void testGetters() {
         MergeStats stats = new MergeStats();
         MergedSegmentWarmerStats warmerStats = new MergedSegmentWarmerStats();
@@ -200,6 +215,7 @@ public class MergeStatsTests extends OpenSearchTestCase {
 
         original.add(5, 100, 50, 1024, 2, 25, 512, 10, 20, 1.5, warmerStats);
         original.addUnreferencedFileCleanUpStats(3);
+        original.addStarTreeBuildTime(42);
 
         BytesStreamOutput out = new BytesStreamOutput();
         original.writeTo(out);
@@ -218,6 +234,7 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertEquals(original.getTotalStoppedTimeInMillis(), deserialized.getTotalStoppedTimeInMillis());
         assertEquals(original.getTotalThrottledTimeInMillis(), deserialized.getTotalThrottledTimeInMillis());
         assertEquals(original.getTotalBytesPerSecAutoThrottle(), deserialized.getTotalBytesPerSecAutoThrottle());
+        assertEquals(original.getTotalStarTreeBuildTimeInMillis(), deserialized.getTotalStarTreeBuildTimeInMillis());
     }
 
     public void testToXContent() throws IOException {
@@ -239,6 +256,7 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertTrue(json.contains("total_time_in_millis"));
         assertTrue(json.contains("total_docs"));
         assertTrue(json.contains("total_size_in_bytes"));
+        assertTrue(json.contains("total_star_tree_build_time_in_millis"));
         assertTrue(json.contains("warmer"));
     }
 }
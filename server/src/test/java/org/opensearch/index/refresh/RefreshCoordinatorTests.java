@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.refresh;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.test.ClusterServiceUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class RefreshCoordinatorTests extends IndexShardTestCase {
+
+    private RefreshCoordinator newCoordinator(boolean enabled) {
+        final Settings settings = Settings.builder()
+            .put(RefreshCoordinator.ENABLED_SETTING.getKey(), enabled)
+            .put(RefreshCoordinator.WAVE_INTERVAL_SETTING.getKey(), "10ms")
+            .put(RefreshCoordinator.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), randomIntBetween(1, 4))
+            .build();
+        final ClusterService clusterService = ClusterServiceUtils.createClusterService(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+        final RefreshCoordinator coordinator = new RefreshCoordinator(
+            threadPool,
+            clusterService,
+            new RefreshCoordinatorMetrics(NoopMetricsRegistry.INSTANCE)
+        );
+        coordinator.start();
+        return coordinator;
+    }
+
+    public void testDueShardsAreRefreshedInWaves() throws Exception {
+        final RefreshCoordinator coordinator = newCoordinator(true);
+        final List<IndexShard> shards = new ArrayList<>();
+        final int numShards = randomIntBetween(1, 5);
+        for (int i = 0; i < numShards; i++) {
+            final IndexShard shard = newStartedShard(true);
+            shard.setRefreshCoordinator(coordinator);
+            indexDoc(shard, "_doc", "1");
+            shards.add(shard);
+        }
+        try {
+            final long[] refreshesBefore = new long[numShards];
+            for (int i = 0; i < numShards; i++) {
+                refreshesBefore[i] = shards.get(i).refreshStats().getTotal();
+                shards.get(i).onScheduledRefreshDue();
+                // a shard that is already due is refreshed once
+                shards.get(i).onScheduledRefreshDue();
+            }
+            assertBusy(() -> {
+                for (int i = 0; i < numShards; i++) {
+                    assertThat(shards.get(i).refreshStats().getTotal(), greaterThan(refreshesBefore[i]));
+                }
+            }, 10, TimeUnit.SECONDS);
+            assertBusy(() -> assertThat(coordinator.getCompletedWaves(), greaterThan(0L)));
+        } finally {
+            coordinator.stop();
+            closeShards(shards);
+        }
+    }
+
+    public void testScheduledRefreshRunsInlineWhenDisabled() throws Exception {
+        final RefreshCoordinator coordinator = newCoordinator(false);
+        final IndexShard shard = newStartedShard(true);
+        try {
+            shard.setRefreshCoordinator(coordinator);
+            indexDoc(shard, "_doc", "1");
+            final long refreshesBefore = shard.refreshStats().getTotal();
+            shard.onScheduledRefreshDue();
+            assertThat(shard.refreshStats().getTotal(), greaterThan(refreshesBefore));
+            assertThat(coordinator.getCompletedWaves(), equalTo(0L));
+        } finally {
+            coordinator.stop();
+            closeShards(shard);
+        }
+    }
+
+    public void testNextConcurrentRefreshes() {
+        final long target = TimeUnit.SECONDS.toNanos(1);
+        // slow refreshes halve the concurrency, down to a single refresh at a time
+        assertThat(RefreshCoordinator.nextConcurrentRefreshes(8, 8, target + 1, target, 100), equalTo(4));
+        assertThat(RefreshCoordinator.nextConcurrentRefreshes(1, 8, target + 1, target, 100), equalTo(1));
+        // fast refreshes grow it back by one, up to the maximum
+        assertThat(RefreshCoordinator.nextConcurrentRefreshes(4, 8, target / 4, target, 100), equalTo(5));
+        assertThat(RefreshCoordinator.nextConcurrentRefreshes(8, 8, target / 4, target, 100), equalTo(8));
+        // unless the wave didn't need more
+        assertThat(RefreshCoordinator.nextConcurrentRefreshes(4, 8, target / 4, target, 3), equalTo(4));
+        // refreshes close to the target keep it
+        assertThat(RefreshCoordinator.nextConcurrentRefreshes(4, 8, target * 3 / 4, target, 100), equalTo(4));
+        // a lowered maximum applies right away
+        assertThat(RefreshCoordinator.nextConcurrentRefreshes(8, 2, target * 3 / 4, target, 100), equalTo(2));
+    }
+}
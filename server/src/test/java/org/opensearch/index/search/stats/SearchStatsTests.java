@@ -40,6 +40,7 @@ import org.opensearch.action.search.SearchRequestStats;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.index.search.stats.SearchStats.Stats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Assert;
@@ -205,4 +206,20 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
         // Ensure writeTo() does not throw error with negative 'current'
         searchStats.writeTo(new BytesStreamOutput(10));
     }
+
+    public void testConcurrentSliceImbalance() throws Exception {
+        assertEquals(0, new Stats().getConcurrentSliceImbalance(), 0);
+
+        Stats stats = new Stats.Builder().sliceMaxTimeInMicros(300).sliceMeanTimeInMicros(200).build();
+        assertEquals(1.5, stats.getConcurrentSliceImbalance(), 0);
+        stats.add(new Stats.Builder().sliceMaxTimeInMicros(100).sliceMeanTimeInMicros(100).build());
+        assertEquals(4 / 3.0, stats.getConcurrentSliceImbalance(), 0.0001);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(stats.getConcurrentSliceImbalance(), Stats.readStats(in).getConcurrentSliceImbalance(), 0);
+            }
+        }
+    }
 }
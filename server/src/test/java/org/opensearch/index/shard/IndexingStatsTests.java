@@ -44,6 +44,8 @@ public class IndexingStatsTests extends OpenSearchTestCase {
                 assertEquals(totalStats.getDeleteTime(), deserializedTotalStats.getDeleteTime());
                 assertEquals(totalStats.getDeleteCurrent(), deserializedTotalStats.getDeleteCurrent());
                 assertEquals(totalStats.getNoopUpdateCount(), deserializedTotalStats.getNoopUpdateCount());
+                assertEquals(totalStats.getBatchedMappingUpdateCount(), deserializedTotalStats.getBatchedMappingUpdateCount());
+                assertEquals(totalStats.getAvoidedMappingUpdateCount(), deserializedTotalStats.getAvoidedMappingUpdateCount());
                 assertEquals(totalStats.isThrottled(), deserializedTotalStats.isThrottled());
                 assertEquals(totalStats.getThrottleTime(), deserializedTotalStats.getThrottleTime());
             }
@@ -70,6 +72,10 @@ public class IndexingStatsTests extends OpenSearchTestCase {
             + totalStats.getDeleteCurrent()
             + ",\"noop_update_total\":"
             + totalStats.getNoopUpdateCount()
+            + ",\"batched_mapping_update_total\":"
+            + totalStats.getBatchedMappingUpdateCount()
+            + ",\"avoided_mapping_update_total\":"
+            + totalStats.getAvoidedMappingUpdateCount()
             + ",\"is_throttled\":"
             + totalStats.isThrottled()
             + ",\"throttle_time_in_millis\":"
@@ -174,6 +180,8 @@ public class IndexingStatsTests extends OpenSearchTestCase {
             .deleteTimeInMillis(randomNonNegativeLong())
             .deleteCurrent(randomNonNegativeLong())
             .noopUpdateCount(randomNonNegativeLong())
+            .batchedMappingUpdateCount(randomNonNegativeLong())
+            .avoidedMappingUpdateCount(randomNonNegativeLong())
             .isThrottled(randomBoolean())
             .throttleTimeInMillis(randomNonNegativeLong())
             .maxLastIndexRequestTimestamp(randomLong())
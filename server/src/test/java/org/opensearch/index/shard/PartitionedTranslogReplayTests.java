@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class PartitionedTranslogReplayTests extends OpenSearchTestCase {
+
+    private static Translog.Operation randomOperation(long seqNo, String id) {
+        switch (randomIntBetween(0, 2)) {
+            case 0:
+                return new Translog.Index(id, seqNo, 1, 1, "{}".getBytes(StandardCharsets.UTF_8), null, -1);
+            case 1:
+                return new Translog.Delete(id, seqNo, 1, 1);
+            default:
+                return new Translog.NoOp(seqNo, 1, "test");
+        }
+    }
+
+    private static String idOf(Translog.Operation operation) {
+        switch (operation.opType()) {
+            case INDEX:
+                return ((Translog.Index) operation).id();
+            case DELETE:
+                return ((Translog.Delete) operation).id();
+            default:
+                return null;
+        }
+    }
+
+    public void testPartitionIsStablePerId() {
+        final int partitions = randomIntBetween(1, 16);
+        for (int i = 0; i < 100; i++) {
+            final String id = randomAlphaOfLength(10);
+            final int partition = PartitionedTranslogReplay.partition(new Translog.Delete(id, i, 1, 1), partitions);
+            assertThat(partition, lessThan(partitions));
+            assertThat(
+                PartitionedTranslogReplay.partition(
+                    new Translog.Index(id, i + 1, 1, 1, "{}".getBytes(StandardCharsets.UTF_8), null, -1),
+                    partitions
+                ),
+                equalTo(partition)
+            );
+        }
+    }
+
+    public void testReplayKeepsOrderPerId() throws Exception {
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final List<String> ids = new ArrayList<>();
+            final int numIds = randomIntBetween(1, 20);
+            for (int i = 0; i < numIds; i++) {
+                ids.add(randomAlphaOfLength(8));
+            }
+            final List<Translog.Operation> operations = new ArrayList<>();
+            final int numOperations = randomIntBetween(0, 500);
+            for (int seqNo = 0; seqNo < numOperations; seqNo++) {
+                operations.add(randomOperation(seqNo, randomFrom(ids)));
+            }
+            final Map<String, List<Long>> replayedSeqNosById = new ConcurrentHashMap<>();
+            final List<Translog.Operation> replayed = new CopyOnWriteArrayList<>();
+            PartitionedTranslogReplay.replay(
+                operations,
+                randomIntBetween(1, 8),
+                threadPool.generic(),
+                threadPool.getThreadContext(),
+                operation -> {
+                    replayed.add(operation);
+                    final String id = idOf(operation);
+                    if (id != null) {
+                        // operations on the same id are replayed by the same thread
+                        replayedSeqNosById.computeIfAbsent(id, k -> new ArrayList<>()).add(operation.seqNo());
+                    }
+                }
+            );
+            assertThat(replayed, containsInAnyOrder(operations.toArray()));
+            final Map<String, List<Long>> expectedSeqNosById = new HashMap<>();
+            for (Translog.Operation operation : operations) {
+                final String id = idOf(operation);
+                if (id != null) {
+                    expectedSeqNosById.computeIfAbsent(id, k -> new ArrayList<>()).add(operation.seqNo());
+                }
+            }
+            assertThat(replayedSeqNosById, equalTo(expectedSeqNosById));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testReplayFailure() throws Exception {
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final List<Translog.Operation> operations = new ArrayList<>();
+            final int numOperations = randomIntBetween(1, 100);
+            for (int seqNo = 0; seqNo < numOperations; seqNo++) {
+                operations.add(randomOperation(seqNo, Integer.toString(seqNo)));
+            }
+            final Translog.Operation failing = randomFrom(operations);
+            final AtomicInteger replayed = new AtomicInteger();
+            final IllegalStateException e = expectThrows(
+                IllegalStateException.class,
+                () -> PartitionedTranslogReplay.replay(
+                    operations,
+                    randomIntBetween(1, 8),
+                    threadPool.generic(),
+                    threadPool.getThreadContext(),
+                    operation -> {
+                        if (operation == failing) {
+                            throw new IllegalStateException("failed to replay [" + operation.seqNo() + "]");
+                        }
+                        replayed.incrementAndGet();
+                    }
+                )
+            );
+            assertThat(e.getMessage(), equalTo("failed to replay [" + failing.seqNo() + "]"));
+            assertThat(replayed.get(), lessThan(operations.size()));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+}
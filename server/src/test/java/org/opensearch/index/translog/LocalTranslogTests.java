@@ -66,6 +66,8 @@ import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.Assertions;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
+import org.opensearch.core.common.io.stream.BufferedChecksumStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
@@ -157,6 +159,7 @@ import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -285,6 +288,7 @@ public class LocalTranslogTests extends OpenSearchTestCase {
             // only randomize between nog age retention and a long one, so failures will have a chance of reproducing
             .put(IndexSettings.INDEX_TRANSLOG_RETENTION_AGE_SETTING.getKey(), randomBoolean() ? "-1ms" : "1h")
             .put(IndexSettings.INDEX_TRANSLOG_RETENTION_SIZE_SETTING.getKey(), randomIntBetween(-1, 2048) + "b")
+            .put(IndexSettings.INDEX_TRANSLOG_WRITE_STRIPES_SETTING.getKey(), randomBoolean() ? 1 : randomIntBetween(2, 8))
             .build();
         return getTranslogConfig(path, settings);
     }
@@ -974,6 +978,168 @@ public class LocalTranslogTests extends OpenSearchTestCase {
 
     }
 
+    public void testCompressedOperations() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_COMPRESS_SETTING.getKey(), true)
+            .build();
+        final TranslogConfig config = getTranslogConfig(createTempDir(), settings);
+        final List<Translog.Operation> operations = new ArrayList<>();
+        final List<Translog.Location> locations = new ArrayList<>();
+        try (Translog compressedTranslog = createTranslog(config)) {
+            final int numOps = randomIntBetween(10, 200);
+            for (int i = 0; i < numOps; i++) {
+                final Translog.Operation op;
+                if (rarely()) {
+                    op = new Translog.NoOp(i, primaryTerm.get(), randomAlphaOfLength(10));
+                } else if (rarely()) {
+                    op = new Translog.Delete(Integer.toString(i), i, primaryTerm.get());
+                } else {
+                    // log lines compress well, while short sources are kept as they are
+                    final String source = randomBoolean()
+                        ? "{\"message\":\"" + "GET /index.html HTTP/1.1 200 ".repeat(randomIntBetween(10, 100)) + "\"}"
+                        : "{\"message\":\"" + randomAlphaOfLength(randomIntBetween(1, 100)) + "\"}";
+                    op = new Translog.Index(Integer.toString(i), i, primaryTerm.get(), source.getBytes(StandardCharsets.UTF_8));
+                }
+                operations.add(op);
+                locations.add(compressedTranslog.add(op));
+                if (rarely()) {
+                    compressedTranslog.rollGeneration();
+                }
+            }
+            compressedTranslog.sync();
+
+            for (int i = 0; i < numOps; i++) {
+                assertEquals(operations.get(i), compressedTranslog.readOperation(locations.get(i)));
+            }
+            try (Translog.Snapshot snapshot = compressedTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(operations));
+            }
+            final TranslogStats stats = compressedTranslog.stats();
+            assertThat(stats.getCompressedOperationsSizeInBytes(), lessThanOrEqualTo(stats.getRawCompressedOperationsSizeInBytes()));
+            assertThat(stats.getCompressedOperationsSizeInBytes(), greaterThan(0L));
+
+            // operations that were added without compression stay readable as well
+            final String translogUUID = compressedTranslog.getTranslogUUID();
+            compressedTranslog.close();
+            final TranslogConfig uncompressedConfig = getTranslogConfig(config.getTranslogPath());
+            try (Translog reopened = openTranslog(uncompressedConfig, translogUUID)) {
+                final Translog.Operation uncompressed = new Translog.Index(
+                    Integer.toString(numOps),
+                    numOps,
+                    primaryTerm.get(),
+                    "GET /index.html HTTP/1.1 200 ".repeat(100).getBytes(StandardCharsets.UTF_8)
+                );
+                operations.add(uncompressed);
+                reopened.add(uncompressed);
+                try (Translog.Snapshot snapshot = reopened.newSnapshot()) {
+                    assertThat(snapshot, SnapshotMatchers.equalsTo(operations));
+                }
+                assertThat(reopened.stats().getRawCompressedOperationsSizeInBytes(), equalTo(0L));
+            }
+        }
+    }
+
+    public void testCompressedOperationsAreSmallerForRepetitiveSources() throws IOException {
+        final Translog.Operation op = new Translog.Index(
+            "1",
+            0,
+            primaryTerm.get(),
+            "{\"message\":\"GET /index.html HTTP/1.1 200\"}".repeat(50).getBytes(StandardCharsets.UTF_8)
+        );
+        final BytesStreamOutput raw = new BytesStreamOutput();
+        Translog.writeOperationNoSize(new BufferedChecksumStreamOutput(raw), op);
+        final BytesStreamOutput compressed = new BytesStreamOutput();
+        final int rawSize = Translog.writeCompressedOperationNoSize(new BufferedChecksumStreamOutput(compressed), op);
+        assertThat(rawSize, equalTo(raw.size()));
+        assertThat(compressed.size(), lessThan(raw.size() / 2));
+        assertThat(compressed.bytes().get(0), equalTo(Translog.COMPRESSED_OPERATION));
+
+        final BufferedChecksumStreamInput in = new BufferedChecksumStreamInput(compressed.bytes().streamInput(), "test");
+        in.resetDigest();
+        assertEquals(op, Translog.Operation.readOperation(in));
+        Translog.verifyChecksum(in);
+
+        // small operations are written as they are
+        final Translog.Operation small = new Translog.Index("2", 1, primaryTerm.get(), new byte[] { 'a' });
+        final BytesStreamOutput smallRaw = new BytesStreamOutput();
+        Translog.writeOperationNoSize(new BufferedChecksumStreamOutput(smallRaw), small);
+        final BytesStreamOutput smallOut = new BytesStreamOutput();
+        Translog.writeCompressedOperationNoSize(new BufferedChecksumStreamOutput(smallOut), small);
+        assertEquals(smallRaw.bytes(), smallOut.bytes());
+    }
+
+    public void testStripedWriterSyncsAddedLocations() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_WRITE_STRIPES_SETTING.getKey(), randomIntBetween(2, 16))
+            .build();
+        final TranslogConfig config = getTranslogConfig(createTempDir(), settings);
+        final Set<Long> persistedSeqNos = ConcurrentCollections.newConcurrentSet();
+        persistedSeqNoConsumer.set(persistedSeqNos::add);
+        final int threadCount = randomIntBetween(2, 8);
+        final int opsPerThread = randomIntBetween(10, 500);
+        final AtomicLong seqNoGenerator = new AtomicLong();
+        final Map<Long, Translog.Location> locations = ConcurrentCollections.newConcurrentMap();
+        try (Translog stripedTranslog = createTranslog(config)) {
+            final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+            final Thread[] threads = new Thread[threadCount];
+            final AtomicReference<Exception> failure = new AtomicReference<>();
+            for (int t = 0; t < threadCount; t++) {
+                threads[t] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        for (int i = 0; i < opsPerThread; i++) {
+                            final long seqNo = seqNoGenerator.getAndIncrement();
+                            final byte[] source = randomAlphaOfLength(randomIntBetween(1, 64)).getBytes(StandardCharsets.UTF_8);
+                            final Translog.Location location = stripedTranslog.add(
+                                new Translog.Index(Long.toString(seqNo), seqNo, primaryTerm.get(), source)
+                            );
+                            locations.put(seqNo, location);
+                            if (randomBoolean()) {
+                                // what index.translog.durability=request does after each request
+                                stripedTranslog.ensureSynced(location);
+                                assertThat(persistedSeqNos, hasItem(seqNo));
+                            }
+                        }
+                    } catch (Exception e) {
+                        failure.set(e);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            stripedTranslog.sync();
+            assertThat(stripedTranslog.totalOperations(), equalTo(threadCount * opsPerThread));
+            final Checkpoint checkpoint = Checkpoint.read(config.getTranslogPath().resolve(Translog.CHECKPOINT_FILE_NAME));
+            assertThat(checkpoint.numOps, equalTo(threadCount * opsPerThread));
+            assertThat(checkpoint.minSeqNo, equalTo(0L));
+            assertThat(checkpoint.maxSeqNo, equalTo((long) threadCount * opsPerThread - 1));
+            for (Map.Entry<Long, Translog.Location> entry : locations.entrySet()) {
+                assertThat(stripedTranslog.readOperation(entry.getValue()).seqNo(), equalTo(entry.getKey()));
+            }
+            final Set<Long> readSeqNos = new HashSet<>();
+            long previousOffset = -1;
+            try (Translog.Snapshot snapshot = stripedTranslog.newSnapshot()) {
+                Translog.Operation op;
+                while ((op = snapshot.next()) != null) {
+                    assertTrue("operation [" + op + "] read twice", readSeqNos.add(op.seqNo()));
+                    // operations are written in the order of the offsets handed out, not in the order of their seqNos
+                    final long offset = locations.get(op.seqNo()).translogLocation;
+                    assertThat(offset, greaterThan(previousOffset));
+                    previousOffset = offset;
+                }
+            }
+            assertThat(readSeqNos, equalTo(locations.keySet()));
+            assertThat(persistedSeqNos, equalTo(locations.keySet()));
+        }
+    }
+
     public void testTranslogCorruption() throws Exception {
         TranslogConfig config = translog.getConfig();
         String uuid = translog.getTranslogUUID();
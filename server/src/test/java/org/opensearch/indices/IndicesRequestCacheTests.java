@@ -38,6 +38,7 @@ import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TermQuery;
@@ -294,6 +295,49 @@ public class IndicesRequestCacheTests extends OpenSearchSingleNodeTestCase {
         assertEquals(0, cache.numRegisteredCloseListeners());
     }
 
+    public void testCacheSegments() throws Exception {
+        threadPool = getThreadPool();
+        cache = getIndicesRequestCache(Settings.EMPTY);
+        writer.addDocument(newDoc(0, "foo"));
+        writer.commit();
+        DirectoryReader reader = getReader(writer, indexShard.shardId());
+        assertEquals(1, reader.leaves().size());
+        IndicesService.IndexShardCacheEntity entity = new IndicesService.IndexShardCacheEntity(indexShard);
+
+        AtomicInteger loads = new AtomicInteger();
+        CheckedSupplier<BytesReference, IOException> loader = () -> {
+            loads.incrementAndGet();
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.writeVInt(loads.get());
+                return out.bytes();
+            }
+        };
+        BytesReference value = cache.getOrComputeSegment(entity, loader, reader.leaves().get(0), getTermBytes());
+        assertEquals(1, value.streamInput().readVInt());
+        assertEquals(1, cache.count());
+
+        // a new segment doesn't invalidate the result of the unchanged one
+        writer.addDocument(newDoc(1, "bar"));
+        DirectoryReader secondReader = getReader(writer, indexShard.shardId());
+        assertEquals(2, secondReader.leaves().size());
+        for (LeafReaderContext leaf : secondReader.leaves()) {
+            cache.getOrComputeSegment(entity, loader, leaf, getTermBytes());
+        }
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.count());
+        assertEquals(2, cache.numSegmentCacheKeyIds());
+
+        // the results of a segment are cleaned up once its reader is closed
+        IOUtils.close(reader, secondReader);
+        writer.forceMerge(1);
+        IOUtils.close(writer);
+        writer = new IndexWriter(dir, newIndexWriterConfig());
+        cache.cacheCleanupManager.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.numSegmentCacheKeyIds());
+        assertEquals(0, cache.numRegisteredCloseListeners());
+    }
+
     public void testCacheCleanupThresholdSettingValidator_Valid_Percentage() {
         String s = IndicesRequestCache.validateStalenessSetting("50%");
         assertEquals("50%", s);
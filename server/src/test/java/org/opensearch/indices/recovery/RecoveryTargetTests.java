@@ -38,9 +38,14 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
 import org.opensearch.cluster.routing.TestShardRouting;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.indices.recovery.RecoveryState.Stage;
 import org.opensearch.indices.recovery.RecoveryState.Translog;
 import org.opensearch.indices.recovery.RecoveryState.VerifyIndex;
@@ -53,6 +58,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -492,6 +498,28 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         }
     }
 
+    public void testTranslogOperationsPerSecondIsDetailed() throws IOException {
+        final Translog translog = new Translog();
+        translog.start();
+        translog.totalOperations(1);
+        translog.incrementRecoveredOperations();
+        translog.stop();
+
+        Map<String, Object> translogMap = toMap(translog, ToXContent.EMPTY_PARAMS);
+        assertFalse(translogMap.containsKey("operations_per_sec"));
+
+        translogMap = toMap(translog, new ToXContent.MapParams(Map.of("detailed", "true")));
+        assertTrue(translogMap.containsKey("operations_per_sec"));
+    }
+
+    private static Map<String, Object> toMap(Translog translog, ToXContent.Params params) throws IOException {
+        final XContentBuilder builder = JsonXContent.contentBuilder();
+        builder.startObject();
+        translog.toXContent(builder, params);
+        builder.endObject();
+        return XContentHelper.convertToMap(BytesReference.bytes(builder), false, builder.contentType()).v2();
+    }
+
     public void testStart() throws IOException {
         final VerifyIndex verifyIndex = new VerifyIndex();
         AtomicBoolean stop = new AtomicBoolean();
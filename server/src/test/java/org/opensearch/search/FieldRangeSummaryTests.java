@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class FieldRangeSummaryTests extends OpenSearchTestCase {
+
+    private static final long MIN = DateFieldMapper.getDefaultDateTimeFormatter().parseMillis("2024-01-01T00:00:00Z");
+    private static final long MAX = DateFieldMapper.getDefaultDateTimeFormatter().parseMillis("2024-01-31T23:59:59Z");
+
+    public void testBuild() throws IOException {
+        final Map<String, MappedFieldType> fieldTypes = Map.of(
+            "@timestamp",
+            new DateFieldType("@timestamp"),
+            "other_date",
+            new DateFieldType("other_date"),
+            "keyword",
+            new KeywordFieldMapper.KeywordFieldType("keyword")
+        );
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+                for (long timestamp : new long[] { MAX, MIN, (MIN + MAX) / 2 }) {
+                    final Document doc = new Document();
+                    doc.add(new LongPoint("@timestamp", timestamp));
+                    writer.addDocument(doc);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertNull(FieldRangeSummary.build(reader, 1, List.of("keyword", "unmapped"), fieldTypes::get));
+
+                final FieldRangeSummary summary = FieldRangeSummary.build(
+                    reader,
+                    3,
+                    List.of("@timestamp", "other_date", "keyword"),
+                    fieldTypes::get
+                );
+                assertEquals(3, summary.getSettingsVersion());
+                assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("2024-01-15"), 0));
+                assertFalse(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("2024-02-01"), 0));
+                // the shard doesn't have any value for this field
+                assertFalse(summary.canMatch(QueryBuilders.rangeQuery("other_date").gte("2024-01-15"), 0));
+                assertTrue(summary.canMatch(QueryBuilders.rangeQuery("keyword").gte("a"), 0));
+            }
+        }
+    }
+
+    public void testCanMatch() throws IOException {
+        final FieldRangeSummary summary = copy(summary());
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte(MIN).lte(MAX), 0));
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").lte(MIN), 0));
+        assertFalse(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").lt(MIN), 0));
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte(MAX), 0));
+        assertFalse(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gt(MAX), 0));
+        assertFalse(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("2023-12-01").lt("2024-01-01"), 0));
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("2023-12-01").lte("2024-01-01"), 0));
+        assertFalse(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("02/01/2024").format("MM/dd/yyyy"), 0));
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("2024-01-31T23:30:00"), 0));
+        assertFalse(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("2024-01-31T23:30:00").timeZone("-01:00"), 0));
+        // unknown fields and unparseable bounds are left to the shard
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("other").gt(MAX), 0));
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gt("not a date"), 0));
+
+        // date math is resolved against the start time of the search
+        assertTrue(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("now-1d/d"), MAX + 1000));
+        assertFalse(summary.canMatch(QueryBuilders.rangeQuery("@timestamp").gte("now-1d/d"), MAX + 86_400_000L * 2));
+
+        assertFalse(
+            summary.canMatch(
+                QueryBuilders.boolQuery()
+                    .must(QueryBuilders.termQuery("field", "value"))
+                    .filter(QueryBuilders.rangeQuery("@timestamp").gt(MAX)),
+                0
+            )
+        );
+        assertTrue(
+            summary.canMatch(
+                QueryBuilders.boolQuery()
+                    .should(QueryBuilders.rangeQuery("@timestamp").gt(MAX))
+                    .should(QueryBuilders.termQuery("field", "value")),
+                0
+            )
+        );
+        assertTrue(summary.canMatch(QueryBuilders.boolQuery().mustNot(QueryBuilders.rangeQuery("@timestamp").gt(MAX)), 0));
+        assertFalse(summary.canMatch(QueryBuilders.constantScoreQuery(QueryBuilders.rangeQuery("@timestamp").gt(MAX)), 0));
+        assertTrue(summary.canMatch(QueryBuilders.matchAllQuery(), 0));
+    }
+
+    private static FieldRangeSummary summary() {
+        return new FieldRangeSummary(
+            7,
+            Map.of(
+                "@timestamp",
+                new FieldRangeSummary.FieldRange(
+                    new DateFieldType("@timestamp", DateFormatter.forPattern("strict_date_optional_time||epoch_millis")),
+                    MIN,
+                    MAX
+                )
+            )
+        );
+    }
+
+    private static FieldRangeSummary copy(FieldRangeSummary summary) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            summary.writeTo(out);
+            final FieldRangeSummary copy = new FieldRangeSummary(out.bytes().streamInput());
+            assertEquals(summary.getSettingsVersion(), copy.getSettingsVersion());
+            return copy;
+        }
+    }
+}
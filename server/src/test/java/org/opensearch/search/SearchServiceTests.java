@@ -46,6 +46,7 @@ import org.opensearch.action.search.PitSearchContextIdForNode;
 import org.opensearch.action.search.SearchContextIdForNode;
 import org.opensearch.action.search.SearchPhaseExecutionException;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
@@ -54,6 +55,8 @@ import org.opensearch.action.search.UpdatePitContextResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.settings.Setting;
@@ -79,6 +82,7 @@ import org.opensearch.index.query.AbstractQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.TermQueryBuilder;
@@ -1140,6 +1144,44 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         latch.await();
     }
 
+    public void testFieldRangeSummaryIsNotPublishedUnderGlobalWriteBlock() {
+        createIndexWithSimpleMappings(
+            "index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 2)
+                .put(IndexSettings.INDEX_SEARCH_FIELD_RANGE_SUMMARY_FIELDS_SETTING.getKey(), "value")
+                .build(),
+            "value",
+            "type=long"
+        );
+        for (int i = 0; i < 10; i++) {
+            client().prepareIndex("index").setId(Integer.toString(i)).setSource("value", i).get();
+        }
+        client().admin().indices().prepareRefresh("index").get();
+        final SearchRequestBuilder search = client().prepareSearch("index")
+            .setPreFilterShardSize(1)
+            .setQuery(QueryBuilders.rangeQuery("value").gte(50).lte(200));
+
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setTransientSettings(Settings.builder().put(Metadata.SETTING_READ_ONLY_SETTING.getKey(), true))
+            .get();
+        try {
+            assertHitCount(search.get(), 0);
+        } finally {
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(Metadata.SETTING_READ_ONLY_SETTING.getKey()))
+                .get();
+        }
+
+        // lifting the global block doesn't change the settings of the index, the shards must not be skipped based on stale ranges
+        client().prepareIndex("index").setId("100").setSource("value", 100).setRefreshPolicy(IMMEDIATE).get();
+        assertHitCount(search.get(), 1);
+    }
+
     public void testCanRewriteToMatchNone() {
         assertFalse(
             SearchService.canRewriteToMatchNone(
@@ -47,8 +47,10 @@ import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import org.junit.Before;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class FiltersAggregatorTests extends AggregatorTestCase {
@@ -140,6 +142,24 @@ public class FiltersAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testDebugWithoutStarTree() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                Document document = new Document();
+                document.add(new Field("field", "foo", KeywordFieldMapper.Defaults.FIELD_TYPE));
+                indexWriter.addDocument(document);
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                FiltersAggregationBuilder builder = new FiltersAggregationBuilder("test", QueryBuilders.termQuery("field", "foo"));
+                FiltersAggregator aggregator = createAggregator(builder, indexSearcher, fieldType);
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertFalse(debug.containsKey("star_tree_segments"));
+            }
+        }
+    }
+
     public void testRandom() throws Exception {
         Directory directory = newDirectory();
         RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory);
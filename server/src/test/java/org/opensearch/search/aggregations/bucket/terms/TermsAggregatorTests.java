@@ -53,6 +53,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
@@ -142,6 +143,7 @@ import static org.opensearch.index.mapper.SeqNoFieldMapper.PRIMARY_TERM_NAME;
 import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.search.aggregations.PipelineAggregatorBuilders.bucketScript;
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
@@ -292,6 +294,104 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testExecutionPlan() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (
+                RandomIndexWriter indexWriter = new RandomIndexWriter(
+                    random(),
+                    directory,
+                    newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+                )
+            ) {
+                // two segments with 200 distinct terms each, one document of each segment being tagged as rare
+                for (int segment = 0; segment < 2; segment++) {
+                    for (int i = 0; i < 200; i++) {
+                        Document document = new Document();
+                        document.add(new SortedSetDocValuesField("string", new BytesRef("term-" + segment + "-" + i)));
+                        document.add(new StringField("tag", i == 0 ? "rare" : "common", Field.Store.NO));
+                        indexWriter.addDocument(document);
+                    }
+                    indexWriter.commit();
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                // We do not use newIndexSearcher because it may wrap the reader into a single segment
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                    .field("string");
+                KeywordFieldMapper.KeywordFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+
+                // collecting the terms of the few matching documents is cheaper than building global ordinals
+                TermsAggregator aggregator = createAggregator(
+                    new TermQuery(new Term("tag", "rare")),
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertThat(aggregator, instanceOf(MapStringTermsAggregator.class));
+                Map<String, Object> plan = executionPlan(aggregator);
+                assertThat(plan.get("execution_mode"), equalTo("map"));
+                assertThat(plan.get("collect_mode"), equalTo("depth_first"));
+                assertThat(plan.get("estimated_matching_docs"), equalTo(2L));
+                assertThat(plan.get("segment_terms"), equalTo(400L));
+                assertThat(((Number) plan.get("estimated_terms")).doubleValue(), closeTo(400, 20));
+                assertThat(plan.get("eager_global_ordinals"), equalTo(false));
+
+                aggregator = createAggregator(new MatchAllDocsQuery(), aggregationBuilder, indexSearcher, createIndexSettings(), fieldType);
+                assertThat(aggregator, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+                assertThat(executionPlan(aggregator).get("execution_mode"), equalTo("global_ordinals"));
+                assertFalse(executionPlan(aggregator).containsKey("estimated_terms"));
+                assertThat(((GlobalOrdinalsStringTermsAggregator) aggregator).descriptCollectionStrategy(), equalTo("dense"));
+
+                // all terms are returned when min_doc_count is 0, which collecting the terms of the matching documents doesn't save
+                aggregator = createAggregator(
+                    new TermQuery(new Term("tag", "rare")),
+                    new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING).field("string").minDocCount(0),
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertThat(aggregator, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+                assertThat(executionPlan(aggregator).get("execution_mode"), equalTo("global_ordinals"));
+                assertThat(executionPlan(aggregator).get("estimated_matching_docs"), equalTo(2L));
+
+                // eagerly built global ordinals are always used, but remapped when only few buckets are expected
+                fieldType.setEagerGlobalOrdinals(true);
+                aggregator = createAggregator(
+                    new TermQuery(new Term("tag", "rare")),
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertThat(aggregator, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+                assertThat(executionPlan(aggregator).get("execution_mode"), equalTo("global_ordinals"));
+                assertThat(executionPlan(aggregator).get("eager_global_ordinals"), equalTo(true));
+                assertThat(((GlobalOrdinalsStringTermsAggregator) aggregator).descriptCollectionStrategy(), equalTo("remap"));
+
+                // the execution hint is not planned
+                aggregator = createAggregator(
+                    new TermQuery(new Term("tag", "rare")),
+                    aggregationBuilder.executionHint("global_ordinals"),
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertFalse(debug.containsKey("execution_plan"));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> executionPlan(Aggregator aggregator) {
+        Map<String, Object> debug = new HashMap<>();
+        aggregator.collectDebugInfo(debug::put);
+        return (Map<String, Object>) debug.get("execution_plan");
+    }
+
     /**
      * This test case utilizes the default implementation of GlobalOrdinalsStringTermsAggregator since collectSegmentOrds is false
      */
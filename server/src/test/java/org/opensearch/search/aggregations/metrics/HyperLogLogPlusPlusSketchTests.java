@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MAX_PRECISION;
+import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MIN_PRECISION;
+
+public class HyperLogLogPlusPlusSketchTests extends OpenSearchTestCase {
+
+    public void testCollectCountsLikeHyperLogLogPlusPlus() {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final int threshold = (int) (((1 << precision) / 4) * 0.75f);
+        // below and above the threshold at which linear counting switches to HyperLogLog
+        final int numValues = randomFrom(randomIntBetween(1, threshold), randomIntBetween(threshold + 1, threshold * 4));
+        final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(precision);
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (int i = 0; i < numValues; i++) {
+                final long hash = BitMixer.mix64(randomIntBetween(0, numValues));
+                sketch.collect(0, hash);
+                counts.collect(0, hash);
+            }
+            assertEquals(counts.getAlgorithm(0), sketch.getAlgorithm(0));
+            assertEquals(counts.cardinality(0), sketch.cardinality(0));
+            assertTrue(counts.equals(0, sketch, 0));
+        }
+    }
+
+    public void testMerge() {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final int numSketches = randomIntBetween(1, 10);
+        final long bucket = randomIntBetween(0, 5);
+        try (
+            HyperLogLogPlusPlus collected = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            final HyperLogLogPlusPlusSketch union = new HyperLogLogPlusPlusSketch(precision);
+            for (int i = 0; i < numSketches; i++) {
+                final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(precision);
+                final int numValues = randomIntBetween(0, 1 << precision);
+                for (int j = 0; j < numValues; j++) {
+                    final long hash = BitMixer.mix64(randomInt());
+                    sketch.collect(0, hash);
+                    collected.collect(bucket, hash);
+                }
+                merged.merge(bucket, sketch, 0);
+                union.merge(sketch, 0);
+            }
+            assertTrue(collected.equals(bucket, merged, bucket));
+            assertTrue(collected.equals(bucket, union, 0));
+        }
+    }
+
+    public void testMergeUnionJustBelowThreshold() {
+        final int precision = randomIntBetween(14, MAX_PRECISION);
+        final int threshold = (int) (((1 << precision) / 4) * 0.75f);
+        final int numSketches = randomIntBetween(2, 10);
+        try (HyperLogLogPlusPlus collected = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            final HyperLogLogPlusPlusSketch union = new HyperLogLogPlusPlusSketch(precision);
+            // overlapping sketches whose union holds as many hashes as linear counting keeps, barring collisions
+            for (int i = 0; i < numSketches; i++) {
+                final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(precision);
+                for (int value = 0; value < threshold; value++) {
+                    if (value % numSketches == i || randomBoolean()) {
+                        sketch.collect(0, BitMixer.mix64(value));
+                    }
+                }
+                union.merge(sketch, 0);
+            }
+            for (int value = 0; value < threshold; value++) {
+                collected.collect(0, BitMixer.mix64(value));
+            }
+            assertEquals(collected.getAlgorithm(0), union.getAlgorithm(0));
+            assertEquals(AbstractHyperLogLogPlusPlus.LINEAR_COUNTING, union.getAlgorithm(0));
+            assertTrue(collected.equals(0, union, 0));
+        }
+    }
+
+    public void testMergeWithDifferentPrecision() {
+        final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(MIN_PRECISION);
+        expectThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLogPlusPlusSketch(MIN_PRECISION + 1), 0));
+    }
+
+    public void testCopy() {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(precision);
+        final int numValues = randomIntBetween(1, 1 << precision);
+        for (int i = 0; i < numValues; i++) {
+            sketch.collect(0, BitMixer.mix64(i));
+        }
+        final HyperLogLogPlusPlusSketch copy = sketch.copy();
+        assertTrue(sketch.equals(0, copy, 0));
+        final long cardinality = copy.cardinality(0);
+        sketch.collect(0, BitMixer.mix64(-1));
+        assertEquals(cardinality, copy.cardinality(0));
+    }
+
+    public void testSerialization() throws IOException {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlusSketch sketch = new HyperLogLogPlusPlusSketch(precision);
+        final int numValues = randomIntBetween(0, 1 << precision);
+        for (int i = 0; i < numValues; i++) {
+            sketch.collect(0, BitMixer.mix64(randomLong()));
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            sketch.writeTo(0, out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertTrue(sketch.equals(0, HyperLogLogPlusPlusSketch.readFrom(in), 0));
+            }
+            try (
+                StreamInput in = out.bytes().streamInput();
+                AbstractHyperLogLogPlusPlus counts = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE)
+            ) {
+                assertTrue(sketch.equals(0, counts, 0));
+            }
+        }
+    }
+}
@@ -32,14 +32,18 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitMixer;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -187,6 +191,70 @@ public class HyperLogLogPlusPlusTests extends OpenSearchTestCase {
         assertThat(total.get(), equalTo(0L));
     }
 
+    public void testMaxRunLens() {
+        final int length = randomIntBetween(0, 100);
+        final byte[] a = new byte[length + 3];
+        final byte[] b = new byte[length + 5];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (byte) randomIntBetween(0, 64);
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) randomIntBetween(0, 64);
+        }
+        final byte[] dest = new byte[length + 1];
+        AbstractHyperLogLog.maxRunLens(a, 3, b, 5, dest, 1, length);
+        for (int i = 0; i < length; i++) {
+            assertEquals(Math.max(a[3 + i], b[5 + i]), dest[1 + i]);
+        }
+    }
+
+    public void testMergeRegisters() {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlus source = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 2);
+        final HyperLogLogPlusPlus target = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 2);
+        final int numValues = randomIntBetween(1 << p, 10 << p);
+        for (int i = 0; i < numValues; ++i) {
+            source.collect(1, BitMixer.mix64(randomInt()));
+            target.collect(0, BitMixer.mix64(randomInt()));
+        }
+        assertEquals(AbstractHyperLogLogPlusPlus.HYPERLOGLOG, source.getAlgorithm(1));
+        assertEquals(AbstractHyperLogLogPlusPlus.HYPERLOGLOG, target.getAlgorithm(0));
+        final byte[] expected = new byte[1 << p];
+        final AbstractHyperLogLog.RunLenIterator sourceRunLens = source.getHyperLogLog(1);
+        final AbstractHyperLogLog.RunLenIterator targetRunLens = target.getHyperLogLog(0);
+        for (int i = 0; i < expected.length; ++i) {
+            assertTrue(sourceRunLens.next());
+            assertTrue(targetRunLens.next());
+            expected[i] = (byte) Math.max(sourceRunLens.value(), targetRunLens.value());
+        }
+        // the registers of the source are merged in bulk
+        target.merge(0, source, 1);
+        final BytesRef actual = new BytesRef();
+        assertTrue(target.getHyperLogLogRegisters(0, actual));
+        assertEquals(new BytesRef(expected), actual);
+    }
+
+    public void testCompactSerialization() throws IOException {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
+        // stays in linear counting or switches to HyperLogLog
+        final int numValues = randomBoolean() ? randomIntBetween(0, (1 << p) / 8) : randomIntBetween(1 << p, 10 << p);
+        for (int i = 0; i < numValues; ++i) {
+            counts.collect(0, BitMixer.mix64(randomInt()));
+        }
+        try (BytesStreamOutput compact = new BytesStreamOutput(); BytesStreamOutput legacy = new BytesStreamOutput()) {
+            counts.writeCompactTo(0, compact);
+            counts.writeTo(0, legacy);
+            assertTrue(compact.size() <= legacy.size());
+            try (StreamInput in = compact.bytes().streamInput()) {
+                final AbstractHyperLogLogPlusPlus copy = AbstractHyperLogLogPlusPlus.readCompactFrom(in, BigArrays.NON_RECYCLING_INSTANCE);
+                assertTrue(counts.equals(0, copy, 0));
+                assertEquals(counts.cardinality(0), copy.cardinality(0));
+                copy.close();
+            }
+        }
+    }
+
     public void testRetrieveCardinality() {
         final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
         final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
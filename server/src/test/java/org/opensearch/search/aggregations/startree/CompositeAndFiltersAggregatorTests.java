@@ -0,0 +1,405 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene103.Lucene103Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.Rounding;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite103.Composite103Codec;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.DateHistogramValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.HistogramValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.InternalComposite;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator.KeyedFilter;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.index.codec.composite912.datacube.startree.AbstractStarTreeDVFormatTests.topMapping;
+import static org.opensearch.search.aggregations.AggregationBuilders.max;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.search.aggregations.MultiBucketConsumerService.DEFAULT_MAX_BUCKETS;
+
+public class CompositeAndFiltersAggregatorTests extends AggregatorTestCase {
+
+    private static final String KEYWORD_FIELD = "keyword";
+    private static final String INT_FIELD = "int";
+    private static final String DATE_FIELD = "date";
+    private static final String METRIC_FIELD = "metric";
+    // 2024-01-01T22:00:00Z and 2024-01-02T02:00:00Z
+    private static final long JAN_1_22H = 1704146400000L;
+    private static final long JAN_2_2H = 1704160800000L;
+
+    private static final MappedFieldType KEYWORD_FIELD_TYPE = new KeywordFieldMapper.KeywordFieldType(KEYWORD_FIELD);
+    private static final MappedFieldType INT_FIELD_TYPE = new NumberFieldMapper.NumberFieldType(
+        INT_FIELD,
+        NumberFieldMapper.NumberType.INTEGER
+    );
+    private static final MappedFieldType DATE_FIELD_TYPE = new DateFieldMapper.DateFieldType(DATE_FIELD);
+    private static final MappedFieldType METRIC_FIELD_TYPE = new NumberFieldMapper.NumberFieldType(
+        METRIC_FIELD,
+        NumberFieldMapper.NumberType.DOUBLE
+    );
+
+    protected Codec getCodec() {
+        final Logger testLogger = LogManager.getLogger(CompositeAndFiltersAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(getMapping());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    public void testCompositeAndFiltersWithStarTree() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        // the documents are a few hours before and after midnight UTC, so that time zones move them to other days
+        iw.addDocument(doc("a", 1, JAN_1_22H, 100.0));
+        iw.addDocument(doc("a", 1, JAN_2_2H, 150.0));
+        iw.addDocument(doc("a", 2, JAN_1_22H, 200.0));
+        iw.addDocument(doc("b", 1, JAN_2_2H, 100.0));
+        iw.addDocument(doc("b", 3, JAN_1_22H, 300.0));
+        iw.addDocument(doc("c", 2, JAN_2_2H, 200.0));
+        iw.addDocument(doc("c", 5, JAN_2_2H, 500.0));
+        iw.addDocument(doc("d", null, JAN_1_22H, 400.0));
+
+        iw.forceMerge(1);
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        LeafReaderContext context = ir.leaves().get(0);
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(wrapInMockESDirectoryReader(ir), false, false);
+
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(new OrdinalDimension(KEYWORD_FIELD), KEYWORD_FIELD_TYPE);
+        supportedDimensions.put(new NumericDimension(INT_FIELD), INT_FIELD_TYPE);
+        supportedDimensions.put(
+            new DateDimension(
+                DATE_FIELD,
+                List.of(
+                    new DateTimeUnitAdapter(Rounding.DateTimeUnit.HOUR_OF_DAY),
+                    new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH)
+                ),
+                DateFieldMapper.Resolution.MILLISECONDS
+            ),
+            DATE_FIELD_TYPE
+        );
+
+        // composite with terms and histogram sources
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            new CompositeAggregationBuilder(
+                "_name",
+                List.of(
+                    new TermsValuesSourceBuilder("keyword").field(KEYWORD_FIELD),
+                    new HistogramValuesSourceBuilder("int").field(INT_FIELD).interval(2)
+                )
+            ),
+            starTree,
+            supportedDimensions
+        );
+
+        // composite with a missing bucket and a sub-aggregation, paginated with an after key
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            new CompositeAggregationBuilder(
+                "_name",
+                List.of(
+                    new TermsValuesSourceBuilder("keyword").field(KEYWORD_FIELD),
+                    new TermsValuesSourceBuilder("int").field(INT_FIELD).missingBucket(true)
+                )
+            ).size(2).aggregateAfter(Map.of("keyword", "a", "int", 1L)).subAggregation(max("max_metric").field(METRIC_FIELD)),
+            starTree,
+            supportedDimensions
+        );
+
+        // composite with a date histogram source, whose buckets are rounded from the hourly date dimension
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            new CompositeAggregationBuilder(
+                "_name",
+                List.of(
+                    new DateHistogramValuesSourceBuilder("date").field(DATE_FIELD).calendarInterval(DateHistogramInterval.DAY),
+                    new TermsValuesSourceBuilder("keyword").field(KEYWORD_FIELD)
+                )
+            ).subAggregation(sum("sum_metric").field(METRIC_FIELD)),
+            starTree,
+            supportedDimensions
+        );
+
+        // composite paginated with an after key on a leading numeric source, which filters the star-tree entries of its dimension
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            new CompositeAggregationBuilder(
+                "_name",
+                List.of(
+                    new TermsValuesSourceBuilder("int").field(INT_FIELD),
+                    new TermsValuesSourceBuilder("keyword").field(KEYWORD_FIELD)
+                )
+            ).size(2).aggregateAfter(Map.of("int", 1L, "keyword", "b")),
+            starTree,
+            supportedDimensions
+        );
+
+        // composite with date histogram sources in another time zone or with an offset, which don't use the star-tree because
+        // its date dimension holds values rounded in UTC
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            new CompositeAggregationBuilder(
+                "_name",
+                List.of(
+                    new DateHistogramValuesSourceBuilder("date").field(DATE_FIELD)
+                        .calendarInterval(DateHistogramInterval.DAY)
+                        .timeZone(ZoneOffset.ofHours(5))
+                )
+            ),
+            starTree,
+            supportedDimensions,
+            false
+        );
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            new CompositeAggregationBuilder(
+                "_name",
+                List.of(
+                    new DateHistogramValuesSourceBuilder("date").field(DATE_FIELD)
+                        .calendarInterval(DateHistogramInterval.DAY)
+                        .offset(TimeUnit.HOURS.toMillis(5))
+                )
+            ),
+            starTree,
+            supportedDimensions,
+            false
+        );
+
+        // composite with a query that filters on a dimension
+        testCase(
+            indexSearcher,
+            SortedSetDocValuesField.newSlowExactQuery(KEYWORD_FIELD, newBytesRef("a")),
+            new TermQueryBuilder(KEYWORD_FIELD, "a"),
+            new CompositeAggregationBuilder("_name", List.of(new TermsValuesSourceBuilder("int").field(INT_FIELD))).subAggregation(
+                sum("sum_metric").field(METRIC_FIELD)
+            ),
+            starTree,
+            supportedDimensions
+        );
+
+        // filters with an other bucket and a sub-aggregation
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            new FiltersAggregationBuilder(
+                "_name",
+                new KeyedFilter("a", QueryBuilders.termQuery(KEYWORD_FIELD, "a")),
+                new KeyedFilter("large", QueryBuilders.rangeQuery(INT_FIELD).gte(2)),
+                new KeyedFilter(
+                    "b_or_c_small",
+                    QueryBuilders.boolQuery()
+                        .filter(QueryBuilders.termsQuery(KEYWORD_FIELD, "b", "c"))
+                        .filter(QueryBuilders.rangeQuery(INT_FIELD).lt(3))
+                )
+            ).otherBucket(true).subAggregation(max("max_metric").field(METRIC_FIELD)),
+            starTree,
+            supportedDimensions
+        );
+
+        ir.close();
+        directory.close();
+    }
+
+    private void testCase(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions
+    ) throws IOException {
+        testCase(indexSearcher, query, queryBuilder, aggregationBuilder, starTree, supportedDimensions, true);
+    }
+
+    /**
+     * Executes an aggregation with and without star-tree, and asserts that the results are identical.
+     */
+    private void testCase(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions,
+        boolean assertCollectorEarlyTermination
+    ) throws IOException {
+        InternalAggregation starTreeAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            starTree,
+            supportedDimensions,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            null,
+            assertCollectorEarlyTermination,
+            KEYWORD_FIELD_TYPE,
+            INT_FIELD_TYPE,
+            DATE_FIELD_TYPE,
+            METRIC_FIELD_TYPE
+        );
+
+        InternalAggregation defaultAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            null,
+            false,
+            KEYWORD_FIELD_TYPE,
+            INT_FIELD_TYPE,
+            DATE_FIELD_TYPE,
+            METRIC_FIELD_TYPE
+        );
+
+        if (defaultAggregation instanceof InternalComposite defaultComposite) {
+            assertFalse(defaultComposite.getBuckets().isEmpty());
+            assertEquals(defaultComposite.afterKey(), ((InternalComposite) starTreeAggregation).afterKey());
+        }
+        assertEquals(defaultAggregation, starTreeAggregation);
+    }
+
+    private Document doc(String keyword, Integer integer, long date, double metric) {
+        Document doc = new Document();
+        doc.add(new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef(keyword)));
+        doc.add(new StringField(KEYWORD_FIELD, keyword, Field.Store.NO));
+        if (integer != null) {
+            doc.add(new SortedNumericDocValuesField(INT_FIELD, integer));
+        }
+        doc.add(new SortedNumericDocValuesField(DATE_FIELD, date));
+        doc.add(new LongPoint(DATE_FIELD, date));
+        doc.add(new SortedNumericDocValuesField(METRIC_FIELD, NumericUtils.doubleToSortableLong(metric)));
+        return doc;
+    }
+
+    private static XContentBuilder getMapping() throws IOException {
+        return topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("my_star_tree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", 1);
+            b.startArray("ordered_dimensions");
+            b.startObject().field("name", KEYWORD_FIELD).endObject();
+            b.startObject().field("name", INT_FIELD).endObject();
+            b.startObject();
+            b.field("name", DATE_FIELD);
+            b.startArray("calendar_intervals");
+            b.value("hour");
+            b.value("day");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", METRIC_FIELD);
+            b.startArray("stats");
+            b.value("max");
+            b.value("sum");
+            b.value("value_count");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject(KEYWORD_FIELD).field("type", "keyword").endObject();
+            b.startObject(INT_FIELD).field("type", "integer").endObject();
+            b.startObject(DATE_FIELD).field("type", "date").endObject();
+            b.startObject(METRIC_FIELD).field("type", "double").endObject();
+            b.endObject();
+        });
+    }
+}
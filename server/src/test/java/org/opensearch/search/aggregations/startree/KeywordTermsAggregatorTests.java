@@ -22,10 +22,13 @@ import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.apache.lucene.util.BytesRef;
@@ -179,6 +182,56 @@ public class KeywordTermsAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    /**
+     * A selective query on a shard whose segments have many more terms than the query matches documents makes the execution plan of a
+     * terms aggregation prefer the map execution mode, which doesn't pre-compute its buckets from the star-tree.
+     */
+    public void testStarTreeKeywordTermsWithSelectiveQuery() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec());
+        conf.setMergePolicy(NoMergePolicy.INSTANCE);
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        // three segments whose documents all have distinct client ips
+        for (int segment = 0; segment < 3; segment++) {
+            for (int i = 0; i < 100; i++) {
+                Document doc = new Document();
+                String clientIp = "ip-" + segment + "-" + i;
+                doc.add(new SortedNumericDocValuesField(STATUS, i % 10));
+                doc.add(new SortedNumericDocValuesField(SIZE, NumericUtils.doubleToSortableLong(i + 0.5f)));
+                doc.add(new SortedSetDocValuesField(CLIENTIP, new BytesRef(clientIp)));
+                doc.add(new StringField(CLIENTIP, clientIp, Field.Store.NO));
+                iw.addDocument(doc);
+            }
+            iw.commit();
+        }
+        iw.close();
+        DirectoryReader ir = DirectoryReader.open(directory);
+        assertTrue(ir.leaves().size() > 1);
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(wrapInMockESDirectoryReader(ir), false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(new NumericDimension(STATUS), STATUS_FIELD_TYPE);
+        supportedDimensions.put(new NumericDimension(SIZE), SIZE_FIELD_NAME);
+        supportedDimensions.put(new OrdinalDimension(CLIENTIP), CLIENTIP_FIELD_NAME);
+
+        // the term query counts its single matching document without collecting it
+        String clientIp = "ip-" + randomIntBetween(0, 2) + "-" + randomIntBetween(0, 99);
+        Query query = new TermQuery(new Term(CLIENTIP, clientIp));
+        QueryBuilder queryBuilder = new TermQueryBuilder(CLIENTIP, clientIp);
+        TermsAggregationBuilder termsAggregationBuilder = terms("terms_agg").field(CLIENTIP).subAggregation(sum("_sum").field(SIZE));
+        testCase(indexSearcher, query, queryBuilder, termsAggregationBuilder, starTree, supportedDimensions);
+
+        ir.close();
+        directory.close();
+    }
+
     private void testCase(
         IndexSearcher indexSearcher,
         Query query,
@@ -39,6 +39,7 @@ import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
@@ -50,6 +51,7 @@ import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.NumericDimension;
 import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
 import org.opensearch.index.mapper.IpFieldMapper;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
@@ -66,15 +68,26 @@ import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Cardinality;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.InternalAvg;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
 import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.metrics.InternalMin;
+import org.opensearch.search.aggregations.metrics.InternalNumericMetricsAggregation;
 import org.opensearch.search.aggregations.metrics.InternalSum;
 import org.opensearch.search.aggregations.metrics.InternalValueCount;
 import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Percentile;
+import org.opensearch.search.aggregations.metrics.Percentiles;
+import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.PercentilesMethod;
 import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
@@ -95,12 +108,16 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.opensearch.index.codec.composite912.datacube.startree.AbstractStarTreeDVFormatTests.topMapping;
 import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.objectToUnsignedLong;
 import static org.opensearch.search.aggregations.AggregationBuilders.avg;
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
 import static org.opensearch.search.aggregations.AggregationBuilders.count;
 import static org.opensearch.search.aggregations.AggregationBuilders.max;
 import static org.opensearch.search.aggregations.AggregationBuilders.min;
+import static org.opensearch.search.aggregations.AggregationBuilders.percentiles;
 import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -417,6 +434,289 @@ public class MetricAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testStarTreeSketchMetrics() throws IOException {
+        final MappedFieldType sndvFieldType = new NumberFieldMapper.NumberFieldType("sndv", NumberFieldMapper.NumberType.INTEGER);
+        final MappedFieldType dvFieldType = new NumberFieldMapper.NumberFieldType("dv", NumberFieldMapper.NumberType.INTEGER);
+        final Logger testLogger = LogManager.getLogger(MetricAggregatorTests.class);
+        MapperService codecMapperService = StarTreeDocValuesFormatTests.createMapperService(
+            getSketchMetricsMapping(randomIntBetween(1, 100))
+        );
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, codecMapperService, testLogger));
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        // Index 100 random documents in two segments, which are merged so that the sketches go through the merge flow too
+        Random random = RandomizedTest.getRandom();
+        for (int i = 0; i < 100; i++) {
+            Document doc = new Document();
+            doc.add(new IntField("sndv", random.nextInt(10) - 5, Field.Store.NO));
+            doc.add(new IntField("dv", random.nextInt(20) - 10, Field.Store.NO));
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(FIELD_NAME, random.nextInt(50)));
+            }
+            iw.addDocument(doc);
+            if (i == 49) {
+                iw.commit();
+            }
+        }
+        if (randomBoolean()) {
+            iw.forceMerge(1);
+        }
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        MapperService mapperService = mapperServiceMock();
+        CircuitBreakerService circuitBreakerService = new NoneCircuitBreakerService();
+        when(mapperService.fieldType("sndv")).thenReturn(sndvFieldType);
+        when(mapperService.fieldType("dv")).thenReturn(dvFieldType);
+        when(mapperService.fieldType(FIELD_NAME)).thenReturn(DEFAULT_MAPPED_FIELD);
+        QueryShardContext queryShardContext = queryShardContextMock(
+            indexSearcher,
+            mapperService,
+            createIndexSettings(),
+            circuitBreakerService,
+            new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), circuitBreakerService).withCircuitBreaking()
+        );
+
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(new NumericDimension("sndv"), sndvFieldType);
+        supportedDimensions.put(new NumericDimension("dv"), dvFieldType);
+        List<Metric> supportedMetrics = List.of(new Metric(FIELD_NAME, List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES)));
+
+        CardinalityAggregationBuilder cardinalityAggregationBuilder = cardinality("_name").field(FIELD_NAME);
+        PercentilesAggregationBuilder percentilesAggregationBuilder = percentiles("_name").field(FIELD_NAME)
+            .percentiles(1, 25, 50, 75, 99);
+        TermsAggregationBuilder termsAggregationBuilder = terms("_terms").field("sndv")
+            .subAggregation(cardinality("_cardinality").field(FIELD_NAME))
+            .subAggregation(percentiles("_percentiles").field(FIELD_NAME).percentiles(1, 25, 50, 75, 99));
+
+        for (int cases = 0; cases < 15; cases++) {
+            List<QueryBuilder> queryBuilders = List.of(
+                new TermQueryBuilder("sndv", random.nextInt(10) - 5),
+                new RangeQueryBuilder("dv").from(random.nextInt(20) - 10).to(random.nextInt(20) - 10),
+                new BoolQueryBuilder().must(new TermQueryBuilder("sndv", random.nextInt(10) - 5))
+                    .must(new RangeQueryBuilder("dv").from(random.nextInt(20) - 10))
+            );
+            for (QueryBuilder qb : queryBuilders) {
+                Query query = qb.toQuery(queryShardContext);
+                testCase(
+                    indexSearcher,
+                    query,
+                    qb,
+                    cardinalityAggregationBuilder,
+                    starTree,
+                    supportedDimensions,
+                    verifyAggregation(InternalCardinality::getValue)
+                );
+                testCase(
+                    indexSearcher,
+                    query,
+                    qb,
+                    percentilesAggregationBuilder,
+                    starTree,
+                    supportedDimensions,
+                    this::assertPercentilesEquivalent
+                );
+
+                // Sketch metrics as sub-aggregations of a terms aggregation on a dimension
+                InternalTerms<?, ?> starTreeTerms = searchAndReduceStarTree(
+                    createIndexSettings(),
+                    indexSearcher,
+                    query,
+                    qb,
+                    termsAggregationBuilder,
+                    starTree,
+                    supportedDimensions,
+                    null,
+                    DEFAULT_MAX_BUCKETS,
+                    false,
+                    null,
+                    true,
+                    sndvFieldType,
+                    DEFAULT_MAPPED_FIELD
+                );
+                InternalTerms<?, ?> expectedTerms = searchAndReduceStarTree(
+                    createIndexSettings(),
+                    indexSearcher,
+                    query,
+                    qb,
+                    termsAggregationBuilder,
+                    null,
+                    null,
+                    null,
+                    DEFAULT_MAX_BUCKETS,
+                    false,
+                    null,
+                    false,
+                    sndvFieldType,
+                    DEFAULT_MAPPED_FIELD
+                );
+                assertEquals(expectedTerms.getBuckets().size(), starTreeTerms.getBuckets().size());
+                for (int i = 0; i < expectedTerms.getBuckets().size(); i++) {
+                    Terms.Bucket expectedBucket = expectedTerms.getBuckets().get(i);
+                    Terms.Bucket starTreeBucket = starTreeTerms.getBuckets().get(i);
+                    assertEquals(expectedBucket.getKey(), starTreeBucket.getKey());
+                    assertEquals(expectedBucket.getDocCount(), starTreeBucket.getDocCount());
+                    assertEquals(
+                        ((Cardinality) expectedBucket.getAggregations().get("_cardinality")).getValue(),
+                        ((Cardinality) starTreeBucket.getAggregations().get("_cardinality")).getValue()
+                    );
+                    assertPercentilesEquivalent(
+                        expectedBucket.getAggregations().get("_percentiles"),
+                        starTreeBucket.getAggregations().get("_percentiles")
+                    );
+                }
+            }
+        }
+
+        QueryBuilder queryBuilder = new TermQueryBuilder("sndv", random.nextInt(10) - 5);
+        Query query = queryBuilder.toQuery(queryShardContext);
+
+        // Case when the sketches of the aggregations are the ones that the star-tree pre-aggregated
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            cardinalityAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            verifyAggregation(InternalCardinality::getValue),
+            cardinalityAggregationBuilder.build(queryShardContext, null),
+            true
+        );
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            percentilesAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            this::assertPercentilesEquivalent,
+            percentilesAggregationBuilder.build(queryShardContext, null),
+            true
+        );
+
+        // Case when the aggregation asks for another HLL++ precision than the pre-aggregated sketches
+        CardinalityAggregationBuilder precisionThresholdAggregationBuilder = cardinality("_name").field(FIELD_NAME)
+            .precisionThreshold(100);
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            precisionThresholdAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            verifyAggregation(InternalCardinality::getValue),
+            precisionThresholdAggregationBuilder.build(queryShardContext, null),
+            false
+        );
+
+        // Case when the aggregation asks for more accurate t-digests than the pre-aggregated ones
+        PercentilesAggregationBuilder compressionAggregationBuilder = percentiles("_name").field(FIELD_NAME)
+            .percentiles(1, 25, 50, 75, 99)
+            .compression(PercentilesValueAggregator.COMPRESSION * 2);
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            compressionAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            this::assertPercentilesEquivalent,
+            compressionAggregationBuilder.build(queryShardContext, null),
+            false
+        );
+
+        // Case when the aggregation uses HDR histograms rather than t-digests
+        PercentilesAggregationBuilder hdrAggregationBuilder = percentiles("_name").field(FIELD_NAME)
+            .percentiles(1, 25, 50, 75, 99)
+            .method(PercentilesMethod.HDR);
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            hdrAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            this::assertPercentilesEquivalent,
+            hdrAggregationBuilder.build(queryShardContext, null),
+            false
+        );
+
+        ir.close();
+        directory.close();
+    }
+
+    /**
+     * The t-digests that the star-tree merges are not the same as the one built from the values of the matching documents, so the
+     * percentiles are compared within a tenth of the range of the values.
+     */
+    private void assertPercentilesEquivalent(
+        InternalNumericMetricsAggregation.MultiValue expected,
+        InternalNumericMetricsAggregation.MultiValue actual
+    ) {
+        for (Percentile percentile : (Percentiles) expected) {
+            assertEquals(percentile.getValue(), ((Percentiles) actual).percentile(percentile.getPercent()), 5.0);
+        }
+    }
+
+    private static XContentBuilder getSketchMetricsMapping(int maxLeafDocs) throws IOException {
+        return topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", maxLeafDocs);
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", "sndv");
+            b.endObject();
+            b.startObject();
+            b.field("name", "dv");
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", FIELD_NAME);
+            b.startArray("stats");
+            b.value("value_count");
+            b.value("cardinality");
+            b.value("percentiles");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject("sndv");
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject("dv");
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject(FIELD_NAME);
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+
     <T, R extends Number> BiConsumer<T, T> verifyAggregation(Function<T, R> valueExtractor) {
         return (expectedAggregation, actualAggregation) -> assertEquals(
             valueExtractor.apply(expectedAggregation).doubleValue(),
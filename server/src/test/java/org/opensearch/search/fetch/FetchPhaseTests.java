@@ -59,22 +59,24 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class FetchPhaseTests extends OpenSearchTestCase {
-    public void testSequentialDocs() {
-        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[10];
+    public void testDenseDocs() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[20];
         int start = randomIntBetween(0, Short.MAX_VALUE);
-        for (int i = 0; i < 10; i++) {
+        for (int i = 0; i < docs.length; i++) {
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
-            ++start;
+            start += randomIntBetween(1, FetchPhase.SEQUENTIAL_READ_MAX_AVERAGE_GAP);
         }
-        assertTrue(FetchPhase.hasSequentialDocs(docs));
+        assertTrue(FetchPhase.hasDenseDocs(docs, 0, docs.length));
+        assertTrue(FetchPhase.hasDenseDocs(docs, 5, 5 + FetchPhase.SEQUENTIAL_READ_MIN_DOCS));
+        // too few docs to be worth reading sequentially
+        assertFalse(FetchPhase.hasDenseDocs(docs, 0, FetchPhase.SEQUENTIAL_READ_MIN_DOCS - 1));
 
-        int from = randomIntBetween(0, 9);
-        start = docs[from].docId;
-        for (int i = from; i < 10; i++) {
-            start += randomIntBetween(2, 10);
+        start = docs[0].docId;
+        for (int i = 0; i < docs.length; i++) {
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            start += randomIntBetween(FetchPhase.SEQUENTIAL_READ_MAX_AVERAGE_GAP + 1, 1000);
         }
-        assertFalse(FetchPhase.hasSequentialDocs(docs));
+        assertFalse(FetchPhase.hasDenseDocs(docs, 0, docs.length));
     }
 
     public void testFieldsVisitorsInFetchPhase() {
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+
+public class CostAwareSliceSupplierTests extends OpenSearchTestCase {
+
+    public void testSliceCount() throws Exception {
+        final int leafCount = 12;
+        final List<LeafReaderContext> leaves = getLeaves(leafCount);
+        IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(leaves, 3, 1, CostAwareSliceSupplier::liveDocsCost);
+        assertEquals(3, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertEquals(4, slice.partitions.length);
+        }
+
+        // more slices than the target are created per target slice
+        slices = CostAwareSliceSupplier.getSlices(leaves, 3, 2, CostAwareSliceSupplier::liveDocsCost);
+        assertEquals(6, slices.length);
+
+        // slice count should not exceed the segment count
+        slices = CostAwareSliceSupplier.getSlices(leaves, 5, 4, CostAwareSliceSupplier::liveDocsCost);
+        assertEquals(leafCount, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertEquals(1, slice.partitions.length);
+        }
+    }
+
+    public void testInvalidArguments() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostAwareSliceSupplier.getSlices(new ArrayList<>(), randomIntBetween(-3, 0), 1, CostAwareSliceSupplier::liveDocsCost)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostAwareSliceSupplier.getSlices(new ArrayList<>(), 2, randomIntBetween(-3, 0), CostAwareSliceSupplier::liveDocsCost)
+        );
+    }
+
+    public void testEmptyLeaves() {
+        IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(new ArrayList<>(), 2, 2, CostAwareSliceSupplier::liveDocsCost);
+        assertEquals(0, slices.length);
+    }
+
+    public void testGroupsByCost() throws Exception {
+        final List<LeafReaderContext> leaves = getLeaves(4);
+        final long[] costs = new long[] { 10, 1, 8, 1 };
+        final IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(leaves, 2, 1, leaf -> costs[leaf.ord]);
+        assertEquals(2, slices.length);
+        // the most costly leaf gets a slice on its own, the other leaves have the same cost together
+        assertEquals(1, slices[0].partitions.length);
+        assertSame(leaves.get(0), slices[0].partitions[0].ctx);
+        assertEquals(3, slices[1].partitions.length);
+    }
+
+    public void testLeavesWithoutCostAreSpread() throws Exception {
+        final List<LeafReaderContext> leaves = getLeaves(6);
+        final IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(leaves, 3, 1, leaf -> 0);
+        assertEquals(3, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertEquals(2, slice.partitions.length);
+        }
+    }
+
+    public void testLiveDocsCost() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            final IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int i = 0; i < 3; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field1", "value" + i, Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+            for (int i = 3; i < 5; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field1", "value" + i, Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+            iw.deleteDocuments(new Term("field1", "value0"), new Term("field1", "value1"));
+            iw.commit();
+
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(2, leaves.size());
+                IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(leaves, 2, 1, CostAwareSliceSupplier::liveDocsCost);
+                assertEquals(2, slices.length);
+                // the segment with deletions has more documents but fewer live documents
+                assertEquals(2, slices[0].getMaxDocs());
+                assertEquals(3, slices[1].getMaxDocs());
+            }
+        }
+    }
+}
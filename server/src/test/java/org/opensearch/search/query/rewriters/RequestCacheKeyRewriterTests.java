@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query.rewriters;
+
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RequestCacheKeyRewriterTests extends OpenSearchTestCase {
+
+    private static final long NOW = DateFieldMapper.getDefaultDateTimeFormatter().parseMillis("2024-01-15T10:42:17.123Z");
+
+    private QueryShardContext context;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        context = mock(QueryShardContext.class);
+        when(context.fieldMapper("@timestamp")).thenReturn(
+            new DateFieldType("@timestamp", DateFormatter.forPattern("strict_date_optional_time||epoch_millis"))
+        );
+        when(context.fieldMapper("nanos")).thenReturn(new DateFieldType("nanos", DateFieldMapper.Resolution.NANOSECONDS));
+        when(context.fieldMapper("status")).thenReturn(new KeywordFieldMapper.KeywordFieldType("status"));
+    }
+
+    public void testBoolClausesAreSorted() {
+        final RequestCacheKeyRewriter rewriter = new RequestCacheKeyRewriter(NOW, 0);
+        final QueryBuilder first = QueryBuilders.boolQuery()
+            .filter(QueryBuilders.termQuery("status", "active"))
+            .filter(QueryBuilders.termQuery("category", "books"))
+            .should(QueryBuilders.matchQuery("title", "foo"))
+            .should(QueryBuilders.matchQuery("body", "foo"))
+            .minimumShouldMatch(1);
+        final QueryBuilder second = QueryBuilders.boolQuery()
+            .should(QueryBuilders.matchQuery("body", "foo"))
+            .filter(QueryBuilders.termQuery("category", "books"))
+            .should(QueryBuilders.matchQuery("title", "foo"))
+            .filter(QueryBuilders.termQuery("status", "active"))
+            .minimumShouldMatch(1);
+        assertNotEquals(first, second);
+        final QueryBuilder canonical = rewriter.rewrite(first, context);
+        assertEquals(canonical, rewriter.rewrite(second, context));
+        // rewriting is idempotent
+        assertSame(canonical, rewriter.rewrite(canonical, context));
+    }
+
+    public void testTermsValuesAreSortedAndDeduplicated() {
+        final RequestCacheKeyRewriter rewriter = new RequestCacheKeyRewriter(NOW, 0);
+        final QueryBuilder canonical = rewriter.rewrite(
+            QueryBuilders.boolQuery().filter(QueryBuilders.termsQuery("status", "pending", "active", "pending").queryName("q")),
+            context
+        );
+        assertEquals(
+            QueryBuilders.boolQuery().filter(QueryBuilders.termsQuery("status", "active", "pending").queryName("q")),
+            canonical
+        );
+        final QueryBuilder sorted = QueryBuilders.termsQuery("status", "active", "pending");
+        assertSame(sorted, rewriter.rewrite(sorted, context));
+    }
+
+    public void testDateRangesAreResolved() {
+        final RequestCacheKeyRewriter rewriter = new RequestCacheKeyRewriter(NOW, 0);
+        final QueryBuilder canonical = rewriter.rewrite(QueryBuilders.rangeQuery("@timestamp").gte("2024-01-01").lt("2024-02-01"), context);
+        final long from = DateFieldMapper.getDefaultDateTimeFormatter().parseMillis("2024-01-01T00:00:00Z");
+        final long to = DateFieldMapper.getDefaultDateTimeFormatter().parseMillis("2024-02-01T00:00:00Z") - 1;
+        assertEquals(QueryBuilders.rangeQuery("@timestamp").gte(from).lte(to).format("epoch_millis"), canonical);
+        assertEquals(
+            canonical,
+            rewriter.rewrite(
+                QueryBuilders.rangeQuery("@timestamp").gt("12/31/2023").lte("31/01/2024").format("MM/dd/yyyy||dd/MM/yyyy"),
+                context
+            )
+        );
+        assertEquals(
+            canonical,
+            rewriter.rewrite(
+                QueryBuilders.rangeQuery("@timestamp").gte("2024-01-01T01:00:00").lt("2024-02-01T01:00").timeZone("+01:00"),
+                context
+            )
+        );
+        assertEquals(canonical, rewriter.rewrite(canonical, context));
+
+        // only millisecond date fields are resolved
+        final RangeQueryBuilder nanosRange = QueryBuilders.rangeQuery("nanos").gte("2024-01-01");
+        assertSame(nanosRange, rewriter.rewrite(nanosRange, context));
+        final RangeQueryBuilder keywordRange = QueryBuilders.rangeQuery("status").gte("a");
+        assertSame(keywordRange, rewriter.rewrite(keywordRange, context));
+        final RangeQueryBuilder unparseableRange = QueryBuilders.rangeQuery("@timestamp").gte("not a date");
+        assertSame(unparseableRange, rewriter.rewrite(unparseableRange, context));
+    }
+
+    public void testNowIsRounded() {
+        final RangeQueryBuilder range = QueryBuilders.rangeQuery("@timestamp").gte("now-1h");
+        assertSame(range, new RequestCacheKeyRewriter(NOW, 0).rewrite(range, context));
+
+        final long rounding = 60_000L;
+        final QueryBuilder canonical = new RequestCacheKeyRewriter(NOW, rounding).rewrite(range, context);
+        final long roundedNow = DateFieldMapper.getDefaultDateTimeFormatter().parseMillis("2024-01-15T10:42:00Z");
+        assertEquals(QueryBuilders.rangeQuery("@timestamp").gte(roundedNow - 3_600_000L).format("epoch_millis"), canonical);
+        // searches that start within the same minute share their cache key
+        assertEquals(canonical, new RequestCacheKeyRewriter(roundedNow + 59_999L, rounding).rewrite(range, context));
+        assertNotEquals(canonical, new RequestCacheKeyRewriter(roundedNow + 60_000L, rounding).rewrite(range, context));
+    }
+
+    public void testOtherQueriesAreLeftAlone() {
+        final RequestCacheKeyRewriter rewriter = new RequestCacheKeyRewriter(NOW, 0);
+        final QueryBuilder query = QueryBuilders.matchQuery("title", "foo bar");
+        assertSame(query, rewriter.rewrite(query, context));
+        final QueryBuilder constantScore = QueryBuilders.constantScoreQuery(QueryBuilders.termsQuery("status", "b", "a")).boost(2f);
+        assertEquals(
+            QueryBuilders.constantScoreQuery(QueryBuilders.termsQuery("status", "a", "b")).boost(2f),
+            rewriter.rewrite(constantScore, context)
+        );
+    }
+}